@@ -0,0 +1,65 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties for the non-blocking, HTTP/2-capable http client
+ * that shares its connections across requests sent to the same destination.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("HttpClientMultiplexingProperties")
+public class HttpClientMultiplexingProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4160962911938237071L;
+
+    /**
+     * Whether outbound protocol traffic should be sent using the non-blocking http client.
+     * Requests to the same destination share connections, and are multiplexed over
+     * a single connection when the destination supports HTTP/2. Components that need
+     * access to the underlying blocking http client continue to use the default client.
+     */
+    private boolean enabled;
+
+    /**
+     * The preferred HTTP protocol version. Accepted values are {@code HTTP_2} and {@code HTTP_1_1}.
+     * When HTTP/2 is preferred, the client falls back to HTTP/1.1 if the destination does not support it.
+     */
+    private String version = "HTTP_2";
+
+    /**
+     * Maximum number of requests that may be in flight at the same time for a single destination,
+     * identified by its scheme, host and port. Requests that exceed this limit wait for
+     * the connection timeout before they are rejected.
+     */
+    private int maximumConcurrentRequestsPerRoute = 50;
+
+    /**
+     * Number of consecutive failures for a destination after which its circuit is opened,
+     * and requests to that destination are rejected immediately without contacting it.
+     * Failures include connection errors, timeouts and server errors. A negative or zero value
+     * disables circuit breaking.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * How long a circuit remains open before requests to the destination are attempted again.
+     */
+    @DurationCapable
+    private String circuitBreakerDelay = "PT30S";
+}
@@ -107,4 +107,10 @@ public class HttpClientProperties implements Serializable {
      * along with request.
      */
     private Map<String, String> defaultHeaders = new HashMap<>();
+
+    /**
+     * Settings for the non-blocking, HTTP/2-capable http client.
+     */
+    @NestedConfigurationProperty
+    private HttpClientMultiplexingProperties multiplexing = new HttpClientMultiplexingProperties();
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication.risk;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
@@ -34,4 +35,27 @@ public class RiskBasedAuthenticationCoreProperties implements Serializable {
      * in order to locate authentication events.
      */
     private long daysInRecentHistory = 30;
+
+    /**
+     * Authentication history of each principal is summarized into a risk profile
+     * that is updated as authentication events are recorded, and is used by risk calculators
+     * to score authentication requests. This setting controls the maximum number of distinct
+     * values (i.e. ip addresses, user agents, etc) that are tracked per day for each
+     * principal profile. Values beyond this limit are not tracked and are treated as unknown.
+     */
+    private int maximumProfileEntries = 100;
+
+    /**
+     * Maximum number of principal risk profiles that are kept in memory.
+     */
+    private long maximumProfiles = 100_000;
+
+    /**
+     * Principal risk profiles are rebuilt from the events repository once this interval
+     * has passed since they were built, regardless of how often they are used. Profiles are updated
+     * in between only with authentication events recorded by this CAS server node, so this setting
+     * also bounds how long it takes for events recorded by other nodes to be taken into account.
+     */
+    @DurationCapable
+    private String profileRefreshInterval = "PT15M";
 }
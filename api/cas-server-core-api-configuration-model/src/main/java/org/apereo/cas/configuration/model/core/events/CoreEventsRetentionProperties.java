@@ -0,0 +1,61 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link CoreEventsRetentionProperties} that controls how long recorded events
+ * are kept in the events repository, and whether expired events are rolled into summaries.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-events", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("CoreEventsRetentionProperties")
+public class CoreEventsRetentionProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3127046251933750841L;
+
+    /**
+     * Whether events that are older than the maximum age should be
+     * periodically removed from the events repository. Event repositories
+     * that do not support retention keep their events in place.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum age of recorded events. Events created before this period
+     * are expired. Event repositories that support expiring records natively,
+     * such as Redis, also use this setting as the time-to-live of every event.
+     */
+    @DurationCapable
+    private String maximumAge = "P90D";
+
+    /**
+     * Whether expired events should be rolled into per-principal summaries
+     * before they are removed. Summaries are recorded as events of their own,
+     * keep the number of events per type and are folded into the next summary
+     * once they expire themselves.
+     */
+    private boolean summarize = true;
+
+    /**
+     * Scheduler settings to indicate how often expired events are removed.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties schedule = new SchedulingProperties().setStartDelay("PT5M").setRepeatInterval("PT6H");
+}
@@ -0,0 +1,63 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link CoreEventsWriteBehindProperties} that controls how recorded events
+ * are queued in memory and written to the events repository in batches.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-events", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("CoreEventsWriteBehindProperties")
+public class CoreEventsWriteBehindProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4128365046123358811L;
+
+    /**
+     * Whether recorded events should be queued and written to the events repository
+     * in batches by a background worker, rather than being written one at a time
+     * as events are published.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of events that may be queued and waiting to be written.
+     * Once the queue is full, the overflow strategy decides what happens to new events.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of events written to the events repository in a single batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum amount of time queued events may wait before the queue is flushed,
+     * even if the batch is not yet full.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what happens to new events when the queue is full.
+     * Accepted values are {@code DISCARD_NEWEST}, {@code DISCARD_OLDEST} and {@code WRITE_THROUGH}.
+     * {@code WRITE_THROUGH} writes the event directly to the events repository on the calling thread,
+     * which applies back-pressure instead of losing events.
+     */
+    private String overflowStrategy = "DISCARD_OLDEST";
+}
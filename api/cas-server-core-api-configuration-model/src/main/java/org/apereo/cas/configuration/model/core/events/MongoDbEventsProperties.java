@@ -26,6 +26,14 @@ public class MongoDbEventsProperties extends SingleCollectionMongoDbProperties {
     @Serial
     private static final long serialVersionUID = -1918436901491275547L;
 
+    /**
+     * Split recorded events into time-based collections, named after the collection
+     * and the start date of each partition. Date-bound queries only touch collections
+     * that overlap the requested date, and expired collections are dropped as a whole
+     * by the events retention policy. Accepted values are {@code NONE}, {@code DAILY} and {@code WEEKLY}.
+     */
+    private String partitioning = "NONE";
+
     public MongoDbEventsProperties() {
         setCollection("MongoDbCasEventRepository");
     }
@@ -65,4 +65,13 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * When set to true, the background task that periodically reloads service definitions
+     * only asks the service registry for changes that have taken place since the previous load,
+     * and applies those to the services cache and indexes without invalidating them as a whole.
+     * Service registries that are unable to report changes always fall back onto loading all
+     * service definitions.
+     */
+    private boolean deltaLoading;
 }
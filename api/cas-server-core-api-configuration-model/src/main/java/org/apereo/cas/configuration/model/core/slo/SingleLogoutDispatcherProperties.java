@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutDispatcherProperties} that controls how back-channel
+ * single logout callbacks are queued and dispatched to applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -5314862904218564211L;
+
+    /**
+     * Whether back-channel logout callbacks should be routed through the dispatcher.
+     * When disabled, callbacks are sent directly by the logout message handlers.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of logout callbacks that may be in flight
+     * at the same time for a single destination host.
+     */
+    private int maximumConcurrentRequestsPerHost = 8;
+
+    /**
+     * Maximum number of logout callbacks that may be queued or in flight
+     * across all destinations. Callbacks beyond this limit are rejected
+     * and reported as failures.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of attempts made to deliver a logout callback
+     * before it is considered failed.
+     */
+    private int maximumAttempts = 3;
+
+    /**
+     * Base delay between delivery attempts. The delay grows exponentially
+     * with every attempt and is randomized to avoid retrying in lockstep.
+     */
+    @DurationCapable
+    private String retryDelay = "PT0.5S";
+
+    /**
+     * Control the outbox that records callbacks until delivered.
+     */
+    @NestedConfigurationProperty
+    private SingleLogoutOutboxProperties outbox = new SingleLogoutOutboxProperties();
+}
@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutOutboxProperties} that controls the outbox
+ * in which back-channel logout callbacks are recorded until delivered.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutOutboxProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4127359284760318556L;
+
+    /**
+     * Whether logout callbacks should be recorded in the outbox
+     * and redelivered until they are successfully received.
+     */
+    private boolean enabled;
+
+    /**
+     * Directory that holds the outbox log file. When left blank, the outbox
+     * is kept in memory and pending callbacks do not survive a restart.
+     */
+    private String location;
+
+    /**
+     * Maximum number of pending callbacks kept in the outbox. Callbacks beyond
+     * this limit are still dispatched, but are not recorded for redelivery.
+     */
+    private long capacity = 100_000;
+
+    /**
+     * Maximum age of a pending callback, after which it is removed
+     * from the outbox without being delivered.
+     */
+    @DurationCapable
+    private String maximumAge = "PT8H";
+
+    /**
+     * Minimum delay between delivery attempts of a pending callback.
+     */
+    @DurationCapable
+    private String redeliveryDelay = "PT1M";
+
+    /**
+     * Scheduler settings to indicate how often the outbox is checked for pending callbacks.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties schedule = new SchedulingProperties().setStartDelay("PT30S").setRepeatInterval("PT1M");
+}
@@ -0,0 +1,64 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.ExpressionLanguageCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the compact, versioned codec of the stateless ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-stateless-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("StatelessTicketRegistryCodecProperties")
+public class StatelessTicketRegistryCodecProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4106918553817063271L;
+
+    /**
+     * Whether tickets should be encoded with the compact codec.
+     * The codec stores timestamps as variable-length integers, compresses the rest of the ticket
+     * with a preset dictionary and protects the result with a single AES-GCM operation, which
+     * produces considerably shorter ticket ids than the signed and encrypted JWT format.
+     * Tickets that were issued in the JWT format continue to be accepted.
+     */
+    private boolean enabled;
+
+    /**
+     * AES keys used to protect tickets, keyed by their identifier.
+     * Identifiers must be numbers between {@code 0} and {@code 255}, and keys must be
+     * base64-encoded 128, 192 or 256-bit values. Tickets protected with any of these keys
+     * are accepted, which allows keys to be rotated by adding a new key, making it active
+     * and removing the old key once tickets issued with it have expired.
+     * If no keys are defined, a key is generated on startup; tickets issued with a generated key
+     * cannot be read by other CAS nodes or after a restart.
+     */
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    /**
+     * Identifier of the key that is used to protect new tickets.
+     */
+    private int activeKeyId;
+
+    /**
+     * Location of a preset compression dictionary, which should contain fragments
+     * that frequently appear in tickets such as service URLs, principal attribute names
+     * and authentication handler names, with the most frequent fragments at the end.
+     * If undefined, a built-in dictionary is used. All CAS nodes must use the same dictionary,
+     * and changing the dictionary invalidates outstanding tickets.
+     */
+    @ExpressionLanguageCapable
+    private String dictionary;
+}
@@ -31,6 +31,18 @@ public class StatelessTicketRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Settings for the compact ticket codec.
+     */
+    @NestedConfigurationProperty
+    private StatelessTicketRegistryCodecProperties codec = new StatelessTicketRegistryCodecProperties();
+
+    /**
+     * Settings for revoking stateless tickets before they expire.
+     */
+    @NestedConfigurationProperty
+    private StatelessTicketRegistryRevocationProperties revocation = new StatelessTicketRegistryRevocationProperties();
+
     /**
      * Control how data produced by the registry would be managed and stored by the browser storage.
      * <p><br>
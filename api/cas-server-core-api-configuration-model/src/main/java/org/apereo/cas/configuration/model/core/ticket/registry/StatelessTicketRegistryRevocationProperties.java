@@ -0,0 +1,76 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties for revoking tickets issued by the stateless ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-stateless-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("StatelessTicketRegistryRevocationProperties")
+public class StatelessTicketRegistryRevocationProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6829342409511758131L;
+
+    /**
+     * Whether stateless tickets can be revoked before they expire.
+     * Tickets that are removed from the registry, such as ticket-granting tickets on logout
+     * or service tickets once they are validated, are recorded in a memory-bounded filter that is
+     * checked whenever a ticket is retrieved. Revoked tickets are forgotten once they expire.
+     */
+    private boolean enabled;
+
+    /**
+     * Revoked tickets are kept in a separate filter for each time bucket, based on the time
+     * they expire, so that the filter of a bucket can be discarded as a whole once the bucket is over.
+     */
+    @DurationCapable
+    private String bucketSize = "PT1H";
+
+    /**
+     * Number of revoked tickets that each bucket is sized for. A bucket that holds more
+     * tickets than it is sized for reports more false positives.
+     */
+    private int expectedInsertions = 10_000;
+
+    /**
+     * Probability with which a ticket that was not revoked is reported as revoked.
+     * Lower values require more memory per bucket.
+     */
+    private double falsePositiveProbability = 0.0001;
+
+    /**
+     * Location of a file through which CAS nodes that share the file replicate revoked tickets.
+     * Each node appends the tickets it revokes to the file and periodically reads the tickets
+     * that other nodes have appended. The file only records digests of ticket ids.
+     * If undefined, revoked tickets are not replicated.
+     */
+    private String location;
+
+    /**
+     * Scheduler settings to indicate how often revoked tickets are received from other nodes.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties schedule = new SchedulingProperties();
+
+    public StatelessTicketRegistryRevocationProperties() {
+        schedule.setEnabled(true);
+        schedule.setStartDelay("PT5S");
+        schedule.setRepeatInterval("PT5S");
+    }
+}
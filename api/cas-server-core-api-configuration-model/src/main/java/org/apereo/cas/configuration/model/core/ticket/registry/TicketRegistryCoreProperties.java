@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -42,4 +43,11 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Settings that control how ticket registry changes
+     * are replicated between CAS server nodes via a message queue.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryReplicationProperties replication = new TicketRegistryReplicationProperties();
 }
@@ -0,0 +1,66 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistryReplicationProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryReplicationProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2954179347829116731L;
+
+    /**
+     * When set to true, ticket registry changes that are replicated via a message queue
+     * are collected and published in batches rather than one message per change.
+     * Within a batch, only the latest change to each ticket is kept.
+     */
+    private boolean batchEnabled;
+
+    /**
+     * Maximum number of changes that are published in a single batch.
+     * A batch is published once it is full, or once the batch window elapses.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long changes are collected before they are published as a batch.
+     */
+    @DurationCapable
+    private String batchWindow = "PT0.25S";
+
+    /**
+     * When set to true, a CAS server node that starts up requests a snapshot of the ticket registry
+     * from its peers via the message queue, restores the snapshot and replays the changes that arrived
+     * while the snapshot was in transit. Without a snapshot, a node starts with an empty registry.
+     */
+    private boolean snapshotEnabled;
+
+    /**
+     * How long a starting CAS server node waits for a snapshot from its peers.
+     * Once this period elapses, the node stops waiting and applies the changes it has received.
+     */
+    @DurationCapable
+    private String snapshotTimeout = "PT15S";
+
+    /**
+     * Maximum number of tickets that are sent in a single snapshot message.
+     * Larger registries are sent as several messages, which keeps each message
+     * within the size limits of the message broker.
+     */
+    private int snapshotChunkSize = 500;
+}
@@ -0,0 +1,56 @@
+package org.apereo.cas.configuration.model.support.cassandra.ticketregistry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that tune the Cassandra ticket registry for throughput.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-cassandra-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("CassandraTicketRegistryPerformanceProperties")
+public class CassandraTicketRegistryPerformanceProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6319560862150275873L;
+
+    /**
+     * Whether the high-performance profile is enabled.
+     * When enabled, ticket-granting tickets are also recorded in a lookup table keyed by principal
+     * that is maintained as tickets are added and removed and expires along with them, so that
+     * sessions are looked up by principal rather than by scanning tables. Tickets that were
+     * stored before the profile was enabled are not found by principal until they are updated.
+     * Full enumerations of tickets are split into token ranges that are read concurrently.
+     */
+    private boolean enabled;
+
+    /**
+     * The table name used and created by CAS to hold the principal lookup table.
+     */
+    private String principalTableName = "ticketGrantingTicketsByPrincipalTable";
+
+    /**
+     * The number of token ranges that full table reads are split into, each of which is read concurrently.
+     */
+    private int scanSegments = 4;
+
+    /**
+     * The maximum number of token ranges that are read at the same time.
+     */
+    private int scanThreads = 4;
+
+    /**
+     * The number of rows fetched in each page when reading token ranges.
+     */
+    private int pageSize = 1000;
+}
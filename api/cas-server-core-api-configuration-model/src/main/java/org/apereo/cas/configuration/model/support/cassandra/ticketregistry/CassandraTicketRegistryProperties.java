@@ -36,5 +36,11 @@ public class CassandraTicketRegistryProperties extends BaseCassandraProperties {
      */
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
+
+    /**
+     * Settings that tune the registry for throughput.
+     */
+    @NestedConfigurationProperty
+    private CassandraTicketRegistryPerformanceProperties performance = new CassandraTicketRegistryPerformanceProperties();
 }
 
@@ -0,0 +1,53 @@
+package org.apereo.cas.configuration.model.support.cookie;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the compact, binary ticket-granting cookie format.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-cookie", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("CompactTicketGrantingCookieProperties")
+public class CompactTicketGrantingCookieProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1819215638340218817L;
+
+    /**
+     * Whether ticket-granting cookies should be issued in the compact format.
+     * The compact format carries the ticket id and, when the cookie is pinned to the session,
+     * truncated keyed hashes of the client address and user-agent instead of their values,
+     * and is protected with a single AES-GCM operation. Cookies issued in the signed and encrypted
+     * JWT format continue to be accepted, so existing sessions survive the migration.
+     */
+    private boolean enabled;
+
+    /**
+     * AES keys used to protect compact cookies, keyed by their identifier.
+     * Identifiers must be numbers between {@code 0} and {@code 255}, and keys must be
+     * base64-encoded 128, 192 or 256-bit values. Cookies protected with any of these keys
+     * are accepted, which allows keys to be rotated by adding a new key, making it active
+     * and removing the old key once cookies issued with it have expired.
+     * If no keys are defined, a key is generated on startup; cookies issued with a generated key
+     * cannot be read by other CAS nodes or after a restart.
+     */
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    /**
+     * Identifier of the key that is used to protect new cookies.
+     */
+    private int activeKeyId;
+}
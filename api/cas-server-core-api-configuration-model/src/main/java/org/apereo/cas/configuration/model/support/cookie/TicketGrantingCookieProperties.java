@@ -47,6 +47,12 @@ public class TicketGrantingCookieProperties extends PinnableCookieProperties {
     @NestedConfigurationProperty
     private EncryptionJwtSigningJwtCryptographyProperties crypto = new EncryptionJwtSigningJwtCryptographyProperties();
 
+    /**
+     * Settings for the compact ticket-granting cookie format.
+     */
+    @NestedConfigurationProperty
+    private CompactTicketGrantingCookieProperties compact = new CompactTicketGrantingCookieProperties();
+
     public TicketGrantingCookieProperties() {
         setName("TGC");
         crypto.getEncryption().setKeySize(EncryptionJwtCryptoProperties.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
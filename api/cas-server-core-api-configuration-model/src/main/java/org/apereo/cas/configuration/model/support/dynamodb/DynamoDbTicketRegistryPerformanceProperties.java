@@ -0,0 +1,42 @@
+package org.apereo.cas.configuration.model.support.dynamodb;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that tune the DynamoDb ticket registry for throughput.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-dynamodb-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("DynamoDbTicketRegistryPerformanceProperties")
+public class DynamoDbTicketRegistryPerformanceProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5530925416082738617L;
+
+    /**
+     * Whether the high-performance profile is enabled.
+     * When enabled, the table holding ticket-granting tickets is created with a global secondary index
+     * on the principal, so that sessions are looked up and counted by principal rather than by scanning the table,
+     * and full enumerations and counts of tickets use parallel, paginated scans. Counts rely on the expiration
+     * recorded with each item, and may include tickets that have been expired early by their expiration policy
+     * until they are removed from the registry. Tables that were created before the profile was enabled
+     * must be recreated for the index to be available; until then, lookups fall back to scanning the table.
+     */
+    private boolean enabled;
+
+    /**
+     * The number of segments that full table scans are split into, each of which is scanned in parallel.
+     */
+    private int scanSegments = 4;
+}
@@ -56,6 +56,12 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Settings that tune the registry for throughput.
+     */
+    @NestedConfigurationProperty
+    private DynamoDbTicketRegistryPerformanceProperties performance = new DynamoDbTicketRegistryPerformanceProperties();
+
     public DynamoDbTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -0,0 +1,64 @@
+package org.apereo.cas.configuration.model.support.geo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link GeoLocationCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-geolocation")
+public class GeoLocationCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3120773145521378964L;
+
+    /**
+     * Whether geolocation results should be cached.
+     * Results are cached per network prefix of the client address rather than per address,
+     * so that clients in the same network share the same result, and concurrent lookups for the
+     * same prefix only reach the geolocation provider once.
+     */
+    private boolean enabled;
+
+    /**
+     * Length of the network prefix of IPv4 addresses that is used as the cache key.
+     * A value of {@code 32} caches results per address.
+     */
+    private int ipv4PrefixLength = 24;
+
+    /**
+     * Length of the network prefix of IPv6 addresses that is used as the cache key.
+     * A value of {@code 128} caches results per address.
+     */
+    private int ipv6PrefixLength = 48;
+
+    /**
+     * Maximum number of network prefixes whose results are cached.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a successful geolocation result is cached.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT1H";
+
+    /**
+     * How long the absence of a geolocation result is cached.
+     * Failed lookups are never cached.
+     */
+    @DurationCapable
+    private String negativeExpireAfterWrite = "PT5M";
+}
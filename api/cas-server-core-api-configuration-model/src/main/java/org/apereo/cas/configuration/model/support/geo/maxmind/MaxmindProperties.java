@@ -51,4 +51,15 @@ public class MaxmindProperties extends BaseGeoLocationProperties {
      */
     @RequiredProperty
     private transient Resource countryDatabase;
+
+    /**
+     * How database files are read. Accepted values are:
+     * <ul>
+     *     <li>{@code MEMORY}: The database is loaded into the heap.</li>
+     *     <li>{@code MEMORY_MAPPED}: The database file is memory-mapped, which keeps it off the heap
+     *     and lets the operating system share its pages between processes.
+     *     The file must not be modified while it is in use.</li>
+     * </ul>
+     */
+    private String fileMode = "MEMORY";
 }
@@ -0,0 +1,69 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that tune the Hazelcast ticket registry for throughput.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("HazelcastTicketRegistryPerformanceProperties")
+public class HazelcastTicketRegistryPerformanceProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3183392384460158826L;
+
+    /**
+     * Whether the high-performance profile is enabled.
+     * When enabled, ticket maps are kept in object in-memory format, indexes on the
+     * principal, service and expiration time of tickets are created at startup, and session and
+     * ticket counts and lookups are answered using those indexes and server-side aggregations
+     * instead of SQL queries. All nodes in the cluster must use the same settings.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether ticket documents should be stored using Hazelcast compact serialization,
+     * where tickets are carried as JSON instead of Java-serialized objects.
+     * Compact serialization produces smaller payloads and does not require ticket classes
+     * to be identical across nodes.
+     */
+    private boolean compactSerialization = true;
+
+    /**
+     * Whether a near-cache should be kept for the ticket-granting ticket map, so that repeated reads
+     * of the same ticket-granting ticket on a node do not require a network round trip.
+     * Cached entries are invalidated when the ticket is updated or removed elsewhere in the cluster;
+     * invalidations are delivered asynchronously, so a node may briefly observe a stale ticket.
+     */
+    private boolean nearCache = true;
+
+    /**
+     * Maximum number of entries kept in the near-cache of each node.
+     */
+    private int nearCacheMaxSize = 10_000;
+
+    /**
+     * Maximum number of seconds an entry can stay in the near-cache.
+     */
+    private int nearCacheTimeToLiveSeconds = 60;
+
+    /**
+     * Whether ticket-granting tickets should be updated in place, using entry processors
+     * that only carry the services and usage of the ticket, instead of shipping the entire ticket
+     * and its authentication whenever a service ticket is granted. This is only possible when tickets
+     * are not encrypted, since cluster members are otherwise unable to read them.
+     */
+    private boolean entryProcessors = true;
+}
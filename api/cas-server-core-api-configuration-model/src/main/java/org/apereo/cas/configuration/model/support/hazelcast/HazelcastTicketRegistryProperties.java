@@ -38,6 +38,12 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Settings that tune the registry for throughput.
+     */
+    @NestedConfigurationProperty
+    private HazelcastTicketRegistryPerformanceProperties performance = new HazelcastTicketRegistryPerformanceProperties();
+
     public HazelcastTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -181,6 +181,27 @@ public abstract class AbstractLdapProperties implements Serializable, CasFeature
     @DurationCapable
     private String blockWaitTime = "PT3S";
 
+    /**
+     * Describes how the LDAP connection pool should be managed.
+     * <ul>
+     * <li>{@code FIXED}: Connections are obtained from a pool whose bounds are controlled by
+     * the min and max pool size settings, and servers are chosen via the configured connection strategy.</li>
+     * <li>{@code ADAPTIVE}: Operation latency and errors are recorded per LDAP server, and pooled connections
+     * to the healthiest servers are preferred on checkout. Unless a connection strategy is explicitly configured,
+     * new connections are also opened against the healthiest server. The pool is pruned back to its minimum size
+     * as soon as connections turn idle. This mode also collects pool wait-time and utilization statistics.</li>
+     * </ul>
+     */
+    private LdapConnectionPoolMode poolMode = LdapConnectionPoolMode.FIXED;
+
+    /**
+     * When the pool mode is {@code ADAPTIVE}, search operations that do not complete within
+     * the indicated latency percentile of recently observed searches (i.e. {@code 0.95})
+     * are hedged by sending a second search request on another connection, where the first response wins.
+     * A value of zero disables hedged searches.
+     */
+    private double hedgedSearchPercentile;
+
     /**
      * If multiple URLs are provided as the ldapURL this describes how each URL will be processed.
      * <ul>
@@ -352,6 +373,21 @@ public abstract class AbstractLdapProperties implements Serializable, CasFeature
         BIND
     }
 
+    /**
+     * Describe ldap connection pool modes.
+     */
+    public enum LdapConnectionPoolMode {
+
+        /**
+         * Pool bounded by min/max sizes, using the configured connection strategy.
+         */
+        FIXED,
+        /**
+         * Pool that routes connections to the healthiest server and adapts to demand.
+         */
+        ADAPTIVE
+    }
+
     /**
      * Describe ldap connection strategies.
      */
@@ -80,5 +80,15 @@ public class LdapPrincipalAttributesProperties extends AbstractLdapSearchPropert
      */
     private Map<String, String> queryAttributes = new HashMap<>(0);
 
+    /**
+     * Whether the LDAP entry that is fetched during LDAP authentication
+     * should be reused to resolve attributes, instead of searching the directory again.
+     * The authenticated entry is only reused when it is fetched from the same LDAP url
+     * and base dn, and when LDAP authentication has requested all the attributes
+     * that are defined by this attribute repository. Search entry handlers and binary
+     * attributes always require a separate search.
+     */
+    private boolean reuseAuthenticatedEntry;
+
 
 }
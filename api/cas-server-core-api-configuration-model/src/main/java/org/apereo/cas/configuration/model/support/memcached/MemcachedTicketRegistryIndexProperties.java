@@ -0,0 +1,55 @@
+package org.apereo.cas.configuration.model.support.memcached;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link MemcachedTicketRegistryIndexProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-memcached-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class MemcachedTicketRegistryIndexProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4250385917306522160L;
+
+    /**
+     * When set to true, the registry maintains secondary indexes in memcached
+     * that record the tickets of each principal, the tickets issued to each service
+     * and the tickets that expire within each time bucket. The indexes allow the registry to
+     * look up single sign-on sessions and to enumerate tickets for reports and the registry cleaner,
+     * at the cost of additional memcached operations when tickets are added, updated or removed.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of memcached entries across which the tickets of a single service
+     * and of a single expiration bucket are spread, to reduce contention on popular entries.
+     */
+    private int shards = 16;
+
+    /**
+     * Width of the time buckets by which tickets are indexed based on their expiration.
+     * Tickets are enumerated by reading the buckets that hold tickets,
+     * so wider buckets mean fewer entries to read.
+     */
+    @DurationCapable
+    private String bucketSize = "PT5M";
+
+    /**
+     * Maximum number of attempts to update an index entry when it is
+     * concurrently modified by another CAS server node.
+     */
+    private int maximumAttempts = 10;
+}
@@ -33,6 +33,12 @@ public class MemcachedTicketRegistryProperties extends BaseMemcachedProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Secondary index settings for the registry.
+     */
+    @NestedConfigurationProperty
+    private MemcachedTicketRegistryIndexProperties index = new MemcachedTicketRegistryIndexProperties();
+
     public MemcachedTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -0,0 +1,52 @@
+package org.apereo.cas.configuration.model.support.mongo.ticketregistry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that tune the MongoDb ticket registry for throughput.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-mongo-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("MongoDbTicketRegistryPerformanceProperties")
+public class MongoDbTicketRegistryPerformanceProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2841930627713469920L;
+
+    /**
+     * Whether the high-performance profile is enabled.
+     * When enabled, ticket attributes are stored as a list of name/values subdocuments
+     * that are indexed and queried by MongoDb directly, compound indexes on the principal and service
+     * of tickets along with their expiration date are created, and sessions are looked up
+     * by principal instead of using text queries. Documents that were stored before the profile
+     * was enabled are not found by attribute queries until they are rewritten or expire.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether documents should be removed by MongoDb exactly at the time the ticket expires,
+     * using a TTL index on the expiration date of each document. When disabled, documents are
+     * removed once the storage timeout of the ticket definition has elapsed after that date.
+     * Changing this setting requires indexes to be updated.
+     */
+    private boolean timeToLiveIndexes = true;
+
+    /**
+     * Whether counts and ticket id listings should be answered by MongoDb using projections and count queries,
+     * rather than fetching and decoding tickets. Such counts rely on the expiration date recorded with each
+     * document, and may include tickets that have been expired early by their expiration policy,
+     * for example because they have been idle for too long, until they are removed from the registry.
+     */
+    private boolean projections = true;
+}
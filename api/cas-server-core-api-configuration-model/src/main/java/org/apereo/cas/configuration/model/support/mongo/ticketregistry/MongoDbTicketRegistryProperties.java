@@ -54,6 +54,9 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
      *     <li>{@code IDX_JSON_TYPE_ID}: compound index for ticket body, type and id used for text queries.</li>
      *     <li>{@code IDX_PRINCIPAL}: index created for principal attached to the ticket.</li>
      *     <li>{@code IDX_EXPIRATION}: index created for ticket expiration date.</li>
+     *     <li>{@code IDX_PRINCIPAL_EXPIRATION}: compound index for principal and expiration date, created by the performance profile.</li>
+     *     <li>{@code IDX_SERVICE_EXPIRATION}: compound index for service and expiration date, created by the performance profile.</li>
+     *     <li>{@code IDX_ATTRIBUTES}: index for attribute names and values, created by the performance profile.</li>
      *</ul>
      */
     private List<String> indexes = new ArrayList<>();
@@ -64,6 +67,12 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Settings that tune the registry for throughput.
+     */
+    @NestedConfigurationProperty
+    private MongoDbTicketRegistryPerformanceProperties performance = new MongoDbTicketRegistryPerformanceProperties();
+
     public MongoDbTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
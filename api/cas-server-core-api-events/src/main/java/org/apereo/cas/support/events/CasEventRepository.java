@@ -2,7 +2,11 @@ package org.apereo.cas.support.events;
 
 import org.apereo.cas.support.events.dao.CasEvent;
 
+import lombok.val;
+
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +44,21 @@ public interface CasEventRepository {
      */
     CasEvent save(CasEvent event) throws Throwable;
 
+    /**
+     * Save a batch of events.
+     *
+     * @param events the events
+     * @return the saved events
+     * @throws Throwable the throwable
+     */
+    default List<CasEvent> saveAll(final List<CasEvent> events) throws Throwable {
+        val results = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            results.add(save(event));
+        }
+        return results;
+    }
+
     /**
      * Load collection.
      *
@@ -55,6 +74,30 @@ public interface CasEventRepository {
      */
     Stream<? extends CasEvent> load(ZonedDateTime dateTime);
 
+    /**
+     * Load collection of events created before the given date.
+     * Repositories that do not support retention, and leave events in place
+     * via {@link #removeBefore(ZonedDateTime)}, report no events so that
+     * expired events are not summarized over and over again.
+     *
+     * @param dateTime the date time
+     * @return the collection
+     */
+    default Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        return Stream.empty();
+    }
+
+    /**
+     * Remove events created before the given date.
+     * Repositories that do not support retention leave events in place.
+     *
+     * @param dateTime the date time
+     * @return the number of removed events, if known
+     */
+    default long removeBefore(final ZonedDateTime dateTime) {
+        return 0;
+    }
+
     /**
      * Gets events of type for principal.
      *
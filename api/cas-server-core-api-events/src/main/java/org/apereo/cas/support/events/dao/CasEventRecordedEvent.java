@@ -0,0 +1,29 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+
+/**
+ * This is {@link CasEventRecordedEvent}, published once a {@link CasEvent}
+ * is recorded by the events repository, allowing components to maintain
+ * derived data incrementally without reloading event history.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@ToString(callSuper = true)
+public class CasEventRecordedEvent extends ApplicationEvent {
+    @Serial
+    private static final long serialVersionUID = 2471593004726215640L;
+
+    private final CasEvent record;
+
+    public CasEventRecordedEvent(final Object source, final CasEvent record) {
+        super(source);
+        this.record = record;
+    }
+}
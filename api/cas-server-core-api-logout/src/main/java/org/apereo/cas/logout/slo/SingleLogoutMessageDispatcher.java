@@ -0,0 +1,56 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.Builder;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that is responsible for delivering
+ * back-channel logout callbacks to applications, controlling how many callbacks
+ * are sent concurrently to each destination and how failed deliveries are retried.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+
+    /**
+     * Bean name for default impl.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Dispatch the logout callback.
+     *
+     * @param request the request
+     * @return true if the callback was delivered, or accepted for delivery when asynchronous.
+     */
+    boolean dispatch(SingleLogoutDispatchRequest request);
+
+    /**
+     * Collect dispatch statistics, keyed by destination.
+     *
+     * @return the statistics
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+
+    /**
+     * Logout callback to dispatch.
+     *
+     * @param destination  the destination url
+     * @param contentType  the content type of the message body
+     * @param payload      the message body posted to the destination
+     * @param asynchronous whether the caller should not wait for the delivery outcome
+     * @param durable      whether the callback may be stored and later replayed by posting the payload to the destination
+     * @param sender       sends the callback and reports whether it was successfully received
+     */
+    @Builder(toBuilder = true)
+    record SingleLogoutDispatchRequest(URL destination, String contentType, String payload,
+                                       boolean asynchronous, boolean durable, BooleanSupplier sender) {
+    }
+}
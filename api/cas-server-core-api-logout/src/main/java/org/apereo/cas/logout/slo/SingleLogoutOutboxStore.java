@@ -0,0 +1,60 @@
+package org.apereo.cas.logout.slo;
+
+import java.util.List;
+
+/**
+ * This is {@link SingleLogoutOutboxStore} that keeps track of back-channel logout callbacks
+ * until they are successfully delivered, so that callbacks survive failures and restarts
+ * and can be delivered at least once.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface SingleLogoutOutboxStore {
+
+    /**
+     * Bean name for default impl.
+     */
+    String BEAN_NAME = "singleLogoutOutboxStore";
+
+    /**
+     * Append the entry to the outbox.
+     *
+     * @param entry the entry
+     */
+    void append(SingleLogoutOutboxEntry entry);
+
+    /**
+     * Remove the entry from the outbox once delivered or expired.
+     *
+     * @param id the id
+     */
+    void remove(String id);
+
+    /**
+     * Load all pending entries, oldest first.
+     *
+     * @return the entries
+     */
+    List<SingleLogoutOutboxEntry> load();
+
+    /**
+     * Number of pending entries.
+     *
+     * @return the size
+     */
+    long size();
+
+    /**
+     * Logout callback pending delivery.
+     *
+     * @param id          the id
+     * @param destination the destination url
+     * @param contentType the content type
+     * @param payload     the message body
+     * @param createdAt   the creation timestamp, in milliseconds since the epoch
+     */
+    record SingleLogoutOutboxEntry(String id, String destination, String contentType,
+                                   String payload, long createdAt) {
+    }
+}
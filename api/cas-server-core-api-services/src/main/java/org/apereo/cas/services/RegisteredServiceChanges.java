@@ -0,0 +1,23 @@
+package org.apereo.cas.services;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * This is {@link RegisteredServiceChanges} that describes the changes
+ * in a service registry since a given point in time. It carries the service definitions
+ * that have been created or modified since that moment, along with the identifiers
+ * of all service definitions that remain in the registry, which allows consumers
+ * to discover deleted service definitions without loading them. The watermark
+ * is determined by the registry from its own records, i.e. the most recent modification
+ * timestamp it has stored, and should be used to request the next set of changes.
+ *
+ * @param modifiedServices     the modified services
+ * @param registeredServiceIds the identifiers of all registered services found in the registry
+ * @param watermark            the watermark, as epoch milliseconds, to use when requesting the next set of changes
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public record RegisteredServiceChanges(Collection<RegisteredService> modifiedServices, Set<Long> registeredServiceIds,
+                                       long watermark) {
+}
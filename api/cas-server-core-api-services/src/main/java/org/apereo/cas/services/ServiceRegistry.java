@@ -6,6 +6,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -85,6 +86,20 @@ public interface ServiceRegistry extends NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Retrieve the changes in the data store since the given watermark.
+     * The watermark is exclusive: changes stamped exactly at the watermark
+     * have already been reported and are not reported again.
+     * Registries that are unable to track changes return an empty result,
+     * forcing callers to fall back onto a full {@link #load()}.
+     *
+     * @param watermark the watermark, as epoch milliseconds, after which changes should be reported
+     * @return the changes, if the registry is able to track them
+     */
+    default Optional<RegisteredServiceChanges> loadChanges(final long watermark) {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
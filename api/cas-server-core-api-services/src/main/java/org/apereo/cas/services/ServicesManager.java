@@ -209,6 +209,17 @@ public interface ServicesManager extends Ordered, NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Inform the ServicesManager to apply changes to its list of services
+     * that have taken place since the last load, if the service registry is
+     * able to report them. Otherwise, services are fully reloaded.
+     *
+     * @return the collection
+     */
+    default Collection<RegisteredService> loadChanges() {
+        return load();
+    }
+
     /**
      * Return a count of loaded services by this manager.
      *
@@ -119,6 +119,18 @@ public interface TicketRegistry {
         return List.of();
     }
 
+    /**
+     * Retrieve the tickets with the given ids, in as few round trips
+     * as the underlying store allows. Tickets that cannot be found
+     * or have expired are left out of the result.
+     *
+     * @param ticketIds the ticket ids
+     * @return the tickets
+     */
+    default List<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream().map(this::getTicket).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Gets tickets as a stream having applied a predicate.
      * <p>
@@ -141,6 +153,20 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update the bookkeeping state of the ticket-granting ticket, such as the services
+     * and proxy-granting tickets it has issued, its descendant tickets and its usage.
+     * Registries that are able to update these fields in place should override this
+     * operation; by default, the entire ticket is updated.
+     *
+     * @param ticket the ticket
+     * @return the updated ticket
+     * @throws Exception the exception
+     */
+    default Ticket updateTicketGrantingTicketState(final TicketGrantingTicket ticket) throws Exception {
+        return updateTicket(ticket);
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -0,0 +1,178 @@
+package org.apereo.cas.authentication.adaptive.geo;
+
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.net.InetAddresses;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * This is {@link CachingGeoLocationService} that caches the results of another {@link GeoLocationService}.
+ * Results of address lookups are cached per network prefix of the address, so that clients in the same network
+ * share the result of a single lookup. Concurrent lookups for the same prefix are coalesced: the first caller
+ * runs the lookup outside of the locks of the cache and the others wait for its result. The absence
+ * of a result is cached for a separate, typically shorter, period. Lookups that fail are not cached;
+ * literal addresses given as strings are located by address, since the underlying service would otherwise
+ * report failures as missing results. Lookups by coordinates are always handed to the underlying service.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class CachingGeoLocationService implements GeoLocationService {
+    private static final int IPV4_ADDRESS_BITS = 32;
+
+    private static final int IPV6_ADDRESS_BITS = 128;
+
+    private final GeoLocationService delegate;
+
+    private final int ipv4PrefixLength;
+
+    private final int ipv6PrefixLength;
+
+    private final AsyncCache<String, Optional<GeoLocationResponse>> cache;
+
+    public CachingGeoLocationService(final GeoLocationService delegate, final int ipv4PrefixLength,
+                                     final int ipv6PrefixLength, final long maximumSize,
+                                     final Duration expireAfterWrite, final Duration negativeExpireAfterWrite) {
+        this.delegate = delegate;
+        this.ipv4PrefixLength = Math.clamp(ipv4PrefixLength, 0, IPV4_ADDRESS_BITS);
+        this.ipv6PrefixLength = Math.clamp(ipv6PrefixLength, 0, IPV6_ADDRESS_BITS);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ResultExpiry(expireAfterWrite, negativeExpireAfterWrite))
+            .recordStats()
+            .buildAsync();
+    }
+
+    @Override
+    public GeoLocationResponse locate(final InetAddress address) throws Throwable {
+        if (address == null) {
+            return delegate.locate(address);
+        }
+        val prefix = getNetworkPrefix(address);
+        val lookup = new CompletableFuture<Optional<GeoLocationResponse>>();
+        val result = cache.get(prefix, (key, executor) -> lookup);
+        if (result == lookup) {
+            LOGGER.trace("Geolocation for network [{}] is not cached; locating [{}]", prefix, address);
+            try {
+                lookup.complete(Optional.ofNullable(delegate.locate(address)));
+            } catch (final Throwable e) {
+                lookup.completeExceptionally(e);
+            }
+        }
+        try {
+            return result.join().orElse(null);
+        } catch (final CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String ipAddress) {
+        val address = StringUtils.isBlank(ipAddress) ? null : toLiteralAddress(ipAddress);
+        if (address == null) {
+            return delegate.locate(ipAddress);
+        }
+        return FunctionUtils.doAndHandle(() -> locate(address), e -> {
+            LOGGER.debug("Unable to locate [{}]: [{}]", ipAddress, e.getMessage());
+            return null;
+        }).get();
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) throws Throwable {
+        return delegate.locate(latitude, longitude);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String ip, final GeoLocationRequest request) throws Throwable {
+        val location = locate(ip);
+        if (location == null && request != null
+            && StringUtils.isNotBlank(request.getLatitude()) && StringUtils.isNotBlank(request.getLongitude())) {
+            return delegate.locate(request);
+        }
+        return location;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final GeoLocationRequest request) throws Throwable {
+        return delegate.locate(request);
+    }
+
+    /**
+     * Collect cache statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        val stats = cache.synchronous().stats();
+        return Map.of(
+            "size", cache.synchronous().estimatedSize(),
+            "hits", stats.hitCount(),
+            "misses", stats.missCount(),
+            "hitRate", stats.hitRate(),
+            "evictions", stats.evictionCount(),
+            "averageLoadPenalty", stats.averageLoadPenalty());
+    }
+
+    /**
+     * Calculate the network prefix of the given address, which is the key under which its geolocation is cached.
+     *
+     * @param address the address
+     * @return the network prefix in CIDR notation
+     */
+    public String getNetworkPrefix(final InetAddress address) {
+        val bytes = address.getAddress();
+        val prefixLength = address instanceof Inet4Address ? ipv4PrefixLength : ipv6PrefixLength;
+        for (var i = 0; i < bytes.length; i++) {
+            val retainedBits = Math.clamp(prefixLength - (long) i * Byte.SIZE, 0, Byte.SIZE);
+            bytes[i] &= (byte) (0xFF << (Byte.SIZE - retainedBits));
+        }
+        return FunctionUtils.doUnchecked(() -> InetAddress.getByAddress(bytes).getHostAddress()) + '/' + prefixLength;
+    }
+
+    private static InetAddress toLiteralAddress(final String ipAddress) {
+        val value = ipAddress.trim();
+        if (!InetAddresses.isInetAddress(value)) {
+            LOGGER.trace("[{}] is not a literal address; its geolocation will not be cached", ipAddress);
+            return null;
+        }
+        return InetAddresses.forString(value);
+    }
+
+    private record ResultExpiry(Duration expireAfterWrite, Duration negativeExpireAfterWrite)
+        implements Expiry<String, Optional<GeoLocationResponse>> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Optional<GeoLocationResponse> value, final long currentTime) {
+            return value.isPresent() ? expireAfterWrite.toNanos() : negativeExpireAfterWrite.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Optional<GeoLocationResponse> value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Optional<GeoLocationResponse> value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.apereo.cas.authentication.adaptive.geo;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingGeoLocationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("GeoLocation")
+class CachingGeoLocationServiceTests {
+    private static CachingGeoLocationService getCachingService(final GeoLocationService delegate) {
+        return new CachingGeoLocationService(delegate, 24, 48, 100, Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void verifyNetworkPrefix() throws Throwable {
+        val service = getCachingService(mock(GeoLocationService.class));
+        assertEquals("185.86.151.0/24", service.getNetworkPrefix(InetAddress.getByName("185.86.151.11")));
+        assertEquals("2001:db8:85a3:0:0:0:0:0/48", service.getNetworkPrefix(InetAddress.getByName("2001:db8:85a3:1:2::7334")));
+        val perAddress = new CachingGeoLocationService(mock(GeoLocationService.class), 40, 128, 100,
+            Duration.ofHours(1), Duration.ofMinutes(5));
+        assertEquals("185.86.151.11/32", perAddress.getNetworkPrefix(InetAddress.getByName("185.86.151.11")));
+    }
+
+    @Test
+    void verifyResultsCachedPerNetwork() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        val response = new GeoLocationResponse().addAddress("London");
+        when(delegate.locate(any(InetAddress.class))).thenReturn(response);
+        val service = getCachingService(delegate);
+
+        assertSame(response, service.locate("185.86.151.11"));
+        assertSame(response, service.locate("185.86.151.99"));
+        assertSame(response, service.locate(InetAddress.getByName("185.86.151.12")));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+        verify(delegate, never()).locate(anyString());
+
+        service.locate("185.86.152.11");
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertEquals(2L, service.getStatistics().get("misses"));
+        assertEquals(2L, service.getStatistics().get("hits"));
+    }
+
+    @Test
+    void verifyMissingResultsCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        val service = getCachingService(delegate);
+        assertNull(service.locate("10.0.0.1"));
+        assertNull(service.locate("10.0.0.2"));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+
+        val response = new GeoLocationResponse().addAddress("Paris");
+        when(delegate.locate(any(GeoLocationRequest.class))).thenReturn(response);
+        assertSame(response, service.locate("10.0.0.3", new GeoLocationRequest(48.8, 2.3)));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyFailuresNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenThrow(new IllegalStateException("unavailable"));
+        val service = getCachingService(delegate);
+        assertThrows(IllegalStateException.class, () -> service.locate(InetAddress.getByName("10.0.0.1")));
+        assertThrows(IllegalStateException.class, () -> service.locate(InetAddress.getByName("10.0.0.1")));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertEquals(0L, service.getCache().synchronous().estimatedSize());
+
+        assertNull(service.locate("10.0.0.2"));
+        assertNull(service.locate("10.0.0.2"));
+        verify(delegate, times(4)).locate(any(InetAddress.class));
+        verify(delegate, never()).locate(anyString());
+        assertEquals(0L, service.getCache().synchronous().estimatedSize());
+    }
+
+    @Test
+    void verifyHostNamesNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        val service = getCachingService(delegate);
+        service.locate("cas.example.org");
+        service.locate("cas.example.org");
+        service.locate(StringUtils.EMPTY);
+        verify(delegate, times(3)).locate(anyString());
+        assertEquals(0L, service.getCache().synchronous().estimatedSize());
+    }
+
+    @Test
+    void verifyConcurrentLookupsCoalesced() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        val calls = new AtomicInteger();
+        val started = new CountDownLatch(1);
+        when(delegate.locate(any(InetAddress.class))).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            started.await(1, TimeUnit.SECONDS);
+            return new GeoLocationResponse().addAddress("Berlin");
+        });
+        val service = getCachingService(delegate);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = new ArrayList<Future<GeoLocationResponse>>();
+            for (var i = 1; i <= 10; i++) {
+                val address = "192.168.1." + i;
+                results.add(executor.submit(() -> service.locate(address)));
+            }
+            started.countDown();
+            for (val result : results) {
+                assertNotNull(result.get());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+}
@@ -4,52 +4,65 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes are kept in a single concurrent cache keyed by the registered service
+ * and the principal id, where entries expire based on the expiration policy
+ * of the caching repository that stored them, and the cache as a whole is bounded
+ * by the number of attribute values it holds. Entries that belong to a registered service
+ * are removed once the service is deleted.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
-public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable, CasEventListener {
+    private static final long DEFAULT_MAXIMUM_CACHE_WEIGHT = 100_000;
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final Cache<CacheKey, CachedAttributes> cache;
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private final Map<String, ServiceCacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(DEFAULT_MAXIMUM_CACHE_WEIGHT);
+    }
+
+    public DefaultPrincipalAttributesRepositoryCache(final long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((CacheKey key, CachedAttributes value) -> value.weight())
+            .expireAfter(new CachedAttributesExpiry())
+            .build();
+    }
 
     private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + "@" + registeredService.getName();
-        val cacheKey = DigestUtils.sha512(key);
-        LOGGER.trace("Built registered service cache key [{}] for [{}]:", cacheKey, key);
-        return cacheKey;
+        return registeredService.getId() + "@" + registeredService.getName();
     }
 
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
-        final RegisteredServicePrincipalAttributesRepository repository) {
+    private static long getExpirationInNanos(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = (CachingPrincipalAttributesRepository) repository;
         val unit = TimeUnit.valueOf(StringUtils.defaultIfBlank(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return unit.toNanos(cachedRepository.getExpiration());
     }
 
     @Override
@@ -59,41 +72,110 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
 
     @Override
     public void invalidate() {
-        lock.tryLock(__ -> registeredServicesCache.values().forEach(Cache::invalidateAll));
+        cache.invalidateAll();
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        return lock.tryLock(() -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            return cache.get(principal.getId(), __ -> {
-                LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-                return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-            });
-        });
+        val serviceKey = buildRegisteredServiceCacheKey(registeredService);
+        val cachedAttributes = cache.getIfPresent(new CacheKey(serviceKey, principal.getId()));
+        val serviceStatistics = getStatisticsFor(serviceKey);
+        if (cachedAttributes == null) {
+            LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
+            serviceStatistics.getMissCount().increment();
+            return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        serviceStatistics.getHitCount().increment();
+        return cachedAttributes.attributes();
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        lock.tryLock(__ -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            cache.put(id, attributes);
-        });
+        val serviceKey = buildRegisteredServiceCacheKey(registeredService);
+        val cachedAttributes = new TreeMap<String, List<Object>>(String.CASE_INSENSITIVE_ORDER);
+        cachedAttributes.putAll(attributes);
+        cache.put(new CacheKey(serviceKey, id), new CachedAttributes(cachedAttributes, getExpirationInNanos(repository)));
+        getStatisticsFor(serviceKey).getPutCount().increment();
     }
 
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+    /**
+     * Remove cached attributes that belong to a registered service
+     * once the service is removed from the registry.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        val serviceKey = buildRegisteredServiceCacheKey(event.getRegisteredService());
+        LOGGER.debug("Removing cached attributes for deleted registered service [{}]", serviceKey);
+        cache.asMap().keySet().removeIf(key -> key.registeredServiceKey().equals(serviceKey));
+        statistics.remove(serviceKey);
+    }
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+    /**
+     * Gets cache statistics, mapped by registered service.
+     *
+     * @return the statistics
+     */
+    public Map<String, ServiceCacheStatistics> getStatistics() {
+        return Map.copyOf(statistics);
+    }
+
+    /**
+     * Gets the estimated number of cached entries.
+     *
+     * @return the size
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private ServiceCacheStatistics getStatisticsFor(final String serviceKey) {
+        return statistics.computeIfAbsent(serviceKey, __ -> new ServiceCacheStatistics());
+    }
+
+    private record CacheKey(String registeredServiceKey, String principalId) {
+    }
+
+    private record CachedAttributes(Map<String, List<Object>> attributes, long expirationNanos) {
+        int weight() {
+            val values = attributes.values().stream().mapToLong(List::size).sum();
+            return (int) Math.min(Integer.MAX_VALUE, 1 + values);
+        }
+    }
+
+    private static final class CachedAttributesExpiry implements Expiry<CacheKey, CachedAttributes> {
+        @Override
+        public long expireAfterCreate(final CacheKey key, final CachedAttributes value, final long currentTime) {
+            return value.expirationNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final CacheKey key, final CachedAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.expirationNanos();
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
+
+        @Override
+        public long expireAfterRead(final CacheKey key, final CachedAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Cache statistics collected for a registered service.
+     */
+    @Getter
+    public static final class ServiceCacheStatistics {
+        private final LongAdder hitCount = new LongAdder();
+
+        private final LongAdder missCount = new LongAdder();
+
+        private final LongAdder putCount = new LongAdder();
     }
 }
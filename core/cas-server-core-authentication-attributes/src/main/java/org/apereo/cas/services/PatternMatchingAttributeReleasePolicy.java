@@ -3,9 +3,11 @@ package org.apereo.cas.services;
 import org.apereo.cas.util.RegexUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,15 +15,15 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.val;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * This is {@link PatternMatchingAttributeReleasePolicy}.
@@ -54,37 +56,17 @@ public class PatternMatchingAttributeReleasePolicy extends AbstractRegisteredSer
     @Override
     public Map<String, List<Object>> getAttributesInternal(final RegisteredServiceAttributeReleasePolicyContext context,
                                                            final Map<String, List<Object>> attributes) {
-        return allowedAttributes
-            .entrySet()
-            .stream()
-            .filter(entry -> attributes.containsKey(entry.getKey()))
-            .map(entry -> {
-                val rule = entry.getValue();
-
-                val valuePattern = RegexUtils.createPattern(rule.getPattern());
-                val transformPattern = PATTERN_TRANSFORM_GROUPS.matcher(rule.getTransform());
-
-                val attributeValues = attributes.get(entry.getKey());
-                val transformedValues = attributeValues
-                    .stream()
-                    .map(value -> {
-                        var transformedValue = rule.getTransform();
-                        val matcher = valuePattern.matcher(value.toString());
-                        if (matcher.find()) {
-                            while (transformPattern.find()) {
-                                val group = Integer.parseInt(transformPattern.group(1));
-                                val target = String.format("${%s}", group);
-                                transformedValue = transformedValue.replace(target, matcher.group(group));
-                            }
-                        }
-                        transformPattern.reset();
-                        return transformedValue;
-                    })
-                    .collect(Collectors.<Object>toList());
-                return Pair.of(entry.getKey(), transformedValues);
-            })
-            .filter(pair -> !pair.getValue().isEmpty())
-            .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+        val releasedAttributes = new HashMap<String, List<Object>>(allowedAttributes.size());
+        allowedAttributes.forEach((name, rule) -> {
+            val attributeValues = attributes.get(name);
+            if (attributeValues != null && !attributeValues.isEmpty()) {
+                val plan = rule.getReleasePlan();
+                val transformedValues = new ArrayList<Object>(attributeValues.size());
+                attributeValues.forEach(value -> transformedValues.add(plan.transform(value.toString())));
+                releasedAttributes.put(name, transformedValues);
+            }
+        });
+        return releasedAttributes;
     }
 
     @ToString
@@ -102,5 +84,98 @@ public class PatternMatchingAttributeReleasePolicy extends AbstractRegisteredSer
         private String pattern;
 
         private String transform;
+
+        @JsonIgnore
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private transient volatile RulePlan releasePlan;
+
+        /**
+         * Sets pattern.
+         *
+         * @param pattern the pattern
+         * @return the rule
+         */
+        public Rule setPattern(final String pattern) {
+            this.pattern = pattern;
+            this.releasePlan = null;
+            return this;
+        }
+
+        /**
+         * Sets transform.
+         *
+         * @param transform the transform
+         * @return the rule
+         */
+        public Rule setTransform(final String transform) {
+            this.transform = transform;
+            this.releasePlan = null;
+            return this;
+        }
+
+        /**
+         * Gets the release plan for this rule, with the value pattern
+         * compiled and the transform template broken down into segments once.
+         *
+         * @return the release plan
+         */
+        @JsonIgnore
+        RulePlan getReleasePlan() {
+            var plan = releasePlan;
+            if (plan == null) {
+                plan = RulePlan.of(pattern, transform);
+                releasePlan = plan;
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Precompiled form of a {@link Rule} that carries
+     * the compiled value pattern and the parsed transform template.
+     *
+     * @param valuePattern the value pattern
+     * @param transform    the transform template
+     * @param segments     the transform segments
+     */
+    record RulePlan(Pattern valuePattern, String transform, List<TransformSegment> segments) {
+        static RulePlan of(final String pattern, final String transform) {
+            val transformSegments = new ArrayList<TransformSegment>();
+            val matcher = PATTERN_TRANSFORM_GROUPS.matcher(transform);
+            var position = 0;
+            while (matcher.find()) {
+                if (matcher.start() > position) {
+                    transformSegments.add(new TransformSegment(transform.substring(position, matcher.start()), -1));
+                }
+                transformSegments.add(new TransformSegment(null, Integer.parseInt(matcher.group(1))));
+                position = matcher.end();
+            }
+            if (position < transform.length()) {
+                transformSegments.add(new TransformSegment(transform.substring(position), -1));
+            }
+            return new RulePlan(RegexUtils.createPattern(pattern), transform, List.copyOf(transformSegments));
+        }
+
+        String transform(final String value) {
+            val matcher = valuePattern.matcher(value);
+            if (!matcher.find()) {
+                return transform;
+            }
+            val builder = new StringBuilder(transform.length() + value.length());
+            segments.forEach(segment -> {
+                if (segment.group() >= 0) {
+                    builder.append(matcher.group(segment.group()));
+                } else {
+                    builder.append(segment.literal());
+                }
+            });
+            return builder.toString();
+        }
+    }
+
+    record TransformSegment(String literal, int group) {
     }
 }
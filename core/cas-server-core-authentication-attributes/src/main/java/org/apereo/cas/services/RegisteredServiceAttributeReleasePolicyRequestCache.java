@@ -0,0 +1,151 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.util.http.HttpRequestUtils;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link RegisteredServiceAttributeReleasePolicyRequestCache}.
+ * Memoizes the outcome of attribute release policies for the duration of the current
+ * http request, so that protocol encoders that release attributes for the same principal
+ * and service more than once in a single request reuse the same computed attribute set.
+ * Results are keyed by the principal, the service and their attributes, the registered service
+ * and a fingerprint of the policy definition, so changes to any of them yield a fresh computation.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@UtilityClass
+public class RegisteredServiceAttributeReleasePolicyRequestCache {
+    private static final String REQUEST_ATTRIBUTE_NAME = RegisteredServiceAttributeReleasePolicyRequestCache.class.getName();
+
+    private static final String TASK_NAME = "RegisteredServiceAttributeReleasePolicy.getAttributes";
+
+    /**
+     * Get released attributes from the request cache, or compute them
+     * via the given supplier and remember the outcome for the rest of the request.
+     * Callers always receive their own copy of the released attributes.
+     *
+     * @param policy   the policy
+     * @param context  the context
+     * @param supplier the supplier
+     * @return the released attributes
+     * @throws Throwable the throwable
+     */
+    public static Map<String, List<Object>> getOrCompute(final RegisteredServiceAttributeReleasePolicy policy,
+                                                         final RegisteredServiceAttributeReleasePolicyContext context,
+                                                         final CheckedSupplier<Map<String, List<Object>>> supplier) throws Throwable {
+        val results = getRequestResults();
+        if (results == null) {
+            return observe(policy, context, false, supplier);
+        }
+        val key = ReleaseResultKey.of(policy, context);
+        val cachedAttributes = results.get(key);
+        if (cachedAttributes != null) {
+            LOGGER.trace("Reusing released attributes computed by [{}] for [{}] in this request",
+                policy.getClass().getSimpleName(), key.principalId());
+            return observe(policy, context, true, () -> copy(cachedAttributes));
+        }
+        val releasedAttributes = observe(policy, context, false, supplier);
+        results.put(key, copy(releasedAttributes));
+        return releasedAttributes;
+    }
+
+    private static Map<ReleaseResultKey, Map<String, List<Object>>> getRequestResults() {
+        val request = HttpRequestUtils.getHttpServletRequestFromRequestAttributes();
+        if (request == null) {
+            return null;
+        }
+        var results = (Map<ReleaseResultKey, Map<String, List<Object>>>) request.getAttribute(REQUEST_ATTRIBUTE_NAME);
+        if (results == null) {
+            results = new ConcurrentHashMap<>();
+            request.setAttribute(REQUEST_ATTRIBUTE_NAME, results);
+        }
+        return results;
+    }
+
+    private static Map<String, List<Object>> observe(final RegisteredServiceAttributeReleasePolicy policy,
+                                                     final RegisteredServiceAttributeReleasePolicyContext context,
+                                                     final boolean cached,
+                                                     final CheckedSupplier<Map<String, List<Object>>> supplier) throws Throwable {
+        val applicationContext = context.getApplicationContext();
+        if (applicationContext != null && applicationContext.containsBean(ExecutableObserver.BEAN_NAME)) {
+            val observer = applicationContext.getBean(ExecutableObserver.BEAN_NAME, ExecutableObserver.class);
+            val task = new MonitorableTask(TASK_NAME)
+                .withBoundedValue("policy", policy.getClass().getSimpleName())
+                .withBoundedValue("cached", String.valueOf(cached));
+            return observer.supply(task, supplier);
+        }
+        return supplier.get();
+    }
+
+    private static Map<String, List<Object>> copy(final Map<String, List<Object>> attributes) {
+        if (attributes instanceof final SortedMap<String, List<Object>> sortedMap) {
+            return new TreeMap<>(sortedMap);
+        }
+        return new LinkedHashMap<>(attributes);
+    }
+
+    /**
+     * Key of a release result. Attribute maps are held by reference rather than copied,
+     * and the key is only valid for the duration of the request. Content hashes of the
+     * attribute maps and of the policy are captured when the key is built, so a map or policy
+     * that is changed later in the request never matches a key built before the change,
+     * and the hash of the key stays stable while it sits in the request cache.
+     */
+    private record ReleaseResultKey(String principalId, Map<String, List<Object>> principalAttributes, int principalAttributesHash,
+                                    String serviceId, Map<String, List<Object>> serviceAttributes, int serviceAttributesHash,
+                                    Long registeredServiceId, String policyType, int policyIdentity, int policyHash,
+                                    Map<String, List<Object>> releasingAttributes, int releasingAttributesHash) {
+        static ReleaseResultKey of(final RegisteredServiceAttributeReleasePolicy policy,
+                                   final RegisteredServiceAttributeReleasePolicyContext context) {
+            val principal = context.getPrincipal();
+            val principalAttributes = principal.getAttributes();
+            val service = context.getService();
+            val serviceAttributes = Optional.ofNullable(service).map(Service::getAttributes).orElseGet(Map::of);
+            val releasingAttributes = context.getReleasingAttributes();
+            return new ReleaseResultKey(principal.getId(), principalAttributes, Objects.hashCode(principalAttributes),
+                Optional.ofNullable(service).map(Service::getId).orElse(null), serviceAttributes, Objects.hashCode(serviceAttributes),
+                Optional.ofNullable(context.getRegisteredService()).map(RegisteredService::getId).orElse(null),
+                policy.getClass().getName(), System.identityHashCode(policy), policy.hashCode(),
+                releasingAttributes, Objects.hashCode(releasingAttributes));
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof final ReleaseResultKey key
+                && principalAttributesHash == key.principalAttributesHash
+                && serviceAttributesHash == key.serviceAttributesHash
+                && releasingAttributesHash == key.releasingAttributesHash
+                && policyIdentity == key.policyIdentity
+                && policyHash == key.policyHash
+                && Objects.equals(principalId, key.principalId)
+                && Objects.equals(serviceId, key.serviceId)
+                && Objects.equals(registeredServiceId, key.registeredServiceId)
+                && Objects.equals(policyType, key.policyType)
+                && Objects.equals(principalAttributes, key.principalAttributes)
+                && Objects.equals(serviceAttributes, key.serviceAttributes)
+                && Objects.equals(releasingAttributes, key.releasingAttributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(principalId, principalAttributesHash, serviceId, serviceAttributesHash,
+                registeredServiceId, policyType, policyIdentity, policyHash, releasingAttributesHash);
+        }
+    }
+}
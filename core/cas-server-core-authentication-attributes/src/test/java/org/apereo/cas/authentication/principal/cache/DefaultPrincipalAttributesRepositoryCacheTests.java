@@ -0,0 +1,54 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.CoreAttributesTestUtils;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class DefaultPrincipalAttributesRepositoryCacheTests {
+
+    @Test
+    void verifyCachePerService() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val service1 = CoreAttributesTestUtils.getRegisteredService("https://example1.org");
+        val service2 = CoreAttributesTestUtils.getRegisteredService("https://example2.org");
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+
+        cache.putAttributes(service1, repository, principal.getId(), Map.of("cn", List.of("CAS")));
+        assertEquals(List.of("CAS"), cache.fetchAttributes(service1, repository, principal).get("CN"));
+        assertTrue(cache.fetchAttributes(service2, repository, principal).isEmpty());
+
+        val statistics = cache.getStatistics();
+        assertEquals(2, statistics.size());
+        assertTrue(statistics.values().stream().anyMatch(stats -> stats.getHitCount().sum() == 1));
+        assertTrue(statistics.values().stream().anyMatch(stats -> stats.getMissCount().sum() == 1));
+
+        cache.handleRegisteredServiceDeletedEvent(new CasRegisteredServiceDeletedEvent(this, service1, null));
+        assertTrue(cache.fetchAttributes(service1, repository, principal).isEmpty());
+        cache.close();
+    }
+
+    @Test
+    void verifyExpiration() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 0);
+        val service = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+        cache.putAttributes(service, repository, principal.getId(), Map.of("cn", List.of("CAS")));
+        assertTrue(cache.fetchAttributes(service, repository, principal).isEmpty());
+    }
+}
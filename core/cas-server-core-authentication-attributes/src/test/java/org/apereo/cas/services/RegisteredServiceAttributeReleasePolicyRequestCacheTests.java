@@ -0,0 +1,105 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.util.CollectionUtils;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RegisteredServiceAttributeReleasePolicyRequestCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class RegisteredServiceAttributeReleasePolicyRequestCacheTests {
+
+    @AfterEach
+    public void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void verifyComputedOncePerRequest() throws Throwable {
+        val request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+
+        val policy = new ReturnAllAttributeReleasePolicy();
+        val context = buildContext();
+        val counter = new AtomicInteger();
+        val results1 = RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context, () -> computeAttributes(counter));
+        results1.remove("cn");
+        val results2 = RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context, () -> computeAttributes(counter));
+        assertEquals(1, counter.get());
+        assertTrue(results2.containsKey("CN"));
+
+        policy.setPrincipalIdAttribute("uid");
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context, () -> computeAttributes(counter));
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void verifyServiceAttributesPartOfKey() throws Throwable {
+        val request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+
+        val policy = new ReturnAllAttributeReleasePolicy();
+        val counter = new AtomicInteger();
+        val context1 = buildContext(buildService("client1"));
+        val context2 = buildContext(buildService("client2"));
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context1, () -> computeAttributes(counter));
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context2, () -> computeAttributes(counter));
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context1, () -> computeAttributes(counter));
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void verifyComputedWithoutRequest() throws Throwable {
+        val policy = new ReturnAllAttributeReleasePolicy();
+        val context = buildContext();
+        val counter = new AtomicInteger();
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context, () -> computeAttributes(counter));
+        RegisteredServiceAttributeReleasePolicyRequestCache.getOrCompute(policy, context, () -> computeAttributes(counter));
+        assertEquals(2, counter.get());
+    }
+
+    private static RegisteredServiceAttributeReleasePolicyContext buildContext() throws Throwable {
+        return buildContext(CoreAuthenticationTestUtils.getService());
+    }
+
+    private static RegisteredServiceAttributeReleasePolicyContext buildContext(final Service service) throws Throwable {
+        return RegisteredServiceAttributeReleasePolicyContext.builder()
+            .registeredService(CoreAuthenticationTestUtils.getRegisteredService())
+            .service(service)
+            .principal(CoreAuthenticationTestUtils.getPrincipal("casuser", CollectionUtils.wrap("cn", List.of("CAS"))))
+            .applicationContext(mock(ApplicationContext.class))
+            .build();
+    }
+
+    private static Service buildService(final String clientId) {
+        val service = CoreAuthenticationTestUtils.getService("https://example.org");
+        when(service.getAttributes()).thenReturn(Map.of("client_id", List.of(clientId)));
+        return service;
+    }
+
+    private static Map<String, List<Object>> computeAttributes(final AtomicInteger counter) {
+        counter.incrementAndGet();
+        val attributes = new TreeMap<String, List<Object>>(String.CASE_INSENSITIVE_ORDER);
+        attributes.put("cn", List.of("CAS"));
+        return attributes;
+    }
+}
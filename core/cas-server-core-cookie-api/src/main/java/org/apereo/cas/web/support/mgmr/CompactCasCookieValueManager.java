@@ -0,0 +1,273 @@
+package org.apereo.cas.web.support.mgmr;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.cookie.PinnableCookieProperties;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.RegexUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpRequestUtils;
+import org.apereo.cas.web.cookie.CookieSameSitePolicy;
+import org.apereo.cas.web.cookie.CookieValueManager;
+import org.apereo.cas.web.support.InvalidCookieException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.ObjectProvider;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link CompactCasCookieValueManager} issues cookies in a compact, versioned binary format.
+ * Rather than storing the client address and user-agent in the cookie, the cookie carries
+ * truncated keyed hashes of both along with the ticket id, and the whole value is protected
+ * with a single AES-GCM operation. The layout of a cookie, before it is base64-encoded, is:
+ * <pre>
+ * version (1) | key id (1) | nonce (12) | AES-GCM(flags (1) | location hash (12) | user-agent hash (12) | ticket id) | tag (16)
+ * </pre>
+ * The version and key id are authenticated as additional data; the key id selects the key
+ * used to open the cookie, which allows keys to be rotated. The hashes are only present
+ * when the cookie is pinned to the session. Cookies that were issued in the signed and encrypted
+ * JWT format are handed to the given legacy cookie value manager.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class CompactCasCookieValueManager implements CookieValueManager {
+    /**
+     * Version of the compact cookie format.
+     */
+    public static final byte VERSION = 1;
+
+    @Serial
+    private static final long serialVersionUID = 3319586154390178064L;
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final int NONCE_LENGTH = 12;
+
+    private static final int TAG_LENGTH = 16;
+
+    private static final int BINDING_HASH_LENGTH = 12;
+
+    private static final int MAX_KEY_ID = 255;
+
+    private static final byte FLAG_PINNED = 0x01;
+
+    private static final byte FLAG_CLIENT_LOCATION = 0x02;
+
+    private static final byte[] BINDING_KEY_LABEL = "cas-tgc-binding".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<Integer, SecretKey> encryptionKeys = new HashMap<>();
+
+    private final Map<Integer, SecretKey> bindingKeys = new HashMap<>();
+
+    private final int activeKeyId;
+
+    private final CookieValueManager legacyCookieValueManager;
+
+    private final ObjectProvider<GeoLocationService> geoLocationService;
+
+    private final CookieSameSitePolicy cookieSameSitePolicy;
+
+    private final PinnableCookieProperties cookieProperties;
+
+    public CompactCasCookieValueManager(final Map<Integer, byte[]> keys,
+                                        final int activeKeyId,
+                                        final CookieValueManager legacyCookieValueManager,
+                                        final ObjectProvider<GeoLocationService> geoLocationService,
+                                        final CookieSameSitePolicy cookieSameSitePolicy,
+                                        final PinnableCookieProperties cookieProperties) {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("No cookie key is defined for the active key id " + activeKeyId);
+        }
+        keys.forEach((keyId, key) -> {
+            if (keyId < 0 || keyId > MAX_KEY_ID) {
+                throw new IllegalArgumentException("Cookie key id must be between 0 and 255: " + keyId);
+            }
+            encryptionKeys.put(keyId, new SecretKeySpec(key, "AES"));
+            val bindingKey = FunctionUtils.doUnchecked(() -> hmac(new SecretKeySpec(key, HMAC_ALGORITHM), BINDING_KEY_LABEL));
+            bindingKeys.put(keyId, new SecretKeySpec(bindingKey, HMAC_ALGORITHM));
+        });
+        this.activeKeyId = activeKeyId;
+        this.legacyCookieValueManager = legacyCookieValueManager;
+        this.geoLocationService = geoLocationService;
+        this.cookieSameSitePolicy = cookieSameSitePolicy;
+        this.cookieProperties = cookieProperties;
+    }
+
+    @Override
+    public String buildCookieValue(final String givenCookieValue, final HttpServletRequest request) {
+        return FunctionUtils.doUnchecked(() -> {
+            val payload = buildPayload(givenCookieValue, request);
+            val header = new byte[]{VERSION, (byte) activeKeyId};
+            val nonce = new byte[NONCE_LENGTH];
+            RandomUtils.getNativeInstance().nextBytes(nonce);
+
+            val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKeys.get(activeKeyId), new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce));
+            cipher.updateAAD(header);
+            val sealed = cipher.doFinal(payload);
+
+            val cookie = ByteBuffer.allocate(HEADER_LENGTH + NONCE_LENGTH + sealed.length)
+                .put(header)
+                .put(nonce)
+                .put(sealed)
+                .array();
+            return EncodingUtils.encodeUrlSafeBase64(cookie);
+        });
+    }
+
+    @Override
+    public String obtainCookieValue(final String cookie, final HttpServletRequest request) {
+        if (StringUtils.contains(cookie, '.')) {
+            LOGGER.trace("Cookie is not in the compact format; handing it to the legacy cookie value manager");
+            return legacyCookieValueManager.obtainCookieValue(cookie, request);
+        }
+        val opened = openCookie(cookie);
+        if (opened == null) {
+            return null;
+        }
+        val payload = opened.payload();
+        val flags = payload[0];
+        val pinned = (flags & FLAG_PINNED) != 0;
+        val ticketIdOffset = pinned ? 1 + 2 * BINDING_HASH_LENGTH : 1;
+        if (payload.length <= ticketIdOffset) {
+            LOGGER.trace("Cookie does not carry a ticket id");
+            return null;
+        }
+        val cookieValue = new String(payload, ticketIdOffset, payload.length - ticketIdOffset, StandardCharsets.UTF_8);
+        if (!cookieProperties.isPinToSession()) {
+            LOGGER.trace("Cookie session-pinning is disabled. Returning cookie value as it was provided");
+            return cookieValue;
+        }
+        if (!pinned || (flags & FLAG_CLIENT_LOCATION) == 0) {
+            throw new InvalidCookieException("Invalid cookie. Required fields are missing");
+        }
+        val cookieLocationHash = Arrays.copyOfRange(payload, 1, 1 + BINDING_HASH_LENGTH);
+        val cookieUserAgentHash = Arrays.copyOfRange(payload, 1 + BINDING_HASH_LENGTH, ticketIdOffset);
+        verifyClientLocation(opened.keyId(), cookieLocationHash);
+        verifyUserAgent(opened.keyId(), cookieUserAgentHash, request);
+        return cookieValue;
+    }
+
+    private byte[] buildPayload(final String givenCookieValue, final HttpServletRequest request) throws Exception {
+        val ticketId = givenCookieValue.getBytes(StandardCharsets.UTF_8);
+        if (!cookieProperties.isPinToSession()) {
+            LOGGER.trace("Cookie session-pinning is disabled");
+            return ByteBuffer.allocate(1 + ticketId.length).put((byte) 0).put(ticketId).array();
+        }
+        val userAgent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        if (StringUtils.isBlank(userAgent)) {
+            throw new IllegalStateException("Request does not specify a user-agent");
+        }
+        var flags = FLAG_PINNED;
+        var locationHash = new byte[BINDING_HASH_LENGTH];
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        if (clientInfo != null) {
+            flags |= FLAG_CLIENT_LOCATION;
+            locationHash = hashBinding(activeKeyId, getClientLocation(clientInfo));
+        }
+        return ByteBuffer.allocate(1 + 2 * BINDING_HASH_LENGTH + ticketId.length)
+            .put(flags)
+            .put(locationHash)
+            .put(hashBinding(activeKeyId, userAgent))
+            .put(ticketId)
+            .array();
+    }
+
+    private OpenedCookie openCookie(final String cookie) {
+        val bytes = EncodingUtils.decodeUrlSafeBase64(cookie);
+        if (bytes == null || bytes.length <= HEADER_LENGTH + NONCE_LENGTH + TAG_LENGTH || bytes[0] != VERSION) {
+            LOGGER.trace("Cookie value is not a compact cookie of version [{}]", VERSION);
+            return null;
+        }
+        val keyId = Byte.toUnsignedInt(bytes[1]);
+        val key = encryptionKeys.get(keyId);
+        if (key == null) {
+            LOGGER.debug("Cookie is protected with an unknown key [{}]", keyId);
+            return null;
+        }
+        try {
+            val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, bytes, HEADER_LENGTH, NONCE_LENGTH));
+            cipher.updateAAD(bytes, 0, HEADER_LENGTH);
+            val payload = cipher.doFinal(bytes, HEADER_LENGTH + NONCE_LENGTH, bytes.length - HEADER_LENGTH - NONCE_LENGTH);
+            return payload.length == 0 ? null : new OpenedCookie(keyId, payload);
+        } catch (final GeneralSecurityException e) {
+            LOGGER.debug("Unable to open cookie: [{}]", e.getMessage());
+            return null;
+        }
+    }
+
+    private void verifyClientLocation(final int keyId, final byte[] cookieLocationHash) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        if (clientInfo == null) {
+            val message = "Unable to match required remote address because client ip at time of cookie creation is unknown";
+            LOGGER.warn(message);
+            throw new InvalidCookieException(message);
+        }
+        val clientLocation = getClientLocation(clientInfo);
+        if (!MessageDigest.isEqual(cookieLocationHash, hashBinding(keyId, clientLocation))) {
+            val clientIpAddress = clientInfo.getClientIpAddress();
+            if (cookieProperties.isGeoLocateClientSession()
+                || StringUtils.isBlank(cookieProperties.getAllowedIpAddressesPattern())
+                || !RegexUtils.find(cookieProperties.getAllowedIpAddressesPattern(), clientIpAddress)) {
+                val message = "Invalid cookie. Required remote address does not match %s".formatted(clientLocation);
+                LOGGER.warn(message);
+                throw new InvalidCookieException(message);
+            }
+            LOGGER.debug("Required remote address does not match [{}], but it's authorized to proceed", clientIpAddress);
+        }
+    }
+
+    private void verifyUserAgent(final int keyId, final byte[] cookieUserAgentHash, final HttpServletRequest request) {
+        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        if (StringUtils.isBlank(agent) || !MessageDigest.isEqual(cookieUserAgentHash, hashBinding(keyId, agent))) {
+            val message = "Invalid cookie. Required user-agent does not match %s".formatted(agent);
+            LOGGER.warn(message);
+            throw new InvalidCookieException(message);
+        }
+    }
+
+    private String getClientLocation(final ClientInfo clientInfo) {
+        return cookieProperties.isGeoLocateClientSession()
+            ? DefaultCasCookieValueManager.getClientGeoLocation(geoLocationService, clientInfo)
+            : clientInfo.getClientIpAddress();
+    }
+
+    private byte[] hashBinding(final int keyId, final String value) {
+        return FunctionUtils.doUnchecked(() -> Arrays.copyOf(
+            hmac(bindingKeys.get(keyId), StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8)), BINDING_HASH_LENGTH));
+    }
+
+    private static byte[] hmac(final SecretKey key, final byte[] data) throws GeneralSecurityException {
+        val mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(key);
+        return mac.doFinal(data);
+    }
+
+    private record OpenedCookie(int keyId, byte[] payload) {
+    }
+}
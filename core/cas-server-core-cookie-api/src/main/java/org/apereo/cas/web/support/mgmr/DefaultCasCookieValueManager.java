@@ -61,7 +61,7 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
             val clientInfo = ClientInfoHolder.getClientInfo();
             if (clientInfo != null) {
                 val clientLocation = cookieProperties.isGeoLocateClientSession()
-                    ? getClientGeoLocation(clientInfo)
+                    ? getClientGeoLocation(geoLocationService, clientInfo)
                     : clientInfo.getClientIpAddress();
                 builder.append(COOKIE_FIELD_SEPARATOR).append(clientLocation);
             }
@@ -77,7 +77,8 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         return builder.toString();
     }
 
-    private String getClientGeoLocation(final ClientInfo clientInfo) {
+    static String getClientGeoLocation(final ObjectProvider<GeoLocationService> geoLocationService,
+                                       final ClientInfo clientInfo) {
         return geoLocationService
             .stream()
             .map(service -> {
@@ -120,7 +121,7 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         }
 
         if (cookieProperties.isGeoLocateClientSession()) {
-            val clientLocationOrIp = getClientGeoLocation(clientInfo);
+            val clientLocationOrIp = getClientGeoLocation(geoLocationService, clientInfo);
             if (!cookieClientLocationOrIp.equals(clientLocationOrIp)) {
                 val message = "Invalid cookie. Required remote address %s does not match %s".formatted(cookieClientLocationOrIp, clientLocationOrIp);
                 LOGGER.warn(message);
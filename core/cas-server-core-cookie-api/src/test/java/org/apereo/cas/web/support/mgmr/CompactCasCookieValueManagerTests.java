@@ -0,0 +1,192 @@
+package org.apereo.cas.web.support.mgmr;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.cookie.PinnableCookieProperties;
+import org.apereo.cas.configuration.model.support.cookie.TicketGrantingCookieProperties;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+import org.apereo.cas.util.http.HttpRequestUtils;
+import org.apereo.cas.util.spring.DirectObjectProvider;
+import org.apereo.cas.web.cookie.CookieValueManager;
+import org.apereo.cas.web.support.InvalidCookieException;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CompactCasCookieValueManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Cookie")
+@Slf4j
+class CompactCasCookieValueManagerTests {
+    private static final String TICKET_ID = "TGT-1-Ab8ZkDqUyCWFj4s5XQd9xHcFp0L2nRtVwYe7aMiBjgKoNzP-cas.example.org";
+
+    private static final String CLIENT_IP = "185.86.151.11";
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_4) AppleWebKit/605.1.15 "
+        + "(KHTML, like Gecko) Version/17.4 Safari/605.1.15";
+
+    private static final int ITERATIONS = 2000;
+
+    private MockHttpServletRequest request;
+
+    private static byte[] generateKey() {
+        val key = new byte[32];
+        RandomUtils.getNativeInstance().nextBytes(key);
+        return key;
+    }
+
+    private static CompactCasCookieValueManager getCookieValueManager(final Map<Integer, byte[]> keys, final int activeKeyId,
+                                                                      final CookieValueManager legacy,
+                                                                      final PinnableCookieProperties properties) {
+        return new CompactCasCookieValueManager(keys, activeKeyId, legacy,
+            new DirectObjectProvider<>(mock(GeoLocationService.class)), DefaultCookieSameSitePolicy.INSTANCE, properties);
+    }
+
+    private static DefaultCasCookieValueManager getJoseCookieValueManager(final PinnableCookieProperties properties) {
+        return new DefaultCasCookieValueManager(new TicketGrantingCookieCipherExecutor(),
+            new DirectObjectProvider<>(mock(GeoLocationService.class)), DefaultCookieSameSitePolicy.INSTANCE, properties);
+    }
+
+    @BeforeEach
+    public void initialize() {
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr(CLIENT_IP);
+        request.setLocalAddr(CLIENT_IP);
+        request.addHeader(HttpRequestUtils.USER_AGENT_HEADER, USER_AGENT);
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        ClientInfoHolder.clear();
+    }
+
+    @Test
+    void verifyEncodeAndDecode() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val mgr = getCookieValueManager(Map.of(1, generateKey()), 1, CookieValueManager.noOp(), properties);
+        val cookie = mgr.buildCookieValue(TICKET_ID, request);
+        assertFalse(cookie.contains(TICKET_ID));
+        assertFalse(cookie.contains("."));
+        assertEquals(TICKET_ID, mgr.obtainCookieValue(cookie, request));
+        assertNotEquals(cookie, mgr.buildCookieValue(TICKET_ID, request));
+    }
+
+    @Test
+    void verifySessionPinning() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val mgr = getCookieValueManager(Map.of(1, generateKey()), 1, CookieValueManager.noOp(), properties);
+        val cookie = mgr.buildCookieValue(TICKET_ID, request);
+
+        val otherAgent = new MockHttpServletRequest();
+        otherAgent.addHeader(HttpRequestUtils.USER_AGENT_HEADER, "Other-Client/1.0");
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(cookie, otherAgent));
+
+        request.setRemoteAddr("10.0.0.1");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(cookie, request));
+
+        properties.setAllowedIpAddressesPattern("^10\\.0\\..+");
+        assertEquals(TICKET_ID, mgr.obtainCookieValue(cookie, request));
+
+        ClientInfoHolder.clear();
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(cookie, request));
+
+        properties.setPinToSession(false);
+        val unpinned = mgr.buildCookieValue(TICKET_ID, new MockHttpServletRequest());
+        assertEquals(TICKET_ID, mgr.obtainCookieValue(unpinned, new MockHttpServletRequest()));
+        properties.setPinToSession(true);
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(unpinned, request));
+    }
+
+    @Test
+    void verifyKeyRotation() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val oldKey = generateKey();
+        val newKey = generateKey();
+        val oldManager = getCookieValueManager(Map.of(1, oldKey), 1, CookieValueManager.noOp(), properties);
+        val cookie = oldManager.buildCookieValue(TICKET_ID, request);
+
+        val rotated = getCookieValueManager(Map.of(1, oldKey, 2, newKey), 2, CookieValueManager.noOp(), properties);
+        assertEquals(TICKET_ID, rotated.obtainCookieValue(cookie, request));
+        val rotatedCookie = rotated.buildCookieValue(TICKET_ID, request);
+        assertNull(oldManager.obtainCookieValue(rotatedCookie, request));
+
+        val retired = getCookieValueManager(Map.of(2, newKey), 2, CookieValueManager.noOp(), properties);
+        assertNull(retired.obtainCookieValue(cookie, request));
+        assertEquals(TICKET_ID, retired.obtainCookieValue(rotatedCookie, request));
+        assertThrows(IllegalArgumentException.class,
+            () -> getCookieValueManager(Map.of(1, oldKey), 2, CookieValueManager.noOp(), properties));
+        assertThrows(IllegalArgumentException.class,
+            () -> getCookieValueManager(Map.of(300, oldKey), 300, CookieValueManager.noOp(), properties));
+    }
+
+    @Test
+    void verifyTamperedCookie() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val mgr = getCookieValueManager(Map.of(1, generateKey()), 1, CookieValueManager.noOp(), properties);
+        val cookie = mgr.buildCookieValue(TICKET_ID, request);
+        val tampered = cookie.substring(0, cookie.length() - 2) + (cookie.endsWith("AA") ? "BB" : "AA");
+        assertNull(mgr.obtainCookieValue(tampered, request));
+        assertNull(mgr.obtainCookieValue("AAAA", request));
+    }
+
+    @Test
+    void verifyLegacyCookieAccepted() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val legacy = getJoseCookieValueManager(properties);
+        val mgr = getCookieValueManager(Map.of(1, generateKey()), 1, legacy, properties);
+        val joseCookie = legacy.buildCookieValue(TICKET_ID, request);
+        assertEquals(TICKET_ID, mgr.obtainCookieValue(joseCookie, request));
+    }
+
+    @Test
+    void verifyCostComparedToJoseFormat() throws Throwable {
+        val properties = new TicketGrantingCookieProperties();
+        val jose = getJoseCookieValueManager(properties);
+        val compact = getCookieValueManager(Map.of(1, generateKey()), 1, jose, properties);
+
+        val joseCookie = jose.buildCookieValue(TICKET_ID, request);
+        val compactCookie = compact.buildCookieValue(TICKET_ID, request);
+        assertTrue(compactCookie.length() < joseCookie.length() / 2);
+
+        val joseCost = measure(jose);
+        val compactCost = measure(compact);
+        LOGGER.info("JOSE cookie: [{}] characters, [{}]us to encode, [{}]us to decode",
+            joseCookie.length(), joseCost[0], joseCost[1]);
+        LOGGER.info("Compact cookie: [{}] characters, [{}]us to encode, [{}]us to decode",
+            compactCookie.length(), compactCost[0], compactCost[1]);
+    }
+
+    private long[] measure(final CookieValueManager manager) {
+        for (var i = 0; i < ITERATIONS; i++) {
+            assertEquals(TICKET_ID, manager.obtainCookieValue(manager.buildCookieValue(TICKET_ID, request), request));
+        }
+        val cookies = new String[ITERATIONS];
+        var started = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            cookies[i] = manager.buildCookieValue(TICKET_ID, request);
+        }
+        val encode = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started) / ITERATIONS;
+        started = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            manager.obtainCookieValue(cookies[i], request);
+        }
+        val decode = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started) / ITERATIONS;
+        return new long[]{encode, decode};
+    }
+}
@@ -3,6 +3,8 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -12,6 +14,7 @@ import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.cookie.CookieValueManager;
 import org.apereo.cas.web.support.CookieUtils;
 import org.apereo.cas.web.support.gen.CookieRetrievingCookieGenerator;
+import org.apereo.cas.web.support.mgmr.CompactCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +29,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import java.util.LinkedHashMap;
 
 /**
  * This is {@link CasCoreCookieAutoConfiguration}.
@@ -42,6 +46,8 @@ public class CasCoreCookieAutoConfiguration {
     @Configuration(value = "CasCookieCoreConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasCookieCoreConfiguration {
+        private static final int COMPACT_COOKIE_KEY_SIZE = 32;
+
         @ConditionalOnMissingBean(name = CookieValueManager.BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -50,10 +56,26 @@ public class CasCoreCookieAutoConfiguration {
             final ObjectProvider<GeoLocationService> geoLocationService,
             final CasConfigurationProperties casProperties,
             @Qualifier("cookieCipherExecutor") final CipherExecutor cookieCipherExecutor) {
-            return FunctionUtils.doIf(casProperties.getTgc().getCrypto().isEnabled(),
+            val tgc = casProperties.getTgc();
+            val cookieValueManager = FunctionUtils.doIf(tgc.getCrypto().isEnabled(),
                 () -> new DefaultCasCookieValueManager(cookieCipherExecutor, geoLocationService,
-                    DefaultCookieSameSitePolicy.INSTANCE, casProperties.getTgc()),
+                    DefaultCookieSameSitePolicy.INSTANCE, tgc),
                 CookieValueManager::noOp).get();
+            val compact = tgc.getCompact();
+            if (compact.isEnabled()) {
+                val keys = new LinkedHashMap<Integer, byte[]>();
+                compact.getKeys().forEach((keyId, key) -> keys.put(Integer.parseInt(keyId.trim()), EncodingUtils.decodeBase64(key)));
+                if (keys.isEmpty()) {
+                    LOGGER.warn("No keys are defined for compact ticket-granting cookies. CAS will generate a key for this node, "
+                                + "and cookies will not be readable by other nodes or after a restart.");
+                    val key = new byte[COMPACT_COOKIE_KEY_SIZE];
+                    RandomUtils.getNativeInstance().nextBytes(key);
+                    keys.put(compact.getActiveKeyId(), key);
+                }
+                return new CompactCasCookieValueManager(keys, compact.getActiveKeyId(), cookieValueManager,
+                    geoLocationService, DefaultCookieSameSitePolicy.INSTANCE, tgc);
+            }
+            return cookieValueManager;
         }
 
         @ConditionalOnMissingBean(name = "cookieCipherExecutor")
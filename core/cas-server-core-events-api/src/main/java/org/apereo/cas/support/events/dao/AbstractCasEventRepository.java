@@ -16,6 +16,8 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import jakarta.annotation.Nonnull;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -49,7 +51,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
 
     private ApplicationEventPublisher applicationEventPublisher;
 
-    private static ZonedDateTime convertEventCreationTime(final CasEvent event) {
+    protected static ZonedDateTime convertEventCreationTime(final CasEvent event) {
         return DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
     }
 
@@ -57,15 +59,25 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     public CasEvent save(final CasEvent event) throws Throwable {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
             val result = saveInternal(event);
-            Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
-                val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
-                publisher.publishEvent(new AuditApplicationEvent(auditEvent));
-            });
+            publishRecordedEvent(event, result);
             return result;
         }
         return event;
     }
 
+    @Override
+    public List<CasEvent> saveAll(final List<CasEvent> events) throws Throwable {
+        val eventsToSave = events.stream().filter(getEventRepositoryFilter()::shouldSaveEvent).toList();
+        if (eventsToSave.isEmpty()) {
+            return events;
+        }
+        val results = saveAllInternal(eventsToSave);
+        for (var i = 0; i < eventsToSave.size(); i++) {
+            publishRecordedEvent(eventsToSave.get(i), results.get(i));
+        }
+        return results;
+    }
+
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
         return load()
@@ -101,7 +113,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
         return getEventsOfType(type)
             .filter(e -> {
                 val dt = convertEventCreationTime(e);
-                return dt.isEqual(dt) || dt.isAfter(dt);
+                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
             });
     }
 
@@ -134,4 +146,28 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
      * @throws Exception the exception
      */
     public abstract CasEvent saveInternal(CasEvent event) throws Exception;
+
+    /**
+     * Save a batch of events. Repositories that are able to write
+     * several events in a single round trip should override this operation.
+     *
+     * @param events the events
+     * @return saved cas events, in the same order
+     * @throws Exception the exception
+     */
+    protected List<CasEvent> saveAllInternal(final List<CasEvent> events) throws Exception {
+        val results = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            results.add(saveInternal(event));
+        }
+        return results;
+    }
+
+    private void publishRecordedEvent(final CasEvent event, final CasEvent result) {
+        Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
+            val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
+            publisher.publishEvent(new AuditApplicationEvent(auditEvent));
+            publisher.publishEvent(new CasEventRecordedEvent(this, result));
+        });
+    }
 }
@@ -0,0 +1,300 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link BatchingCasEventRepository}, a write-behind repository that queues recorded events
+ * in a bounded in-memory queue and writes them to the underlying repository in batches,
+ * using {@link CasEventRepository#saveAll(List)}. Batches are flushed once they are full
+ * or once the flush interval elapses. Once the queue is full, new events are handled
+ * according to the {@link OverflowStrategy}. Read operations are delegated to the underlying
+ * repository as is, and may not include events that are still queued.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class BatchingCasEventRepository implements CasEventRepository, DisposableBean {
+    /**
+     * Bean name.
+     */
+    public static final String BEAN_NAME = "writeBehindCasEventRepository";
+
+    private final CasEventRepository delegate;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final OverflowStrategy overflowStrategy;
+
+    private final BlockingQueue<QueuedEvent> queue;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder queued = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final AtomicLong lastBatchLag = new AtomicLong();
+
+    private final AtomicLong maximumLag = new AtomicLong();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public BatchingCasEventRepository(final CasEventRepository delegate, final int queueCapacity,
+                                      final int batchSize, final Duration flushInterval,
+                                      final OverflowStrategy overflowStrategy) {
+        this.delegate = delegate;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.overflowStrategy = overflowStrategy;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.worker = Thread.ofVirtual().name("cas-event-write-behind").start(this::drain);
+    }
+
+    @Override
+    public CasEventRepositoryFilter getEventRepositoryFilter() {
+        return delegate.getEventRepositoryFilter();
+    }
+
+    @Override
+    public void removeAll() {
+        queue.clear();
+        delegate.removeAll();
+    }
+
+    @Override
+    public CasEvent save(final CasEvent event) throws Throwable {
+        val queuedEvent = new QueuedEvent(event, System.nanoTime());
+        if (queue.offer(queuedEvent)) {
+            queued.increment();
+            return event;
+        }
+        return switch (overflowStrategy) {
+            case WRITE_THROUGH -> {
+                LOGGER.trace("Event queue is full; writing event [{}] directly", event.getEventId());
+                val result = delegate.save(event);
+                written.increment();
+                yield result;
+            }
+            case DISCARD_OLDEST -> {
+                while (!queue.offer(queuedEvent)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                queued.increment();
+                yield event;
+            }
+            case DISCARD_NEWEST -> {
+                LOGGER.debug("Event queue is full; discarding event [{}]", event.getEventId());
+                dropped.increment();
+                yield event;
+            }
+        };
+    }
+
+    @Override
+    public List<CasEvent> saveAll(final List<CasEvent> events) throws Throwable {
+        val results = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            results.add(save(event));
+        }
+        return results;
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load() {
+        return delegate.load();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return delegate.load(dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        return delegate.loadBefore(dateTime);
+    }
+
+    @Override
+    public long removeBefore(final ZonedDateTime dateTime) {
+        return delegate.removeBefore(dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return delegate.getEventsOfType(type);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return delegate.getEventsOfType(type, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return delegate.getEventsForPrincipal(id);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return delegate.getEventsForPrincipal(id, dateTime);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        worker.interrupt();
+        worker.join(flushInterval.toMillis() + TimeUnit.SECONDS.toMillis(1));
+        flush();
+    }
+
+    /**
+     * Write all queued events to the underlying repository.
+     */
+    public void flush() {
+        while (!queue.isEmpty()) {
+            val batch = new ArrayList<QueuedEvent>(batchSize);
+            queue.drainTo(batch, batchSize);
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * Collect write-behind statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        val oldest = queue.peek();
+        return Map.of(
+            "queueSize", queue.size(),
+            "queued", queued.sum(),
+            "written", written.sum(),
+            "dropped", dropped.sum(),
+            "failed", failed.sum(),
+            "batches", batches.sum(),
+            "currentLag", oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queuedAt()),
+            "lastBatchLag", lastBatchLag.get(),
+            "maximumLag", maximumLag.get());
+    }
+
+    private void drain() {
+        while (running) {
+            val batch = new ArrayList<QueuedEvent>(batchSize);
+            try {
+                val first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    collectBatch(batch, System.nanoTime() + flushInterval.toNanos());
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.trace("Event write-behind worker is interrupted; writing collected events");
+                return;
+            } finally {
+                writeBatch(batch);
+            }
+        }
+    }
+
+    private void collectBatch(final List<QueuedEvent> batch, final long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            val remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            val next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeBatch(final List<QueuedEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        val lag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.getFirst().queuedAt());
+        lastBatchLag.set(lag);
+        maximumLag.accumulateAndGet(lag, Math::max);
+        val events = batch.stream().map(QueuedEvent::event).toList();
+        flushLock.lock();
+        try {
+            delegate.saveAll(events);
+            written.add(events.size());
+            batches.increment();
+            LOGGER.trace("Wrote batch of [{}] event(s) with a lag of [{}]ms", events.size(), lag);
+        } catch (final Throwable e) {
+            failed.add(events.size());
+            LOGGER.error("Unable to write batch of [{}] event(s): [{}]", events.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Decide what happens to new events when the queue is full.
+     */
+    public enum OverflowStrategy {
+        /**
+         * Discard the new event.
+         */
+        DISCARD_NEWEST,
+        /**
+         * Discard the oldest queued event to make room for the new event.
+         */
+        DISCARD_OLDEST,
+        /**
+         * Write the new event directly to the underlying repository on the calling thread.
+         */
+        WRITE_THROUGH
+    }
+
+    record QueuedEvent(CasEvent event, long queuedAt) {
+    }
+}
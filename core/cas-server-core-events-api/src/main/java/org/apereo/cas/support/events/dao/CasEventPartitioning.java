@@ -0,0 +1,91 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
+
+/**
+ * This is {@link CasEventPartitioning} that describes how events are split into
+ * time-based partitions, so that date-bound queries only need to touch partitions
+ * that overlap the requested dates, and expired partitions can be dropped as a whole.
+ * Partitions are calculated in UTC and are named after their start date.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public enum CasEventPartitioning {
+    /**
+     * Events are not partitioned.
+     */
+    NONE,
+    /**
+     * Events are partitioned by day.
+     */
+    DAILY,
+    /**
+     * Events are partitioned by week, starting on monday.
+     */
+    WEEKLY;
+
+    private static final String PARTITION_SEPARATOR = "_";
+
+    /**
+     * Gets the start date of the partition that holds the given date.
+     *
+     * @param dateTime the date time
+     * @return the partition start
+     */
+    public LocalDate getPartitionStart(final ZonedDateTime dateTime) {
+        val date = dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        return this == WEEKLY ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    /**
+     * Gets the end of the partition that starts at the given date, exclusive.
+     *
+     * @param partitionStart the partition start
+     * @return the partition end
+     */
+    public ZonedDateTime getPartitionEnd(final LocalDate partitionStart) {
+        val end = this == WEEKLY ? partitionStart.plusWeeks(1) : partitionStart.plusDays(1);
+        return end.atStartOfDay(ZoneOffset.UTC);
+    }
+
+    /**
+     * Build the name of the partition that starts at the given date.
+     *
+     * @param prefix         the prefix
+     * @param partitionStart the partition start
+     * @return the partition name
+     */
+    public String getPartitionName(final String prefix, final LocalDate partitionStart) {
+        return prefix + PARTITION_SEPARATOR + partitionStart.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * Parse the start date of the partition from its name.
+     *
+     * @param prefix the prefix
+     * @param name   the partition name
+     * @return the partition start, or empty if the name does not belong to a partition
+     */
+    public Optional<LocalDate> getPartitionStart(final String prefix, final String name) {
+        val partitionPrefix = prefix + PARTITION_SEPARATOR;
+        if (this == NONE || !StringUtils.startsWith(name, partitionPrefix)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(name.substring(partitionPrefix.length()), DateTimeFormatter.BASIC_ISO_DATE));
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
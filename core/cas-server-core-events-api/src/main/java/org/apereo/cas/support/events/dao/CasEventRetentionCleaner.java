@@ -0,0 +1,156 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.jooq.lambda.Unchecked;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is {@link CasEventRetentionCleaner} that periodically removes events
+ * that are older than the configured maximum age from the events repository.
+ * Expired events may be rolled into one summary event per principal before they are removed,
+ * which keeps the number of events recorded for each type. Summaries are created at the
+ * retention cutoff, and are folded into the next summary once they expire themselves.
+ * Summaries are assigned negative identifiers derived from the cutoff, which keeps them apart from
+ * identifiers of recorded events. Runs are guarded by the lock repository so that only one
+ * CAS server node cleans up the events repository at a time when locks are shared between nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CasEventRetentionCleaner implements Runnable {
+    /**
+     * Event type of summaries.
+     */
+    public static final String SUMMARY_EVENT_TYPE = "CasEventSummary";
+
+    /**
+     * Prefix of summary properties that count events per type.
+     */
+    public static final String SUMMARY_COUNT_PREFIX = "count:";
+
+    /**
+     * Summary property that holds the timestamp of the earliest summarized event.
+     */
+    public static final String SUMMARY_FIRST_TIMESTAMP = "firstTimestamp";
+
+    private static final String LOCK_KEY = "casEventRetentionCleaner";
+
+    private static final long SUMMARY_IDS_PER_CUTOFF = 1000;
+
+    private final LockRepository lockRepository;
+
+    private final CasEventRepository casEventRepository;
+
+    private final Duration maximumAge;
+
+    private final boolean summarize;
+
+    private final Clock clock;
+
+    @Override
+    @Scheduled(
+        cron = "${cas.events.core.retention.schedule.cron-expression:}",
+        zone = "${cas.events.core.retention.schedule.cron-time-zone:}",
+        initialDelayString = "${cas.events.core.retention.schedule.start-delay:PT5M}",
+        fixedDelayString = "${cas.events.core.retention.schedule.repeat-interval:PT6H}")
+    public void run() {
+        try {
+            clean();
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    /**
+     * Summarize and remove expired events.
+     *
+     * @return the number of removed events
+     * @throws Throwable the throwable
+     */
+    public long clean() throws Throwable {
+        return lockRepository.execute(LOCK_KEY, Unchecked.supplier(this::removeExpiredEvents))
+            .orElseGet(() -> {
+                LOGGER.debug("Events are being cleaned up by another process; skipping this run");
+                return 0L;
+            });
+    }
+
+    private long removeExpiredEvents() throws Throwable {
+        val cutoff = ZonedDateTime.now(clock).minus(maximumAge);
+        if (summarize) {
+            val summaries = summarize(cutoff);
+            if (!summaries.isEmpty()) {
+                casEventRepository.saveAll(new ArrayList<>(summaries.values()));
+                LOGGER.debug("Recorded [{}] event summaries at [{}]", summaries.size(), cutoff);
+            }
+        }
+        val removed = casEventRepository.removeBefore(cutoff);
+        LOGGER.info("Removed [{}] event(s) created before [{}]", removed, cutoff);
+        return removed;
+    }
+
+    private Map<String, CasEvent> summarize(final ZonedDateTime cutoff) {
+        val summaries = new LinkedHashMap<String, CasEvent>();
+        val creationTime = cutoff.format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+        val cutoffTimestamp = cutoff.toInstant().toEpochMilli();
+        try (val events = casEventRepository.loadBefore(cutoff)) {
+            events
+                .filter(event -> StringUtils.isNotBlank(event.getPrincipalId()))
+                .forEach(event -> {
+                    val summary = summaries.computeIfAbsent(event.getPrincipalId(), principal -> {
+                        val result = new CasEvent();
+                        result.setId(-(cutoffTimestamp * SUMMARY_IDS_PER_CUTOFF + summaries.size() + 1));
+                        result.setType(SUMMARY_EVENT_TYPE);
+                        result.setPrincipalId(principal);
+                        result.setCreationTime(creationTime);
+                        result.putTimestamp(cutoffTimestamp);
+                        return result;
+                    });
+                    if (SUMMARY_EVENT_TYPE.equals(event.getType())) {
+                        event.getProperties().forEach((key, value) -> {
+                            if (key.startsWith(SUMMARY_COUNT_PREFIX)) {
+                                increment(summary, key, NumberUtils.toLong(value));
+                            }
+                        });
+                        recordFirstTimestamp(summary, getTimestamp(event, SUMMARY_FIRST_TIMESTAMP, cutoffTimestamp));
+                    } else {
+                        increment(summary, SUMMARY_COUNT_PREFIX + event.getType(), 1);
+                        recordFirstTimestamp(summary, getTimestamp(event, CasEvent.FIELD_TIMESTAMP, cutoffTimestamp));
+                    }
+                });
+        }
+        return summaries;
+    }
+
+    private static long getTimestamp(final CasEvent event, final String property, final long defaultValue) {
+        return NumberUtils.toLong(event.getProperties().get(property), defaultValue);
+    }
+
+    private static void increment(final CasEvent summary, final String key, final long count) {
+        summary.getProperties().merge(key, String.valueOf(count),
+            (current, added) -> String.valueOf(NumberUtils.toLong(current) + NumberUtils.toLong(added)));
+    }
+
+    private static void recordFirstTimestamp(final CasEvent summary, final long timestamp) {
+        summary.getProperties().merge(SUMMARY_FIRST_TIMESTAMP, String.valueOf(timestamp),
+            (current, added) -> String.valueOf(Math.min(NumberUtils.toLong(current), NumberUtils.toLong(added))));
+    }
+}
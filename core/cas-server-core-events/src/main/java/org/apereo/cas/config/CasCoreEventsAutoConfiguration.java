@@ -3,16 +3,21 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.BatchingCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEventRetentionCleaner;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.CasAuthenticationAuthenticationEventListener;
 import org.apereo.cas.support.events.listener.CasAuthenticationEventListener;
 import org.apereo.cas.support.events.web.CasEventsReportEndpoint;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
+import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.text.MessageSanitizer;
 
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
@@ -26,6 +31,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 
+import java.time.Clock;
+import java.util.Locale;
+
 /**
  * This is {@link CasCoreEventsAutoConfiguration}.
  *
@@ -49,10 +57,12 @@ public class CasCoreEventsAutoConfiguration {
             @Qualifier(GeoLocationService.BEAN_NAME) final ObjectProvider<GeoLocationService> geoLocationService,
             @Qualifier(MessageSanitizer.BEAN_NAME) final MessageSanitizer messageSanitizer,
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier(BatchingCasEventRepository.BEAN_NAME) final CasEventRepository writeBehindCasEventRepository,
             @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
             return BeanSupplier.of(CasAuthenticationEventListener.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new CasAuthenticationAuthenticationEventListener(casEventRepository,
+                .supply(() -> new CasAuthenticationAuthenticationEventListener(
+                    BeanSupplier.isProxy(writeBehindCasEventRepository) ? casEventRepository : writeBehindCasEventRepository,
                     messageSanitizer, geoLocationService.getIfAvailable()))
                 .otherwiseProxy()
                 .get();
@@ -87,6 +97,50 @@ public class CasCoreEventsAutoConfiguration {
                 .otherwiseProxy()
                 .get();
         }
+
+        @ConditionalOnMissingBean(name = BatchingCasEventRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public CasEventRepository writeBehindCasEventRepository(
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            return BeanSupplier.of(CasEventRepository.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(BeanCondition.on("cas.events.core.write-behind.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val writeBehind = casProperties.getEvents().getCore().getWriteBehind();
+                    return new BatchingCasEventRepository(casEventRepository, writeBehind.getQueueCapacity(),
+                        writeBehind.getBatchSize(), Beans.newDuration(writeBehind.getFlushInterval()),
+                        BatchingCasEventRepository.OverflowStrategy.valueOf(
+                            writeBehind.getOverflowStrategy().trim().toUpperCase(Locale.ENGLISH)));
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "casEventRetentionCleaner")
+        @Bean
+        @Lazy(false)
+        public Runnable casEventRetentionCleaner(
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(LockRepository.BEAN_NAME) final ObjectProvider<LockRepository> lockRepository,
+            @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            return BeanSupplier.of(Runnable.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(BeanCondition.on("cas.events.core.retention.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .and(BeanCondition.on("cas.events.core.retention.schedule.enabled").isTrue().evenIfMissing()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val retention = casProperties.getEvents().getCore().getRetention();
+                    return new CasEventRetentionCleaner(lockRepository.getIfAvailable(LockRepository::noOp),
+                        casEventRepository, Beans.newDuration(retention.getMaximumAge()),
+                        retention.isSummarize(), Clock.systemUTC());
+                })
+                .otherwiseProxy()
+                .get();
+        }
     }
 
 }
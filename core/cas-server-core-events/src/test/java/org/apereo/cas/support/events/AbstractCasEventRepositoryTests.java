@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,6 +90,22 @@ public abstract class AbstractCasEventRepositoryTests {
         });
     }
 
+    @Test
+    protected void verifySaveAll() throws Throwable {
+        val eventRepository = getEventRepository();
+        eventRepository.removeAll();
+
+        val dto1 = getCasEvent("batchuser1");
+        val dto2 = getCasEvent("batchuser2");
+        dto2.setId(dto1.getId() + 1);
+        val results = eventRepository.saveAll(List.of(dto1, dto2));
+        assertEquals(2, results.size());
+
+        assertFalse(eventRepository.getEventsForPrincipal(dto1.getPrincipalId()).findAny().isEmpty());
+        assertFalse(eventRepository.getEventsForPrincipal(dto2.getPrincipalId()).findAny().isEmpty());
+        assertTrue(eventRepository.saveAll(List.of()).isEmpty());
+    }
+
     public abstract CasEventRepository getEventRepository();
 
     private CasEvent getCasEvent(final String user) {
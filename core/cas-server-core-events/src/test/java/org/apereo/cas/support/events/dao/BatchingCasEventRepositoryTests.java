@@ -0,0 +1,111 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.support.events.CasEventRepository;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BatchingCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Events")
+class BatchingCasEventRepositoryTests {
+
+    private static CasEvent buildCasEvent() {
+        val event = new CasEvent();
+        event.setPrincipalId("casuser");
+        event.setType("login");
+        event.putEventId(UUID.randomUUID().toString());
+        return event;
+    }
+
+    @Test
+    void verifyEventsWrittenInBatches() throws Throwable {
+        val batches = new CopyOnWriteArrayList<List<CasEvent>>();
+        val delegate = mock(CasEventRepository.class);
+        when(delegate.saveAll(anyList())).thenAnswer(args -> {
+            val events = args.<List<CasEvent>>getArgument(0);
+            batches.add(events);
+            return events;
+        });
+        val repository = new BatchingCasEventRepository(delegate, 100, 5, Duration.ofMillis(200),
+            BatchingCasEventRepository.OverflowStrategy.DISCARD_NEWEST);
+        for (var i = 0; i < 12; i++) {
+            repository.save(buildCasEvent());
+        }
+        await().untilAsserted(() -> assertEquals(12L, repository.getStatistics().get("written")));
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 5));
+        assertTrue(batches.size() < 12);
+        verify(delegate, never()).save(any());
+        repository.destroy();
+    }
+
+    @Test
+    void verifyOverflowStrategies() throws Throwable {
+        val release = new CountDownLatch(1);
+        val delegate = mock(CasEventRepository.class);
+        when(delegate.saveAll(anyList())).thenAnswer(args -> {
+            release.await();
+            return args.getArgument(0);
+        });
+        when(delegate.save(any())).thenAnswer(args -> args.getArgument(0));
+
+        val discardNewest = new BatchingCasEventRepository(delegate, 1, 1, Duration.ofMillis(10),
+            BatchingCasEventRepository.OverflowStrategy.DISCARD_NEWEST);
+        discardNewest.save(buildCasEvent());
+        await().until(() -> discardNewest.getQueue().isEmpty());
+        discardNewest.save(buildCasEvent());
+        discardNewest.save(buildCasEvent());
+        assertEquals(1L, discardNewest.getStatistics().get("dropped"));
+
+        val discardOldest = new BatchingCasEventRepository(delegate, 1, 1, Duration.ofMillis(10),
+            BatchingCasEventRepository.OverflowStrategy.DISCARD_OLDEST);
+        discardOldest.save(buildCasEvent());
+        await().until(() -> discardOldest.getQueue().isEmpty());
+        discardOldest.save(buildCasEvent());
+        val newest = buildCasEvent();
+        discardOldest.save(newest);
+        assertEquals(1L, discardOldest.getStatistics().get("dropped"));
+        assertSame(newest, discardOldest.getQueue().peek().event());
+
+        val writeThrough = new BatchingCasEventRepository(delegate, 1, 1, Duration.ofMillis(10),
+            BatchingCasEventRepository.OverflowStrategy.WRITE_THROUGH);
+        writeThrough.save(buildCasEvent());
+        await().until(() -> writeThrough.getQueue().isEmpty());
+        writeThrough.save(buildCasEvent());
+        writeThrough.save(buildCasEvent());
+        assertEquals(0L, writeThrough.getStatistics().get("dropped"));
+        verify(delegate).save(any());
+
+        release.countDown();
+        discardNewest.destroy();
+        discardOldest.destroy();
+        writeThrough.destroy();
+        assertEquals(0, discardOldest.getQueue().size());
+    }
+
+    @Test
+    void verifyFailedBatchesTracked() throws Throwable {
+        val delegate = mock(CasEventRepository.class);
+        when(delegate.saveAll(anyList())).thenThrow(new IllegalStateException("failed"));
+        val repository = new BatchingCasEventRepository(delegate, 10, 10, Duration.ofMillis(50),
+            BatchingCasEventRepository.OverflowStrategy.DISCARD_NEWEST);
+        repository.save(buildCasEvent());
+        repository.save(buildCasEvent());
+        await().untilAsserted(() -> assertEquals(2L, repository.getStatistics().get("failed")));
+        assertEquals(0L, repository.getStatistics().get("written"));
+        repository.destroy();
+    }
+}
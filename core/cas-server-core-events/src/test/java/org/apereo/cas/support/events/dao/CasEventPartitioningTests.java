@@ -0,0 +1,49 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasEventPartitioningTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Events")
+class CasEventPartitioningTests {
+
+    @Test
+    void verifyDailyPartitions() {
+        val dateTime = ZonedDateTime.of(2024, 3, 14, 23, 30, 0, 0, ZoneId.of("America/New_York"));
+        val start = CasEventPartitioning.DAILY.getPartitionStart(dateTime);
+        assertEquals(LocalDate.of(2024, 3, 15), start);
+        assertEquals(ZonedDateTime.of(2024, 3, 16, 0, 0, 0, 0, ZoneOffset.UTC),
+            CasEventPartitioning.DAILY.getPartitionEnd(start));
+        val name = CasEventPartitioning.DAILY.getPartitionName("CasEvents", start);
+        assertEquals("CasEvents_20240315", name);
+        assertEquals(start, CasEventPartitioning.DAILY.getPartitionStart("CasEvents", name).orElseThrow());
+    }
+
+    @Test
+    void verifyWeeklyPartitions() {
+        val dateTime = ZonedDateTime.of(2024, 3, 14, 10, 0, 0, 0, ZoneOffset.UTC);
+        val start = CasEventPartitioning.WEEKLY.getPartitionStart(dateTime);
+        assertEquals(LocalDate.of(2024, 3, 11), start);
+        assertEquals(ZonedDateTime.of(2024, 3, 18, 0, 0, 0, 0, ZoneOffset.UTC),
+            CasEventPartitioning.WEEKLY.getPartitionEnd(start));
+    }
+
+    @Test
+    void verifyUnknownPartitionNames() {
+        assertTrue(CasEventPartitioning.DAILY.getPartitionStart("CasEvents", "CasEvents").isEmpty());
+        assertTrue(CasEventPartitioning.DAILY.getPartitionStart("CasEvents", "CasEvents_current").isEmpty());
+        assertTrue(CasEventPartitioning.DAILY.getPartitionStart("CasEvents", "Other_20240315").isEmpty());
+        assertTrue(CasEventPartitioning.NONE.getPartitionStart("CasEvents", "CasEvents_20240315").isEmpty());
+    }
+}
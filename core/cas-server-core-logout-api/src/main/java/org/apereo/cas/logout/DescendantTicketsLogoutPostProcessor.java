@@ -23,10 +23,12 @@ public class DescendantTicketsLogoutPostProcessor implements LogoutPostProcessor
     @Override
     public void handle(final TicketGrantingTicket ticketGrantingTicket) {
         LOGGER.debug("CAS is configured to track and remove descendant tickets of the ticket-granting tickets");
-        ticketGrantingTicket.getDescendantTickets().forEach(Unchecked.consumer(entry -> {
-            LOGGER.trace("Deleting descendant ticket [{}] from the registry as a descendant of [{}]", entry, ticketGrantingTicket.getId());
-            val ticket = descendantTicketsTrackingPolicy.extractTicket(entry);
-            LOGGER.debug("Deleting ticket [{}] from the registry as a descendant of [{}]", ticket, ticketGrantingTicket.getId());
+        val descendants = ticketGrantingTicket.getDescendantTickets()
+            .stream()
+            .map(descendantTicketsTrackingPolicy::extractTicket)
+            .toList();
+        ticketRegistry.getTickets(descendants).forEach(Unchecked.consumer(ticket -> {
+            LOGGER.debug("Deleting ticket [{}] from the registry as a descendant of [{}]", ticket.getId(), ticketGrantingTicket.getId());
             ticketRegistry.deleteTicket(ticket);
         }));
     }
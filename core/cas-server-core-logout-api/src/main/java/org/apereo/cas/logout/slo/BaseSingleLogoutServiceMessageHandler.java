@@ -16,6 +16,7 @@ import org.apereo.cas.util.http.HttpClient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -47,6 +48,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -193,11 +197,36 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
         LOGGER.trace("Preparing logout request for [{}] to [{}]", logoutService.getId(), request.getLogoutUrl());
         val msg = getLogoutHttpMessageToSend(request, logoutMessage);
         LOGGER.debug("Prepared logout message to send is [{}]. Sending...", msg);
-        val result = sendMessageToEndpoint(msg, request, logoutMessage);
+        val result = messageDispatcher == null
+            ? sendMessageToEndpoint(msg, request, logoutMessage)
+            : messageDispatcher.dispatch(buildDispatchRequest(msg, request, logoutMessage));
         logoutService.setLoggedOutAlready(result);
         return result;
     }
 
+    /**
+     * Build the request handed over to the message dispatcher.
+     * The request is durable by default, as the logout message
+     * can be replayed by posting it to the logout url.
+     *
+     * @param msg           the msg
+     * @param request       the request
+     * @param logoutMessage the logout message
+     * @return the dispatch request
+     */
+    protected SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest buildDispatchRequest(final LogoutHttpMessage msg,
+                                                                                           final SingleLogoutRequestContext request,
+                                                                                           final SingleLogoutMessage logoutMessage) {
+        return SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest.builder()
+            .destination(msg.getUrl())
+            .contentType(msg.getContentType())
+            .payload(msg.getMessage())
+            .asynchronous(asynchronous)
+            .durable(true)
+            .sender(() -> sendMessageToEndpoint(msg, request, logoutMessage))
+            .build();
+    }
+
     /**
      * Send message to endpoint.
      *
@@ -214,12 +243,14 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     /**
      * Gets logout http message to send.
+     * When a message dispatcher is available, the message is sent synchronously
+     * by the dispatcher so that the delivery outcome can be tracked and retried.
      *
      * @param request       the request
      * @param logoutMessage the logout message
      * @return the logout http message to send
      */
     protected LogoutHttpMessage getLogoutHttpMessageToSend(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
-        return new LogoutHttpMessage(request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous);
+        return new LogoutHttpMessage(request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous && messageDispatcher == null);
     }
 }
@@ -0,0 +1,196 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher} that delivers logout callbacks
+ * on virtual threads while limiting the number of concurrent callbacks per destination host.
+ * Callbacks are queued up to a fixed capacity. Failed deliveries are retried with an exponential,
+ * jittered backoff, and outcomes are tracked per destination.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private static final int MAXIMUM_BACKOFF_EXPONENT = 10;
+
+    private final int maximumConcurrentRequestsPerHost;
+
+    private final int queueCapacity;
+
+    private final int maximumAttempts;
+
+    private final Duration retryDelay;
+
+    private final Map<String, DestinationState> destinations = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static String getDestination(final URL url) {
+        val port = url.getPort() > 0 ? url.getPort() : url.getDefaultPort();
+        return StringUtils.defaultString(url.getHost()).toLowerCase(Locale.ENGLISH) + ':' + port;
+    }
+
+    @Override
+    public boolean dispatch(final SingleLogoutDispatchRequest request) {
+        val state = destinations.computeIfAbsent(getDestination(request.destination()),
+            __ -> new DestinationState(new Semaphore(Math.max(1, maximumConcurrentRequestsPerHost), true)));
+        val delivery = new CompletableFuture<Boolean>();
+        if (pendingRequests.incrementAndGet() > queueCapacity) {
+            LOGGER.warn("Unable to queue logout callback to [{}] since [{}] callbacks are already pending",
+                request.destination(), queueCapacity);
+            complete(delivery, false);
+            state.getRejected().increment();
+            return false;
+        }
+
+        state.getDispatched().increment();
+        try {
+            executor.execute(() -> {
+                var result = false;
+                try {
+                    result = deliver(request, state);
+                } finally {
+                    complete(delivery, result);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LoggingUtils.warn(LOGGER, e);
+            complete(delivery, false);
+            state.getRejected().increment();
+            return false;
+        }
+        return request.asynchronous() || delivery.join();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val results = new TreeMap<String, Object>();
+        destinations.forEach((destination, state) -> {
+            val attempts = state.getAttempts().sum();
+            results.put(destination, Map.of(
+                "dispatched", state.getDispatched().sum(),
+                "rejected", state.getRejected().sum(),
+                "succeeded", state.getSucceeded().sum(),
+                "failed", state.getFailed().sum(),
+                "retried", state.getRetried().sum(),
+                "active", state.getActive().get(),
+                "averageLatency", attempts == 0 ? 0 : state.getLatency().sum() / attempts));
+        });
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void complete(final CompletableFuture<Boolean> delivery, final boolean result) {
+        pendingRequests.decrementAndGet();
+        delivery.complete(result);
+    }
+
+    private boolean deliver(final SingleLogoutDispatchRequest request, final DestinationState state) {
+        for (var attempt = 1; attempt <= maximumAttempts; attempt++) {
+            if (attempt > 1) {
+                state.getRetried().increment();
+                if (!pause(attempt)) {
+                    break;
+                }
+            }
+            if (send(request, state)) {
+                state.getSucceeded().increment();
+                return true;
+            }
+            LOGGER.debug("Attempt [{}] to deliver logout callback to [{}] has failed", attempt, request.destination());
+        }
+        LOGGER.warn("Unable to deliver logout callback to [{}] after [{}] attempt(s)", request.destination(), maximumAttempts);
+        state.getFailed().increment();
+        return false;
+    }
+
+    private boolean send(final SingleLogoutDispatchRequest request, final DestinationState state) {
+        try {
+            state.getPermits().acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        state.getActive().incrementAndGet();
+        val startedAt = System.nanoTime();
+        try {
+            return request.sender().getAsBoolean();
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            return false;
+        } finally {
+            state.getLatency().add(System.nanoTime() - startedAt);
+            state.getAttempts().increment();
+            state.getActive().decrementAndGet();
+            state.getPermits().release();
+        }
+    }
+
+    private boolean pause(final int attempt) {
+        val delay = retryDelay.toMillis() * (1L << Math.min(attempt - 2, MAXIMUM_BACKOFF_EXPONENT));
+        if (delay <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class DestinationState {
+        private final Semaphore permits;
+
+        private final LongAdder dispatched = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder succeeded = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder retried = new LongAdder();
+
+        private final LongAdder attempts = new LongAdder();
+
+        private final LongAdder latency = new LongAdder();
+
+        private final AtomicInteger active = new AtomicInteger();
+    }
+}
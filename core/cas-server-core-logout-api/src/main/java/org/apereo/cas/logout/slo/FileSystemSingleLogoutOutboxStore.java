@@ -0,0 +1,180 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link FileSystemSingleLogoutOutboxStore} that keeps pending logout callbacks
+ * in an append-only log file, so that callbacks survive restarts of the server.
+ * Every appended or removed entry is written to the end of the log, and the pending
+ * entries are kept in memory for lookups. The log is replayed on startup, and is compacted
+ * by rewriting the pending entries once removed records dominate the file.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class FileSystemSingleLogoutOutboxStore implements SingleLogoutOutboxStore, DisposableBean {
+    private static final String LOG_FILE_NAME = "slo-outbox.log";
+
+    private static final String RECORD_APPEND = "A";
+
+    private static final String RECORD_REMOVE = "R";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final int COMPACTION_THRESHOLD = 1_000;
+
+    private final Path logFile;
+
+    private final Map<String, SingleLogoutOutboxEntry> entries = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private BufferedWriter writer;
+
+    private long removedRecords;
+
+    public FileSystemSingleLogoutOutboxStore(final File directory) throws IOException {
+        Files.createDirectories(directory.toPath());
+        this.logFile = directory.toPath().resolve(LOG_FILE_NAME);
+        replay();
+        compact();
+    }
+
+    private static String encode(final String value) {
+        return Base64.getEncoder().encodeToString(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final String value) {
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static String toRecord(final SingleLogoutOutboxEntry entry) {
+        return String.join(SEPARATOR, RECORD_APPEND, entry.id(), String.valueOf(entry.createdAt()),
+            encode(entry.destination()), encode(entry.contentType()), encode(entry.payload()));
+    }
+
+    @Override
+    public void append(final SingleLogoutOutboxEntry entry) {
+        write(toRecord(entry), () -> entries.put(entry.id(), entry));
+    }
+
+    @Override
+    public void remove(final String id) {
+        if (entries.containsKey(id)) {
+            write(String.join(SEPARATOR, RECORD_REMOVE, id), () -> {
+                if (entries.remove(id) != null) {
+                    removedRecords++;
+                }
+                if (removedRecords >= COMPACTION_THRESHOLD && removedRecords > entries.size()) {
+                    compact();
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<SingleLogoutOutboxEntry> load() {
+        return entries.values()
+            .stream()
+            .sorted(Comparator.comparingLong(SingleLogoutOutboxEntry::createdAt))
+            .toList();
+    }
+
+    @Override
+    public long size() {
+        return entries.size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rewrite the log so that it only contains pending entries.
+     */
+    public void compact() {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+            val compactedFile = logFile.resolveSibling(LOG_FILE_NAME + ".tmp");
+            try (val compactedWriter = Files.newBufferedWriter(compactedFile, StandardCharsets.UTF_8)) {
+                for (val entry : load()) {
+                    compactedWriter.write(toRecord(entry));
+                    compactedWriter.newLine();
+                }
+            }
+            Files.move(compactedFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Compacted logout outbox log [{}] with [{}] pending entries", logFile, entries.size());
+            removedRecords = 0;
+            writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        try (val lines = Files.lines(logFile, StandardCharsets.UTF_8)) {
+            lines.map(line -> line.split(SEPARATOR, -1)).forEach(fields -> {
+                if (fields.length == 6 && RECORD_APPEND.equals(fields[0])) {
+                    entries.put(fields[1], new SingleLogoutOutboxEntry(fields[1], decode(fields[3]),
+                        StringUtils.defaultIfBlank(decode(fields[4]), null), decode(fields[5]), Long.parseLong(fields[2])));
+                } else if (fields.length == 2 && RECORD_REMOVE.equals(fields[0])) {
+                    entries.remove(fields[1]);
+                } else {
+                    LOGGER.warn("Skipping malformed record in logout outbox log [{}]", logFile);
+                }
+            });
+        }
+        LOGGER.info("Loaded [{}] pending logout callbacks from [{}]", entries.size(), logFile);
+    }
+
+    private void write(final String record, final Runnable onWrite) {
+        lock.lock();
+        try {
+            writer.write(record);
+            writer.newLine();
+            writer.flush();
+            onWrite.run();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.apereo.cas.logout.slo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link InMemorySingleLogoutOutboxStore} that keeps pending logout callbacks in memory.
+ * Entries survive delivery failures, but not restarts of the server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class InMemorySingleLogoutOutboxStore implements SingleLogoutOutboxStore {
+    private final Map<String, SingleLogoutOutboxEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(final SingleLogoutOutboxEntry entry) {
+        entries.put(entry.id(), entry);
+    }
+
+    @Override
+    public void remove(final String id) {
+        entries.remove(id);
+    }
+
+    @Override
+    public List<SingleLogoutOutboxEntry> load() {
+        return entries.values()
+            .stream()
+            .sorted(Comparator.comparingLong(SingleLogoutOutboxEntry::createdAt))
+            .toList();
+    }
+
+    @Override
+    public long size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,172 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.logout.slo.SingleLogoutOutboxStore.SingleLogoutOutboxEntry;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.Serial;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * This is {@link OutboxSingleLogoutMessageDispatcher} that records durable logout callbacks
+ * in a {@link SingleLogoutOutboxStore} before handing them over to the underlying dispatcher.
+ * Entries are removed from the outbox once delivered. Entries that could not be delivered,
+ * including those left behind by a previous run, are periodically redelivered
+ * by posting the recorded payload to the destination until they expire, which
+ * gives at-least-once delivery of back-channel logout callbacks.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class OutboxSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private final SingleLogoutMessageDispatcher delegate;
+
+    private final SingleLogoutOutboxStore store;
+
+    private final HttpClient httpClient;
+
+    private final long capacity;
+
+    private final Duration maximumAge;
+
+    private final Duration redeliveryDelay;
+
+    private final Map<String, Long> lastAttempts = new ConcurrentHashMap<>();
+
+    private final LongAdder appended = new LongAdder();
+
+    private final LongAdder delivered = new LongAdder();
+
+    private final LongAdder redelivered = new LongAdder();
+
+    private final LongAdder expired = new LongAdder();
+
+    private final LongAdder overflowed = new LongAdder();
+
+    private static URL toUrl(final SingleLogoutOutboxEntry entry) {
+        return FunctionUtils.doUnchecked(() -> new URI(entry.destination()).toURL());
+    }
+
+    @Override
+    public boolean dispatch(final SingleLogoutDispatchRequest request) {
+        if (!request.durable()) {
+            return delegate.dispatch(request);
+        }
+        if (store.size() >= capacity) {
+            LOGGER.warn("Logout outbox has reached its capacity of [{}] entries; callback to [{}] will not be recorded",
+                capacity, request.destination());
+            overflowed.increment();
+            return delegate.dispatch(request);
+        }
+        val entry = new SingleLogoutOutboxEntry(UUID.randomUUID().toString(), request.destination().toExternalForm(),
+            request.contentType(), request.payload(), System.currentTimeMillis());
+        store.append(entry);
+        appended.increment();
+        LOGGER.trace("Recorded logout callback [{}] to [{}] in the outbox", entry.id(), entry.destination());
+        return delegate.dispatch(request.toBuilder().sender(() -> send(entry, request.sender())).build());
+    }
+
+    /**
+     * Redeliver pending outbox entries whose last delivery attempt
+     * is older than the redelivery delay, and remove expired entries.
+     */
+    public void redeliver() {
+        val now = System.currentTimeMillis();
+        for (val entry : store.load()) {
+            if (entry.createdAt() + maximumAge.toMillis() < now) {
+                LOGGER.warn("Removing expired logout callback [{}] to [{}] from the outbox", entry.id(), entry.destination());
+                remove(entry);
+                expired.increment();
+            } else if (lastAttempts.getOrDefault(entry.id(), entry.createdAt()) + redeliveryDelay.toMillis() <= now) {
+                LOGGER.debug("Redelivering logout callback [{}] to [{}]", entry.id(), entry.destination());
+                lastAttempts.put(entry.id(), now);
+                redelivered.increment();
+                try {
+                    val url = toUrl(entry);
+                    delegate.dispatch(SingleLogoutDispatchRequest.builder()
+                        .destination(url)
+                        .contentType(entry.contentType())
+                        .payload(entry.payload())
+                        .asynchronous(true)
+                        .durable(true)
+                        .sender(() -> send(entry, () -> httpClient.sendMessageToEndPoint(new OutboxHttpMessage(url, entry))))
+                        .build());
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val results = new LinkedHashMap<>(delegate.getStatistics());
+        results.put("outbox", Map.of(
+            "pending", store.size(),
+            "appended", appended.sum(),
+            "delivered", delivered.sum(),
+            "redelivered", redelivered.sum(),
+            "expired", expired.sum(),
+            "overflowed", overflowed.sum()));
+        return results;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof final DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private boolean send(final SingleLogoutOutboxEntry entry, final BooleanSupplier sender) {
+        lastAttempts.put(entry.id(), System.currentTimeMillis());
+        val result = sender.getAsBoolean();
+        if (result) {
+            delivered.increment();
+            remove(entry);
+        }
+        return result;
+    }
+
+    private void remove(final SingleLogoutOutboxEntry entry) {
+        store.remove(entry.id());
+        lastAttempts.remove(entry.id());
+    }
+
+    private static final class OutboxHttpMessage extends HttpMessage {
+        @Serial
+        private static final long serialVersionUID = -3270926341728305112L;
+
+        OutboxHttpMessage(final URL url, final SingleLogoutOutboxEntry entry) {
+            super(url, entry.payload(), false);
+            if (StringUtils.isNotBlank(entry.contentType())) {
+                setContentType(entry.contentType());
+            }
+        }
+
+        @Override
+        protected String formatOutputMessageInternal(final String message) {
+            return message;
+        }
+    }
+}
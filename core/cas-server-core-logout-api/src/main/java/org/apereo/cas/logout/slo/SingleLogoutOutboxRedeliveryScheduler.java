@@ -0,0 +1,26 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * This is {@link SingleLogoutOutboxRedeliveryScheduler} that periodically
+ * redelivers pending logout callbacks recorded in the outbox.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+public class SingleLogoutOutboxRedeliveryScheduler implements Runnable {
+    private final OutboxSingleLogoutMessageDispatcher dispatcher;
+
+    @Override
+    @Scheduled(
+        cron = "${cas.slo.dispatcher.outbox.schedule.cron-expression:}",
+        zone = "${cas.slo.dispatcher.outbox.schedule.cron-time-zone:}",
+        initialDelayString = "${cas.slo.dispatcher.outbox.schedule.start-delay:PT30S}",
+        fixedDelayString = "${cas.slo.dispatcher.outbox.schedule.repeat-interval:PT1M}")
+    public void run() {
+        dispatcher.redeliver();
+    }
+}
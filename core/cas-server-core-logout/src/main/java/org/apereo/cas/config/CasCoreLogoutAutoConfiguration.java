@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutRedirectionStrategy;
@@ -18,10 +19,17 @@ import org.apereo.cas.logout.LogoutPostProcessor;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.LogoutWebApplicationServiceFactory;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.FileSystemSingleLogoutOutboxStore;
+import org.apereo.cas.logout.slo.InMemorySingleLogoutOutboxStore;
+import org.apereo.cas.logout.slo.OutboxSingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutOutboxRedeliveryScheduler;
+import org.apereo.cas.logout.slo.SingleLogoutOutboxStore;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -30,6 +38,7 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -39,6 +48,7 @@ import org.apereo.cas.web.support.ArgumentExtractor;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -48,9 +58,11 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 
+import java.io.File;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -141,13 +153,82 @@ public class CasCoreLogoutAutoConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
                 casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan);
+            BeanSupplier.ifNotProxy(singleLogoutMessageDispatcher, handler::setMessageDispatcher);
+            return handler;
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(SingleLogoutOutboxStore.BEAN_NAME)
+            final SingleLogoutOutboxStore singleLogoutOutboxStore,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient) {
+            return BeanSupplier.of(SingleLogoutMessageDispatcher.class)
+                .when(BeanCondition.on("cas.slo.dispatcher.enabled").isTrue().evenIfMissing()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val dispatcher = casProperties.getSlo().getDispatcher();
+                    val defaultDispatcher = new DefaultSingleLogoutMessageDispatcher(dispatcher.getMaximumConcurrentRequestsPerHost(),
+                        dispatcher.getQueueCapacity(), dispatcher.getMaximumAttempts(),
+                        Beans.newDuration(dispatcher.getRetryDelay()));
+                    if (BeanSupplier.isProxy(singleLogoutOutboxStore)) {
+                        return defaultDispatcher;
+                    }
+                    val outbox = dispatcher.getOutbox();
+                    return new OutboxSingleLogoutMessageDispatcher(defaultDispatcher, singleLogoutOutboxStore,
+                        noRedirectHttpClient, outbox.getCapacity(), Beans.newDuration(outbox.getMaximumAge()),
+                        Beans.newDuration(outbox.getRedeliveryDelay()));
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutOutboxStore.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutOutboxStore singleLogoutOutboxStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties) {
+            return BeanSupplier.of(SingleLogoutOutboxStore.class)
+                .when(BeanCondition.on("cas.slo.dispatcher.outbox.enabled").isTrue()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val location = casProperties.getSlo().getDispatcher().getOutbox().getLocation();
+                    return StringUtils.isBlank(location)
+                        ? new InMemorySingleLogoutOutboxStore()
+                        : FunctionUtils.doUnchecked(() -> new FileSystemSingleLogoutOutboxStore(new File(location)));
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "singleLogoutOutboxRedeliveryScheduler")
+        @Bean
+        @Lazy(false)
+        public Runnable singleLogoutOutboxRedeliveryScheduler(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            return BeanSupplier.of(Runnable.class)
+                .when(BeanCondition.on("cas.slo.dispatcher.outbox.schedule.enabled").isTrue().evenIfMissing()
+                    .given(applicationContext.getEnvironment()))
+                .and(() -> singleLogoutMessageDispatcher instanceof OutboxSingleLogoutMessageDispatcher)
+                .supply(() -> new SingleLogoutOutboxRedeliveryScheduler((OutboxSingleLogoutMessageDispatcher) singleLogoutMessageDispatcher))
+                .otherwiseProxy()
+                .get();
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -0,0 +1,100 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Logout")
+class DefaultSingleLogoutMessageDispatcherTests {
+
+    @Test
+    void verifyRetriesUntilDelivered() throws Throwable {
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(2, 10, 3, Duration.ofMillis(1));
+        val attempts = new AtomicInteger();
+        val request = newRequest(new URI("https://app.example.org/logout").toURL(),
+            "payload", false, () -> attempts.incrementAndGet() == 3);
+        assertTrue(dispatcher.dispatch(request));
+        assertEquals(3, attempts.get());
+        val statistics = (Map) dispatcher.getStatistics().get("app.example.org:443");
+        assertEquals(1L, statistics.get("succeeded"));
+        assertEquals(2L, statistics.get("retried"));
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyFailsAfterMaximumAttempts() throws Throwable {
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(2, 10, 2, Duration.ZERO);
+        val request = newRequest(new URI("http://app.example.org:8080/logout").toURL(),
+            "payload", false, () -> {
+                throw new IllegalArgumentException("Failed");
+            });
+        assertFalse(dispatcher.dispatch(request));
+        val statistics = (Map) dispatcher.getStatistics().get("app.example.org:8080");
+        assertEquals(1L, statistics.get("failed"));
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyCapacity() throws Throwable {
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(1, 2, 1, Duration.ZERO);
+        val latch = new CountDownLatch(1);
+        val attempts = new AtomicInteger();
+        val url = new URI("https://app.example.org/logout").toURL();
+        val blocking = newRequest(url, "payload", true, () -> {
+            attempts.incrementAndGet();
+            return await(latch);
+        });
+        assertTrue(dispatcher.dispatch(blocking));
+        assertTrue(dispatcher.dispatch(blocking));
+        assertFalse(dispatcher.dispatch(newRequest(url, "rejected", true, () -> true)));
+        latch.countDown();
+        while (dispatcher.getPendingRequests().get() > 0) {
+            Thread.sleep(10);
+        }
+
+        val synchronous = newRequest(url, "payload", false, () -> true);
+        assertTrue(dispatcher.dispatch(synchronous));
+        val statistics = (Map) dispatcher.getStatistics().get("app.example.org:443");
+        assertEquals(1L, statistics.get("rejected"));
+        assertEquals(2, attempts.get());
+        dispatcher.destroy();
+    }
+
+    private static SingleLogoutDispatchRequest newRequest(final URL url, final String payload,
+                                                          final boolean asynchronous, final BooleanSupplier sender) {
+        return SingleLogoutDispatchRequest.builder()
+            .destination(url)
+            .payload(payload)
+            .asynchronous(asynchronous)
+            .sender(sender)
+            .build();
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.FileSystemSingleLogoutOutboxStore;
+import org.apereo.cas.logout.slo.InMemorySingleLogoutOutboxStore;
+import org.apereo.cas.logout.slo.OutboxSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest;
+import org.apereo.cas.logout.slo.SingleLogoutOutboxStore.SingleLogoutOutboxEntry;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Files;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OutboxSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Logout")
+class OutboxSingleLogoutMessageDispatcherTests {
+    @Test
+    void verifyFileSystemStoreReplaysLog() throws Throwable {
+        val outboxDirectory = Files.createTempDirectory("slo-outbox").toFile();
+        outboxDirectory.deleteOnExit();
+        val store = new FileSystemSingleLogoutOutboxStore(outboxDirectory);
+        store.append(new SingleLogoutOutboxEntry("1", "https://app.example.org/logout",
+            MediaType.APPLICATION_FORM_URLENCODED_VALUE, "logoutRequest=one", 1));
+        store.append(new SingleLogoutOutboxEntry("2", "https://app.example.org/logout",
+            null, "logoutRequest=two\twith\ttabs", 2));
+        store.remove("1");
+        store.destroy();
+
+        val replayed = new FileSystemSingleLogoutOutboxStore(outboxDirectory);
+        assertEquals(1, replayed.size());
+        val entry = replayed.load().getFirst();
+        assertEquals("2", entry.id());
+        assertNull(entry.contentType());
+        assertEquals("logoutRequest=two\twith\ttabs", entry.payload());
+        assertEquals(2, entry.createdAt());
+        replayed.destroy();
+    }
+
+    @Test
+    void verifyFailedCallbackIsRedelivered() throws Throwable {
+        val store = new InMemorySingleLogoutOutboxStore();
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val dispatcher = new OutboxSingleLogoutMessageDispatcher(
+            new DefaultSingleLogoutMessageDispatcher(1, 10, 1, Duration.ZERO),
+            store, httpClient, 10, Duration.ofHours(1), Duration.ZERO);
+
+        val request = SingleLogoutDispatchRequest.builder()
+            .destination(new URI("https://app.example.org/logout").toURL())
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+            .payload("logoutRequest=%3Csamlp%3ELogoutRequest")
+            .durable(true)
+            .sender(() -> false)
+            .build();
+        assertFalse(dispatcher.dispatch(request));
+        assertEquals(1, store.size());
+
+        dispatcher.redeliver();
+        while (store.size() > 0) {
+            Thread.sleep(10);
+        }
+        verify(httpClient).sendMessageToEndPoint(argThat((HttpMessage msg) ->
+            msg.getMessage().equals(request.payload()) && !msg.isAsynchronous()));
+        val statistics = (Map) dispatcher.getStatistics().get("outbox");
+        assertEquals(1L, statistics.get("appended"));
+        assertEquals(1L, statistics.get("redelivered"));
+        assertEquals(1L, statistics.get("delivered"));
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyExpiredAndTransientCallbacks() throws Throwable {
+        val store = new InMemorySingleLogoutOutboxStore();
+        val dispatcher = new OutboxSingleLogoutMessageDispatcher(
+            new DefaultSingleLogoutMessageDispatcher(1, 10, 1, Duration.ZERO),
+            store, mock(HttpClient.class), 10, Duration.ZERO, Duration.ZERO);
+        val url = new URI("https://app.example.org/logout").toURL();
+        assertTrue(dispatcher.dispatch(SingleLogoutDispatchRequest.builder()
+            .destination(url).payload("transient").sender(() -> true).build()));
+        assertFalse(dispatcher.dispatch(SingleLogoutDispatchRequest.builder()
+            .destination(url).payload("durable").durable(true).sender(() -> false).build()));
+        assertEquals(1, store.size());
+        Thread.sleep(5);
+        dispatcher.redeliver();
+        assertEquals(0, store.size());
+        val statistics = (Map) dispatcher.getStatistics().get("outbox");
+        assertEquals(1L, statistics.get("appended"));
+        assertEquals(1L, statistics.get("expired"));
+        dispatcher.destroy();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -64,6 +65,25 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<RegisteredServiceChanges> loadChanges(final long watermark) {
+        val modifiedServices = new ArrayList<RegisteredService>();
+        val registeredServiceIds = new HashSet<Long>();
+        var nextWatermark = Long.MAX_VALUE;
+        for (val serviceRegistry : serviceRegistries) {
+            val changes = serviceRegistry.loadChanges(watermark);
+            if (changes.isEmpty()) {
+                LOGGER.trace("Service registry [{}] is unable to report changes", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            modifiedServices.addAll(changes.get().modifiedServices());
+            registeredServiceIds.addAll(changes.get().registeredServiceIds());
+            nextWatermark = Math.min(nextWatermark, changes.get().watermark());
+        }
+        return Optional.of(new RegisteredServiceChanges(modifiedServices, registeredServiceIds,
+            nextWatermark == Long.MAX_VALUE ? watermark : nextWatermark));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
@@ -13,6 +13,12 @@ import org.springframework.scheduling.annotation.Scheduled;
 public class ServicesManagerScheduledLoader implements Runnable {
     private final ServicesManager servicesManager;
 
+    private final boolean deltaLoading;
+
+    public ServicesManagerScheduledLoader(final ServicesManager servicesManager) {
+        this(servicesManager, false);
+    }
+
     /**
      * No op runnable.
      *
@@ -31,6 +37,10 @@ public class ServicesManagerScheduledLoader implements Runnable {
     )
     @Override
     public void run() {
-        servicesManager.load();
+        if (deltaLoading) {
+            servicesManager.loadChanges();
+        } else {
+            servicesManager.load();
+        }
     }
 }
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.IndexableServicesManager;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.RegisteredServiceChanges;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.services.query.RegisteredServiceQueryAttribute;
@@ -29,10 +30,14 @@ import org.springframework.context.ApplicationEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -55,6 +60,10 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final Set<Long> loadedServiceIds = ConcurrentHashMap.newKeySet();
+
+    private volatile long changesWatermark;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -370,10 +379,105 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         });
     }
 
+    /**
+     * Apply changes reported by the service registry since the previous watermark
+     * to the services cache and indexes, without invalidating them as a whole.
+     * The watermark is handed out by the service registry, and the first pass reports
+     * all service definitions as changes. Services that remain unchanged are put back into
+     * the cache so they do not expire from it. Services are fully reloaded
+     * if the service registry is unable to report changes, or if unchanged services
+     * have already expired from the cache.
+     */
+    @Override
+    public Collection<RegisteredService> loadChanges() {
+        return lock.tryLock(() -> {
+            val serviceRegistry = configurationContext.getServiceRegistry();
+            val changes = serviceRegistry.loadChanges(changesWatermark);
+            if (changes.isEmpty()) {
+                LOGGER.trace("Changes cannot be determined from [{}]; loading all services", serviceRegistry.getName());
+                return load();
+            }
+            changesWatermark = changes.get().watermark();
+            if (!applyRegisteredServiceChanges(changes.get())) {
+                return load();
+            }
+            return configurationContext.getServicesCache().asMap().values();
+        });
+    }
+
+    private boolean applyRegisteredServiceChanges(final RegisteredServiceChanges changes) {
+        val servicesCache = configurationContext.getServicesCache();
+        val reportedServiceIds = changes.modifiedServices()
+            .stream()
+            .map(RegisteredService::getId)
+            .collect(Collectors.toSet());
+        val unchangedServiceIds = Stream.concat(loadedServiceIds.stream(), servicesCache.asMap().keySet().stream())
+            .filter(id -> changes.registeredServiceIds().contains(id) && !reportedServiceIds.contains(id))
+            .collect(Collectors.toSet());
+        val unchangedServices = new HashMap<Long, RegisteredService>();
+        for (val id : unchangedServiceIds) {
+            val service = servicesCache.getIfPresent(id);
+            if (service == null) {
+                LOGGER.debug("Service [{}] has expired from the services cache; loading all services", id);
+                return false;
+            }
+            unchangedServices.put(id, service);
+        }
+        servicesCache.putAll(unchangedServices);
+
+        val modifiedServices = changes.modifiedServices()
+            .stream()
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .filter(Objects::nonNull)
+            .map(this::applyTemplate)
+            .filter(service -> Objects.nonNull(service)
+                && StringUtils.isNotBlank(service.getName())
+                && StringUtils.isNotBlank(service.getServiceId()))
+            .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (__, service) -> service));
+
+        val removedServiceIds = new HashSet<Long>();
+        reportedServiceIds
+            .stream()
+            .filter(id -> !modifiedServices.containsKey(id))
+            .forEach(removedServiceIds::add);
+        servicesCache.asMap().keySet()
+            .stream()
+            .filter(id -> !changes.registeredServiceIds().contains(id))
+            .forEach(removedServiceIds::add);
+
+        if (modifiedServices.isEmpty() && removedServiceIds.isEmpty()) {
+            LOGGER.trace("No service changes are found in [{}]", configurationContext.getServiceRegistry().getName());
+            return true;
+        }
+        servicesCache.invalidateAll(removedServiceIds);
+        servicesCache.putAll(modifiedServices);
+        loadedServiceIds.removeAll(removedServiceIds);
+        loadedServiceIds.addAll(modifiedServices.keySet());
+        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+            indexedRegisteredServices.removeIf(service -> removedServiceIds.contains(service.getId())
+                || modifiedServices.containsKey(service.getId()));
+            indexedRegisteredServices.addAll(modifiedServices.values());
+        }
+        loadInternal();
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+        modifiedServices.values()
+            .stream()
+            .filter(RegisteredServiceAccessStrategyUtils.getRegisteredServiceExpirationPolicyPredicate().negate())
+            .forEach(this::processExpiredRegisteredService);
+        LOGGER.info("Applied [{}] modified and [{}] removed service(s) from [{}].", modifiedServices.size(),
+            removedServiceIds.size(), configurationContext.getServiceRegistry().getName());
+        return true;
+    }
+
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
+        loadedServiceIds.clear();
+        loadedServiceIds.addAll(servicesMap.keySet());
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
             indexedRegisteredServices.clear();
             indexedRegisteredServices.addAll(servicesMap.values());
@@ -3,6 +3,7 @@ package org.apereo.cas.services.resource;
 import org.apereo.cas.configuration.api.CasConfigurationPropertiesSourceLocator;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceChanges;
 import org.apereo.cas.services.RegisteredServiceDefinition;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryListener;
@@ -26,6 +27,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -44,12 +46,15 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -80,6 +85,8 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private final Map<String, LoadedResource> loadedResources = new ConcurrentHashMap<>();
+
     private Collection<StringSerializer<RegisteredService>> registeredServiceSerializers;
 
     @Setter
@@ -246,24 +253,32 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         files.forEach(File::delete);
     }
 
+    /**
+     * Load service definition files in parallel. A manifest of previously loaded files,
+     * tracking their last-modified timestamp, size, content hash and parsed services,
+     * allows files whose content is unchanged to skip parsing on reload; files whose timestamp
+     * and size are unchanged are not even read. Such files hand out the services parsed previously.
+     * Loaded events are only published for services
+     * whose definition files are new or have changed.
+     */
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
             LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
-            val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
-            val files = serviceRegistryDirectoryFile.exists()
-                ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
-                : List.<File>of();
-            
+            val files = listServiceDefinitionFiles();
             LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
             val clientInfo = ClientInfoHolder.getClientInfo();
 
-            this.services = files
+            val resources = resolveResources(files);
+            val changedServiceIds = resources
                 .stream()
-                .map(this::load)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
+                .filter(ResolvedResource::changed)
+                .flatMap(resource -> resource.services().stream())
+                .map(RegisteredService::getId)
+                .collect(Collectors.toSet());
+            this.services = resources
+                .stream()
+                .flatMap(resource -> resource.services().stream())
                 .sorted()
                 .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
                     (s1, s2) -> {
@@ -272,11 +287,64 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
                     }, LinkedHashMap::new));
             val listedServices = new ArrayList<>(this.services.values());
             val results = registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(listedServices, this);
-            results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
+            results
+                .stream()
+                .filter(service -> changedServiceIds.contains(service.getId()))
+                .forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
+            LOGGER.debug("Loaded [{}] service(s) from [{}] where [{}] service(s) have changed",
+                results.size(), serviceRegistryDirectory, changedServiceIds.size());
             return results;
         });
     }
 
+    /**
+     * Determine changes by comparing service definition files against the manifest
+     * of previously loaded files. Only new or modified files are parsed again and reported,
+     * so unchanged files are never reported twice regardless of the watermark. The next watermark is the most recent
+     * modification timestamp stamped on the files by the file system. Changes cannot be determined
+     * if service definitions are replicated across nodes.
+     */
+    @Override
+    public Optional<RegisteredServiceChanges> loadChanges(final long watermark) {
+        if (!(registeredServiceReplicationStrategy instanceof NoOpRegisteredServiceReplicationStrategy)) {
+            return Optional.empty();
+        }
+        return lock.tryLock(() -> {
+            val files = listServiceDefinitionFiles();
+            val previousServiceIds = loadedResources.values()
+                .stream()
+                .flatMap(resource -> resource.services().stream())
+                .map(RegisteredService::getId)
+                .collect(Collectors.toSet());
+            val resources = resolveResources(files);
+            val currentServiceIds = new HashSet<Long>();
+            resources.forEach(resource -> resource.services().forEach(service -> currentServiceIds.add(service.getId())));
+            previousServiceIds
+                .stream()
+                .filter(id -> !currentServiceIds.contains(id))
+                .forEach(services::remove);
+
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val modifiedServices = new ArrayList<RegisteredService>();
+            resources
+                .stream()
+                .filter(ResolvedResource::changed)
+                .flatMap(resource -> resource.services().stream())
+                .forEach(service -> {
+                    services.put(service.getId(), service);
+                    modifiedServices.add(service);
+                    publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo));
+                });
+            val nextWatermark = resources
+                .stream()
+                .mapToLong(ResolvedResource::lastModified)
+                .max()
+                .orElse(watermark);
+            return Optional.of(new RegisteredServiceChanges(modifiedServices, new HashSet<>(services.keySet()),
+                Math.max(watermark, nextWatermark)));
+        });
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -363,6 +431,51 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.services.remove(service.getId());
     }
 
+    private Collection<File> listServiceDefinitionFiles() {
+        val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
+        return serviceRegistryDirectoryFile.exists()
+            ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
+            : List.of();
+    }
+
+    private List<ResolvedResource> resolveResources(final Collection<File> files) {
+        val resourceNames = files.stream().map(File::getAbsolutePath).collect(Collectors.toSet());
+        loadedResources.keySet().removeIf(resource -> !resourceNames.contains(resource));
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val tasks = files
+                .stream()
+                .map(file -> executor.submit(() -> resolveResource(file)))
+                .toList();
+            return tasks
+                .stream()
+                .map(task -> FunctionUtils.doUnchecked(() -> task.get()))
+                .toList();
+        }
+    }
+
+    private ResolvedResource resolveResource(final File file) throws Exception {
+        val resource = file.getAbsolutePath();
+        val lastModified = file.lastModified();
+        val size = file.length();
+        val previous = loadedResources.get(resource);
+        if (previous != null && previous.lastModified() == lastModified && previous.size() == size) {
+            LOGGER.trace("Service definition file [{}] is untouched since it was last loaded", resource);
+            return new ResolvedResource(lastModified, previous.services(), false);
+        }
+        val contentHash = file.canRead() ? DigestUtils.sha256Hex(Files.readAllBytes(file.toPath())) : StringUtils.EMPTY;
+        if (previous != null && StringUtils.equals(previous.contentHash(), contentHash)) {
+            LOGGER.trace("Service definition file [{}] is unchanged since it was last loaded", resource);
+            loadedResources.put(resource, new LoadedResource(lastModified, size, contentHash, previous.services()));
+            return new ResolvedResource(lastModified, previous.services(), false);
+        }
+        val loadedServices = load(file)
+            .stream()
+            .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
+            .toList();
+        loadedResources.put(resource, new LoadedResource(lastModified, size, contentHash, loadedServices));
+        return new ResolvedResource(lastModified, loadedServices, true);
+    }
+
     protected RegisteredService getRegisteredServiceFromFile(final File file) {
         val fileName = file.getName();
         if (fileName.startsWith(".")) {
@@ -443,4 +556,9 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.start(getClass().getSimpleName());
     }
 
+    private record LoadedResource(long lastModified, long size, String contentHash, List<RegisteredService> services) {
+    }
+
+    private record ResolvedResource(long lastModified, List<RegisteredService> services, boolean changed) {
+    }
 }
@@ -391,7 +391,8 @@ class CasCoreServicesConfiguration {
                     if (!serviceRegistryExecutionPlan.find(filter).isEmpty()) {
                         LOGGER.trace("Background task to load services is enabled to run every [{}]",
                             casProperties.getServiceRegistry().getSchedule().getRepeatInterval());
-                        return new ServicesManagerScheduledLoader(servicesManager);
+                        return new ServicesManagerScheduledLoader(servicesManager,
+                            casProperties.getServiceRegistry().getCore().isDeltaLoading());
                     }
                     LOGGER.trace("Background task to load services is disabled");
                     return ServicesManagerScheduledLoader.noOp();
@@ -13,6 +13,7 @@ import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -67,6 +68,65 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertTrue(newServiceRegistry.load(file).isEmpty());
     }
 
+    @Test
+    void verifyUnchangedFilesAreSkipped() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(registeredService);
+        val loaded = newServiceRegistry.load();
+        val reloaded = newServiceRegistry.load();
+        assertEquals(loaded.size(), reloaded.size());
+        assertSame(loaded.iterator().next(), reloaded.iterator().next());
+        assertSame(reloaded.iterator().next(), newServiceRegistry.findServiceById(reloaded.iterator().next().getId()));
+
+        val file = FileUtils.listFiles(RESOURCE.getFile(), null, true).iterator().next();
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+        val touched = newServiceRegistry.load();
+        assertSame(loaded.iterator().next(), touched.iterator().next());
+    }
+
+    @Test
+    void verifySameSizeEditsAreLoaded() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        registeredService.setDescription("before");
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+
+        val file = FileUtils.listFiles(RESOURCE.getFile(), null, true).iterator().next();
+        val lastModified = file.lastModified();
+        val content = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(file, content.replace("before", "after1"), StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(lastModified + 2000));
+
+        val reloaded = newServiceRegistry.load();
+        assertEquals("after1", reloaded.iterator().next().getDescription());
+    }
+
+    @Test
+    void verifyLoadChanges() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+
+        val watermark = System.currentTimeMillis() + 60_000;
+        var changes = newServiceRegistry.loadChanges(watermark).orElseThrow();
+        assertTrue(changes.modifiedServices().isEmpty());
+        assertTrue(changes.registeredServiceIds().contains(registeredService.getId()));
+        assertEquals(watermark, changes.watermark());
+
+        val newService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(newService);
+        changes = newServiceRegistry.loadChanges(watermark).orElseThrow();
+        assertEquals(1, changes.modifiedServices().size());
+        assertEquals(newService.getId(), changes.modifiedServices().iterator().next().getId());
+        changes = newServiceRegistry.loadChanges(changes.watermark()).orElseThrow();
+        assertTrue(changes.modifiedServices().isEmpty());
+
+        FileUtils.cleanDirectory(RESOURCE.getFile());
+        changes = newServiceRegistry.loadChanges(watermark).orElseThrow();
+        assertTrue(changes.modifiedServices().isEmpty());
+        assertTrue(changes.registeredServiceIds().isEmpty());
+    }
+
     @Test
     void verify() {
         val applicationContext = new StaticApplicationContext();
@@ -54,6 +54,19 @@ class DefaultServicesManagerTests {
             assertNull(mock.findServiceBy(0, CasRegisteredService.class));
         }
 
+        @Test
+        void verifyLoadChanges() throws Throwable {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(RandomUtils.nextLong());
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId("https://changes.example.org/" + registeredService.getId());
+            serviceRegistry.save(registeredService);
+            val services = servicesManager.loadChanges();
+            assertTrue(services.stream().anyMatch(service -> service.getId() == registeredService.getId()));
+            assertEquals(1, servicesManager.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class,
+                "id", registeredService.getId())).count());
+        }
+
         @Test
         void verifySupports() throws Throwable {
             val registeredService = new CasRegisteredService();
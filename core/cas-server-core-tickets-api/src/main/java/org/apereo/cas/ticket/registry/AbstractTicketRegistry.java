@@ -92,6 +92,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return ticket != null && !ticket.isExpired() ? addSingleTicket(ticket) : null;
     }
 
+    @Override
+    public Ticket updateTicketGrantingTicketState(final TicketGrantingTicket ticket) throws Exception {
+        if (!isCipherExecutorEnabled() && !ticket.isExpired()
+            && updateTicketState(ticket, TicketGrantingTicketState.from(ticket))) {
+            LOGGER.trace("Updated the state of ticket [{}] in place", ticket.getId());
+            return ticket;
+        }
+        return updateTicket(ticket);
+    }
+
     @Override
     public Ticket getTicket(final String ticketId) {
         val returnTicket = getTicket(ticketId, ticket -> {
@@ -113,6 +123,27 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return returnTicket;
     }
 
+    @Override
+    public List<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        val ids = ticketIds.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return getTicketsInternal(ids)
+            .stream()
+            .filter(Objects::nonNull)
+            .filter(ticket -> {
+                if (ticket.isExpired()) {
+                    LOGGER.debug("Ticket [{}] has expired according to policy [{}] and will be removed from the ticket registry",
+                        ticket.getId(), ticket.getExpirationPolicy().getName());
+                    deleteSingleTicket(ticket);
+                    return false;
+                }
+                return true;
+            })
+            .toList();
+    }
+
     @Override
     public <T extends Ticket> T getTicket(final String ticketId, final @NonNull Class<T> clazz) {
         val ticket = getTicket(ticketId);
@@ -260,6 +291,39 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected abstract Ticket addSingleTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update the bookkeeping state of the ticket-granting ticket in place, without rewriting the ticket.
+     * Registries that store the state separately must apply it to the ticket whenever it is read,
+     * and should clear it whenever the ticket is fully rewritten. This operation is never invoked
+     * when tickets are encrypted, since the state would otherwise be stored in the clear.
+     *
+     * @param ticket the ticket
+     * @param state  the state
+     * @return true if the state was updated, or false to fall back onto updating the entire ticket
+     * @throws Exception the exception
+     */
+    protected boolean updateTicketState(final TicketGrantingTicket ticket,
+                                        final TicketGrantingTicketState state) throws Exception {
+        return false;
+    }
+
+    /**
+     * Fetch the tickets with the given ids from the underlying store. Registries
+     * that can fetch many tickets in a single round trip should override this method;
+     * by default, tickets are fetched one at a time. Returned tickets must be decoded,
+     * and may include expired tickets.
+     *
+     * @param ticketIds the distinct ticket ids
+     * @return the tickets that were found
+     */
+    protected List<? extends Ticket> getTicketsInternal(final List<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .map(ticketId -> getTicket(ticketId, ticket -> true))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     protected int deleteTickets(final Set<String> tickets) {
         return deleteTickets(tickets.stream());
     }
@@ -278,19 +342,15 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         val count = new AtomicLong(0);
         val services = ticket.getServices();
         if (services != null && !services.isEmpty()) {
-            services.keySet()
-                .stream()
-                .map(this::getTicket)
-                .filter(Objects::nonNull)
-                .forEach(serviceTicket -> {
-                    val deleteCount = deleteSingleTicket(serviceTicket);
-                    if (deleteCount > 0) {
-                        LOGGER.debug("Removed ticket [{}]", serviceTicket.getId());
-                        count.getAndAdd(deleteCount);
-                    } else {
-                        LOGGER.debug("Unable to remove ticket [{}]", serviceTicket.getId());
-                    }
-                });
+            getTickets(services.keySet()).forEach(serviceTicket -> {
+                val deleteCount = deleteSingleTicket(serviceTicket);
+                if (deleteCount > 0) {
+                    LOGGER.debug("Removed ticket [{}]", serviceTicket.getId());
+                    count.getAndAdd(deleteCount);
+                } else {
+                    LOGGER.debug("Unable to remove ticket [{}]", serviceTicket.getId());
+                }
+            });
         }
         return count.intValue();
     }
@@ -371,7 +431,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
                                                   final TicketGrantingTicket tgt) throws Exception {
         val pgts = new LinkedHashSet<>(tgt.getProxyGrantingTickets().keySet());
         val hasPgts = !pgts.isEmpty();
-        count.getAndAdd(deleteTickets(pgts));
+        for (val pgt : getTickets(pgts)) {
+            count.getAndAdd(deleteTicket(pgt));
+        }
         if (hasPgts) {
             LOGGER.debug("Removing proxy-granting tickets from parent ticket-granting ticket");
             tgt.getProxyGrantingTickets().clear();
@@ -0,0 +1,126 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.AbstractTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is {@link TicketGrantingTicketState} that carries the bookkeeping state of a ticket-granting ticket,
+ * that is the services and proxy-granting tickets it has issued, its descendant tickets and its usage.
+ * Registries may store this state separately from the ticket itself, so that recording the use
+ * of a ticket-granting ticket updates a single small field rather than rewriting the entire ticket.
+ * The state, when present, always takes precedence over the bookkeeping fields of the stored ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+public class TicketGrantingTicketState implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3365931278162742515L;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).build().toObjectMapper();
+
+    private Map<String, Service> services = new HashMap<>();
+
+    private Map<String, Service> proxyGrantingTickets = new HashMap<>();
+
+    private Set<String> descendantTickets = new HashSet<>();
+
+    private int countOfUses;
+
+    private ZonedDateTime lastTimeUsed;
+
+    private ZonedDateTime previousTimeUsed;
+
+    /**
+     * Capture the bookkeeping state of the ticket-granting ticket.
+     *
+     * @param ticket the ticket
+     * @return the state
+     */
+    public static TicketGrantingTicketState from(final TicketGrantingTicket ticket) {
+        return new TicketGrantingTicketState()
+            .setServices(new HashMap<>(ticket.getServices()))
+            .setProxyGrantingTickets(new HashMap<>(ticket.getProxyGrantingTickets()))
+            .setDescendantTickets(new HashSet<>(ticket.getDescendantTickets()))
+            .setCountOfUses(ticket.getCountOfUses())
+            .setLastTimeUsed(ticket.getLastTimeUsed())
+            .setPreviousTimeUsed(ticket.getPreviousTimeUsed());
+    }
+
+    /**
+     * Read the state from its JSON representation.
+     *
+     * @param json the json
+     * @return the state
+     */
+    public static TicketGrantingTicketState fromJson(final String json) {
+        return Unchecked.supplier(() -> MAPPER.readValue(json, TicketGrantingTicketState.class)).get();
+    }
+
+    /**
+     * Apply the state, if any, to the ticket if it is a ticket-granting ticket.
+     *
+     * @param ticket the ticket
+     * @param json   the JSON representation of the state, which may be blank
+     * @return the ticket
+     */
+    public static Ticket apply(final Ticket ticket, final String json) {
+        if (ticket instanceof final TicketGrantingTicket tgt && StringUtils.isNotBlank(json)) {
+            fromJson(json).applyTo(tgt);
+        }
+        return ticket;
+    }
+
+    /**
+     * Write the state as JSON.
+     *
+     * @return the json
+     */
+    public String toJson() {
+        return Unchecked.supplier(() -> MAPPER.writeValueAsString(this)).get();
+    }
+
+    /**
+     * Replace the bookkeeping state of the ticket-granting ticket with this state.
+     *
+     * @param ticket the ticket
+     * @return the ticket
+     */
+    public TicketGrantingTicket applyTo(final TicketGrantingTicket ticket) {
+        ticket.getServices().clear();
+        ticket.getServices().putAll(services);
+        ticket.getProxyGrantingTickets().clear();
+        ticket.getProxyGrantingTickets().putAll(proxyGrantingTickets);
+        ticket.getDescendantTickets().clear();
+        ticket.getDescendantTickets().addAll(descendantTickets);
+        if (ticket instanceof final AbstractTicket abstractTicket) {
+            abstractTicket.setCountOfUses(countOfUses);
+            abstractTicket.setLastTimeUsed(lastTimeUsed);
+            abstractTicket.setPreviousTimeUsed(previousTimeUsed);
+        }
+        return ticket;
+    }
+}
@@ -1,8 +1,12 @@
 package org.apereo.cas.ticket.registry.pubsub;
 
 import org.apereo.cas.ticket.registry.pubsub.queue.BaseQueueableTicketRegistryMessageReceiver;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.PublisherIdentifier;
 
+import java.time.Duration;
+
 /**
  * This is {@link DefaultQueueableTicketRegistryMessageReceiver}.
  *
@@ -13,4 +17,12 @@ public class DefaultQueueableTicketRegistryMessageReceiver extends BaseQueueable
     public DefaultQueueableTicketRegistryMessageReceiver(final QueueableTicketRegistry ticketRegistry, final PublisherIdentifier ticketRegistryId) {
         super(ticketRegistry, ticketRegistryId);
     }
+
+    public DefaultQueueableTicketRegistryMessageReceiver(final QueueableTicketRegistry ticketRegistry, final PublisherIdentifier ticketRegistryId,
+                                                         final QueueableTicketRegistryMessagePublisher ticketPublisher,
+                                                         final Duration snapshotTimeout,
+                                                         final TicketSerializationManager ticketSerializationManager,
+                                                         final int snapshotChunkSize) {
+        super(ticketRegistry, ticketRegistryId, ticketPublisher, snapshotTimeout, ticketSerializationManager, snapshotChunkSize);
+    }
 }
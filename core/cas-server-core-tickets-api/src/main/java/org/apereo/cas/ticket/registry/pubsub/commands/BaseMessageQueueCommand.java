@@ -4,6 +4,7 @@ import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -32,6 +33,12 @@ public abstract class BaseMessageQueueCommand implements Serializable {
 
     private final PublisherIdentifier id;
 
+    /**
+     * When the command was created by its publisher, in milliseconds since the epoch.
+     */
+    @With(AccessLevel.NONE)
+    private long timestamp = System.currentTimeMillis();
+
     /**
      * Execute.
      *
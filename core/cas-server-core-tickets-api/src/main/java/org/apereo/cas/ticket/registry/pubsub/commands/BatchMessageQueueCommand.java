@@ -0,0 +1,60 @@
+package org.apereo.cas.ticket.registry.pubsub.commands;
+
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link BatchMessageQueueCommand} that carries a batch of commands,
+ * which are executed in the order in which they were published.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class BatchMessageQueueCommand extends BaseMessageQueueCommand {
+    @Serial
+    private static final long serialVersionUID = -4521904512797718164L;
+
+    private final List<BaseMessageQueueCommand> commands;
+
+    @JsonCreator
+    public BatchMessageQueueCommand(@JsonProperty("id")
+                                    final PublisherIdentifier id,
+                                    @JsonProperty("commands")
+                                    final List<BaseMessageQueueCommand> commands) {
+        super(id);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public void execute(final QueueableTicketRegistry registry) throws Exception {
+        LOGGER.debug("Executing batch of [{}] queue command(s) on ticket registry id [{}]", commands.size(), getId().getId());
+        for (val command : commands) {
+            command.withId(getId()).execute(registry);
+        }
+    }
+
+    @Override
+    public BaseMessageQueueCommand withId(final PublisherIdentifier id) {
+        val command = new BatchMessageQueueCommand(id, this.commands);
+        command.setTimestamp(getTimestamp());
+        return command;
+    }
+}
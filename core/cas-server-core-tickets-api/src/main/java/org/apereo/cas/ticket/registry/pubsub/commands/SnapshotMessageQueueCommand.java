@@ -0,0 +1,154 @@
+package org.apereo.cas.ticket.registry.pubsub.commands;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This is {@link SnapshotMessageQueueCommand} that carries one chunk of a snapshot of the ticket registry
+ * of a CAS server node, in response to a {@link SnapshotRequestMessageQueueCommand} that is addressed to the node.
+ * Tickets are serialized as JSON via the {@link TicketSerializationManager} of the ticket registry and compressed.
+ * The timestamp of the command marks the point up to which changes published by the same node
+ * are included in the snapshot, and is shared by all chunks of the snapshot.
+ * Snapshots are restored by the message receiver of the requester; executing the command
+ * against a ticket registry does nothing.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+@Setter
+@ToString(callSuper = true, exclude = "tickets")
+public class SnapshotMessageQueueCommand extends BaseMessageQueueCommand {
+    @Serial
+    private static final long serialVersionUID = 6320459310447727186L;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private static final String TICKET_TYPE = "type";
+
+    private static final String TICKET_CONTENT = "content";
+
+    private final PublisherIdentifier requester;
+
+    private final int chunk;
+
+    private final int chunks;
+
+    private final byte[] tickets;
+
+    @JsonCreator
+    public SnapshotMessageQueueCommand(@JsonProperty("id")
+                                       final PublisherIdentifier id,
+                                       @JsonProperty("requester")
+                                       final PublisherIdentifier requester,
+                                       @JsonProperty("chunk")
+                                       final int chunk,
+                                       @JsonProperty("chunks")
+                                       final int chunks,
+                                       @JsonProperty("tickets")
+                                       final byte[] tickets) {
+        super(id);
+        this.requester = requester;
+        this.chunk = chunk;
+        this.chunks = chunks;
+        this.tickets = tickets;
+    }
+
+    /**
+     * Create a snapshot of the given tickets, split into chunks of the given size.
+     * A snapshot always has at least one chunk, even when there are no tickets.
+     *
+     * @param id                         the id
+     * @param requester                  the requester
+     * @param tickets                    the tickets
+     * @param ticketSerializationManager the ticket serialization manager
+     * @param chunkSize                  the maximum number of tickets per chunk
+     * @return the snapshot chunks
+     * @throws IOException the exception
+     */
+    public static List<SnapshotMessageQueueCommand> of(final PublisherIdentifier id, final PublisherIdentifier requester,
+                                                       final Collection<? extends Ticket> tickets,
+                                                       final TicketSerializationManager ticketSerializationManager,
+                                                       final int chunkSize) throws IOException {
+        val entries = tickets
+            .stream()
+            .map(ticket -> Map.of(TICKET_TYPE, ticket.getClass().getName(),
+                TICKET_CONTENT, ticketSerializationManager.serializeTicket(ticket)))
+            .toList();
+        val size = Math.max(1, chunkSize);
+        val chunks = Math.max(1, (entries.size() + size - 1) / size);
+        val commands = new ArrayList<SnapshotMessageQueueCommand>(chunks);
+        for (var i = 0; i < chunks; i++) {
+            val chunkEntries = entries.subList(Math.min(i * size, entries.size()), Math.min((i + 1) * size, entries.size()));
+            commands.add(new SnapshotMessageQueueCommand(id, requester, i, chunks, compress(chunkEntries)));
+        }
+        return commands;
+    }
+
+    /**
+     * Decompress and read the tickets in this snapshot chunk.
+     *
+     * @param ticketSerializationManager the ticket serialization manager
+     * @return the tickets
+     * @throws IOException the exception
+     */
+    public List<Ticket> readTickets(final TicketSerializationManager ticketSerializationManager) throws IOException {
+        try (val input = new GZIPInputStream(new ByteArrayInputStream(tickets))) {
+            val entries = MAPPER.readValue(input, new TypeReference<List<Map<String, String>>>() {
+            });
+            return entries
+                .stream()
+                .map(entry -> ticketSerializationManager.deserializeTicket(entry.get(TICKET_CONTENT), entry.get(TICKET_TYPE)))
+                .toList();
+        }
+    }
+
+    @Override
+    public void execute(final QueueableTicketRegistry registry) {
+        LOGGER.trace("Snapshot chunk [{}] from [{}] is restored by the message receiver", chunk, getId().getId());
+    }
+
+    @Override
+    public BaseMessageQueueCommand withId(final PublisherIdentifier id) {
+        val command = new SnapshotMessageQueueCommand(id, this.requester, this.chunk, this.chunks, this.tickets);
+        command.setTimestamp(getTimestamp());
+        return command;
+    }
+
+    private static byte[] compress(final List<Map<String, String>> entries) throws IOException {
+        try (val output = new ByteArrayOutputStream()) {
+            try (val gzip = new GZIPOutputStream(output)) {
+                MAPPER.writeValue(gzip, entries);
+            }
+            return output.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry.pubsub.commands;
+
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+
+/**
+ * This is {@link SnapshotOfferMessageQueueCommand} that is published by a CAS server node
+ * in response to a {@link SnapshotRequestMessageQueueCommand} without a responder, to let the requester
+ * know that the node is able to send a snapshot of its ticket registry.
+ * Offers are handled by the message receiver of the requester; executing the command
+ * against a ticket registry does nothing.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class SnapshotOfferMessageQueueCommand extends BaseMessageQueueCommand {
+    @Serial
+    private static final long serialVersionUID = -3342170781985023542L;
+
+    private final PublisherIdentifier requester;
+
+    @JsonCreator
+    public SnapshotOfferMessageQueueCommand(@JsonProperty("id")
+                                            final PublisherIdentifier id,
+                                            @JsonProperty("requester")
+                                            final PublisherIdentifier requester) {
+        super(id);
+        this.requester = requester;
+    }
+
+    @Override
+    public void execute(final QueueableTicketRegistry registry) {
+        LOGGER.trace("Snapshot offer from [{}] is handled by the message receiver", getId().getId());
+    }
+
+    @Override
+    public BaseMessageQueueCommand withId(final PublisherIdentifier id) {
+        val command = new SnapshotOfferMessageQueueCommand(id, this.requester);
+        command.setTimestamp(getTimestamp());
+        return command;
+    }
+}
@@ -0,0 +1,64 @@
+package org.apereo.cas.ticket.registry.pubsub.commands;
+
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+
+/**
+ * This is {@link SnapshotRequestMessageQueueCommand} that is published by a CAS server node
+ * on startup, to ask its peers for a {@link SnapshotMessageQueueCommand snapshot} of their ticket registry.
+ * A request without a responder asks peers to {@link SnapshotOfferMessageQueueCommand offer} a snapshot;
+ * the requester then picks one of the offers and sends a request that is addressed to that responder,
+ * which is the only peer that sends its snapshot.
+ * Requests are answered by the message receiver of each peer, as answering requires publishing a response;
+ * executing the command against a ticket registry does nothing.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class SnapshotRequestMessageQueueCommand extends BaseMessageQueueCommand {
+    @Serial
+    private static final long serialVersionUID = 2406152796326521340L;
+
+    private final PublisherIdentifier responder;
+
+    public SnapshotRequestMessageQueueCommand(final PublisherIdentifier id) {
+        this(id, null);
+    }
+
+    @JsonCreator
+    public SnapshotRequestMessageQueueCommand(@JsonProperty("id")
+                                              final PublisherIdentifier id,
+                                              @JsonProperty("responder")
+                                              final PublisherIdentifier responder) {
+        super(id);
+        this.responder = responder;
+    }
+
+    @Override
+    public void execute(final QueueableTicketRegistry registry) {
+        LOGGER.trace("Snapshot request from [{}] is answered by the message receiver", getId().getId());
+    }
+
+    @Override
+    public BaseMessageQueueCommand withId(final PublisherIdentifier id) {
+        val command = new SnapshotRequestMessageQueueCommand(id, this.responder);
+        command.setTimestamp(getTimestamp());
+        return command;
+    }
+}
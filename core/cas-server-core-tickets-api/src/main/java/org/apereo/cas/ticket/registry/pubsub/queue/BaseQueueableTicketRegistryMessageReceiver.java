@@ -2,34 +2,289 @@ package org.apereo.cas.ticket.registry.pubsub.queue;
 
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.SnapshotMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.SnapshotOfferMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.SnapshotRequestMessageQueueCommand;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.PublisherIdentifier;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This is {@link BaseQueueableTicketRegistryMessageReceiver}.
+ * When constructed with a publisher, the receiver is also able to bootstrap the ticket registry
+ * from a snapshot: it asks its peers to offer a snapshot, asks the peer whose offer arrives first to send it,
+ * holds back the commands that arrive in the meantime, restores the snapshot chunk by chunk
+ * and then replays the commands it held back once all chunks are restored.
+ * Commands published by the node that produced the snapshot before the snapshot was taken are skipped,
+ * since their changes are already part of the snapshot. The receiver also tracks the replication lag,
+ * which is the time between publishing and receiving a command.
  *
  * @author Misagh Moayyed
  * @since 6.5.0
  */
 @Slf4j
-@RequiredArgsConstructor
 @Getter
 public abstract class BaseQueueableTicketRegistryMessageReceiver implements QueueableTicketRegistryMessageReceiver {
     private final QueueableTicketRegistry ticketRegistry;
 
     private final PublisherIdentifier ticketRegistryId;
 
+    private final QueueableTicketRegistryMessagePublisher ticketPublisher;
+
+    private final Duration snapshotTimeout;
+
+    private final TicketSerializationManager ticketSerializationManager;
+
+    private final int snapshotChunkSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final List<BaseMessageQueueCommand> heldBackCommands = new ArrayList<>();
+
+    private final Set<Integer> restoredSnapshotChunks = new HashSet<>();
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder snapshotsSent = new LongAdder();
+
+    private final AtomicLong lastLag = new AtomicLong();
+
+    private final AtomicLong maximumLag = new AtomicLong();
+
+    private volatile boolean bootstrapping;
+
+    private PublisherIdentifier snapshotResponder;
+
+    protected BaseQueueableTicketRegistryMessageReceiver(final QueueableTicketRegistry ticketRegistry,
+                                                         final PublisherIdentifier ticketRegistryId) {
+        this(ticketRegistry, ticketRegistryId, QueueableTicketRegistryMessagePublisher.noOp(), Duration.ZERO, null, 1);
+    }
+
+    protected BaseQueueableTicketRegistryMessageReceiver(final QueueableTicketRegistry ticketRegistry,
+                                                         final PublisherIdentifier ticketRegistryId,
+                                                         final QueueableTicketRegistryMessagePublisher ticketPublisher,
+                                                         final Duration snapshotTimeout,
+                                                         final TicketSerializationManager ticketSerializationManager,
+                                                         final int snapshotChunkSize) {
+        this.ticketRegistry = ticketRegistry;
+        this.ticketRegistryId = ticketRegistryId;
+        this.ticketPublisher = ticketPublisher;
+        this.snapshotTimeout = snapshotTimeout;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.snapshotChunkSize = Math.max(1, snapshotChunkSize);
+    }
+
     @Override
     public void receive(final BaseMessageQueueCommand command) throws Exception {
         LOGGER.debug("[{}] received message [{}]", ticketRegistryId, command);
         if (command.getId().equals(this.ticketRegistryId)) {
             LOGGER.trace("Ignoring inbound command on ticket registry with id [{}]", this.ticketRegistryId);
+            return;
+        }
+        recordLag(command);
+        switch (command) {
+            case final SnapshotRequestMessageQueueCommand request -> answerSnapshotRequest(request);
+            case final SnapshotOfferMessageQueueCommand offer -> acceptSnapshotOffer(offer);
+            case final SnapshotMessageQueueCommand snapshot -> restoreSnapshot(snapshot);
+            default -> {
+                lock.lock();
+                try {
+                    if (bootstrapping) {
+                        LOGGER.trace("Holding back command [{}] until the ticket registry is restored from a snapshot", command);
+                        if (command instanceof final BatchMessageQueueCommand batch) {
+                            heldBackCommands.addAll(batch.getCommands());
+                        } else {
+                            heldBackCommands.add(command);
+                        }
+                    } else {
+                        execute(command);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Ask the peers of this node for a snapshot of their ticket registry.
+     * Commands that arrive until a snapshot is restored or the snapshot timeout elapses are held back.
+     */
+    public void requestSnapshot() {
+        if (!ticketPublisher.isEnabled()) {
+            LOGGER.debug("Ticket registry publisher is disabled; snapshots cannot be requested");
+            return;
+        }
+        lock.lock();
+        try {
+            bootstrapping = true;
+            snapshotResponder = null;
+            restoredSnapshotChunks.clear();
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("Requesting ticket registry snapshot for [{}] from peers", ticketRegistryId.getId());
+        ticketPublisher.publishMessageToQueue(new SnapshotRequestMessageQueueCommand(ticketRegistryId));
+        CompletableFuture.delayedExecutor(snapshotTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (bootstrapping) {
+                LOGGER.warn("No ticket registry snapshot was received within [{}]; replaying received changes", snapshotTimeout);
+                finishBootstrap(null, 0);
+            }
+        });
+    }
+
+    /**
+     * Collect replication statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+            "received", received.sum(),
+            "snapshotsSent", snapshotsSent.sum(),
+            "bootstrapping", bootstrapping,
+            "heldBack", heldBackCommands.size(),
+            "lastLag", lastLag.get(),
+            "maximumLag", maximumLag.get());
+    }
+
+    protected void answerSnapshotRequest(final SnapshotRequestMessageQueueCommand request) throws Exception {
+        if (bootstrapping || !ticketPublisher.isEnabled()) {
+            LOGGER.debug("Ignoring snapshot request from [{}]; this node is unable to offer a snapshot", request.getId().getId());
+            return;
+        }
+        if (request.getResponder() == null) {
+            LOGGER.debug("Offering snapshot to [{}]", request.getId().getId());
+            ticketPublisher.publishMessageToQueue(new SnapshotOfferMessageQueueCommand(ticketRegistryId, request.getId()));
+        } else if (request.getResponder().equals(ticketRegistryId)) {
+            sendSnapshot(request);
         } else {
-            LOGGER.debug("Accepting message from ticket registry id [{}]. Executing command [{}]", command.getId(), command);
-            command.withId(this.ticketRegistryId).execute(this.ticketRegistry);
+            LOGGER.trace("Ignoring snapshot request addressed to [{}]", request.getResponder().getId());
+        }
+    }
+
+    protected void sendSnapshot(final SnapshotRequestMessageQueueCommand request) throws Exception {
+        val startedAt = System.currentTimeMillis();
+        val tickets = ticketRegistry.getTickets()
+            .stream()
+            .filter(ticket -> !ticket.isExpired())
+            .toList();
+        val chunks = SnapshotMessageQueueCommand.of(ticketRegistryId, request.getId(), tickets,
+            ticketSerializationManager, snapshotChunkSize);
+        LOGGER.debug("Sending snapshot of [{}] ticket(s) in [{}] chunk(s) to [{}]", tickets.size(), chunks.size(), request.getId().getId());
+        for (val chunk : chunks) {
+            chunk.setTimestamp(startedAt);
+            ticketPublisher.publishMessageToQueue(chunk);
+        }
+        snapshotsSent.increment();
+    }
+
+    protected void acceptSnapshotOffer(final SnapshotOfferMessageQueueCommand offer) {
+        if (!offer.getRequester().equals(ticketRegistryId)) {
+            LOGGER.trace("Ignoring snapshot offer addressed to [{}]", offer.getRequester().getId());
+            return;
+        }
+        lock.lock();
+        try {
+            if (!bootstrapping || snapshotResponder != null) {
+                LOGGER.debug("Ignoring snapshot offer from [{}]; a snapshot is no longer needed or already requested", offer.getId().getId());
+                return;
+            }
+            snapshotResponder = offer.getId();
+        } finally {
+            lock.unlock();
         }
+        LOGGER.info("Requesting ticket registry snapshot for [{}] from [{}]", ticketRegistryId.getId(), offer.getId().getId());
+        ticketPublisher.publishMessageToQueue(new SnapshotRequestMessageQueueCommand(ticketRegistryId, offer.getId()));
+    }
+
+    protected void restoreSnapshot(final SnapshotMessageQueueCommand snapshot) throws Exception {
+        if (!snapshot.getRequester().equals(ticketRegistryId)) {
+            LOGGER.trace("Ignoring snapshot addressed to [{}]", snapshot.getRequester().getId());
+            return;
+        }
+        lock.lock();
+        try {
+            if (!bootstrapping || !snapshot.getId().equals(snapshotResponder)) {
+                LOGGER.debug("Ignoring snapshot from [{}]; the snapshot was not requested from this node or is already restored",
+                    snapshot.getId().getId());
+                return;
+            }
+            if (restoredSnapshotChunks.add(snapshot.getChunk())) {
+                val tickets = snapshot.readTickets(ticketSerializationManager);
+                LOGGER.debug("Restoring snapshot chunk [{}] of [{}] with [{}] ticket(s) from ticket registry id [{}]",
+                    snapshot.getChunk() + 1, snapshot.getChunks(), tickets.size(), snapshot.getId().getId());
+                for (val ticket : tickets) {
+                    if (!ticket.isExpired()) {
+                        ticketRegistry.addTicketToQueue(ticket);
+                    }
+                }
+            }
+            if (restoredSnapshotChunks.size() >= snapshot.getChunks()) {
+                finishBootstrap(snapshot.getId(), snapshot.getTimestamp());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finishBootstrap(final PublisherIdentifier snapshotProducer, final long snapshotTimestamp) {
+        lock.lock();
+        try {
+            if (!bootstrapping) {
+                return;
+            }
+            LOGGER.info("Replaying [{}] ticket registry change(s) that arrived during bootstrap", heldBackCommands.size());
+            for (val command : heldBackCommands) {
+                if (snapshotProducer != null && command.getId().equals(snapshotProducer) && command.getTimestamp() < snapshotTimestamp) {
+                    LOGGER.trace("Skipping command [{}] that is included in the snapshot", command);
+                } else {
+                    try {
+                        execute(command);
+                    } catch (final Throwable e) {
+                        LOGGER.error("Unable to replay command [{}]: [{}]", command, e.getMessage());
+                        LOGGER.debug(e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (final Throwable e) {
+            LOGGER.error("Unable to restore ticket registry snapshot: [{}]", e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        } finally {
+            heldBackCommands.clear();
+            restoredSnapshotChunks.clear();
+            snapshotResponder = null;
+            bootstrapping = false;
+            lock.unlock();
+        }
+    }
+
+    private void execute(final BaseMessageQueueCommand command) throws Exception {
+        LOGGER.debug("Accepting message from ticket registry id [{}]. Executing command [{}]", command.getId(), command);
+        command.withId(this.ticketRegistryId).execute(this.ticketRegistry);
+    }
+
+    private void recordLag(final BaseMessageQueueCommand command) {
+        val lag = Math.max(0, System.currentTimeMillis() - command.getTimestamp());
+        val count = command instanceof final BatchMessageQueueCommand batch ? batch.getCommands().size() : 1;
+        received.add(count);
+        lastLag.set(lag);
+        maximumLag.accumulateAndGet(lag, Math::max);
     }
 }
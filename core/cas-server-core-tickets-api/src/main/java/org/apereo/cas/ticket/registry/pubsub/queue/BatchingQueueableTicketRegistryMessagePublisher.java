@@ -0,0 +1,206 @@
+package org.apereo.cas.ticket.registry.pubsub.queue;
+
+import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link BatchingQueueableTicketRegistryMessagePublisher} that collects ticket registry changes
+ * and hands them to the underlying publisher as a {@link BatchMessageQueueCommand}, once the batch is full
+ * or once the batch window elapses. Changes are coalesced per ticket, so that a batch only carries
+ * the latest change to each ticket; deleting all tickets discards the changes collected before it.
+ * Commands that do not change a single ticket, such as snapshot requests, are published right away,
+ * after the collected changes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class BatchingQueueableTicketRegistryMessagePublisher implements QueueableTicketRegistryMessagePublisher, DisposableBean {
+    private static final String DELETE_ALL_KEY = "*";
+
+    private final QueueableTicketRegistryMessagePublisher delegate;
+
+    private final PublisherIdentifier publisherIdentifier;
+
+    private final int batchSize;
+
+    private final Duration batchWindow;
+
+    private final Map<String, BaseMessageQueueCommand> pending = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition batchAvailable = lock.newCondition();
+
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public BatchingQueueableTicketRegistryMessagePublisher(final QueueableTicketRegistryMessagePublisher delegate,
+                                                           final PublisherIdentifier publisherIdentifier,
+                                                           final int batchSize, final Duration batchWindow) {
+        this.delegate = delegate;
+        this.publisherIdentifier = publisherIdentifier;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchWindow = batchWindow;
+        this.worker = Thread.ofVirtual().name("cas-ticket-registry-publisher").start(this::publishPeriodically);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public void publishMessageToQueue(final BaseMessageQueueCommand command) {
+        received.increment();
+        val key = getTicketKey(command);
+        if (key == null) {
+            flush();
+            delegate.publishMessageToQueue(command);
+            return;
+        }
+        lock.lock();
+        try {
+            if (DELETE_ALL_KEY.equals(key)) {
+                pending.clear();
+            }
+            val previous = pending.remove(key);
+            pending.put(key, coalesce(previous, command));
+            if (pending.size() >= batchSize) {
+                batchAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        worker.interrupt();
+        worker.join(batchWindow.toMillis() + TimeUnit.SECONDS.toMillis(1));
+        flush();
+    }
+
+    /**
+     * Publish all collected changes.
+     */
+    public void flush() {
+        publishLock.lock();
+        try {
+            val commands = new ArrayList<BaseMessageQueueCommand>();
+            lock.lock();
+            try {
+                commands.addAll(pending.values());
+                pending.clear();
+            } finally {
+                lock.unlock();
+            }
+            publishBatch(commands);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Collect publishing statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        lock.lock();
+        try {
+            return Map.of(
+                "pending", pending.size(),
+                "received", received.sum(),
+                "published", published.sum(),
+                "batches", batches.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishPeriodically() {
+        while (running) {
+            lock.lock();
+            try {
+                if (pending.size() < batchSize) {
+                    batchAvailable.await(batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.trace("Ticket registry publisher is interrupted");
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                flush();
+            } catch (final Throwable e) {
+                LOGGER.error("Unable to publish ticket registry changes: [{}]", e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void publishBatch(final List<BaseMessageQueueCommand> commands) {
+        for (var i = 0; i < commands.size(); i += batchSize) {
+            val batch = commands.subList(i, Math.min(commands.size(), i + batchSize));
+            val command = new BatchMessageQueueCommand(publisherIdentifier, batch);
+            command.setTimestamp(batch.getFirst().getTimestamp());
+            delegate.publishMessageToQueue(command);
+            published.add(batch.size());
+            batches.increment();
+            LOGGER.trace("Published batch of [{}] ticket registry change(s)", batch.size());
+        }
+    }
+
+    private static BaseMessageQueueCommand coalesce(final BaseMessageQueueCommand previous,
+                                                    final BaseMessageQueueCommand command) {
+        if (previous instanceof AddTicketMessageQueueCommand && command instanceof final UpdateTicketMessageQueueCommand update) {
+            val add = new AddTicketMessageQueueCommand(update.getId(), update.getTicket());
+            add.setTimestamp(update.getTimestamp());
+            return add;
+        }
+        return command;
+    }
+
+    private static String getTicketKey(final BaseMessageQueueCommand command) {
+        return switch (command) {
+            case final AddTicketMessageQueueCommand add -> add.getTicket().getId();
+            case final UpdateTicketMessageQueueCommand update -> update.getTicket().getId();
+            case final DeleteTicketMessageQueueCommand delete -> delete.getTicketId();
+            case final DeleteTicketsMessageQueueCommand deleteAll -> DELETE_ALL_KEY;
+            default -> null;
+        };
+    }
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.AuthenticationPolicy;
 import org.apereo.cas.authentication.policy.UniquePrincipalAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
@@ -38,6 +39,8 @@ import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.ticket.registry.pubsub.queue.BaseQueueableTicketRegistryMessageReceiver;
+import org.apereo.cas.ticket.registry.pubsub.queue.BatchingQueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
@@ -66,6 +69,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -74,6 +78,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.integration.transaction.PseudoTransactionManager;
@@ -177,8 +182,8 @@ class CasCoreTicketsConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketRegistry ticketRegistry(
-            @Qualifier("messageQueueTicketRegistryPublisher")
-            final QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryPublisher,
+            @Qualifier("messageQueueTicketRegistryReplicationPublisher")
+            final QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryReplicationPublisher,
             @Qualifier(CipherExecutor.BEAN_NAME_TICKET_REGISTRY_CIPHER_EXECUTOR)
             final CipherExecutor defaultTicketRegistryCipherExecutor,
             @Qualifier("messageQueueTicketRegistryIdentifier")
@@ -195,7 +200,7 @@ class CasCoreTicketsConfiguration {
             val mem = casProperties.getTicket().getRegistry().getInMemory();
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
             return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
-                storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+                storageMap, messageQueueTicketRegistryReplicationPublisher, messageQueueTicketRegistryIdentifier);
         }
 
         @Bean
@@ -213,6 +218,22 @@ class CasCoreTicketsConfiguration {
             return QueueableTicketRegistryMessagePublisher.noOp();
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "messageQueueTicketRegistryReplicationPublisher")
+        public QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryReplicationPublisher(
+            @Qualifier("messageQueueTicketRegistryPublisher")
+            final QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryPublisher,
+            @Qualifier("messageQueueTicketRegistryIdentifier")
+            final PublisherIdentifier messageQueueTicketRegistryIdentifier,
+            final CasConfigurationProperties casProperties) {
+            val replication = casProperties.getTicket().getRegistry().getCore().getReplication();
+            return replication.isBatchEnabled() && messageQueueTicketRegistryPublisher.isEnabled()
+                ? new BatchingQueueableTicketRegistryMessagePublisher(messageQueueTicketRegistryPublisher,
+                    messageQueueTicketRegistryIdentifier, replication.getBatchSize(), Beans.newDuration(replication.getBatchWindow()))
+                : messageQueueTicketRegistryPublisher;
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = "messageQueueTicketRegistryReceiver")
@@ -220,13 +241,33 @@ class CasCoreTicketsConfiguration {
         public QueueableTicketRegistryMessageReceiver messageQueueTicketRegistryReceiver(
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
+            @Qualifier("messageQueueTicketRegistryPublisher")
+            final QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryPublisher,
             @Qualifier("messageQueueTicketRegistryIdentifier")
-            final PublisherIdentifier messageQueueTicketRegistryIdentifier) {
+            final PublisherIdentifier messageQueueTicketRegistryIdentifier,
+            @Qualifier(TicketSerializationManager.BEAN_NAME)
+            final TicketSerializationManager ticketSerializationManager,
+            final CasConfigurationProperties casProperties) {
+            val replication = casProperties.getTicket().getRegistry().getCore().getReplication();
             return ticketRegistry instanceof final QueueableTicketRegistry queueableTicketRegistry
-                ? new DefaultQueueableTicketRegistryMessageReceiver(queueableTicketRegistry, messageQueueTicketRegistryIdentifier)
+                ? new DefaultQueueableTicketRegistryMessageReceiver(queueableTicketRegistry, messageQueueTicketRegistryIdentifier,
+                    messageQueueTicketRegistryPublisher, Beans.newDuration(replication.getSnapshotTimeout()),
+                    ticketSerializationManager, replication.getSnapshotChunkSize())
                 : QueueableTicketRegistryMessageReceiver.noOp();
         }
 
+        @EventListener
+        public void requestTicketRegistrySnapshotWhenReady(final ApplicationReadyEvent event) {
+            val casProperties = event.getApplicationContext().getBean(CasConfigurationProperties.class);
+            if (casProperties.getTicket().getRegistry().getCore().getReplication().isSnapshotEnabled()) {
+                val receiver = event.getApplicationContext().getBean("messageQueueTicketRegistryReceiver",
+                    QueueableTicketRegistryMessageReceiver.class);
+                if (receiver instanceof final BaseQueueableTicketRegistryMessageReceiver queueReceiver) {
+                    queueReceiver.requestSnapshot();
+                }
+            }
+        }
+
         @ConditionalOnMissingBean(name = "messageQueueTicketRegistryIdentifier")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -328,6 +328,27 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(ticketGrantingTicketId, ticket.getId(), () -> "Ticket IDs don't match. useEncryption[" + useEncryption + ']');
     }
 
+    @RepeatedTest(2)
+    void verifyGetTicketsInBatch() throws Throwable {
+        val tgt = (TicketGrantingTicket) ticketRegistry.addTicket(new TicketGrantingTicketImpl(
+            TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+        val service = RegisteredServiceTestUtils.getService("BATCH_TEST");
+        val ticketIds = new ArrayList<String>();
+        for (var i = 0; i < 3; i++) {
+            val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service,
+                NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            ticketRegistry.addTicket(st);
+            ticketIds.add(st.getId());
+        }
+        ticketIds.add(tgt.getId());
+        ticketIds.add("ST-unknown-ticket");
+        val tickets = ticketRegistry.getTickets(ticketIds);
+        assertEquals(4, tickets.size(), () -> "Unexpected number of tickets. useEncryption[" + useEncryption + ']');
+        assertTrue(tickets.stream().map(Ticket::getId).toList().containsAll(ticketIds.subList(0, 4)));
+        assertTrue(ticketRegistry.getTickets(List.of()).isEmpty());
+    }
+
     /**
      * Exercise block of code in {@link AbstractTicketRegistry#getTicket(String ticketId)} that runs when
      * the method encounters a {@link Ticket} created in the future.
@@ -377,6 +398,33 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(Collections.singleton("ST-1"), services.keySet());
     }
 
+    @RepeatedTest(2)
+    void verifyUpdateTicketGrantingTicketState() throws Throwable {
+        val tgt = new TicketGrantingTicketImpl(
+            TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class)));
+
+        val service = RegisteredServiceTestUtils.getService("TGT_STATE_TEST");
+        tgt.grantServiceTicket("ST-1", service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        val updatedTgt = (TicketGrantingTicket) ticketRegistry.updateTicketGrantingTicketState(tgt);
+        assertNotNull(updatedTgt);
+        if (!updatedTgt.isStateless()) {
+            await().untilAsserted(() -> {
+                val found = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+                assertEquals(Collections.singleton("ST-1"), found.getServices().keySet());
+                assertEquals(tgt.getCountOfUses(), found.getCountOfUses());
+            });
+
+            tgt.getServices().clear();
+            ticketRegistry.updateTicket(tgt);
+            await().untilAsserted(() -> assertTrue(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class).getServices().isEmpty(),
+                () -> "Ticket services should be empty. useEncryption[" + useEncryption + ']'));
+        }
+    }
+
     @RepeatedTest(2)
     void verifyCountingTicketsForService() throws Throwable {
         assumeTrue(canTicketRegistryIterate());
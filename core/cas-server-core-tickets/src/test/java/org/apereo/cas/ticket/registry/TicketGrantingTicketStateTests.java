@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.tracking.AllServicesSessionTrackingPolicy;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TicketGrantingTicketStateTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class TicketGrantingTicketStateTests {
+    @Test
+    void verifyStateAppliedToTicket() {
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val trackingPolicy = new AllServicesSessionTrackingPolicy(mock(TicketRegistry.class));
+        tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService("https://app1.example.org"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, trackingPolicy);
+        tgt.grantServiceTicket("ST-2", RegisteredServiceTestUtils.getService("https://app2.example.org"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, trackingPolicy);
+        tgt.getProxyGrantingTickets().put("PGT-1", RegisteredServiceTestUtils.getService("https://proxy.example.org"));
+        tgt.getDescendantTickets().add("ST-1");
+
+        val json = TicketGrantingTicketState.from(tgt).toJson();
+        val stored = new TicketGrantingTicketImpl(tgt.getId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        assertSame(stored, TicketGrantingTicketState.apply(stored, json));
+        assertEquals(Set.of("ST-1", "ST-2"), stored.getServices().keySet());
+        assertEquals(tgt.getServices().get("ST-2").getId(), stored.getServices().get("ST-2").getId());
+        assertEquals(Set.of("PGT-1"), stored.getProxyGrantingTickets().keySet());
+        assertEquals(Set.of("ST-1"), stored.getDescendantTickets());
+        assertEquals(tgt.getCountOfUses(), stored.getCountOfUses());
+        assertEquals(tgt.getLastTimeUsed().toInstant(), stored.getLastTimeUsed().toInstant());
+        assertEquals(tgt.getPreviousTimeUsed().toInstant(), stored.getPreviousTimeUsed().toInstant());
+    }
+
+    @Test
+    void verifyBlankStateIgnored() {
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        assertSame(tgt, TicketGrantingTicketState.apply(tgt, null));
+        assertNull(TicketGrantingTicketState.apply(null, "{}"));
+        assertEquals(0, tgt.getCountOfUses());
+    }
+}
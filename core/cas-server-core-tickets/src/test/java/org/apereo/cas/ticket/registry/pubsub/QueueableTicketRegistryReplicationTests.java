@@ -0,0 +1,184 @@
+package org.apereo.cas.ticket.registry.pubsub;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.SnapshotMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.SnapshotRequestMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.queue.BatchingQueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.val;
+import org.jooq.lambda.Unchecked;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link QueueableTicketRegistryReplicationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class QueueableTicketRegistryReplicationTests {
+    private static Ticket newTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    private static DefaultTicketRegistry newTicketRegistry(final QueueableTicketRegistryMessagePublisher publisher,
+                                                           final PublisherIdentifier identifier) {
+        return new DefaultTicketRegistry(CipherExecutor.noOp(), mock(TicketSerializationManager.class),
+            new DefaultTicketCatalog(), new ConcurrentHashMap<>(), publisher, identifier);
+    }
+
+    private static TicketSerializationManager newTicketSerializationManager() {
+        val manager = mock(TicketSerializationManager.class);
+        when(manager.serializeTicket(any())).thenAnswer(args -> args.getArgument(0, Ticket.class).getId());
+        when(manager.deserializeTicket(anyString(), anyString())).thenAnswer(args -> newTicket(args.getArgument(0)));
+        return manager;
+    }
+
+    @Test
+    void verifyChangesCoalescedInBatches() throws Throwable {
+        val published = new ArrayList<BaseMessageQueueCommand>();
+        val id = new PublisherIdentifier();
+        val publisher = new BatchingQueueableTicketRegistryMessagePublisher(new RecordingPublisher(published),
+            id, 10, Duration.ofHours(1));
+        try {
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, newTicket("TGT-1")));
+            publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, newTicket("TGT-1")));
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, newTicket("TGT-2")));
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "TGT-2"));
+            publisher.flush();
+            assertEquals(1, published.size());
+            val batch = assertInstanceOf(BatchMessageQueueCommand.class, published.getFirst());
+            assertEquals(2, batch.getCommands().size());
+            val first = assertInstanceOf(AddTicketMessageQueueCommand.class, batch.getCommands().getFirst());
+            assertEquals("TGT-1", first.getTicket().getId());
+            val second = assertInstanceOf(DeleteTicketMessageQueueCommand.class, batch.getCommands().get(1));
+            assertEquals("TGT-2", second.getTicketId());
+
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, newTicket("TGT-3")));
+            publisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, newTicket("TGT-4")));
+            publisher.publishMessageToQueue(new SnapshotRequestMessageQueueCommand(id));
+            assertEquals(3, published.size());
+            val nextBatch = assertInstanceOf(BatchMessageQueueCommand.class, published.get(1));
+            assertEquals(2, nextBatch.getCommands().size());
+            assertInstanceOf(DeleteTicketsMessageQueueCommand.class, nextBatch.getCommands().getFirst());
+            assertInstanceOf(SnapshotRequestMessageQueueCommand.class, published.get(2));
+            assertEquals(0, ((Number) publisher.getStatistics().get("pending")).intValue());
+        } finally {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    void verifyBatchPublishedWhenFull() throws Throwable {
+        val published = new ConcurrentLinkedQueue<BaseMessageQueueCommand>();
+        val id = new PublisherIdentifier();
+        val publisher = new BatchingQueueableTicketRegistryMessagePublisher(new RecordingPublisher(published),
+            id, 5, Duration.ofHours(1));
+        try {
+            for (var i = 0; i < 5; i++) {
+                publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, newTicket("TGT-" + i)));
+            }
+            await().atMost(5, TimeUnit.SECONDS).until(() -> published.size() == 1);
+            assertEquals(5, ((BatchMessageQueueCommand) published.peek()).getCommands().size());
+        } finally {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    void verifyBootstrapFromSnapshot() throws Throwable {
+        val bus = new ArrayList<BaseMessageQueueCommand>();
+        val busPublisher = new RecordingPublisher(bus);
+        val snapshots = new ArrayList<SnapshotMessageQueueCommand>();
+        val receivers = new ArrayList<DefaultQueueableTicketRegistryMessageReceiver>();
+        val serializationManager = newTicketSerializationManager();
+
+        val firstId = new PublisherIdentifier("first");
+        val first = newTicketRegistry(busPublisher, firstId);
+        receivers.add(new DefaultQueueableTicketRegistryMessageReceiver(first, firstId, busPublisher,
+            Duration.ofHours(1), serializationManager, 1));
+        first.addTicket(newTicket("TGT-1"));
+        first.addTicket(newTicket("TGT-2"));
+
+        val peerId = new PublisherIdentifier("peer");
+        receivers.add(new DefaultQueueableTicketRegistryMessageReceiver(newTicketRegistry(busPublisher, peerId), peerId,
+            busPublisher, Duration.ofHours(1), serializationManager, 1));
+
+        val secondId = new PublisherIdentifier("second");
+        val second = newTicketRegistry(busPublisher, secondId);
+        val secondReceiver = new DefaultQueueableTicketRegistryMessageReceiver(second, secondId, busPublisher,
+            Duration.ofHours(1), serializationManager, 1);
+        receivers.add(secondReceiver);
+        bus.clear();
+
+        secondReceiver.requestSnapshot();
+        first.addTicket(newTicket("TGT-3"));
+        bus.add(new DeleteTicketMessageQueueCommand(new PublisherIdentifier("third"), "TGT-1"));
+        assertTrue((Boolean) secondReceiver.getStatistics().get("bootstrapping"));
+
+        while (!bus.isEmpty()) {
+            val command = bus.removeFirst();
+            if (command instanceof final SnapshotMessageQueueCommand snapshot) {
+                snapshots.add(snapshot);
+            }
+            receivers.forEach(Unchecked.consumer(receiver -> receiver.receive(command)));
+        }
+        assertFalse((Boolean) secondReceiver.getStatistics().get("bootstrapping"));
+        assertNull(second.getTicket("TGT-1"));
+        assertNotNull(second.getTicket("TGT-2"));
+        assertNotNull(second.getTicket("TGT-3"));
+        assertEquals(1L, receivers.getFirst().getStatistics().get("snapshotsSent"));
+        assertEquals(0L, receivers.get(1).getStatistics().get("snapshotsSent"));
+        assertEquals(2, snapshots.size());
+        assertTrue(snapshots.stream().allMatch(snapshot -> snapshot.getId().equals(firstId) && snapshot.getChunks() == 2));
+    }
+
+    @Test
+    void verifyBootstrapTimesOut() throws Throwable {
+        val bus = new ArrayList<BaseMessageQueueCommand>();
+        val id = new PublisherIdentifier("node");
+        val registry = newTicketRegistry(QueueableTicketRegistryMessagePublisher.noOp(), id);
+        val receiver = new DefaultQueueableTicketRegistryMessageReceiver(registry, id,
+            new RecordingPublisher(bus), Duration.ofMillis(100), newTicketSerializationManager(), 1);
+        receiver.requestSnapshot();
+        assertInstanceOf(SnapshotRequestMessageQueueCommand.class, bus.getFirst());
+        receiver.receive(new AddTicketMessageQueueCommand(new PublisherIdentifier("peer"), newTicket("TGT-1")));
+        assertNull(registry.getTicket("TGT-1"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> registry.getTicket("TGT-1") != null);
+        assertFalse((Boolean) receiver.getStatistics().get("bootstrapping"));
+    }
+
+    private record RecordingPublisher(Collection<BaseMessageQueueCommand> commands)
+        implements QueueableTicketRegistryMessagePublisher {
+        @Override
+        public void publishMessageToQueue(final BaseMessageQueueCommand command) {
+            commands.add(command);
+        }
+    }
+}
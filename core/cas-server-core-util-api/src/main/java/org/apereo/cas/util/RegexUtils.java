@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,6 +29,12 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    private static final int MAXIMUM_COMPILED_PATTERNS = 10_000;
+
+    private static final Cache<CompiledPatternKey, Pattern> COMPILED_PATTERNS = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_COMPILED_PATTERNS)
+        .build();
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -74,6 +82,8 @@ public class RegexUtils {
 
     /**
      * Creates the pattern with the given flags.
+     * Compiled patterns are kept in a bounded cache and shared
+     * between callers, since {@link Pattern} instances are immutable.
      *
      * @param pattern the pattern, may be null.
      * @param flags   the flags
@@ -84,6 +94,10 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
+        return COMPILED_PATTERNS.get(new CompiledPatternKey(pattern, flags), key -> compilePattern(key.pattern(), key.flags()));
+    }
+
+    private static Pattern compilePattern(final String pattern, final int flags) {
         try {
             return Pattern.compile(pattern, flags);
         } catch (final PatternSyntaxException exception) {
@@ -191,4 +205,7 @@ public class RegexUtils {
             return find(pattern, remoteAddr);
         }
     }
+
+    private record CompiledPatternKey(String pattern, int flags) {
+    }
 }
@@ -0,0 +1,408 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link MultiplexingHttpClient}, a non-blocking {@link HttpClient} that is backed by
+ * the JDK {@link java.net.http.HttpClient}. Connections are shared across all requests sent to
+ * the same destination, and requests are multiplexed over a single connection when the destination
+ * supports HTTP/2. Every destination, identified by its scheme, host and port, is given its own limit of
+ * concurrent requests and its own circuit breaker that rejects requests once the destination
+ * keeps failing. Requests that exceed the limit are queued for the destination until capacity frees up.
+ * The client is configured from the settings of the given {@link SimpleHttpClient}, which continues to serve
+ * components that need access to the underlying blocking http client. Settings that cannot be carried over
+ * to the JDK client, such as custom hostname verifiers or credentials, are rejected.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class MultiplexingHttpClient implements HttpClient, DisposableBean {
+    private static final int DEFAULT_HTTP_PORT = 80;
+
+    private static final int DEFAULT_HTTPS_PORT = 443;
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final SimpleHttpClient delegate;
+
+    private final java.net.http.HttpClient client;
+
+    private final ExecutorService executor;
+
+    private final Duration connectionTimeout;
+
+    private final Duration responseTimeout;
+
+    private final int maximumConcurrentRequestsPerRoute;
+
+    private final int failureThreshold;
+
+    private final Duration circuitBreakerDelay;
+
+    private final Map<String, HttpRoute> routes = new ConcurrentHashMap<>();
+
+    public MultiplexingHttpClient(final SimpleHttpClient delegate,
+                                  final java.net.http.HttpClient.Version version,
+                                  final int maximumConcurrentRequestsPerRoute,
+                                  final int failureThreshold,
+                                  final Duration circuitBreakerDelay) {
+        this.delegate = delegate;
+        this.maximumConcurrentRequestsPerRoute = Math.max(1, maximumConcurrentRequestsPerRoute);
+        this.failureThreshold = failureThreshold;
+        this.circuitBreakerDelay = circuitBreakerDelay;
+
+        val factory = delegate.httpClientFactory();
+        if (factory.getHostnameVerifier() != null && !(factory.getHostnameVerifier() instanceof DefaultHostnameVerifier)) {
+            throw new IllegalArgumentException("Hostname verifier " + factory.getHostnameVerifier().getClass().getSimpleName()
+                + " is not supported by the multiplexing http client, which always verifies hostnames");
+        }
+        if (factory.getCredentialsProvider() != null) {
+            throw new IllegalArgumentException("Credentials, including proxy credentials, are not supported by the multiplexing http client");
+        }
+        this.connectionTimeout = Duration.ofMillis(Math.max(1, factory.getConnectionTimeout()));
+        this.responseTimeout = Duration.ofMillis(Math.max(1, factory.getResponseTimeout()));
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        val builder = java.net.http.HttpClient.newBuilder()
+            .version(version)
+            .executor(executor)
+            .connectTimeout(connectionTimeout)
+            .followRedirects(factory.isRedirectsEnabled()
+                ? java.net.http.HttpClient.Redirect.NORMAL
+                : java.net.http.HttpClient.Redirect.NEVER);
+        if (factory.getSslContext() != null) {
+            builder.sslContext(factory.getSslContext());
+        }
+        val proxy = factory.getProxy();
+        if (proxy != null) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(proxy.getHostName(), proxy.getPort())));
+        }
+        this.client = builder.build();
+    }
+
+    /**
+     * Create a request builder for the given endpoint that carries
+     * the default headers and the response timeout of this client.
+     *
+     * @param uri the uri
+     * @return the request builder
+     */
+    public HttpRequest.Builder newRequestBuilder(final URI uri) {
+        val builder = HttpRequest.newBuilder(uri).timeout(responseTimeout);
+        delegate.httpClientFactory().getDefaultHeaders()
+            .stream()
+            .filter(header -> !RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ENGLISH)))
+            .forEach(header -> builder.header(header.getName(), header.getValue()));
+        return builder;
+    }
+
+    /**
+     * Send the request without blocking the calling thread. The request is rejected
+     * if the circuit of its destination is open. If the destination has too many requests
+     * in flight, the request is queued and rejected if no capacity frees up within the connection timeout.
+     *
+     * @param request the request
+     * @return the response
+     */
+    public CompletableFuture<HttpResponse<String>> sendAsync(final HttpRequest request) {
+        val route = routes.computeIfAbsent(getRouteKey(request.uri()), key -> new HttpRoute(key, new Semaphore(maximumConcurrentRequestsPerRoute)));
+        if (!route.isAvailable(failureThreshold)) {
+            route.getRejected().increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Circuit is open for " + route.getKey()));
+        }
+        if (route.getPermits().tryAcquire()) {
+            return dispatch(route, request);
+        }
+        val pendingRequest = new PendingRequest(request, new CompletableFuture<>());
+        route.getPendingRequests().add(pendingRequest);
+        CompletableFuture.delayedExecutor(connectionTimeout.toMillis(), TimeUnit.MILLISECONDS, executor).execute(() -> {
+            if (pendingRequest.response().completeExceptionally(
+                new RejectedExecutionException("Too many concurrent requests for " + route.getKey()))) {
+                route.getPendingRequests().remove(pendingRequest);
+                route.getRejected().increment();
+            }
+        });
+        dispatchPendingRequests(route);
+        return pendingRequest.response();
+    }
+
+    private CompletableFuture<HttpResponse<String>> dispatch(final HttpRoute route, final HttpRequest request) {
+        route.getActive().incrementAndGet();
+        route.getRequests().increment();
+        val started = System.nanoTime();
+        try {
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    route.complete(System.nanoTime() - started);
+                    if (error != null || response.statusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                        route.recordFailure(failureThreshold, circuitBreakerDelay);
+                    } else {
+                        route.recordSuccess();
+                    }
+                    dispatchPendingRequests(route);
+                });
+        } catch (final Exception e) {
+            route.complete(System.nanoTime() - started);
+            dispatchPendingRequests(route);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void dispatchPendingRequests(final HttpRoute route) {
+        while (!route.getPendingRequests().isEmpty() && route.getPermits().tryAcquire()) {
+            val pendingRequest = route.getPendingRequests().poll();
+            if (pendingRequest == null || pendingRequest.response().isDone()) {
+                route.getPermits().release();
+            } else {
+                dispatch(route, pendingRequest.request()).whenComplete((response, error) -> {
+                    if (error != null) {
+                        pendingRequest.response().completeExceptionally(error);
+                    } else {
+                        pendingRequest.response().complete(response);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Post the message to its endpoint without blocking the calling thread.
+     *
+     * @param message the message
+     * @return whether the endpoint accepted the message
+     */
+    public CompletableFuture<Boolean> sendMessageToEndPointAsync(final HttpMessage message) {
+        try {
+            val request = newRequestBuilder(message.getUrl().toURI())
+                .header(HttpHeaders.CONTENT_TYPE, message.getContentType())
+                .POST(HttpRequest.BodyPublishers.ofString(message.getMessage()))
+                .build();
+            LOGGER.trace("Created HTTP post message payload [{}]", request);
+            return sendAsync(request)
+                .thenApply(response -> {
+                    message.setResponseCode(response.statusCode());
+                    return response.statusCode() == HttpStatus.SC_OK;
+                })
+                .exceptionally(e -> {
+                    LOGGER.debug("Unable to send message to [{}]: [{}]", message.getUrl(), e.getMessage());
+                    return false;
+                });
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to send message", e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        try {
+            val result = sendMessageToEndPointAsync(message);
+            return message.isAsynchronous() || result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to send message", e);
+            return false;
+        }
+    }
+
+    @Override
+    public HttpMessage sendMessageToEndPoint(final URL url) {
+        try {
+            val response = sendAsync(newRequestBuilder(url.toURI()).GET().build()).get();
+            val responseCode = response.statusCode();
+            if (delegate.acceptableCodes().contains(responseCode)) {
+                LOGGER.debug("Response code received from server matched [{}].", responseCode);
+                val msg = new HttpMessage(url, response.body());
+                response.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(msg::setContentType);
+                msg.setResponseCode(responseCode);
+                return msg;
+            }
+            LOGGER.warn("Response code [{}] from [{}] did not match any of the acceptable response codes.", responseCode, url);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isValidEndPoint(final String url) {
+        try {
+            return isValidEndPoint(new URI(url).toURL());
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isValidEndPoint(final URL url) {
+        try {
+            val response = sendAsync(newRequestBuilder(url.toURI()).GET().build()).get();
+            val responseCode = response.statusCode();
+            if (delegate.acceptableCodes().contains(responseCode)) {
+                LOGGER.debug("Response code from server matched [{}].", responseCode);
+                return true;
+            }
+            LOGGER.debug("Response code did not match any of the acceptable response codes. Code returned was [{}]", responseCode);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return false;
+    }
+
+    @Override
+    public org.apache.hc.client5.http.classic.HttpClient wrappedHttpClient() {
+        return delegate.wrappedHttpClient();
+    }
+
+    @Override
+    public HttpClientFactory httpClientFactory() {
+        return delegate.httpClientFactory();
+    }
+
+    /**
+     * Collect statistics for all destinations, and for each destination individually.
+     * Latencies are reported in milliseconds.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        val destinations = new LinkedHashMap<String, Object>();
+        routes.values().forEach(route -> destinations.put(route.getKey(), route.getStatistics(failureThreshold)));
+        val requests = routes.values().stream().mapToLong(route -> route.getRequests().sum()).sum();
+        val latency = routes.values().stream().mapToLong(route -> route.getTotalLatency().sum()).sum();
+        return Map.of(
+            "requests", requests,
+            "failures", routes.values().stream().mapToLong(route -> route.getFailures().sum()).sum(),
+            "rejected", routes.values().stream().mapToLong(route -> route.getRejected().sum()).sum(),
+            "active", routes.values().stream().mapToInt(route -> route.getActive().get()).sum(),
+            "openCircuits", routes.values().stream().filter(route -> !route.isAvailable(failureThreshold)).count(),
+            "averageLatency", requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(latency / requests),
+            "maximumLatency", routes.values().stream().mapToLong(route -> route.getMaximumLatency().get()).max().orElse(0),
+            "destinations", destinations);
+    }
+
+    @Override
+    public void destroy() {
+        client.shutdownNow();
+        executor.shutdownNow();
+        delegate.destroy();
+    }
+
+    private static String getRouteKey(final URI uri) {
+        val scheme = uri.getScheme().toLowerCase(Locale.ENGLISH);
+        var port = uri.getPort();
+        if (port <= 0) {
+            port = "https".equals(scheme) ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
+        }
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ENGLISH) + ':' + port;
+    }
+
+    private record PendingRequest(HttpRequest request, CompletableFuture<HttpResponse<String>> response) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class HttpRoute {
+        private final String key;
+
+        private final Semaphore permits;
+
+        private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        private final AtomicLong openUntil = new AtomicLong();
+
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder totalLatency = new LongAdder();
+
+        private final AtomicLong maximumLatency = new AtomicLong();
+
+        boolean isAvailable(final int failureThreshold) {
+            return failureThreshold <= 0
+                || consecutiveFailures.get() < failureThreshold
+                || System.nanoTime() - openUntil.get() >= 0;
+        }
+
+        void complete(final long latency) {
+            active.decrementAndGet();
+            permits.release();
+            totalLatency.add(latency);
+            maximumLatency.accumulateAndGet(TimeUnit.NANOSECONDS.toMillis(latency), Math::max);
+        }
+
+        void recordSuccess() {
+            consecutiveFailures.set(0);
+        }
+
+        void recordFailure(final int failureThreshold, final Duration circuitBreakerDelay) {
+            failures.increment();
+            if (failureThreshold > 0 && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openUntil.set(System.nanoTime() + circuitBreakerDelay.toNanos());
+                LOGGER.warn("Opened circuit for [{}] after [{}] consecutive failure(s)", key, consecutiveFailures.get());
+            }
+        }
+
+        Map<String, Object> getStatistics(final int failureThreshold) {
+            val count = requests.sum();
+            return Map.of(
+                "requests", count,
+                "failures", failures.sum(),
+                "rejected", rejected.sum(),
+                "active", active.get(),
+                "queued", pendingRequests.size(),
+                "circuitOpen", !isAvailable(failureThreshold),
+                "averageLatency", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency.sum() / count),
+                "maximumLatency", maximumLatency.get());
+        }
+    }
+}
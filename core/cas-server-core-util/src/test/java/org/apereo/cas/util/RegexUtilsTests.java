@@ -44,4 +44,12 @@ class RegexUtilsTests {
         val result = RegexUtils.findFirst(patterns, List.of("hello", "world", "911/", "911Z")).get();
         assertEquals("911Z", result);
     }
+
+    @Test
+    void verifyCompiledPatternsAreShared() throws Throwable {
+        val pattern = RegexUtils.createPattern("^cas-\\d+$");
+        assertSame(pattern, RegexUtils.createPattern("^cas-\\d+$"));
+        assertNotSame(pattern, RegexUtils.createPattern("^cas-\\d+$", 0));
+        assertTrue(RegexUtils.matches(pattern, "CAS-123"));
+    }
 }
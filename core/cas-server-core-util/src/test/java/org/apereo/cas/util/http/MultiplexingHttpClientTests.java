@@ -0,0 +1,101 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.MockWebServer;
+import lombok.val;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import java.net.URI;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MultiplexingHttpClientTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Web")
+class MultiplexingHttpClientTests {
+    private static MultiplexingHttpClient getHttpClient(final int failureThreshold) {
+        return new MultiplexingHttpClient(new SimpleHttpClientFactoryBean().getObject(),
+            java.net.http.HttpClient.Version.HTTP_2, 10, failureThreshold, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void verifyMessageSent() throws Throwable {
+        try (val webServer = new MockWebServer("{}", HttpStatus.OK)) {
+            webServer.start();
+            val client = getHttpClient(5);
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            val result = client.sendMessageToEndPoint(url);
+            assertNotNull(result);
+            assertEquals(HttpStatus.OK.value(), result.getResponseCode());
+            assertTrue(client.isValidEndPoint(url));
+            assertTrue(client.sendMessageToEndPoint(new HttpMessage(url, "message", false)));
+            val statistics = client.getStatistics();
+            assertEquals(3L, statistics.get("requests"));
+            assertEquals(0L, statistics.get("failures"));
+            assertEquals(0, statistics.get("active"));
+            assertNotNull(client.wrappedHttpClient());
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyCircuitOpens() throws Throwable {
+        try (val webServer = new MockWebServer("{}", HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            val client = getHttpClient(2);
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            assertFalse(client.isValidEndPoint(url));
+            assertFalse(client.isValidEndPoint(url));
+            assertNull(client.sendMessageToEndPoint(url));
+            val statistics = client.getStatistics();
+            assertEquals(2L, statistics.get("requests"));
+            assertEquals(2L, statistics.get("failures"));
+            assertEquals(1L, statistics.get("rejected"));
+            assertEquals(1L, statistics.get("openCircuits"));
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyRequestsQueuedPerDestination() throws Throwable {
+        try (val webServer = new MockWebServer("{}", HttpStatus.OK)) {
+            webServer.start();
+            val client = new MultiplexingHttpClient(new SimpleHttpClientFactoryBean().getObject(),
+                java.net.http.HttpClient.Version.HTTP_1_1, 1, 5, Duration.ofMinutes(1));
+            val uri = new URI("http://localhost:" + webServer.getPort());
+            val responses = IntStream.range(0, 5)
+                .mapToObj(i -> client.sendAsync(client.newRequestBuilder(uri).GET().build()))
+                .toList();
+            for (val response : responses) {
+                assertEquals(HttpStatus.OK.value(), response.get().statusCode());
+            }
+            assertEquals(5L, client.getStatistics().get("requests"));
+            assertEquals(0L, client.getStatistics().get("rejected"));
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyUnsupportedHostnameVerifier() {
+        val factory = new SimpleHttpClientFactoryBean();
+        factory.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        val httpClient = factory.getObject();
+        assertThrows(IllegalArgumentException.class, () -> new MultiplexingHttpClient(httpClient,
+            java.net.http.HttpClient.Version.HTTP_2, 10, 5, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void verifyUnreachableEndpoint() throws Throwable {
+        val client = getHttpClient(5);
+        assertNull(client.sendMessageToEndPoint(new URI("http://localhost:1234").toURL()));
+        assertFalse(client.isValidEndPoint("xyz"));
+        assertEquals(1L, client.getStatistics().get("failures"));
+        client.destroy();
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.MultiplexingHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -33,6 +34,7 @@ import org.springframework.core.annotation.Order;
 import javax.net.ssl.HostnameVerifier;
 
 import java.util.ArrayList;
+import java.util.Locale;
 
 /**
  * This is {@link CasCoreHttpConfiguration}.
@@ -113,6 +115,9 @@ class CasCoreHttpConfiguration {
             }
             client.setSslContext(casSslContext.getSslContext());
             client.setSslSocketFactory(trustStoreSslSocketFactory);
+            if ("none".equalsIgnoreCase(httpClient.getHostNameVerifier())) {
+                client.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+            }
             client.setTrustManagers(casSslContext.getTrustManagers());
 
             val defaultHeaders = new ArrayList<Header>();
@@ -122,14 +127,23 @@ class CasCoreHttpConfiguration {
             return client;
         }
 
-        private static SimpleHttpClient getHttpClient(final boolean redirectEnabled,
-                                                      final CasSSLContext casSslContext,
-                                                      final LayeredConnectionSocketFactory trustStoreSslSocketFactory,
-                                                      final CasConfigurationProperties casProperties) {
+        private static HttpClient getHttpClient(final boolean redirectEnabled,
+                                                final CasSSLContext casSslContext,
+                                                final LayeredConnectionSocketFactory trustStoreSslSocketFactory,
+                                                final CasConfigurationProperties casProperties) {
             val factoryBean = buildHttpClientFactoryBean(casSslContext, trustStoreSslSocketFactory, casProperties);
             factoryBean.setRedirectsEnabled(redirectEnabled);
             factoryBean.setCircularRedirectsAllowed(redirectEnabled);
-            return factoryBean.getObject();
+            val httpClient = factoryBean.getObject();
+            val multiplexing = casProperties.getHttpClient().getMultiplexing();
+            if (multiplexing.isEnabled()) {
+                return new MultiplexingHttpClient(httpClient,
+                    java.net.http.HttpClient.Version.valueOf(multiplexing.getVersion().trim().toUpperCase(Locale.ENGLISH)),
+                    multiplexing.getMaximumConcurrentRequestsPerRoute(),
+                    multiplexing.getFailureThreshold(),
+                    Beans.newDuration(multiplexing.getCircuitBreakerDelay()));
+            }
+            return httpClient;
         }
 
         @ConditionalOnMissingBean(name = HttpClient.BEAN_NAME_HTTPCLIENT)
@@ -142,7 +142,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
                     if (!ticketGrantingTicket.isStateless()) {
-                        configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
+                        configurationContext.getTicketRegistry().updateTicketGrantingTicketState(ticketGrantingTicket);
                     }
                     val addedServiceTicket = configurationContext.getTicketRegistry().addTicket(serviceTicket);
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
@@ -181,7 +181,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     val proxyTicket = factory.create(proxyGrantingTicket, service, ProxyTicket.class);
                     val clientInfo = ClientInfoHolder.getClientInfo();
                     if (!proxyGrantingTicket.isStateless()) {
-                        configurationContext.getTicketRegistry().updateTicket(proxyGrantingTicket);
+                        configurationContext.getTicketRegistry().updateTicketGrantingTicketState(proxyGrantingTicket);
                     }
                     val addedProxyTicket = configurationContext.getTicketRegistry().addTicket(proxyTicket);
                     LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
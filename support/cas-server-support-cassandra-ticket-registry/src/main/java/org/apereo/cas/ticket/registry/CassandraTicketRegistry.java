@@ -15,6 +15,7 @@ import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -24,14 +25,18 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.cassandra.core.cql.BeanPropertyRowMapper;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +55,8 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     private final CassandraTicketRegistryProperties properties;
 
+    private final ExecutorService scanExecutor;
+
     public CassandraTicketRegistry(final CipherExecutor cipherExecutor,
                                    final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog,
@@ -58,6 +65,8 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         super(cipherExecutor, ticketSerializationManager, ticketCatalog);
         this.cassandraSessionFactory = cassandraSessionFactory;
         this.properties = properties;
+        this.scanExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getPerformance().getScanThreads()),
+            Thread.ofVirtual().name("cas-cassandra-scan-", 0).factory());
     }
 
 
@@ -70,6 +79,16 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return ttl.intValue();
     }
 
+    private static Stream<Pair<Long, Long>> splitTokenRange(final int segments) {
+        val width = BigInteger.ONE.shiftLeft(Long.SIZE).divide(BigInteger.valueOf(segments));
+        return IntStream.range(0, segments)
+            .mapToObj(segment -> {
+                val start = BigInteger.valueOf(Long.MIN_VALUE).add(width.multiply(BigInteger.valueOf(segment)));
+                val end = segment == segments - 1 ? BigInteger.valueOf(Long.MAX_VALUE) : start.add(width).subtract(BigInteger.ONE);
+                return Pair.of(start.longValueExact(), end.longValueExact());
+            });
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         LOGGER.trace("Locating ticket [{}]", ticketId);
@@ -113,6 +132,14 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Collection<Ticket> getTickets() {
+        if (properties.getPerformance().isEnabled()) {
+            try (val tickets = stream()) {
+                return tickets
+                    .filter(Objects::nonNull)
+                    .filter(ticket -> !ticket.isExpired())
+                    .collect(Collectors.toSet());
+            }
+        }
         return ticketCatalog.findAll()
             .stream()
             .map(definition -> {
@@ -144,6 +171,16 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
             .setTimeout(Beans.newDuration(properties.getTimeout()));
         cassandraSessionFactory.getCqlTemplate().execute(delete);
+
+        val principal = getPrincipalLookupKey(ticketToDelete);
+        if (StringUtils.isNotBlank(principal)) {
+            val deleteLookup = QueryBuilder
+                .deleteFrom(properties.getKeyspace(), properties.getPerformance().getPrincipalTableName())
+                .whereColumn("principal").isEqualTo(QueryBuilder.literal(principal))
+                .whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId))
+                .build();
+            cassandraSessionFactory.getCqlTemplate().execute(configureStatement(deleteLookup));
+        }
         return 1;
     }
 
@@ -161,20 +198,60 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 LOGGER.trace("Attempting to delete all via query [{}]", delete);
                 cassandraSessionFactory.getCqlTemplate().execute(delete);
             });
+        if (properties.getPerformance().isEnabled()) {
+            val truncate = QueryBuilder.truncate(properties.getKeyspace(), properties.getPerformance().getPrincipalTableName()).build();
+            cassandraSessionFactory.getCqlTemplate().execute(configureStatement(truncate));
+        }
         return -1;
     }
 
     @Override
     public Stream<? extends Ticket> stream() {
-        return ticketCatalog.findAll()
-            .stream()
-            .flatMap(this::streamCassandraTicketBy)
+        val performance = properties.getPerformance();
+        val holders = performance.isEnabled() && performance.getScanSegments() > 1
+            ? readCassandraTicketsByTokenRange(ticketCatalog.findAll())
+            : ticketCatalog.findAll().stream().flatMap(this::streamCassandraTicketBy);
+        return holders
             .map(holder -> {
                 val result = deserializeTicket(holder.getData(), holder.getType());
                 return decodeTicket(result);
             });
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return properties.getPerformance().isEnabled()
+            ? getSessionsFor(principalId).count()
+            : super.countSessionsFor(principalId);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (!properties.getPerformance().isEnabled()) {
+            return super.getSessionsFor(principalId);
+        }
+        val lookup = QueryBuilder.selectFrom(properties.getKeyspace(), properties.getPerformance().getPrincipalTableName())
+            .column("id")
+            .whereColumn("principal").isEqualTo(QueryBuilder.literal(digestIdentifier(principalId)))
+            .build();
+        val ticketIds = cassandraSessionFactory.getCqlTemplate().queryForList(configureStatement(lookup), String.class);
+        if (ticketIds.isEmpty()) {
+            return Stream.empty();
+        }
+        val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        val select = QueryBuilder.selectFrom(properties.getKeyspace(), metadata.getProperties().getStorageName())
+            .all()
+            .whereColumn("id").in(ticketIds.stream().<Term>map(QueryBuilder::literal).toList())
+            .build();
+        LOGGER.trace("Attempting to locate sessions via query [{}]", select);
+        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
+        return cassandraSessionFactory.getCqlTemplate().query(configureStatement(select), rowMapper)
+            .stream()
+            .map(holder -> decodeTicket(deserializeTicket(holder.getData(), holder.getType())))
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
         val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
@@ -199,6 +276,7 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public void destroy() throws Exception {
+        scanExecutor.shutdownNow();
         cassandraSessionFactory.close();
     }
 
@@ -226,6 +304,34 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return cassandraSessionFactory.getCqlTemplate().query(select, rowMapper);
     }
 
+    /**
+     * Split every table into token ranges and hand each range to the scan executor up front,
+     * so that ranges are read concurrently; results are then concatenated in submission order.
+     * Reads that are still outstanding are cancelled when the stream is closed.
+     */
+    private Stream<CassandraTicketHolder> readCassandraTicketsByTokenRange(final Collection<TicketDefinition> definitions) {
+        val performance = properties.getPerformance();
+        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
+        val reads = definitions
+            .stream()
+            .flatMap(definition -> splitTokenRange(performance.getScanSegments())
+                .map(range -> {
+                    val select = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName())
+                        .all()
+                        .whereToken("id").isGreaterThanOrEqualTo(QueryBuilder.literal(range.getLeft()))
+                        .whereToken("id").isLessThanOrEqualTo(QueryBuilder.literal(range.getRight()))
+                        .build()
+                        .setPageSize(performance.getPageSize());
+                    LOGGER.trace("Attempting to locate tickets in token range via query [{}]", select);
+                    return scanExecutor.submit(() -> cassandraSessionFactory.getCqlTemplate().query(configureStatement(select), rowMapper));
+                }))
+            .toList();
+        return reads
+            .stream()
+            .flatMap(read -> FunctionUtils.doUnchecked(read::get).stream())
+            .onClose(() -> reads.forEach(read -> read.cancel(true)));
+    }
+
     private Stream<CassandraTicketHolder> streamCassandraTicketBy(final TicketDefinition definition) {
         val builder = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName()).all();
         val select = builder.build()
@@ -275,6 +381,34 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeNames3);
                 cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeNames3);
             });
+
+        if (properties.getPerformance().isEnabled()) {
+            val principalTable = properties.getPerformance().getPrincipalTableName();
+            if (properties.isDropTablesOnStartup()) {
+                val drop = "DROP TABLE IF EXISTS %s.%s;".formatted(properties.getKeyspace(), principalTable);
+                LOGGER.trace("Dropping Cassandra table with query [{}]", drop);
+                cassandraSessionFactory.getCqlTemplate().execute(drop);
+            }
+            val createTable = "CREATE TABLE IF NOT EXISTS %s.%s(principal text,id text,PRIMARY KEY(principal,id));"
+                .formatted(properties.getKeyspace(), principalTable);
+            LOGGER.trace("Creating Cassandra table with query [{}]", createTable);
+            cassandraSessionFactory.getCqlTemplate().execute(createTable);
+        }
+    }
+
+    private SimpleStatement configureStatement(final SimpleStatement statement) {
+        return statement
+            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
+            .setTimeout(Beans.newDuration(properties.getTimeout()));
+    }
+
+    private String getPrincipalLookupKey(final Ticket ticket) {
+        if (properties.getPerformance().isEnabled() && ticket instanceof TicketGrantingTicket) {
+            val principalId = getPrincipalIdFrom(ticket);
+            return StringUtils.isNotBlank(principalId) ? digestIdentifier(principalId) : null;
+        }
+        return null;
     }
 
 
@@ -326,6 +460,17 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
         LOGGER.trace("Attempting to locate ticket via query [{}]", statement.getQuery());
         cassandraSessionFactory.getCqlTemplate().execute(statement);
+
+        val principal = getPrincipalLookupKey(ticket);
+        if (StringUtils.isNotBlank(principal)) {
+            val lookup = QueryBuilder.insertInto(properties.getKeyspace(), properties.getPerformance().getPrincipalTableName())
+                .value("principal", QueryBuilder.literal(principal))
+                .value("id", QueryBuilder.literal(encTicket.getId()))
+                .usingTtl(ttl)
+                .build();
+            LOGGER.trace("Recording ticket [{}] in principal lookup table", encTicket.getId());
+            cassandraSessionFactory.getCqlTemplate().execute(configureStatement(lookup));
+        }
         LOGGER.debug("Added ticket [{}]", encTicket.getId());
         return ticket;
     }
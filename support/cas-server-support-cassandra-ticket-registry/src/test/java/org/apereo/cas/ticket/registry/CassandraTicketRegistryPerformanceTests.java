@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CassandraTicketRegistryPerformanceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Cassandra")
+@TestPropertySource(properties = {
+    "cas.ticket.registry.cassandra.performance.enabled=true",
+    "cas.ticket.registry.cassandra.performance.scan-segments=3",
+    "cas.ticket.registry.cassandra.performance.page-size=10"
+})
+@EnabledIfListeningOnPort(port = 9042)
+class CassandraTicketRegistryPerformanceTests extends CassandraTicketRegistryTests {
+
+    @RepeatedTest(2)
+    void verifySessionsLookedUpByPrincipal() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(tgt);
+        val other = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(other);
+        for (var i = 0; i < 25; i++) {
+            getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        getNewTicketRegistry().addTicket(st);
+
+        assertEquals(2, getNewTicketRegistry().countSessionsFor(principal));
+        assertEquals(2, getNewTicketRegistry().getSessionsFor(principal).count());
+        assertEquals(28, getNewTicketRegistry().stream().count());
+        assertEquals(28, getNewTicketRegistry().getTickets().size());
+
+        getNewTicketRegistry().deleteTicket(other);
+        assertEquals(List.of(tgt.getId()), getNewTicketRegistry().getSessionsFor(principal).map(Ticket::getId).toList());
+        assertEquals(1, getNewTicketRegistry().countSessionsFor(principal));
+    }
+}
@@ -0,0 +1,67 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.cassandra.CassandraSessionFactory;
+import org.apereo.cas.configuration.model.support.cassandra.ticketregistry.CassandraTicketRegistryProperties;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.cql.RowMapper;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CassandraTicketRegistryScanTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Cassandra")
+class CassandraTicketRegistryScanTests {
+    private static final int SCAN_SEGMENTS = 3;
+
+    @Test
+    void verifyTokenRangesReadConcurrently() throws Throwable {
+        val properties = new CassandraTicketRegistryProperties();
+        properties.getPerformance().setEnabled(true).setScanSegments(SCAN_SEGMENTS).setScanThreads(SCAN_SEGMENTS);
+
+        val definition = mock(TicketDefinition.class, RETURNS_DEEP_STUBS);
+        when(definition.getProperties().getStorageName()).thenReturn("ticketGrantingTicketsTable");
+        val ticketCatalog = mock(TicketCatalog.class);
+        when(ticketCatalog.findAll()).thenReturn(List.of(definition));
+
+        val running = new AtomicInteger();
+        val concurrency = new AtomicInteger();
+        val allRangesStarted = new CountDownLatch(SCAN_SEGMENTS);
+        val cqlTemplate = mock(CqlTemplate.class);
+        when(cqlTemplate.query(any(Statement.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            concurrency.accumulateAndGet(running.incrementAndGet(), Math::max);
+            allRangesStarted.countDown();
+            allRangesStarted.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return List.of();
+        });
+        val sessionFactory = mock(CassandraSessionFactory.class);
+        when(sessionFactory.getCqlTemplate()).thenReturn(cqlTemplate);
+
+        val registry = new CassandraTicketRegistry(CipherExecutor.noOp(), mock(TicketSerializationManager.class),
+            ticketCatalog, sessionFactory, properties);
+        try (val tickets = registry.stream()) {
+            assertEquals(0, tickets.count());
+        } finally {
+            registry.destroy();
+        }
+        verify(cqlTemplate, times(SCAN_SEGMENTS)).query(any(Statement.class), any(RowMapper.class));
+        assertEquals(SCAN_SEGMENTS, concurrency.get());
+    }
+}
@@ -17,11 +17,15 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
@@ -33,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -129,19 +134,50 @@ public class DynamoDbTableUtils {
                                                final boolean deleteTable,
                                                final List<AttributeDefinition> attributeDefinitions,
                                                final List<KeySchemaElement> keySchemaElements) throws Exception {
+        return createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable,
+            attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table along with global secondary indexes.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @return the table description
+     * @throws Exception the exception
+     */
+    public static TableDescription createTable(final DynamoDbClient dynamoDbClient,
+                                               final AbstractDynamoDbProperties dynamoDbProperties,
+                                               final String tableName,
+                                               final boolean deleteTable,
+                                               final List<AttributeDefinition> attributeDefinitions,
+                                               final List<KeySchemaElement> keySchemaElements,
+                                               final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
         val throughput = billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
             .readCapacityUnits(dynamoDbProperties.getReadCapacity())
             .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
             .build() : null;
-        val request = CreateTableRequest.builder()
+        val indexes = globalSecondaryIndexes
+            .stream()
+            .map(index -> throughput == null ? index : index.toBuilder().provisionedThroughput(throughput).build())
+            .toList();
+        val requestBuilder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
             .provisionedThroughput(throughput)
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!indexes.isEmpty()) {
+            requestBuilder.globalSecondaryIndexes(indexes);
+        }
+        val request = requestBuilder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
@@ -272,6 +308,73 @@ public class DynamoDbTableUtils {
         return items.stream().map(itemMapper);
     }
 
+    /**
+     * Query a table or one of its secondary indexes using key conditions,
+     * and stream results using pagination.
+     *
+     * @param <T>             the type parameter
+     * @param dynamoDbClient  the dynamo db client
+     * @param tableName       the table name
+     * @param indexName       the index name, if any
+     * @param keyConditions   the key conditions
+     * @param filterQueries   the filter queries applied to non-key attributes
+     * @param itemMapper      the item mapper
+     * @return the stream
+     */
+    public static <T> Stream<T> queryPaginator(final DynamoDbClient dynamoDbClient,
+                                               final String tableName,
+                                               final String indexName,
+                                               final List<? extends DynamoDbQueryBuilder> keyConditions,
+                                               final List<? extends DynamoDbQueryBuilder> filterQueries,
+                                               final Function<Map<String, AttributeValue>, T> itemMapper) {
+        val queryBuilder = QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(indexName)
+            .keyConditions(buildRequestQueryFilter(keyConditions));
+        if (!filterQueries.isEmpty()) {
+            queryBuilder.queryFilter(buildRequestQueryFilter(filterQueries));
+        }
+        val queryRequest = queryBuilder.build();
+        LOGGER.debug("Querying table with query request [{}]", queryRequest);
+        return dynamoDbClient.queryPaginator(queryRequest)
+            .items()
+            .stream()
+            .map(itemMapper)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Count the records of a table or one of its secondary indexes that match the key conditions,
+     * without fetching the records themselves.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param tableName      the table name
+     * @param indexName      the index name, if any
+     * @param keyConditions  the key conditions
+     * @param filterQueries  the filter queries applied to non-key attributes
+     * @return the count
+     */
+    public static long queryCount(final DynamoDbClient dynamoDbClient,
+                                  final String tableName,
+                                  final String indexName,
+                                  final List<? extends DynamoDbQueryBuilder> keyConditions,
+                                  final List<? extends DynamoDbQueryBuilder> filterQueries) {
+        val queryBuilder = QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(indexName)
+            .select(Select.COUNT)
+            .keyConditions(buildRequestQueryFilter(keyConditions));
+        if (!filterQueries.isEmpty()) {
+            queryBuilder.queryFilter(buildRequestQueryFilter(filterQueries));
+        }
+        val queryRequest = queryBuilder.build();
+        LOGGER.debug("Counting records with query request [{}]", queryRequest);
+        return dynamoDbClient.queryPaginator(queryRequest)
+            .stream()
+            .mapToLong(QueryResponse::count)
+            .sum();
+    }
+
     private static TableDescription waitForTableDescription(final DynamoDbClient dynamo,
                                                             final String tableName,
                                                             final TableStatus desiredStatus,
@@ -343,6 +446,81 @@ public class DynamoDbTableUtils {
             .filter(Objects::nonNull);
     }
 
+    /**
+     * Scan the table in parallel by splitting it into segments,
+     * and stream the results of each segment using pagination.
+     * The returned stream is a parallel stream.
+     *
+     * @param <T>                  the type parameter
+     * @param amazonDynamoDBClient the amazon dynamo db client
+     * @param tableName            the table name
+     * @param totalSegments        the total segments
+     * @param keys                 the keys
+     * @param itemMapper           the item mapper
+     * @return the stream
+     */
+    public static <T> Stream<T> parallelScanPaginator(final DynamoDbClient amazonDynamoDBClient,
+                                                      final String tableName,
+                                                      final int totalSegments,
+                                                      final List<DynamoDbQueryBuilder> keys,
+                                                      final Function<Map<String, AttributeValue>, T> itemMapper) {
+        if (totalSegments <= 1) {
+            return scanPaginator(amazonDynamoDBClient, tableName, keys, itemMapper);
+        }
+        val scanFilter = buildRequestQueryFilter(keys);
+        return IntStream.range(0, totalSegments)
+            .parallel()
+            .boxed()
+            .flatMap(segment -> {
+                val scanRequest = ScanRequest.builder()
+                    .tableName(tableName)
+                    .scanFilter(scanFilter)
+                    .segment(segment)
+                    .totalSegments(totalSegments)
+                    .build();
+                LOGGER.debug("Scanning table segment with scan request [{}]", scanRequest);
+                return amazonDynamoDBClient.scanPaginator(scanRequest).items().stream();
+            })
+            .map(itemMapper)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Count the records of the table that match the given keys by scanning segments of the table in parallel,
+     * without fetching the records themselves.
+     *
+     * @param amazonDynamoDBClient the amazon dynamo db client
+     * @param tableName            the table name
+     * @param totalSegments        the total segments
+     * @param keys                 the keys
+     * @return the count
+     */
+    public static long parallelScanCount(final DynamoDbClient amazonDynamoDBClient,
+                                         final String tableName,
+                                         final int totalSegments,
+                                         final List<DynamoDbQueryBuilder> keys) {
+        val segments = Math.max(totalSegments, 1);
+        val scanFilter = buildRequestQueryFilter(keys);
+        return IntStream.range(0, segments)
+            .parallel()
+            .mapToLong(segment -> {
+                val builder = ScanRequest.builder()
+                    .tableName(tableName)
+                    .scanFilter(scanFilter)
+                    .select(Select.COUNT);
+                if (segments > 1) {
+                    builder.segment(segment).totalSegments(segments);
+                }
+                val scanRequest = builder.build();
+                LOGGER.debug("Counting records with scan request [{}]", scanRequest);
+                return amazonDynamoDBClient.scanPaginator(scanRequest)
+                    .stream()
+                    .mapToLong(ScanResponse::count)
+                    .sum();
+            })
+            .sum();
+    }
+
     static class TableNeverTransitionedToStateException extends SdkClientException {
 
         @Serial
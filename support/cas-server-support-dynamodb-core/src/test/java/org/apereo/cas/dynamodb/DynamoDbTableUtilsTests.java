@@ -8,6 +8,7 @@ import org.mockito.ArgumentMatcher;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
@@ -16,9 +17,16 @@ import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -116,6 +124,37 @@ class DynamoDbTableUtilsTests {
         verify(client).createTable(argThat(createTableArgMatcher));
     }
 
+    @Test
+    void verifyParallelScanCount() {
+        val client = mock(DynamoDbClient.class);
+        val segments = ConcurrentHashMap.<Integer>newKeySet();
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanIterable(client, invocation.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            val request = invocation.<ScanRequest>getArgument(0);
+            assertEquals(Select.COUNT, request.select());
+            assertEquals(4, request.totalSegments());
+            segments.add(request.segment());
+            return ScanResponse.builder().count(5).build();
+        });
+        assertEquals(20, DynamoDbTableUtils.parallelScanCount(client, "test-table", 4, List.of()));
+        assertEquals(Set.of(0, 1, 2, 3), segments);
+    }
+
+    @Test
+    void verifyParallelScanPaginator() {
+        val client = mock(DynamoDbClient.class);
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanIterable(client, invocation.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            val request = invocation.<ScanRequest>getArgument(0);
+            return ScanResponse.builder().items(Map.of("segment", AttributeValue.builder().n(request.segment().toString()).build())).build();
+        });
+        val results = DynamoDbTableUtils.parallelScanPaginator(client, "test-table", 3, List.of(),
+            item -> item.get("segment").n()).toList();
+        assertEquals(Set.of("0", "1", "2"), Set.copyOf(results));
+    }
+
     @SuppressWarnings("serial")
     static class MinimalTestDynamoDbProperties extends AbstractDynamoDbProperties {
 
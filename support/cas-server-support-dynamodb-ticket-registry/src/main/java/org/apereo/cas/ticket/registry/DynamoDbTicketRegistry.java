@@ -49,7 +49,17 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
-        return dbTableService.getSessionsFor(digestIdentifier(principalId));
+        return dbTableService.getSessionsFor(digestIdentifier(principalId))
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return dbTableService.getDynamoDbProperties().getPerformance().isEnabled()
+            ? dbTableService.countSessionsFor(digestIdentifier(principalId))
+            : super.countSessionsFor(principalId);
     }
 
     @Override
@@ -148,6 +158,11 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return ticket;
     }
 
+    @Override
+    protected boolean updateTicketState(final TicketGrantingTicket ticket, final TicketGrantingTicketState state) {
+        return dbTableService.updateState(ticket, digestIdentifier(ticket.getId()), state.toJson());
+    }
+
     @Override
     public long deleteSingleTicket(final Ticket ticketToDelete) {
         val ticketId = digestIdentifier(ticketToDelete.getId());
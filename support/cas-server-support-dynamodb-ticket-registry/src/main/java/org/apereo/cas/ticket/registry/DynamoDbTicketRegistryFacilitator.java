@@ -7,6 +7,7 @@ import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.IdleExpirationPolicy;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -26,16 +27,24 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,6 +68,12 @@ import java.util.stream.Stream;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbTicketRegistryFacilitator {
+    /**
+     * Name of the global secondary index on the principal of ticket-granting tickets,
+     * created by the performance profile.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
     private final TicketCatalog ticketCatalog;
@@ -71,7 +86,9 @@ public class DynamoDbTicketRegistryFacilitator {
         val encoded = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
         try (val is = encoded.asInputStream()) {
-            return SerializationUtils.deserialize(is);
+            val ticket = SerializationUtils.<Ticket>deserialize(is);
+            val state = returnItem.get(ColumnNames.STATE.getColumnName());
+            return TicketGrantingTicketState.apply(ticket, state != null ? state.s() : null);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -131,6 +148,10 @@ public class DynamoDbTicketRegistryFacilitator {
                         .attributeValue(List.of(AttributeValue.builder().s(defn.getPrefix()).build()))
                         .operator(ComparisonOperator.EQ)
                         .build());
+                if (dynamoDbProperties.getPerformance().isEnabled()) {
+                    return DynamoDbTableUtils.parallelScanPaginator(amazonDynamoDBClient, defn.getProperties().getStorageName(),
+                        dynamoDbProperties.getPerformance().getScanSegments(), keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+                }
                 return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient, defn.getProperties().getStorageName(),
                     keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
             })
@@ -171,6 +192,11 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the all
      */
     public Collection<Ticket> getAll() {
+        if (dynamoDbProperties.getPerformance().isEnabled()) {
+            try (val tickets = stream()) {
+                return tickets.filter(ticket -> !ticket.isExpired()).toList();
+            }
+        }
         val metadata = ticketCatalog.findAll();
         val tickets = new ArrayList<Ticket>(metadata.size());
         metadata.forEach(r -> {
@@ -258,6 +284,46 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
     }
 
+    /**
+     * Update the state of the ticket-granting ticket in place, along with its usage and expiration.
+     *
+     * @param ticket          the ticket
+     * @param encodedTicketId the encoded ticket id
+     * @param state           the state
+     * @return true if the ticket was found and updated
+     */
+    public boolean updateState(final TicketGrantingTicket ticket, final String encodedTicketId, final String state) {
+        val metadata = ticketCatalog.find(ticket);
+        if (metadata == null) {
+            return false;
+        }
+        val names = Map.of(
+            "#id", ColumnNames.ID.getColumnName(),
+            "#state", ColumnNames.STATE.getColumnName(),
+            "#countOfUses", ColumnNames.COUNT_OF_USES.getColumnName(),
+            "#expiration", ColumnNames.EXPIRATION.getColumnName());
+        val values = Map.of(
+            ":state", AttributeValue.builder().s(state).build(),
+            ":countOfUses", AttributeValue.builder().n(Integer.toString(ticket.getCountOfUses())).build(),
+            ":expiration", AttributeValue.builder().n(String.valueOf(getExpirationTime(ticket, ticket))).build());
+        val request = UpdateItemRequest.builder()
+            .tableName(metadata.getProperties().getStorageName())
+            .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()))
+            .updateExpression("SET #state = :state, #countOfUses = :countOfUses, #expiration = :expiration")
+            .conditionExpression("attribute_exists(#id)")
+            .expressionAttributeNames(names)
+            .expressionAttributeValues(values)
+            .build();
+        try {
+            LOGGER.debug("Submitting update request [{}] for ticket id [{}]", request, ticket.getId());
+            amazonDynamoDBClient.updateItem(request);
+            return true;
+        } catch (final ConditionalCheckFailedException e) {
+            LOGGER.debug("Ticket [{}] could not be found to update its state", ticket.getId());
+            return false;
+        }
+    }
+
     /**
      * Gets sessions with attributes.
      *
@@ -316,7 +382,7 @@ public class DynamoDbTicketRegistryFacilitator {
     public void createTicketTables(final boolean deleteTables) {
         val metadata = this.ticketCatalog.findAll();
         metadata.forEach(Unchecked.consumer(r -> {
-            val attributeDefns = List.of(
+            val attributeDefns = CollectionUtils.wrapList(
                 AttributeDefinition.builder()
                     .attributeName(ColumnNames.ID.getColumnName())
                     .attributeType(ScalarAttributeType.S)
@@ -325,11 +391,21 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeName(ColumnNames.ID.getColumnName())
                 .keyType(KeyType.HASH)
                 .build());
+            val indexes = new ArrayList<GlobalSecondaryIndex>();
+            if (dynamoDbProperties.getPerformance().isEnabled()
+                && r.getProperties().getStorageName().equals(dynamoDbProperties.getTicketGrantingTicketsTableName())) {
+                attributeDefns.add(AttributeDefinition.builder()
+                    .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                    .attributeType(ScalarAttributeType.S)
+                    .build());
+                indexes.add(buildPrincipalIndex());
+            }
             val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
                 r.getProperties().getStorageName(),
                 deleteTables,
                 attributeDefns,
-                keySchemaElements);
+                keySchemaElements,
+                indexes);
             DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
                 tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
         }));
@@ -344,10 +420,7 @@ public class DynamoDbTicketRegistryFacilitator {
     public Map<String, AttributeValue> buildTableAttributeValuesMapFromTicket(
         final TicketPayload payload) {
         val values = new HashMap<String, AttributeValue>();
-        val ttl = Optional.ofNullable(payload.getOriginalTicket().getExpirationPolicy().toMaximumExpirationTime(payload.getOriginalTicket()))
-            .or(() -> Optional.ofNullable(NeverExpiresExpirationPolicy.INSTANCE.toMaximumExpirationTime(payload.getEncodedTicket())))
-            .map(ChronoZonedDateTime::toEpochSecond)
-            .orElse(-1L);
+        val ttl = getExpirationTime(payload.getOriginalTicket(), payload.getEncodedTicket());
 
         values.put(ColumnNames.ATTRIBUTES.getColumnName(),
             AttributeValue.builder().m(convertAttributes(payload)).build());
@@ -355,8 +428,10 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(String.valueOf(ttl)).build());
         values.put(ColumnNames.ID.getColumnName(),
             AttributeValue.builder().s(payload.getEncodedTicket().getId()).build());
-        values.put(ColumnNames.PRINCIPAL.getColumnName(),
-            AttributeValue.builder().s(payload.getPrincipal()).build());
+        if (StringUtils.isNotBlank(payload.getPrincipal())) {
+            values.put(ColumnNames.PRINCIPAL.getColumnName(),
+                AttributeValue.builder().s(payload.getPrincipal()).build());
+        }
         values.put(ColumnNames.SERVICE.getColumnName(),
             AttributeValue.builder().s(payload.getService()).build());
         values.put(ColumnNames.PREFIX.getColumnName(),
@@ -377,6 +452,13 @@ public class DynamoDbTicketRegistryFacilitator {
         return values;
     }
 
+    private static long getExpirationTime(final Ticket originalTicket, final Ticket encodedTicket) {
+        return Optional.ofNullable(originalTicket.getExpirationPolicy().toMaximumExpirationTime(originalTicket))
+            .or(() -> Optional.ofNullable(NeverExpiresExpirationPolicy.INSTANCE.toMaximumExpirationTime(encodedTicket)))
+            .map(ChronoZonedDateTime::toEpochSecond)
+            .orElse(-1L);
+    }
+
     private static Map<String, AttributeValue> convertAttributes(final TicketPayload payload) {
         val attributes = new HashMap<String, AttributeValue>();
         payload.getAttributes().forEach((key, values) -> {
@@ -395,12 +477,21 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the sessions for
      */
     public Stream<? extends Ticket> getSessionsFor(final String principal) {
-        val keys = List.<DynamoDbQueryBuilder>of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build());
+        val keys = List.of(principalEqualTo(principal));
+        if (dynamoDbProperties.getPerformance().isEnabled()) {
+            try {
+                return DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient,
+                        dynamoDbProperties.getTicketGrantingTicketsTableName(), PRINCIPAL_INDEX_NAME,
+                        keys, List.of(), DynamoDbTicketRegistryFacilitator::deserializeTicket)
+                    .toList()
+                    .stream()
+                    .filter(ticket -> !ticket.isExpired());
+            } catch (final DynamoDbException e) {
+                LOGGER.warn("Unable to query index [{}] on table [{}]; falling back to a table scan. "
+                    + "Recreate the table to build its secondary indexes: [{}]", PRINCIPAL_INDEX_NAME,
+                    dynamoDbProperties.getTicketGrantingTicketsTableName(), e.getMessage());
+            }
+        }
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
                 dynamoDbProperties.getTicketGrantingTicketsTableName(),
                 keys, DynamoDbTicketRegistryFacilitator::deserializeTicket)
@@ -421,6 +512,10 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeValue(List.of(AttributeValue.builder().s(service.getId()).build()))
                 .operator(ComparisonOperator.EQ)
                 .build());
+        if (dynamoDbProperties.getPerformance().isEnabled()) {
+            return DynamoDbTableUtils.parallelScanCount(amazonDynamoDBClient, tableName,
+                dynamoDbProperties.getPerformance().getScanSegments(), CollectionUtils.wrapList(keys.getFirst(), unexpired()));
+        }
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
                 tableName, keys, DynamoDbTicketRegistryFacilitator::deserializeTicket)
             .filter(ticket -> !ticket.isExpired())
@@ -441,11 +536,64 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeValue(List.of(AttributeValue.builder().s(prefix).build()))
                 .operator(ComparisonOperator.EQ)
                 .build());
+        if (dynamoDbProperties.getPerformance().isEnabled()) {
+            return ticketCatalog.findTicketDefinition(ticketType)
+                .map(def -> DynamoDbTableUtils.parallelScanCount(amazonDynamoDBClient, def.getProperties().getStorageName(),
+                    dynamoDbProperties.getPerformance().getScanSegments(), CollectionUtils.wrapList(keys.getFirst(), unexpired())))
+                .orElse(-1L);
+        }
         return ticketCatalog.findTicketDefinition(ticketType)
             .map(def -> DynamoDbTableUtils.scan(amazonDynamoDBClient, def.getProperties().getStorageName(), keys).count())
             .orElse(-1);
     }
 
+    /**
+     * Count the sessions of the principal, using the principal index of the ticket-granting tickets table.
+     * Counts rely on the expiration recorded with each item.
+     *
+     * @param principal the principal
+     * @return the count
+     */
+    public long countSessionsFor(final String principal) {
+        try {
+            return DynamoDbTableUtils.queryCount(amazonDynamoDBClient,
+                dynamoDbProperties.getTicketGrantingTicketsTableName(), PRINCIPAL_INDEX_NAME,
+                List.of(principalEqualTo(principal)), List.of(unexpired()));
+        } catch (final DynamoDbException e) {
+            LOGGER.warn("Unable to query index [{}] on table [{}]; falling back to a table scan. "
+                + "Recreate the table to build its secondary indexes: [{}]", PRINCIPAL_INDEX_NAME,
+                dynamoDbProperties.getTicketGrantingTicketsTableName(), e.getMessage());
+            return getSessionsFor(principal).count();
+        }
+    }
+
+    private static DynamoDbQueryBuilder principalEqualTo(final String principal) {
+        return DynamoDbQueryBuilder.builder()
+            .key(ColumnNames.PRINCIPAL.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
+            .operator(ComparisonOperator.EQ)
+            .build();
+    }
+
+    private static DynamoDbQueryBuilder unexpired() {
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        return DynamoDbQueryBuilder.builder()
+            .key(ColumnNames.EXPIRATION.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().n(String.valueOf(now)).build()))
+            .operator(ComparisonOperator.GT)
+            .build();
+    }
+
+    private static GlobalSecondaryIndex buildPrincipalIndex() {
+        return GlobalSecondaryIndex.builder()
+            .indexName(PRINCIPAL_INDEX_NAME)
+            .keySchema(
+                KeySchemaElement.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).keyType(KeyType.HASH).build(),
+                KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.RANGE).build())
+            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+            .build();
+    }
+
 
     /**
      * Column names for tables holding tickets.
@@ -497,7 +645,11 @@ public class DynamoDbTicketRegistryFacilitator {
         /**
          * encoded column.
          */
-        ENCODED("encoded");
+        ENCODED("encoded"),
+        /**
+         * state column, holding the state of ticket-granting tickets when updated in place.
+         */
+        STATE("state");
 
         private final String columnName;
     }
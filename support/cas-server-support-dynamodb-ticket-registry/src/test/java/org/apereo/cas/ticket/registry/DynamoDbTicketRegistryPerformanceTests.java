@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DynamoDbTicketRegistryPerformanceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("DynamoDb")
+@TestPropertySource(properties = {
+    "cas.ticket.registry.dynamo-db.performance.enabled=true",
+    "cas.ticket.registry.dynamo-db.performance.scan-segments=3"
+})
+@EnabledIfListeningOnPort(port = 8000)
+class DynamoDbTicketRegistryPerformanceTests extends DynamoDbTicketRegistryTests {
+
+    @RepeatedTest(2)
+    void verifySessionsLookedUpByPrincipal() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(tgt);
+        getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal), new HardTimeoutExpirationPolicy(1)));
+
+        val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+        val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service,
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        getNewTicketRegistry().addTicket(st);
+        assertEquals(1, getNewTicketRegistry().countTicketsFor(service));
+        assertEquals(1, getNewTicketRegistry().serviceTicketCount());
+
+        Thread.sleep(2000);
+        assertEquals(1, getNewTicketRegistry().countSessionsFor(principal));
+        assertEquals(List.of(tgt), getNewTicketRegistry().getSessionsFor(principal).toList());
+        assertEquals(1, getNewTicketRegistry().sessionCount());
+
+        getNewTicketRegistry().deleteTicket(tgt);
+        assertEquals(0, getNewTicketRegistry().countSessionsFor(principal));
+        assertTrue(getNewTicketRegistry().getSessionsFor(principal).toList().isEmpty());
+    }
+}
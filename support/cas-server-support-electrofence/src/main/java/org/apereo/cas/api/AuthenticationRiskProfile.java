@@ -0,0 +1,259 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the authentication history
+ * of a single principal into daily frequency counts of ip addresses, user agents, device fingerprints,
+ * geolocations and hours of the day. The profile is updated incrementally as authentication events
+ * are recorded, so that risk calculators can score requests without reloading and re-aggregating
+ * the full event history. Lookups are bounded by the number of days in the history window,
+ * rather than the number of recorded events.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@ToString(of = "principal")
+@RequiredArgsConstructor
+public class AuthenticationRiskProfile {
+    private static final int HOURS_IN_DAY = 24;
+
+    private static final Duration RECENT_EVENTS_WINDOW = Duration.ofMinutes(1);
+
+    @Getter
+    private final String principal;
+
+    @Getter
+    private final int maximumEntries;
+
+    private final NavigableMap<Long, DailyActivity> activities = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Long> recentEvents = new ConcurrentHashMap<>();
+
+    private volatile long recentEventsPrunedAt;
+
+    /**
+     * Build the profile key for a geolocation.
+     *
+     * @param location the location
+     * @return the key, or null if the location has no coordinates
+     */
+    public static String getGeoLocationKey(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isAnyBlank(location.getLatitude(), location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + "," + location.getLongitude();
+    }
+
+    /**
+     * Record an authentication event into this profile.
+     * Events are only counted once should the same event be recorded again shortly after,
+     * which may happen when an event is published while the profile is built from the events repository.
+     *
+     * @param event the event
+     */
+    public void record(final CasEvent event) {
+        if (StringUtils.isNotBlank(event.getCreationTime()) && trackRecentEvent(event)) {
+            recordActivity(event);
+        }
+    }
+
+    /**
+     * Replay an authentication event from the events repository into this profile, while the profile is built.
+     * Replayed events are always counted, and are remembered for a short while
+     * so that the same event is not counted again once it is recorded.
+     *
+     * @param event the event
+     */
+    public void replay(final CasEvent event) {
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            recentEvents.put(getRecentEventKey(event), System.currentTimeMillis());
+            recordActivity(event);
+        }
+    }
+
+    /**
+     * Count the total number of events recorded since the given date.
+     *
+     * @param since the date
+     * @return the count
+     */
+    public long count(final ZonedDateTime since) {
+        return getActivitiesSince(since).values().stream().mapToLong(activity -> activity.getTotal().sum()).sum();
+    }
+
+    /**
+     * Count the number of events recorded since the given date that carry the given attribute value.
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param since     the date
+     * @return the count
+     */
+    public long count(final ProfileAttribute attribute, final String value, final ZonedDateTime since) {
+        if (StringUtils.isBlank(value)) {
+            return 0;
+        }
+        val key = attribute.normalize(value);
+        return getActivitiesSince(since).values()
+            .stream()
+            .map(activity -> activity.getAttributes().get(attribute).get(key))
+            .filter(Objects::nonNull)
+            .mapToLong(LongAdder::sum)
+            .sum();
+    }
+
+    /**
+     * Count the number of events recorded since the given date whose hour of day (UTC) matches.
+     *
+     * @param hourFilter the hour filter
+     * @param since      the date
+     * @return the count
+     */
+    public long countHours(final IntPredicate hourFilter, final ZonedDateTime since) {
+        var count = 0L;
+        for (val activity : getActivitiesSince(since).values()) {
+            for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+                if (hourFilter.test(hour)) {
+                    count += activity.getHours().get(hour);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Remove activities recorded before the given date.
+     *
+     * @param since the date
+     */
+    public void prune(final ZonedDateTime since) {
+        activities.headMap(getEpochDay(since)).clear();
+    }
+
+    /**
+     * Gets the number of entries tracked by this profile.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return activities.values()
+            .stream()
+            .mapToLong(activity -> activity.getAttributes().values().stream().mapToLong(Map::size).sum() + HOURS_IN_DAY)
+            .sum();
+    }
+
+    private static long getEpochDay(final ZonedDateTime since) {
+        return since.withZoneSameInstant(ZoneOffset.UTC).toLocalDate().toEpochDay();
+    }
+
+    private NavigableMap<Long, DailyActivity> getActivitiesSince(final ZonedDateTime since) {
+        return activities.tailMap(getEpochDay(since), true);
+    }
+
+    private static String getRecentEventKey(final CasEvent event) {
+        return StringUtils.defaultIfBlank(event.getEventId(),
+            event.getCreationTime() + '|' + event.getClientIpAddress() + '|' + event.getAgent());
+    }
+
+    private boolean trackRecentEvent(final CasEvent event) {
+        val now = System.currentTimeMillis();
+        val window = RECENT_EVENTS_WINDOW.toMillis();
+        if (now - recentEventsPrunedAt >= window) {
+            recentEventsPrunedAt = now;
+            recentEvents.values().removeIf(recordedAt -> recordedAt < now - window);
+        }
+        return recentEvents.putIfAbsent(getRecentEventKey(event), now) == null;
+    }
+
+    private void recordActivity(final CasEvent event) {
+        val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).withZoneSameInstant(ZoneOffset.UTC);
+        val activity = activities.computeIfAbsent(creationTime.toLocalDate().toEpochDay(), __ -> new DailyActivity());
+        activity.getTotal().increment();
+        activity.getHours().incrementAndGet(creationTime.getHour());
+        recordAttribute(activity, ProfileAttribute.IP_ADDRESS, event.getClientIpAddress());
+        recordAttribute(activity, ProfileAttribute.USER_AGENT, event.getAgent());
+        recordAttribute(activity, ProfileAttribute.DEVICE_FINGERPRINT, event.getDeviceFingerprint());
+        recordAttribute(activity, ProfileAttribute.GEO_LOCATION, getGeoLocationKey(event.getGeoLocation()));
+    }
+
+    private void recordAttribute(final DailyActivity activity, final ProfileAttribute attribute, final String value) {
+        if (StringUtils.isNotBlank(value)) {
+            val values = activity.getAttributes().get(attribute);
+            val key = attribute.normalize(value);
+            val counter = values.get(key);
+            if (counter != null) {
+                counter.increment();
+                return;
+            }
+            synchronized (values) {
+                if (values.containsKey(key) || values.size() < maximumEntries) {
+                    values.computeIfAbsent(key, __ -> new LongAdder()).increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Attributes tracked by the profile.
+     */
+    public enum ProfileAttribute {
+        /**
+         * Client ip address.
+         */
+        IP_ADDRESS,
+        /**
+         * User agent.
+         */
+        USER_AGENT,
+        /**
+         * Device fingerprint.
+         */
+        DEVICE_FINGERPRINT,
+        /**
+         * Geolocation, keyed by latitude and longitude.
+         */
+        GEO_LOCATION;
+
+        String normalize(final String value) {
+            return this == GEO_LOCATION ? value : value.toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    @Getter
+    private static final class DailyActivity {
+        private final LongAdder total = new LongAdder();
+
+        private final AtomicLongArray hours = new AtomicLongArray(HOURS_IN_DAY);
+
+        private final Map<ProfileAttribute, Map<String, LongAdder>> attributes = new EnumMap<>(ProfileAttribute.class);
+
+        DailyActivity() {
+            for (val attribute : ProfileAttribute.values()) {
+                attributes.put(attribute, new ConcurrentHashMap<>());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEventRecordedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileEventListener} that keeps
+ * principal risk profiles up to date as authentication events are recorded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@FunctionalInterface
+public interface AuthenticationRiskProfileEventListener extends CasEventListener {
+    /**
+     * Handle cas event recorded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleCasEventRecordedEvent(CasEventRecordedEvent event);
+}
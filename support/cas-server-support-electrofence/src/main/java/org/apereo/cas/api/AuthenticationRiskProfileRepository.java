@@ -0,0 +1,53 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import java.util.Map;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository} that keeps track of
+ * {@link AuthenticationRiskProfile} instances for principals.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface AuthenticationRiskProfileRepository {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Gets the risk profile for the given principal,
+     * building it from the authentication history if necessary.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record an authentication event into the profile of the event principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+
+    /**
+     * Record the time spent by a risk calculator to score a request.
+     *
+     * @param calculator   the calculator
+     * @param latencyNanos the latency in nanoseconds
+     */
+    default void recordScoringLatency(final String calculator, final long latencyNanos) {
+    }
+
+    /**
+     * Collect repository statistics.
+     *
+     * @return the statistics
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+}
@@ -4,6 +4,8 @@ import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
@@ -21,6 +23,8 @@ import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskMitigator;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifier;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileEventListener;
+import org.apereo.cas.impl.profile.InMemoryAuthenticationRiskProfileRepository;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
@@ -43,6 +47,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -192,6 +197,30 @@ class ElectronicFenceConfiguration {
 
     }
 
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class ElectronicFenceProfileConfiguration {
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository casEventRepository) {
+            return new InMemoryAuthenticationRiskProfileRepository(casEventRepository, casProperties);
+        }
+
+        @ConditionalOnMissingBean(name = "authenticationRiskProfileEventListener")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public AuthenticationRiskProfileEventListener authenticationRiskProfileEventListener(
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
+            return new DefaultAuthenticationRiskProfileEventListener(authenticationRiskProfileRepository);
+        }
+    }
+
     @Configuration(value = "ElectronicFenceCalculatorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class ElectronicFenceCalculatorConfiguration {
@@ -202,11 +231,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.ip.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -217,11 +246,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.agent.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -232,11 +261,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.date-time.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -247,11 +276,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator deviceFingerprintAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.device-fingerprint.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -269,11 +298,11 @@ class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier(GeoLocationService.BEAN_NAME)
             final GeoLocationService geoLocationService,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.geo-location.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService))
+                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties, geoLocationService))
                 .otherwiseProxy()
                 .get();
         }
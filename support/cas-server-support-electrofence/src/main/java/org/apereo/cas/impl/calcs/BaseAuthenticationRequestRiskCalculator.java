@@ -1,13 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +19,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -34,7 +30,7 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseAuthenticationRequestRiskCalculator implements AuthenticationRequestRiskCalculator {
 
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
 
     protected final CasConfigurationProperties casProperties;
 
@@ -42,43 +38,47 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     public final AuthenticationRiskScore calculate(final Authentication authentication,
                                                    final RegisteredService service,
                                                    final ClientInfo clientInfo) {
-        val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
-        if (events.isEmpty()) {
-            return AuthenticationRiskScore.highestRiskScore();
+        val startedAt = System.nanoTime();
+        try {
+            val principal = authentication.getPrincipal();
+            val since = getHistoryStartDate();
+            val profile = authenticationRiskProfileRepository.getProfile(principal.getId());
+            val total = profile.count(since);
+            if (total == 0) {
+                return AuthenticationRiskScore.highestRiskScore();
+            }
+            val score = calculateScore(clientInfo, authentication, service, profile, since, total);
+            val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
+            LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
+            return authenticationRiskScore;
+        } finally {
+            authenticationRiskProfileRepository.recordScoringLatency(getClass().getSimpleName(), System.nanoTime() - startedAt);
         }
-        val score = calculateScore(clientInfo, authentication, service, events);
-        val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
-        LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
-        return authenticationRiskScore;
     }
 
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile,
+                                        final ZonedDateTime since,
+                                        final long total) {
         return AuthenticationRiskScore.highestRiskScore().getScore();
     }
 
-    protected Stream<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now(ZoneOffset.UTC)
+    protected ZonedDateTime getHistoryStartDate() {
+        return ZonedDateTime.now(ZoneOffset.UTC)
             .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
     }
 
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final List<? extends CasEvent> events,
+                                                          final long total,
                                                           final long count) {
-        val eventCount = events.size();
-        if (count == eventCount) {
+        if (count == total) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
                 authentication.getPrincipal(), count);
             return AuthenticationRiskScore.lowestRiskScore().getScore();
         }
-        return getFinalAveragedScore(count, eventCount);
+        return getFinalAveragedScore(count, total);
     }
 
     protected BigDecimal getFinalAveragedScore(final long eventCount, final long total) {
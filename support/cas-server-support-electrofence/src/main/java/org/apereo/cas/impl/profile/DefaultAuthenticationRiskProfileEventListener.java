@@ -0,0 +1,26 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.dao.CasEventRecordedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileEventListener}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class DefaultAuthenticationRiskProfileEventListener implements AuthenticationRiskProfileEventListener {
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Override
+    public void handleCasEventRecordedEvent(final CasEventRecordedEvent event) {
+        LOGGER.trace("Recording event [{}] into authentication risk profile", event.getRecord());
+        authenticationRiskProfileRepository.record(event.getRecord());
+    }
+}
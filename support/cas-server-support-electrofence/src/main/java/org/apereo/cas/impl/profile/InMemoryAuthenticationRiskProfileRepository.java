@@ -0,0 +1,146 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link InMemoryAuthenticationRiskProfileRepository} that keeps principal
+ * risk profiles in memory. A profile is built from the authentication history found in the
+ * events repository the first time it is requested, and is then kept up to date
+ * incrementally as new authentication events are recorded by this node. Profiles are
+ * rebuilt from the events repository at a fixed interval so that events recorded by
+ * other nodes are eventually taken into account as well.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class InMemoryAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    private final LongAdder profileLoads = new LongAdder();
+
+    private final Map<String, ScoringLatency> scoringLatencies = new ConcurrentHashMap<>();
+
+    public InMemoryAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                       final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(core.getMaximumProfiles())
+            .expireAfter(new ProfileRefreshExpiry(Beans.newDuration(core.getProfileRefreshInterval())))
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        val profile = profiles.get(principal, this::loadProfile);
+        profile.prune(getHistoryStartDate());
+        return profile;
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (StringUtils.isNotBlank(event.getPrincipalId()) && EVENT_TYPE.equals(event.getType())) {
+            profiles.asMap().computeIfPresent(event.getPrincipalId(), (principal, profile) -> {
+                LOGGER.trace("Updating authentication risk profile for [{}]", principal);
+                profile.record(event);
+                return profile;
+            });
+        }
+    }
+
+    @Override
+    public void recordScoringLatency(final String calculator, final long latencyNanos) {
+        val latency = scoringLatencies.computeIfAbsent(calculator,
+            __ -> new ScoringLatency(new LongAdder(), new LongAdder(), new AtomicLong()));
+        latency.count().increment();
+        latency.total().add(latencyNanos);
+        latency.maximum().accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val profileSize = profiles.asMap().values().stream().mapToLong(AuthenticationRiskProfile::getSize).sum();
+        val latencies = new ConcurrentHashMap<String, Object>();
+        scoringLatencies.forEach((calculator, latency) -> {
+            val count = latency.count().sum();
+            latencies.put(calculator, Map.of(
+                "count", count,
+                "averageLatency", count == 0 ? 0 : latency.total().sum() / count,
+                "maximumLatency", latency.maximum().get()));
+        });
+        return Map.of(
+            "profileCount", profiles.estimatedSize(),
+            "profileSize", profileSize,
+            "profileLoads", profileLoads.sum(),
+            "scoringLatencies", latencies);
+    }
+
+    protected AuthenticationRiskProfile loadProfile(final String principal) {
+        profileLoads.increment();
+        val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+        val profile = new AuthenticationRiskProfile(principal, core.getMaximumProfileEntries());
+        LOGGER.debug("Building authentication risk profile for [{}] from events of type [{}]", principal, EVENT_TYPE);
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, getHistoryStartDate())) {
+            events.forEach(profile::replay);
+        }
+        return profile;
+    }
+
+    private ZonedDateTime getHistoryStartDate() {
+        val days = casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory();
+        return ZonedDateTime.now(ZoneOffset.UTC).minusDays(days);
+    }
+
+    private record ScoringLatency(LongAdder count, LongAdder total, AtomicLong maximum) {
+    }
+
+    private record ProfileRefreshExpiry(Duration refreshInterval) implements Expiry<String, AuthenticationRiskProfile> {
+        @Override
+        public long expireAfterCreate(final String principal, final AuthenticationRiskProfile profile, final long currentTime) {
+            return refreshInterval.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String principal, final AuthenticationRiskProfile profile,
+                                      final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String principal, final AuthenticationRiskProfile profile,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
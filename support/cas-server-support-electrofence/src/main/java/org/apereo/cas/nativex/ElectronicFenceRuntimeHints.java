@@ -1,6 +1,7 @@
 package org.apereo.cas.nativex;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.springframework.aot.hint.RuntimeHints;
 import java.util.List;
@@ -14,6 +15,6 @@ import java.util.List;
 public class ElectronicFenceRuntimeHints implements CasRuntimeHintsRegistrar {
     @Override
     public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
-        registerProxyHints(hints, List.of(AuthenticationRequestRiskCalculator.class));
+        registerProxyHints(hints, List.of(AuthenticationRequestRiskCalculator.class, AuthenticationRiskProfileEventListener.class));
     }
 }
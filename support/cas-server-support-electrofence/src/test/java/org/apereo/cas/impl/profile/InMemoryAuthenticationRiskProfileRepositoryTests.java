@@ -0,0 +1,83 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link InMemoryAuthenticationRiskProfileRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@TestPropertySource(properties = "cas.authn.adaptive.risk.ip.enabled=true")
+@Tag("Authentication")
+class InMemoryAuthenticationRiskProfileRepositoryTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    void verifyProfileUpdatedIncrementally() throws Throwable {
+        val user = UUID.randomUUID().toString();
+        val since = ZonedDateTime.now(ZoneOffset.UTC).minusDays(30);
+        val first = MockTicketGrantingTicketCreatedEventProducer.createEvent(user, casEventRepository);
+
+        val profile = authenticationRiskProfileRepository.getProfile(user);
+        assertEquals(1, profile.count(since));
+        assertEquals(1, profile.count(AuthenticationRiskProfile.ProfileAttribute.IP_ADDRESS, first.getClientIpAddress(), since));
+        assertEquals(1, profile.count(AuthenticationRiskProfile.ProfileAttribute.USER_AGENT, first.getAgent().toUpperCase(Locale.ENGLISH), since));
+        assertEquals(1, profile.count(AuthenticationRiskProfile.ProfileAttribute.GEO_LOCATION,
+            AuthenticationRiskProfile.getGeoLocationKey(first.getGeoLocation()), since));
+        assertEquals(1, profile.countHours(hour -> true, since));
+        assertEquals(0, profile.count(AuthenticationRiskProfile.ProfileAttribute.DEVICE_FINGERPRINT, "unknown", since));
+
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(user, casEventRepository);
+        val updated = authenticationRiskProfileRepository.getProfile(user);
+        assertSame(profile, updated);
+        assertEquals(2, updated.count(since));
+        assertEquals(0, updated.count(ZonedDateTime.now(ZoneOffset.UTC).plusDays(1)));
+        assertTrue(updated.getSize() > 0);
+    }
+
+    @Test
+    void verifyEventRecordedOnce() throws Throwable {
+        val user = UUID.randomUUID().toString();
+        val since = ZonedDateTime.now(ZoneOffset.UTC).minusDays(30);
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent(user, casEventRepository);
+        val profile = authenticationRiskProfileRepository.getProfile(user);
+        authenticationRiskProfileRepository.record(event);
+        assertEquals(1, profile.count(since));
+        assertEquals(1, profile.count(AuthenticationRiskProfile.ProfileAttribute.IP_ADDRESS, event.getClientIpAddress(), since));
+    }
+
+    @Test
+    void verifyStatistics() {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val service = RegisteredServiceTestUtils.getRegisteredService("test");
+        authenticationRiskEvaluator.evaluate(authentication, service, ClientInfo.from(new MockHttpServletRequest()));
+        val statistics = authenticationRiskProfileRepository.getStatistics();
+        assertTrue(statistics.containsKey("profileCount"));
+        assertTrue(statistics.containsKey("profileSize"));
+        val latencies = (Map) statistics.get("scoringLatencies");
+        assertTrue(latencies.containsKey(IpAddressAuthenticationRequestRiskCalculator.class.getSimpleName()));
+    }
+}
@@ -17,12 +17,17 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +41,16 @@ import java.util.stream.Stream;
  */
 @Slf4j
 public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    /**
+     * Global secondary index keyed by principal and sorted by creation time.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalCreationTimeIndex";
+
+    /**
+     * Global secondary index keyed by event type and sorted by creation time.
+     */
+    public static final String TYPE_INDEX_NAME = "typeCreationTimeIndex";
+
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -71,8 +86,15 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
     public void createTable(final boolean deleteTables) throws Exception {
         DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
             dynamoDbProperties.getTableName(), deleteTables,
-            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.N).build()),
-            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()));
+            List.of(
+                AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.N).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).attributeType(ScalarAttributeType.S).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.TYPE.getColumnName()).attributeType(ScalarAttributeType.S).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.CREATION_TIME.getColumnName()).attributeType(ScalarAttributeType.S).build()),
+            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()),
+            List.of(
+                buildGlobalSecondaryIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL),
+                buildGlobalSecondaryIndex(TYPE_INDEX_NAME, ColumnNames.TYPE)));
     }
 
     /**
@@ -111,12 +133,7 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      * @return the events for principal
      */
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.PRINCIPAL.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
+        return queryIndex(PRINCIPAL_INDEX_NAME, List.of(equalTo(ColumnNames.PRINCIPAL, id)), List.of());
     }
 
     /**
@@ -127,19 +144,8 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      * @return the events for principal
      */
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.CREATION_TIME.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                    .operator(ComparisonOperator.GE)
-                    .build());
-        return getRecordsByKeys(query);
+        return queryIndex(PRINCIPAL_INDEX_NAME,
+            List.of(equalTo(ColumnNames.PRINCIPAL, id), createdSince(dateTime)), List.of());
     }
 
     /**
@@ -150,18 +156,8 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      * @return the events of type
      */
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
+        return queryIndex(TYPE_INDEX_NAME,
+            List.of(equalTo(ColumnNames.TYPE, type), createdSince(dateTime)), List.of());
     }
 
     /**
@@ -171,12 +167,7 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      * @return the events of type
      */
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.TYPE.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
+        return queryIndex(TYPE_INDEX_NAME, List.of(equalTo(ColumnNames.TYPE, type)), List.of());
     }
 
     /**
@@ -189,23 +180,9 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      */
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
                                                                   final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
+        return queryIndex(PRINCIPAL_INDEX_NAME,
+            List.of(equalTo(ColumnNames.PRINCIPAL, principal), createdSince(dateTime)),
+            List.of(equalTo(ColumnNames.TYPE, type)));
     }
 
     /**
@@ -216,19 +193,9 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
      * @return the events of type for principal
      */
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.TYPE.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build());
-        return getRecordsByKeys(query);
+        return queryIndex(PRINCIPAL_INDEX_NAME,
+            List.of(equalTo(ColumnNames.PRINCIPAL, principal)),
+            List.of(equalTo(ColumnNames.TYPE, type)));
     }
 
     /**
@@ -261,6 +228,50 @@ public record DynamoDbCasEventsFacilitator(DynamoDbEventsProperties dynamoDbProp
         private final String columnName;
     }
 
+    private static DynamoDbQueryBuilder equalTo(final ColumnNames column, final String value) {
+        return DynamoDbQueryBuilder.builder()
+            .key(column.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().s(value).build()))
+            .operator(ComparisonOperator.EQ)
+            .build();
+    }
+
+    private static DynamoDbQueryBuilder createdSince(final ZonedDateTime dateTime) {
+        return DynamoDbQueryBuilder.builder()
+            .key(ColumnNames.CREATION_TIME.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
+            .operator(ComparisonOperator.GE)
+            .build();
+    }
+
+    private static GlobalSecondaryIndex buildGlobalSecondaryIndex(final String indexName, final ColumnNames hashKey) {
+        return GlobalSecondaryIndex.builder()
+            .indexName(indexName)
+            .keySchema(
+                KeySchemaElement.builder().attributeName(hashKey.getColumnName()).keyType(KeyType.HASH).build(),
+                KeySchemaElement.builder().attributeName(ColumnNames.CREATION_TIME.getColumnName()).keyType(KeyType.RANGE).build())
+            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+            .build();
+    }
+
+    private Stream<CasEvent> queryIndex(final String indexName,
+                                        final List<DynamoDbQueryBuilder> keyConditions,
+                                        final List<DynamoDbQueryBuilder> filterQueries) {
+        try {
+            return DynamoDbTableUtils.queryPaginator(amazonDynamoDBClient,
+                    dynamoDbProperties.getTableName(), indexName, keyConditions, filterQueries,
+                    Unchecked.function(DynamoDbCasEventsFacilitator::extractAttributeValuesFrom))
+                .toList()
+                .stream();
+        } catch (final DynamoDbException e) {
+            LOGGER.warn("Unable to query index [{}] on table [{}]; falling back to a table scan. "
+                + "Recreate the table to build its secondary indexes: [{}]", indexName, dynamoDbProperties.getTableName(), e.getMessage());
+            val queries = new ArrayList<DynamoDbQueryBuilder>(keyConditions);
+            queries.addAll(filterQueries);
+            return getRecordsByKeys(queries);
+        }
+    }
+
     private Stream<CasEvent> getRecordsByKeys(final List<DynamoDbQueryBuilder> queries) {
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
             dynamoDbProperties.getTableName(),
@@ -19,6 +19,8 @@ import org.springframework.beans.factory.DisposableBean;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -49,36 +51,59 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        influxDbConnectionFactory.write(MEASUREMENT,
-            Map.of("value", event.getEventId()),
-            Map.of(
-                "serverIpAddress", event.getServerIpAddress(),
-                "clientIpAddress", event.getClientIpAddress(),
-                "principalId", event.getPrincipalId(),
-                "geoLocation", Unchecked.supplier(() -> MAPPER.writeValueAsString(event.getGeoLocation())).get(),
-                "creationTime", event.getCreationTime(),
-                "timestamp", String.valueOf(event.getTimestamp()),
-                "type", event.getType()));
+        influxDbConnectionFactory.write(MEASUREMENT, Map.of("value", event.getEventId()), toTags(event));
         return event;
     }
 
+    @Override
+    protected List<CasEvent> saveAllInternal(final List<CasEvent> events) {
+        val points = events
+            .stream()
+            .map(event -> InfluxDbConnectionFactory.buildPoint(MEASUREMENT, Map.of("value", event.getEventId()), toTags(event)))
+            .toList();
+        influxDbConnectionFactory.write(points);
+        return events;
+    }
+
     @Override
     public Stream<? extends CasEvent> load() {
-        val results = influxDbConnectionFactory.query(InfluxDbEvent.class);
-        return results.stream().map(flux -> {
-            val event = new CasEvent();
-            val geo = Unchecked.supplier(() -> MAPPER.readValue(flux.getGeoLocation(), new TypeReference<GeoLocationRequest>() {
-            })).get();
-            event.putGeoLocation(geo);
-            event.setPrincipalId(flux.getPrincipalId());
-            event.setType(flux.getType());
-            event.setCreationTime(flux.getCreationTime());
-            event.putClientIpAddress(flux.getClientIpAddress());
-            event.putServerIpAddress(flux.getServerIpAddress());
-            event.putEventId(flux.getValue());
-            event.putTimestamp(Long.valueOf(flux.getTimestamp()));
-            return event;
-        });
+        return influxDbConnectionFactory.query(InfluxDbEvent.class).stream().map(InfluxDbCasEventRepository::toCasEvent);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return query(dateTime, Map.of());
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return query(null, Map.of(TYPE_PARAM, type, PRINCIPAL_ID_PARAM, principal));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return query(dateTime, Map.of(TYPE_PARAM, type, PRINCIPAL_ID_PARAM, principal));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return query(null, Map.of(TYPE_PARAM, type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return query(dateTime, Map.of(TYPE_PARAM, type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return query(null, Map.of(PRINCIPAL_ID_PARAM, id));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
+        return query(dateTime, Map.of(PRINCIPAL_ID_PARAM, principal));
     }
 
     @Override
@@ -86,6 +111,40 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
         influxDbConnectionFactory.close();
     }
 
+    private static Map<String, String> toTags(final CasEvent event) {
+        return Map.of(
+            "serverIpAddress", event.getServerIpAddress(),
+            "clientIpAddress", event.getClientIpAddress(),
+            "principalId", event.getPrincipalId(),
+            "geoLocation", Unchecked.supplier(() -> MAPPER.writeValueAsString(event.getGeoLocation())).get(),
+            "creationTime", event.getCreationTime(),
+            "timestamp", String.valueOf(event.getTimestamp()),
+            "type", event.getType());
+    }
+
+    private static CasEvent toCasEvent(final InfluxDbEvent flux) {
+        val event = new CasEvent();
+        val geo = Unchecked.supplier(() -> MAPPER.readValue(flux.getGeoLocation(), new TypeReference<GeoLocationRequest>() {
+        })).get();
+        event.putGeoLocation(geo);
+        event.setPrincipalId(flux.getPrincipalId());
+        event.setType(flux.getType());
+        event.setCreationTime(flux.getCreationTime());
+        event.putClientIpAddress(flux.getClientIpAddress());
+        event.putServerIpAddress(flux.getServerIpAddress());
+        event.putEventId(flux.getValue());
+        event.putTimestamp(Long.valueOf(flux.getTimestamp()));
+        return event;
+    }
+
+    private Stream<? extends CasEvent> query(final ZonedDateTime dateTime, final Map<String, String> tags) {
+        val start = dateTime == null ? null : dateTime.toInstant();
+        return influxDbConnectionFactory.query(InfluxDbEvent.class, MEASUREMENT, start, tags)
+            .stream()
+            .map(InfluxDbCasEventRepository::toCasEvent)
+            .filter(event -> dateTime == null || !convertEventCreationTime(event).isBefore(dateTime));
+    }
+
     @Measurement(name = MEASUREMENT)
     @Getter
     @Setter
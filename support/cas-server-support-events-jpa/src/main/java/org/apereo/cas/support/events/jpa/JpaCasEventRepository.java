@@ -18,6 +18,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -78,6 +80,25 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
             .map(JpaCasEvent.class::cast);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        val sql = SELECT_QUERY.concat("where r.creationTime < :creationTime");
+        val query = entityManager.createQuery(sql, JpaCasEvent.class)
+            .setParameter(CREATION_TIME_PARAM, dateTime.toString());
+        query.setLockMode(LockModeType.NONE);
+        return jpaBeanFactory
+            .streamQuery(query)
+            .map(JpaCasEvent.class::cast);
+    }
+
+    @Override
+    public long removeBefore(final ZonedDateTime dateTime) {
+        return entityManager.createQuery("DELETE FROM JpaCasEvent e WHERE e.creationTime < :creationTime")
+            .setParameter(CREATION_TIME_PARAM, dateTime.toString())
+            .executeUpdate();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
@@ -149,14 +170,33 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         val transactionTemplate = new TransactionTemplate(this.transactionManager);
-        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> {
-            val jpaEvent = new JpaCasEvent();
-            jpaEvent.setId(event.getId());
-            jpaEvent.setCreationTime(event.getCreationTime());
-            jpaEvent.setPrincipalId(event.getPrincipalId());
-            jpaEvent.setProperties(event.getProperties());
-            jpaEvent.setType(event.getType());
-            return entityManager.merge(jpaEvent);
+        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> entityManager.merge(toJpaCasEvent(event)));
+    }
+
+    @Override
+    protected List<CasEvent> saveAllInternal(final List<CasEvent> events) {
+        val batchSize = Math.max(1, casProperties.getEvents().getJpa().getBatchSize());
+        val transactionTemplate = new TransactionTemplate(this.transactionManager);
+        return transactionTemplate.execute((TransactionCallback<List<CasEvent>>) ts -> {
+            val results = new ArrayList<CasEvent>(events.size());
+            for (val event : events) {
+                results.add(entityManager.merge(toJpaCasEvent(event)));
+                if (results.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            return results;
         });
     }
+
+    private static JpaCasEvent toJpaCasEvent(final CasEvent event) {
+        val jpaEvent = new JpaCasEvent();
+        jpaEvent.setId(event.getId());
+        jpaEvent.setCreationTime(event.getCreationTime());
+        jpaEvent.setPrincipalId(event.getPrincipalId());
+        jpaEvent.setProperties(event.getProperties());
+        jpaEvent.setType(event.getType());
+        return jpaEvent;
+    }
 }
@@ -2,24 +2,78 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Stream;
 
 /**
  * This is {@link InMemoryCasEventRepository}.
+ * Events are indexed by principal, type and creation time so that lookups
+ * do not have to scan every event in the cache. Index entries are removed
+ * once events are evicted or expire from the cache.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final Cache<String, CasEvent> cache;
+
+    private final Map<String, NavigableSet<IndexedEvent>> principalIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableSet<IndexedEvent>> typeIndex = new ConcurrentHashMap<>();
+
+    private final NavigableSet<IndexedEvent> creationTimeIndex = new ConcurrentSkipListSet<>();
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final Caffeine<Object, Object> cacheBuilder) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.cache = cacheBuilder
+            .<String, CasEvent>removalListener(this::removeFromIndexes)
+            .build();
+    }
+
+    private static String getPrincipalIndexKey(final String principal) {
+        return StringUtils.lowerCase(principal);
+    }
+
+    private static Stream<IndexedEvent> since(final NavigableSet<IndexedEvent> events, final ZonedDateTime dateTime) {
+        if (events == null) {
+            return Stream.empty();
+        }
+        return dateTime == null
+            ? events.stream()
+            : events.tailSet(new IndexedEvent(dateTime.toInstant().toEpochMilli(), StringUtils.EMPTY), true).stream();
+    }
+
+    private static void addToIndex(final Map<String, NavigableSet<IndexedEvent>> index, final String indexKey,
+                                   final IndexedEvent indexedEvent) {
+        index.compute(indexKey, (__, events) -> {
+            val results = events == null ? new ConcurrentSkipListSet<IndexedEvent>() : events;
+            results.add(indexedEvent);
+            return results;
+        });
+    }
+
+    private static void removeFromIndex(final Map<String, NavigableSet<IndexedEvent>> index, final String indexKey,
+                                        final IndexedEvent indexedEvent) {
+        if (indexKey != null) {
+            index.computeIfPresent(indexKey, (__, events) -> {
+                events.remove(indexedEvent);
+                return events.isEmpty() ? null : events;
+            });
+        }
     }
 
     @Override
@@ -27,18 +81,63 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
         return cache.asMap().values().stream();
     }
 
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return resolve(since(creationTimeIndex, dateTime));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        return resolve(before(dateTime).stream());
+    }
+
+    @Override
+    public long removeBefore(final ZonedDateTime dateTime) {
+        val keys = before(dateTime).stream().map(IndexedEvent::key).toList();
+        cache.invalidateAll(keys);
+        cache.cleanUp();
+        return keys.size();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEventsForPrincipal(principal).filter(event -> StringUtils.equals(event.getType(), type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return getEventsForPrincipal(principal, dateTime).filter(event -> StringUtils.equals(event.getType(), type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return getEventsOfType(type, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return resolve(since(typeIndex.get(type), dateTime));
+    }
+
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return getEventsForPrincipal(id, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return resolve(since(principalIndex.get(getPrincipalIndexKey(id)), dateTime));
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+        val key = UUID.randomUUID().toString();
+        val indexedEvent = IndexedEvent.of(key, event);
+        addToIndex(principalIndex, getPrincipalIndexKey(event.getPrincipalId()), indexedEvent);
+        addToIndex(typeIndex, event.getType(), indexedEvent);
+        creationTimeIndex.add(indexedEvent);
+        cache.put(key, event);
         return event;
     }
 
@@ -46,5 +145,42 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
     public void removeAll() {
         cache.invalidateAll();
         cache.cleanUp();
+        principalIndex.clear();
+        typeIndex.clear();
+        creationTimeIndex.clear();
+    }
+
+    private NavigableSet<IndexedEvent> before(final ZonedDateTime dateTime) {
+        return creationTimeIndex.headSet(new IndexedEvent(dateTime.toInstant().toEpochMilli(), StringUtils.EMPTY), false);
+    }
+
+    private Stream<CasEvent> resolve(final Stream<IndexedEvent> indexedEvents) {
+        return indexedEvents
+            .map(indexedEvent -> cache.getIfPresent(indexedEvent.key()))
+            .filter(Objects::nonNull);
+    }
+
+    private void removeFromIndexes(final String key, final CasEvent event, final RemovalCause cause) {
+        if (key != null && event != null && cause != RemovalCause.REPLACED) {
+            val indexedEvent = IndexedEvent.of(key, event);
+            removeFromIndex(principalIndex, getPrincipalIndexKey(event.getPrincipalId()), indexedEvent);
+            removeFromIndex(typeIndex, event.getType(), indexedEvent);
+            creationTimeIndex.remove(indexedEvent);
+        }
+    }
+
+    private record IndexedEvent(long creationTime, String key) implements Comparable<IndexedEvent> {
+        private static final Comparator<IndexedEvent> COMPARATOR = Comparator
+            .comparingLong(IndexedEvent::creationTime)
+            .thenComparing(IndexedEvent::key);
+
+        static IndexedEvent of(final String key, final CasEvent event) {
+            return new IndexedEvent(convertEventCreationTime(event).toInstant().toEpochMilli(), key);
+        }
+
+        @Override
+        public int compareTo(final IndexedEvent other) {
+            return COMPARATOR.compare(this, other);
+        }
     }
 }
@@ -5,8 +5,11 @@ import org.apereo.cas.config.CasEventsInMemoryRepositoryAutoConfiguration;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.lock.LockRepository;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
@@ -15,6 +18,13 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
@@ -36,4 +46,66 @@ class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
     @Autowired
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository eventRepository;
+
+    private static CasEvent buildCasEvent(final String principal, final String type, final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setPrincipalId(principal);
+        event.setType(type);
+        event.setCreationTime(creationTime.format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        event.putTimestamp(creationTime.toInstant().toEpochMilli());
+        event.putEventId(UUID.randomUUID().toString());
+        return event;
+    }
+
+    @Test
+    void verifyIndexedLookups() throws Throwable {
+        eventRepository.removeAll();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        eventRepository.save(buildCasEvent("casuser", "login", now.minusDays(10)));
+        eventRepository.save(buildCasEvent("CASUSER", "login", now.minusHours(1)));
+        eventRepository.save(buildCasEvent("casuser", "logout", now.minusMinutes(5)));
+        eventRepository.save(buildCasEvent("other", "login", now.minusMinutes(1)));
+
+        assertEquals(3, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(2, eventRepository.getEventsForPrincipal("casuser", now.minusDays(1)).count());
+        assertEquals(3, eventRepository.getEventsOfType("login").count());
+        assertEquals(2, eventRepository.getEventsOfType("login", now.minusDays(1)).count());
+        assertEquals(2, eventRepository.getEventsOfTypeForPrincipal("login", "casuser").count());
+        assertEquals(1, eventRepository.getEventsOfTypeForPrincipal("login", "casuser", now.minusDays(1)).count());
+        assertEquals(3, eventRepository.load(now.minusDays(1)).count());
+        assertEquals(0, eventRepository.getEventsForPrincipal("unknown").count());
+
+        eventRepository.removeAll();
+        assertEquals(0, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(0, eventRepository.load(now.minusDays(30)).count());
+    }
+
+    @Test
+    void verifyRetentionWithSummaries() throws Throwable {
+        eventRepository.removeAll();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        eventRepository.save(buildCasEvent("casuser", "login", now.minusDays(40)));
+        eventRepository.save(buildCasEvent("casuser", "login", now.minusDays(35)));
+        eventRepository.save(buildCasEvent("casuser", "logout", now.minusDays(35)));
+        eventRepository.save(buildCasEvent("casuser", "login", now.minusDays(1)));
+        assertEquals(3, eventRepository.loadBefore(now.minusDays(30)).count());
+
+        val cleaner = new CasEventRetentionCleaner(LockRepository.asDefault(), eventRepository, Duration.ofDays(30), true,
+            Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+        assertEquals(3, cleaner.clean());
+        assertEquals(1, eventRepository.getEventsOfType("login", now.minusDays(30)).count());
+        val summaries = eventRepository.getEventsOfType(CasEventRetentionCleaner.SUMMARY_EVENT_TYPE).toList();
+        assertEquals(1, summaries.size());
+        assertEquals("2", summaries.getFirst().getProperties().get(CasEventRetentionCleaner.SUMMARY_COUNT_PREFIX + "login"));
+        assertEquals("1", summaries.getFirst().getProperties().get(CasEventRetentionCleaner.SUMMARY_COUNT_PREFIX + "logout"));
+
+        eventRepository.save(buildCasEvent("casuser", "login", now.minusDays(20)));
+        val laterCleaner = new CasEventRetentionCleaner(LockRepository.asDefault(), eventRepository, Duration.ofDays(10), true,
+            Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+        assertEquals(2, laterCleaner.clean());
+        val folded = eventRepository.getEventsOfType(CasEventRetentionCleaner.SUMMARY_EVENT_TYPE).toList();
+        assertEquals(1, folded.size());
+        assertEquals("3", folded.getFirst().getProperties().get(CasEventRetentionCleaner.SUMMARY_COUNT_PREFIX + "login"));
+        assertEquals(1, eventRepository.getEventsOfType("login").count());
+    }
 }
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.dao.CasEventPartitioning;
 import org.apereo.cas.support.events.mongo.MongoDbCasEventRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.mongodb.core.MongoOperations;
+import java.util.Locale;
 
 /**
  * This is {@link CasMongoDbEventsAutoConfiguration}, defines certain beans via configuration
@@ -47,6 +49,8 @@ public class CasMongoDbEventsAutoConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, MongoDbCasEventRepository.getIndexes());
         return mongoTemplate;
     }
 
@@ -66,6 +70,7 @@ public class CasMongoDbEventsAutoConfiguration {
         @Qualifier("mongoEventsTemplate")
         final MongoOperations mongoEventsTemplate) {
         val mongo = casProperties.getEvents().getMongo();
-        return new MongoDbCasEventRepository(mongoEventRepositoryFilter, mongoEventsTemplate, mongo.getCollection());
+        return new MongoDbCasEventRepository(mongoEventRepositoryFilter, mongoEventsTemplate, mongo.getCollection(),
+            CasEventPartitioning.valueOf(mongo.getPartitioning().trim().toUpperCase(Locale.ENGLISH)));
     }
 }
@@ -1,61 +1,115 @@
 package org.apereo.cas.support.events.mongo;
 
+import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventPartitioning;
 
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link MongoDbCasEventRepository} that stores event data into a mongodb database.
+ * Events may be partitioned into daily or weekly collections, in which case date-bound queries
+ * only touch the collections that overlap the requested date, and expired collections
+ * are dropped as a whole. Events that were stored before partitioning was turned on remain
+ * in the base collection and continue to be queried. Known partitions are cached, updated as partitions
+ * are created or dropped by this repository, and periodically reloaded to find partitions created by others.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
-@ToString
+@ToString(of = {"collectionName", "partitioning"})
+@Slf4j
 public class MongoDbCasEventRepository extends AbstractCasEventRepository {
 
+    private static final Duration PARTITIONS_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
     private final MongoOperations mongoTemplate;
 
     private final String collectionName;
 
+    private final CasEventPartitioning partitioning;
+
+    private final Map<String, LocalDate> partitions = new ConcurrentSkipListMap<>();
+
+    private volatile long partitionsLoadedAt;
+
     public MongoDbCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
                                      final MongoOperations mongoTemplate,
                                      final String collectionName) {
+        this(eventRepositoryFilter, mongoTemplate, collectionName, CasEventPartitioning.NONE);
+    }
+
+    public MongoDbCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
+                                     final MongoOperations mongoTemplate,
+                                     final String collectionName,
+                                     final CasEventPartitioning partitioning) {
         super(eventRepositoryFilter);
         this.mongoTemplate = mongoTemplate;
         this.collectionName = collectionName;
+        this.partitioning = partitioning;
+    }
+
+    /**
+     * Build the indexes that are created for event collections.
+     *
+     * @return the indexes
+     */
+    public static List<Index> getIndexes() {
+        val principalIndex = new Index().on(PRINCIPAL_ID_PARAM, Sort.Direction.ASC)
+            .on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC);
+        val typeIndex = new Index().on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC);
+        val creationTimeIndex = new Index().on(CREATION_TIME_PARAM, Sort.Direction.ASC);
+        return List.of(principalIndex, typeIndex, creationTimeIndex);
     }
 
     @Override
     public void removeAll() {
         mongoTemplate.remove(new Query(), CasEvent.class, this.collectionName);
+        getPartitions().keySet().forEach(mongoTemplate::dropCollection);
+        partitions.clear();
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        return this.mongoTemplate.stream(new Query(), CasEvent.class, this.collectionName);
+        return stream(new Query(), null);
     }
 
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
         val query = new Query();
         query.addCriteria(Criteria.where(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, dateTime);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
         val query = new Query();
         query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).is(principal));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, null);
     }
 
     @Override
@@ -66,39 +120,132 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         query.addCriteria(Criteria.where(TYPE_PARAM).is(type)
             .and(PRINCIPAL_ID_PARAM).is(principal)
             .and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, dateTime);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
         val query = new Query();
         query.addCriteria(Criteria.where(TYPE_PARAM).is(type));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, null);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
         val query = new Query();
         query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, dateTime);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
         val query = new Query();
         query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(id));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, null);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
         val query = new Query();
         query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(principal).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+        return stream(query, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        val query = new Query(Criteria.where(CREATION_TIME_PARAM).lt(dateTime.toString()));
+        val collections = new ArrayList<String>();
+        collections.add(collectionName);
+        getPartitions().forEach((name, start) -> {
+            if (start.atStartOfDay(ZoneOffset.UTC).isBefore(dateTime)) {
+                collections.add(name);
+            }
+        });
+        return collections.stream().flatMap(name -> mongoTemplate.stream(query, CasEvent.class, name));
+    }
+
+    @Override
+    public long removeBefore(final ZonedDateTime dateTime) {
+        val query = new Query(Criteria.where(CREATION_TIME_PARAM).lt(dateTime.toString()));
+        var count = mongoTemplate.remove(query, CasEvent.class, collectionName).getDeletedCount();
+        for (val entry : getPartitions().entrySet()) {
+            val partitionEnd = partitioning.getPartitionEnd(entry.getValue());
+            if (!partitionEnd.isAfter(dateTime)) {
+                count += mongoTemplate.getCollection(entry.getKey()).estimatedDocumentCount();
+                LOGGER.debug("Dropping expired event partition [{}]", entry.getKey());
+                mongoTemplate.dropCollection(entry.getKey());
+                partitions.remove(entry.getKey());
+            } else if (entry.getValue().atStartOfDay(ZoneOffset.UTC).isBefore(dateTime)) {
+                count += mongoTemplate.remove(query, CasEvent.class, entry.getKey()).getDeletedCount();
+            }
+        }
+        return count;
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        return this.mongoTemplate.save(event, this.collectionName);
+        return this.mongoTemplate.save(event, getCollectionName(event));
+    }
+
+    @Override
+    protected List<CasEvent> saveAllInternal(final List<CasEvent> events) {
+        val eventsByCollection = events.stream().collect(Collectors.groupingBy(this::getCollectionName));
+        eventsByCollection.forEach((name, eventsToSave) -> {
+            val operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CasEvent.class, name);
+            eventsToSave.forEach(event -> operations.replaceOne(new Query(Criteria.where("_id").is(event.getId())),
+                event, FindAndReplaceOptions.options().upsert()));
+            operations.execute();
+        });
+        return events;
+    }
+
+    private Stream<CasEvent> stream(final Query query, final ZonedDateTime dateTime) {
+        if (partitioning == CasEventPartitioning.NONE) {
+            return mongoTemplate.stream(query, CasEvent.class, collectionName);
+        }
+        val collections = new ArrayList<String>();
+        collections.add(collectionName);
+        getPartitions().forEach((name, start) -> {
+            if (dateTime == null || partitioning.getPartitionEnd(start).isAfter(dateTime)) {
+                collections.add(name);
+            }
+        });
+        LOGGER.trace("Querying event collections [{}]", collections);
+        return collections.stream().flatMap(name -> mongoTemplate.stream(query, CasEvent.class, name));
+    }
+
+    private Map<String, LocalDate> getPartitions() {
+        if (partitioning == CasEventPartitioning.NONE) {
+            return Map.of();
+        }
+        if (System.currentTimeMillis() - partitionsLoadedAt >= PARTITIONS_REFRESH_INTERVAL.toMillis()) {
+            synchronized (partitions) {
+                val now = System.currentTimeMillis();
+                if (now - partitionsLoadedAt >= PARTITIONS_REFRESH_INTERVAL.toMillis()) {
+                    val found = new TreeMap<String, LocalDate>();
+                    mongoTemplate.getCollectionNames().forEach(name -> partitioning.getPartitionStart(collectionName, name)
+                        .ifPresent(start -> found.put(name, start)));
+                    LOGGER.trace("Loaded event partitions [{}]", found.keySet());
+                    partitions.keySet().retainAll(found.keySet());
+                    partitions.putAll(found);
+                    partitionsLoadedAt = now;
+                }
+            }
+        }
+        return new TreeMap<>(partitions);
+    }
+
+    private String getCollectionName(final CasEvent event) {
+        if (partitioning == CasEventPartitioning.NONE || StringUtils.isBlank(event.getCreationTime())) {
+            return collectionName;
+        }
+        val partitionStart = partitioning.getPartitionStart(convertEventCreationTime(event));
+        val name = partitioning.getPartitionName(collectionName, partitionStart);
+        if (partitions.putIfAbsent(name, partitionStart) == null && !mongoTemplate.collectionExists(name)) {
+            LOGGER.debug("Creating event partition [{}]", name);
+            MongoDbConnectionFactory.createCollection(mongoTemplate, name, false);
+            MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, mongoTemplate.getCollection(name), getIndexes());
+        }
+        return name;
     }
 }
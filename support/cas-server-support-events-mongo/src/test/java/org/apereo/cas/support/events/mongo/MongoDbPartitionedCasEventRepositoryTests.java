@@ -0,0 +1,97 @@
+package org.apereo.cas.support.events.mongo;
+
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasMongoDbEventsAutoConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.data.mongodb.core.MongoOperations;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link MongoDbCasEventRepository} with daily partitions.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("MongoDb")
+@ExtendWith(CasTestExtension.class)
+@SpringBootTest(classes = {
+    CasMongoDbEventsAutoConfiguration.class,
+    CasCoreWebAutoConfiguration.class,
+    RefreshAutoConfiguration.class
+},
+    properties = {
+        "cas.events.mongo.user-id=root",
+        "cas.events.mongo.password=secret",
+        "cas.events.mongo.host=localhost",
+        "cas.events.mongo.port=27017",
+        "cas.events.mongo.authentication-database-name=admin",
+        "cas.events.mongo.database-name=events",
+        "cas.events.mongo.collection=PartitionedCasEvents",
+        "cas.events.mongo.partitioning=DAILY",
+        "cas.events.mongo.drop-collection=true"
+    })
+@Getter
+@EnabledIfListeningOnPort(port = 27017)
+@EnableConfigurationProperties({CasConfigurationProperties.class, WebProperties.class})
+class MongoDbPartitionedCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
+
+    @Autowired
+    @Qualifier(CasEventRepository.BEAN_NAME)
+    private CasEventRepository eventRepository;
+
+    @Autowired
+    @Qualifier("mongoEventsTemplate")
+    private MongoOperations mongoEventsTemplate;
+
+    private static CasEvent buildCasEvent(final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setId(creationTime.toInstant().toEpochMilli());
+        event.setPrincipalId("casuser");
+        event.setType("login");
+        event.setCreationTime(creationTime.format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        event.putTimestamp(creationTime.toInstant().toEpochMilli());
+        event.putEventId(UUID.randomUUID().toString());
+        return event;
+    }
+
+    @Test
+    void verifyPartitionsQueriedAndDropped() throws Throwable {
+        eventRepository.removeAll();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        eventRepository.save(buildCasEvent(now.minusDays(10)));
+        eventRepository.save(buildCasEvent(now.minusDays(5)));
+        eventRepository.save(buildCasEvent(now.minusHours(1)));
+
+        val partitions = mongoEventsTemplate.getCollectionNames()
+            .stream()
+            .filter(name -> name.startsWith("PartitionedCasEvents_"))
+            .count();
+        assertTrue(partitions >= 3);
+        assertEquals(3, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(1, eventRepository.getEventsForPrincipal("casuser", now.minusDays(1)).count());
+        assertEquals(2, eventRepository.loadBefore(now.minusDays(1)).count());
+
+        assertEquals(2, eventRepository.removeBefore(now.minusDays(1)));
+        assertEquals(1, eventRepository.load().count());
+    }
+}
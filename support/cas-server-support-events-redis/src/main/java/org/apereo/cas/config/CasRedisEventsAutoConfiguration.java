@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.support.events.CasEventRepository;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import java.time.Duration;
 
 /**
  * This is {@link CasRedisEventsAutoConfiguration}.
@@ -72,7 +74,9 @@ public class CasRedisEventsAutoConfiguration {
         @Qualifier("redisEventRepositoryFilter")
         final CasEventRepositoryFilter redisEventRepositoryFilter,
         final CasConfigurationProperties casProperties) {
+        val retention = casProperties.getEvents().getCore().getRetention();
+        val timeToLive = retention.isEnabled() ? Beans.newDuration(retention.getMaximumAge()) : Duration.ZERO;
         return new RedisCasEventRepository(redisEventRepositoryFilter, redisEventTemplate,
-            casProperties.getEvents().getRedis().getScanCount());
+            casProperties.getEvents().getRedis().getScanCount(), timeToLive);
     }
 }
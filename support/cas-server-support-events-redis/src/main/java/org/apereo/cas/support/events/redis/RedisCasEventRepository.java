@@ -9,7 +9,11 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -32,12 +36,22 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     private final long scanCount;
 
+    private final Duration timeToLive;
+
     public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
                                    final CasRedisTemplate<String, CasEvent> redisTemplate,
                                    final long scanCount) {
+        this(eventRepositoryFilter, redisTemplate, scanCount, Duration.ZERO);
+    }
+
+    public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
+                                   final CasRedisTemplate<String, CasEvent> redisTemplate,
+                                   final long scanCount,
+                                   final Duration timeToLive) {
         super(eventRepositoryFilter);
         this.template = redisTemplate;
         this.scanCount = scanCount;
+        this.timeToLive = timeToLive;
     }
 
     private static String getKey(final String type, final String principal, final String timestamp) {
@@ -150,10 +164,40 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         val key = getKey(event.getType(), event.getPrincipalId(), String.valueOf(event.getTimestamp()));
         LOGGER.trace("Saving event record based on key [{}]", key);
         val ops = this.template.boundValueOps(key);
-        ops.set(event);
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            ops.set(event);
+        } else {
+            ops.set(event, timeToLive);
+        }
         return event;
     }
 
+    @Override
+    public Stream<? extends CasEvent> loadBefore(final ZonedDateTime dateTime) {
+        try (val keys = getKeys("*", "*", "*")) {
+            return keys
+                .map(key -> this.template.boundValueOps(key).get())
+                .filter(Objects::nonNull)
+                .filter(event -> event.getTimestamp() < dateTime.toInstant().toEpochMilli())
+                .toList()
+                .stream();
+        }
+    }
+
+    @Override
+    public long removeBefore(final ZonedDateTime dateTime) {
+        val cutoff = dateTime.toInstant().toEpochMilli();
+        try (val keys = getKeys("*", "*", "*")) {
+            return keys
+                .filter(key -> {
+                    val timestamp = StringUtils.substringAfterLast(key, KEY_SEPARATOR);
+                    return NumberUtils.isCreatable(timestamp) && NumberUtils.toLong(timestamp) < cutoff;
+                })
+                .filter(key -> BooleanUtils.isTrue(template.delete(key)))
+                .count();
+        }
+    }
+
     private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
@@ -21,6 +21,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.io.Resource;
+import java.util.Locale;
 
 /**
  * This is {@link CasGeoLocationMaxmindAutoConfiguration}.
@@ -33,11 +34,12 @@ import org.springframework.core.io.Resource;
 @AutoConfiguration
 public class CasGeoLocationMaxmindAutoConfiguration {
 
-    private static DatabaseReader readDatabase(final Resource maxmindDatabase) throws Exception {
+    private static DatabaseReader readDatabase(final Resource maxmindDatabase,
+                                               final Reader.FileMode fileMode) throws Exception {
         return FunctionUtils.doIf(ResourceUtils.doesResourceExist(maxmindDatabase),
                 Unchecked.supplier(() ->
                     new DatabaseReader.Builder(maxmindDatabase.getFile())
-                        .fileMode(Reader.FileMode.MEMORY)
+                        .fileMode(fileMode)
                         .withCache(new CHMCache())
                         .build()),
                 () -> null)
@@ -49,8 +51,9 @@ public class CasGeoLocationMaxmindAutoConfiguration {
     @ConditionalOnMissingBean(name = "maxMindGeoLocationService")
     public GeoLocationService maxMindGeoLocationService(final CasConfigurationProperties casProperties) throws Exception {
         val properties = casProperties.getGeoLocation().getMaxmind();
-        val cityDatabase = readDatabase(properties.getCityDatabase());
-        val countryDatabase = readDatabase(properties.getCountryDatabase());
+        val fileMode = Reader.FileMode.valueOf(properties.getFileMode().trim().toUpperCase(Locale.ENGLISH));
+        val cityDatabase = readDatabase(properties.getCityDatabase(), fileMode);
+        val countryDatabase = readDatabase(properties.getCountryDatabase(), fileMode);
         return new MaxmindDatabaseGeoLocationService(properties, cityDatabase, countryDatabase, null);
     }
 
@@ -1,8 +1,10 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.adaptive.geo.CachingGeoLocationService;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.GroovyGeoLocationService;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
@@ -35,14 +37,25 @@ import java.util.List;
 public class CasGeoLocationAutoConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-    public GeoLocationService geoLocationService(final List<GeoLocationServiceConfigurer> providers) {
+    public GeoLocationService geoLocationService(
+        final CasConfigurationProperties casProperties,
+        final List<GeoLocationServiceConfigurer> providers) {
         val services = providers.stream()
             .map(GeoLocationServiceConfigurer::configure)
             .filter(BeanSupplier::isNotProxy)
             .sorted(AnnotationAwareOrderComparator.INSTANCE).toList();
         return BeanSupplier.of(GeoLocationService.class)
             .when(!services.isEmpty())
-            .supply(services::getFirst)
+            .supply(() -> {
+                val cache = casProperties.getGeoLocation().getCache();
+                if (cache.isEnabled()) {
+                    return new CachingGeoLocationService(services.getFirst(),
+                        cache.getIpv4PrefixLength(), cache.getIpv6PrefixLength(), cache.getMaximumSize(),
+                        Beans.newDuration(cache.getExpireAfterWrite()),
+                        Beans.newDuration(cache.getNegativeExpireAfterWrite()));
+                }
+                return services.getFirst();
+            })
             .otherwiseProxy()
             .get();
     }
@@ -2,12 +2,15 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryPerformanceProperties;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.hz.HazelcastMapCustomizer;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider;
 import org.apereo.cas.ticket.registry.HazelcastTicketDocument;
+import org.apereo.cas.ticket.registry.HazelcastTicketDocumentCompactSerializer;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.MapAttributeValueExtractor;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
@@ -17,9 +20,14 @@ import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -82,10 +90,17 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
     public HazelcastInstance casTicketRegistryHazelcastInstance(
         final ConfigurableApplicationContext applicationContext,
         @Qualifier(TicketCatalog.BEAN_NAME) final TicketCatalog ticketCatalog,
+        @Qualifier(TicketSerializationManager.BEAN_NAME) final TicketSerializationManager ticketSerializationManager,
         final CasConfigurationProperties casProperties) {
         val hz = casProperties.getTicket().getRegistry().getHazelcast();
+        val performance = hz.getPerformance();
         LOGGER.debug("Creating Hazelcast instance for members [{}]", hz.getCluster().getNetwork().getMembers());
-        val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(HazelcastConfigurationFactory.build(hz));
+        val hazelcastConfig = HazelcastConfigurationFactory.build(hz);
+        if (performance.isEnabled() && performance.isCompactSerialization()) {
+            hazelcastConfig.getSerializationConfig().getCompactSerializationConfig()
+                .addSerializer(new HazelcastTicketDocumentCompactSerializer(ticketSerializationManager));
+        }
+        val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(hazelcastConfig);
         val ticketDefinitions = ticketCatalog.findAll();
 
         ticketDefinitions
@@ -103,6 +118,13 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
                     attributeConfig.setName("attributes");
                     attributeConfig.setExtractorClassName(MapAttributeValueExtractor.class.getName());
                     mapConfig.addAttributeConfig(attributeConfig);
+
+                    if (performance.isEnabled()) {
+                        mapConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
+                        if (performance.isNearCache() && TicketGrantingTicket.PREFIX.equals(defn.getPrefix())) {
+                            mapConfig.setNearCacheConfig(buildNearCacheConfig(props.getStorageName(), performance));
+                        }
+                    }
                 }
                 return config;
             })
@@ -113,7 +135,15 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
             })
             .forEach(map -> HazelcastConfigurationFactory.setConfigMap(map, hazelcastInstance.getConfig()));
 
-        if (hz.getCore().isEnableJet()) {
+        if (performance.isEnabled()) {
+            ticketDefinitions.forEach(defn -> {
+                val map = hazelcastInstance.getMap(defn.getProperties().getStorageName());
+                map.addIndex(IndexType.HASH, "principal");
+                map.addIndex(IndexType.HASH, "service");
+                map.addIndex(IndexType.SORTED, "expirationTime");
+                LOGGER.debug("Created Hazelcast indexes for [{}]", defn.getPrefix());
+            });
+        } else if (hz.getCore().isEnableJet()) {
             ticketDefinitions.forEach(defn -> {
                 val query = buildCreateMappingQuery(defn);
                 LOGGER.trace("Creating mapping for [{}] via [{}]", defn.getPrefix(), query);
@@ -125,6 +155,20 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
         return hazelcastInstance;
     }
 
+    private static NearCacheConfig buildNearCacheConfig(final String mapName,
+                                                        final HazelcastTicketRegistryPerformanceProperties performance) {
+        val evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(performance.getNearCacheMaxSize());
+        return new NearCacheConfig(mapName)
+            .setInMemoryFormat(InMemoryFormat.BINARY)
+            .setInvalidateOnChange(true)
+            .setCacheLocalEntries(false)
+            .setTimeToLiveSeconds(performance.getNearCacheTimeToLiveSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     private static String buildCreateMappingQuery(final TicketDefinition defn) {
         val builder = new StringBuilder(String.format("CREATE MAPPING IF NOT EXISTS \"%s\" ", defn.getProperties().getStorageName()));
         builder.append("TYPE IMap ");
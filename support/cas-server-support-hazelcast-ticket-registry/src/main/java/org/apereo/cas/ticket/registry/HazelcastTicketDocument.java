@@ -38,6 +38,8 @@ public class HazelcastTicketDocument implements Serializable {
 
     private long timeToLive;
 
+    private long expirationTime;
+
     private String prefix;
 
     @Builder.Default
@@ -0,0 +1,96 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.EncodedTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.EncodingUtils;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This is {@link HazelcastTicketDocumentCompactSerializer} that writes ticket documents using
+ * Hazelcast compact serialization. Tickets are carried as JSON produced by the {@link TicketSerializationManager},
+ * or as their encoded bytes when tickets are encrypted, and ticket attributes are flattened into
+ * a pair of parallel arrays of attribute names and values.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+public class HazelcastTicketDocumentCompactSerializer implements CompactSerializer<HazelcastTicketDocument> {
+    private final TicketSerializationManager ticketSerializationManager;
+
+    @Override
+    public HazelcastTicketDocument read(final CompactReader reader) {
+        val id = reader.readString("id");
+        val prefix = reader.readString("prefix");
+        val ticketType = reader.readString("ticketType");
+        val ticketContent = reader.readString("ticket");
+        val ticket = StringUtils.equals(ticketType, DefaultEncodedTicket.class.getName())
+            ? new DefaultEncodedTicket(ticketContent, id, prefix)
+            : ticketSerializationManager.deserializeTicket(ticketContent, ticketType);
+
+        val attributes = new HashMap<String, List<Object>>();
+        val attributeNames = reader.readArrayOfString("attributeNames");
+        val attributeValues = reader.readArrayOfString("attributeValues");
+        for (var i = 0; attributeNames != null && i < attributeNames.length; i++) {
+            attributes.computeIfAbsent(attributeNames[i], __ -> new ArrayList<>()).add(attributeValues[i]);
+        }
+        return HazelcastTicketDocument.builder()
+            .id(id)
+            .type(reader.readString("type"))
+            .principal(reader.readString("principal"))
+            .service(reader.readString("service"))
+            .prefix(prefix)
+            .timeToLive(reader.readInt64("timeToLive"))
+            .expirationTime(reader.readInt64("expirationTime"))
+            .ticket(ticket)
+            .attributes(attributes)
+            .build();
+    }
+
+    @Override
+    public void write(final CompactWriter writer, final HazelcastTicketDocument document) {
+        writer.writeString("id", document.getId());
+        writer.writeString("type", document.getType());
+        writer.writeString("principal", document.getPrincipal());
+        writer.writeString("service", document.getService());
+        writer.writeString("prefix", document.getPrefix());
+        writer.writeInt64("timeToLive", document.getTimeToLive());
+        writer.writeInt64("expirationTime", document.getExpirationTime());
+
+        val ticket = document.getTicket();
+        if (ticket instanceof final EncodedTicket encodedTicket) {
+            writer.writeString("ticketType", DefaultEncodedTicket.class.getName());
+            writer.writeString("ticket", EncodingUtils.encodeBase64(encodedTicket.getEncodedTicket()));
+        } else {
+            writer.writeString("ticketType", ticket.getClass().getName());
+            writer.writeString("ticket", ticketSerializationManager.serializeTicket(ticket));
+        }
+
+        val attributeNames = new ArrayList<String>();
+        val attributeValues = new ArrayList<String>();
+        document.getAttributes().forEach((name, values) -> values.forEach(value -> {
+            attributeNames.add(name);
+            attributeValues.add(value.toString());
+        }));
+        writer.writeArrayOfString("attributeNames", attributeNames.toArray(String[]::new));
+        writer.writeArrayOfString("attributeValues", attributeValues.toArray(String[]::new));
+    }
+
+    @Override
+    public String getTypeName() {
+        return HazelcastTicketDocument.class.getSimpleName();
+    }
+
+    @Override
+    public Class<HazelcastTicketDocument> getCompactClass() {
+        return HazelcastTicketDocument.class;
+    }
+}
@@ -0,0 +1,93 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import java.io.Serial;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastTicketGrantingTicketEntryProcessor} that updates a ticket-granting ticket
+ * in place, on the cluster member that owns it. The processor only carries the state of the ticket that changes
+ * as service tickets are granted, that is the services, proxy-granting and descendant tickets and the usage of
+ * the ticket, and leaves the authentication and expiration policy of the stored ticket untouched.
+ * The processor returns {@code false} when the ticket cannot be found or is not stored in a form it can update,
+ * in which case the caller is expected to store the ticket in full.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class HazelcastTicketGrantingTicketEntryProcessor implements EntryProcessor<String, HazelcastTicketDocument, Boolean> {
+    @Serial
+    private static final long serialVersionUID = 2806893766163370874L;
+
+    private final HashMap<String, Service> services;
+
+    private final HashMap<String, Service> proxyGrantingTickets;
+
+    private final HashSet<String> descendantTickets;
+
+    private final int countOfUses;
+
+    private final ZonedDateTime lastTimeUsed;
+
+    private final ZonedDateTime previousTimeUsed;
+
+    private final long expirationTime;
+
+    private final long timeToLive;
+
+    public HazelcastTicketGrantingTicketEntryProcessor(final TicketGrantingTicketImpl ticketGrantingTicket,
+                                                       final long expirationTime, final long timeToLive) {
+        this(new HashMap<>(ticketGrantingTicket.getServices()),
+            new HashMap<>(ticketGrantingTicket.getProxyGrantingTickets()),
+            new HashSet<>(ticketGrantingTicket.getDescendantTickets()),
+            ticketGrantingTicket.getCountOfUses(),
+            ticketGrantingTicket.getLastTimeUsed(),
+            ticketGrantingTicket.getPreviousTimeUsed(),
+            expirationTime, timeToLive);
+    }
+
+    @Override
+    public Boolean process(final Map.Entry<String, HazelcastTicketDocument> entry) {
+        val document = entry.getValue();
+        if (document == null || !(document.getTicket() instanceof final TicketGrantingTicketImpl ticketGrantingTicket)) {
+            return Boolean.FALSE;
+        }
+        replace(ticketGrantingTicket.getServices(), services);
+        replace(ticketGrantingTicket.getProxyGrantingTickets(), proxyGrantingTickets);
+        replace(ticketGrantingTicket.getDescendantTickets(), descendantTickets);
+        ticketGrantingTicket.setCountOfUses(countOfUses);
+        ticketGrantingTicket.setLastTimeUsed(lastTimeUsed);
+        ticketGrantingTicket.setPreviousTimeUsed(previousTimeUsed);
+        document.setExpirationTime(expirationTime);
+        document.setTimeToLive(timeToLive);
+        if (entry instanceof final ExtendedMapEntry<String, HazelcastTicketDocument> extendedEntry) {
+            extendedEntry.setValue(document, timeToLive, TimeUnit.SECONDS);
+        } else {
+            entry.setValue(document);
+        }
+        return Boolean.TRUE;
+    }
+
+    private static <K, V> void replace(final Map<K, V> target, final Map<K, V> source) {
+        target.keySet().retainAll(source.keySet());
+        target.putAll(source);
+    }
+
+    private static <T> void replace(final Set<T> target, final Set<T> source) {
+        target.retainAll(source);
+        target.addAll(source);
+    }
+}
@@ -8,17 +8,21 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.aggregation.Aggregators;
 import com.hazelcast.map.IMap;
 import com.hazelcast.query.Predicates;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -36,6 +40,9 @@ import java.util.stream.StreamSupport;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>When the high-performance profile is enabled, sessions and ticket counts are looked up
+ * using map indexes and server-side aggregations, and ticket-granting tickets are updated
+ * in place using a {@link HazelcastTicketGrantingTicketEntryProcessor}.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -60,23 +67,25 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Ticket updateTicket(final Ticket ticket) throws Exception {
+        if (ticket instanceof final TicketGrantingTicketImpl ticketGrantingTicket && !ticket.isExpired() && isEntryProcessingEnabled()) {
+            val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(ticket));
+            if (ticketMap != null) {
+                val processor = new HazelcastTicketGrantingTicketEntryProcessor(ticketGrantingTicket,
+                    getExpirationTime(ticket), getTimeToLive(ticket));
+                if (BooleanUtils.isTrue(ticketMap.executeOnKey(digestIdentifier(ticket.getId()), processor))) {
+                    LOGGER.debug("Updated ticket [{}] in place", ticket.getId());
+                    return ticket;
+                }
+            }
+            LOGGER.debug("Unable to update ticket [{}] in place; storing the ticket in full", ticket.getId());
+        }
         addTicket(ticket);
         return ticket;
     }
 
     @Override
     public Ticket addSingleTicket(final Ticket ticket) throws Exception {
-        var ttl = ticket.getExpirationPolicy().getTimeToLive();
-        /*
-         * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
-         * which means infinite (no expiration and eviction).
-         * If it is not 0, entries are evicted regardless of the set eviction policy described below.
-         */
-        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
-            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
-            ttl = 0L;
-        }
-
+        val ttl = getTimeToLive(ticket);
         LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), ttl);
         val encTicket = encodeTicket(ticket);
 
@@ -90,6 +99,7 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 .type(metadata.getImplementationClass().getName())
                 .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
                 .timeToLive(ttl)
+                .expirationTime(getExpirationTime(ticket))
                 .ticket(encTicket)
                 .prefix(metadata.getPrefix())
                 .service(ticket instanceof final ServiceAwareTicket sat && Objects.nonNull(sat.getService()) ? sat.getService().getId() : null)
@@ -129,6 +139,29 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return null;
     }
 
+    @Override
+    protected List<? extends Ticket> getTicketsInternal(final List<String> ticketIds) {
+        val idsByDefinition = ticketIds
+            .stream()
+            .filter(ticketId -> Objects.nonNull(ticketCatalog.find(ticketId)))
+            .collect(Collectors.groupingBy(ticketCatalog::find, Collectors.mapping(this::digestIdentifier, Collectors.toSet())));
+        return idsByDefinition
+            .entrySet()
+            .stream()
+            .flatMap(entry -> {
+                val map = getTicketMapInstanceByMetadata(entry.getKey());
+                if (map == null) {
+                    LOGGER.error("Unable to locate ticket map for ticket definition [{}]", entry.getKey());
+                    return Stream.empty();
+                }
+                return map.getAll(entry.getValue()).values().stream();
+            })
+            .filter(document -> document.getTicket() != null)
+            .map(document -> decodeTicket(document.getTicket()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long deleteSingleTicket(final Ticket ticketToDelete) {
         val encTicketId = digestIdentifier(ticketToDelete.getId());
@@ -159,6 +192,10 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public long countSessionsFor(final String principalId) {
+        if (properties.getPerformance().isEnabled()) {
+            val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
+            return getTicketMapInstanceByMetadata(md).aggregate(Aggregators.count(), getPrincipalPredicate(principalId));
+        }
         if (properties.getCore().isEnableJet()) {
             val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
             val sql = String.format("SELECT COUNT(*) FROM %s WHERE principal=?", md.getProperties().getStorageName());
@@ -172,6 +209,13 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public long countTicketsFor(final Service service) {
+        if (properties.getPerformance().isEnabled()) {
+            val predicate = Predicates.and(Predicates.equal("service", service.getId()), getUnexpiredPredicate());
+            return ticketCatalog.findAll()
+                .stream()
+                .mapToLong(ticketDefinition -> getTicketMapInstanceByMetadata(ticketDefinition).aggregate(Aggregators.count(), predicate))
+                .sum();
+        }
         if (properties.getCore().isEnableJet()) {
             return ticketCatalog.findAll()
                 .stream()
@@ -190,6 +234,17 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        if (properties.getPerformance().isEnabled()) {
+            val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
+            val attributePredicates = queryAttributes.entrySet()
+                .stream()
+                .map(entry -> Predicates.in(String.format("attributes[%s]", digestIdentifier(entry.getKey())),
+                    digestIdentifier(entry.getValue()).toArray(String[]::new)))
+                .toArray(com.hazelcast.query.Predicate[]::new);
+            val predicate = Predicates.and(Predicates.or(attributePredicates),
+                Predicates.equal("prefix", md.getPrefix()), getUnexpiredPredicate());
+            return decodeSessions(getTicketMapInstanceByMetadata(md).values(predicate));
+        }
         if (properties.getCore().isEnableJet()) {
             val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
             val ticketMapInstance = getTicketMapInstance(md.getProperties().getStorageName());
@@ -216,6 +271,10 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (properties.getPerformance().isEnabled()) {
+            val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
+            return decodeSessions(getTicketMapInstanceByMetadata(md).values(getPrincipalPredicate(principalId)));
+        }
         if (properties.getCore().isEnableJet()) {
             val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
             val sql = String.format("SELECT * FROM %s WHERE principal=?", md.getProperties().getStorageName());
@@ -272,6 +331,47 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    private boolean isEntryProcessingEnabled() {
+        return properties.getPerformance().isEnabled()
+            && properties.getPerformance().isEntryProcessors()
+            && !isCipherExecutorEnabled();
+    }
+
+    private com.hazelcast.query.Predicate<String, HazelcastTicketDocument> getPrincipalPredicate(final String principalId) {
+        return Predicates.and(Predicates.equal("principal", digestIdentifier(principalId)), getUnexpiredPredicate());
+    }
+
+    private static com.hazelcast.query.Predicate<String, HazelcastTicketDocument> getUnexpiredPredicate() {
+        return Predicates.greaterThan("expirationTime", Instant.now().getEpochSecond());
+    }
+
+    private Stream<? extends Ticket> decodeSessions(final Collection<HazelcastTicketDocument> documents) {
+        return documents
+            .stream()
+            .map(document -> decodeTicket(document.getTicket()))
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    /**
+     * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
+     * which means infinite (no expiration and eviction).
+     * If it is not 0, entries are evicted regardless of the set eviction policy.
+     */
+    private static long getTimeToLive(final Ticket ticket) {
+        val ttl = ticket.getExpirationPolicy().getTimeToLive();
+        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
+            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
+            return 0L;
+        }
+        return ttl;
+    }
+
+    private static long getExpirationTime(final Ticket ticket) {
+        val expirationTime = ticket.getExpirationPolicy().toMaximumExpirationTime(ticket);
+        return expirationTime == null ? Long.MAX_VALUE : expirationTime.toEpochSecond();
+    }
+
     private IMap<String, HazelcastTicketDocument> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
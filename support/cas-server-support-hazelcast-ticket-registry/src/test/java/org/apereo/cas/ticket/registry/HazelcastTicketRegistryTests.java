@@ -1,13 +1,18 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasHazelcastTicketRegistryAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
@@ -21,6 +26,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
+import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -103,4 +109,41 @@ class HazelcastTicketRegistryTests {
         }
     }
 
+    @Nested
+    @Getter
+    @ImportAutoConfiguration(CasHazelcastTicketRegistryAutoConfiguration.class)
+    @Import(BaseTicketRegistryTests.SharedTestConfiguration.class)
+    @TestPropertySource(
+        properties = {
+            "cas.ticket.registry.hazelcast.performance.enabled=true",
+            "cas.ticket.registry.hazelcast.page-size=0",
+            "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
+            "cas.ticket.registry.hazelcast.cluster.network.port=5709",
+            "cas.ticket.registry.hazelcast.cluster.core.instance-name=testperformanceinstance"
+        })
+    class HighPerformanceTests extends BaseTicketRegistryTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry newTicketRegistry;
+
+        @RepeatedTest(1)
+        void verifyTicketGrantingTicketUpdatedInPlace() throws Throwable {
+            val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), NeverExpiresExpirationPolicy.INSTANCE);
+            newTicketRegistry.addTicket(tgt);
+
+            val service = RegisteredServiceTestUtils.getService();
+            val serviceTicket = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service,
+                NeverExpiresExpirationPolicy.INSTANCE, false, TicketTrackingPolicy.noOp());
+            tgt.getDescendantTickets().add(serviceTicket.getId());
+            newTicketRegistry.updateTicket(tgt);
+
+            val updated = newTicketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+            assertTrue(updated.getServices().containsKey(serviceTicket.getId()));
+            assertTrue(updated.getDescendantTickets().contains(serviceTicket.getId()));
+            assertEquals(tgt.getCountOfUses(), updated.getCountOfUses());
+            assertEquals(tgt.getAuthentication().getPrincipal(), updated.getAuthentication().getPrincipal());
+            assertEquals(1, newTicketRegistry.getSessionsFor(tgt.getAuthentication().getPrincipal().getId()).count());
+        }
+    }
 }
@@ -73,11 +73,34 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
      * @param tags        the tags
      */
     public void write(final String measurement, final Map<String, Object> fields, final Map<String, String> tags) {
-        val p = Point.measurement(measurement)
+        write(buildPoint(measurement, fields, tags));
+    }
+
+    /**
+     * Write measurement points as a single line-protocol batch.
+     *
+     * @param points the points
+     */
+    public void write(final List<Point> points) {
+        if (!points.isEmpty()) {
+            influxDb.getWriteApiBlocking().writePoints(influxDbProperties.getDatabase(),
+                influxDbProperties.getOrganization(), points);
+        }
+    }
+
+    /**
+     * Build a measurement point, stamped with the current time.
+     *
+     * @param measurement the measurement
+     * @param fields      the fields
+     * @param tags        the tags
+     * @return the point
+     */
+    public static Point buildPoint(final String measurement, final Map<String, Object> fields, final Map<String, String> tags) {
+        return Point.measurement(measurement)
             .time(Instant.now(Clock.systemUTC()), WritePrecision.NS)
             .addFields(fields)
             .addTags(tags);
-        write(p);
     }
 
     /**
@@ -103,8 +126,34 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
         return influxDb.getQueryApi().query(query, influxDbProperties.getOrganization(), clazz);
     }
 
+    /**
+     * Query records of the given measurement that are tagged with the given values,
+     * and are recorded at or after the given start time, pushing filters down to the database.
+     *
+     * @param <T>         the type parameter
+     * @param clazz       the clazz
+     * @param measurement the measurement
+     * @param start       the start time, if any
+     * @param tags        the tags to match
+     * @return the query result
+     */
+    public <T extends Serializable> List<T> query(final Class<T> clazz, final String measurement,
+                                                  final Instant start, final Map<String, String> tags) {
+        val query = new StringBuilder(String.format("from(bucket:\"%s\") |> range(start: %s)",
+            influxDbProperties.getDatabase(), start == null ? "0" : start.toString()));
+        query.append(String.format(" |> filter(fn: (r) => r._measurement == \"%s\"", escape(measurement)));
+        tags.forEach((key, value) -> query.append(String.format(" and r.%s == \"%s\"", key, escape(value))));
+        query.append(')');
+        LOGGER.trace("Executing query [{}]", query);
+        return influxDb.getQueryApi().query(query.toString(), influxDbProperties.getOrganization(), clazz);
+    }
+
     @Override
     public void close() {
         this.influxDb.close();
     }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
 }
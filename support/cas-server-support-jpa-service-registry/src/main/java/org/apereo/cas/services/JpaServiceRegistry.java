@@ -16,7 +16,9 @@ import org.springframework.transaction.support.TransactionOperations;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -94,6 +96,36 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    @Override
+    public Optional<RegisteredServiceChanges> loadChanges(final long watermark) {
+        return transactionTemplate.execute(status -> {
+            val backfillQuery = String.format("UPDATE %s r SET r.lastModified = CURRENT_TIMESTAMP WHERE r.lastModified IS NULL",
+                JpaRegisteredServiceEntity.ENTITY_NAME);
+            val backfilled = entityManager.createQuery(backfillQuery).executeUpdate();
+            if (backfilled > 0) {
+                LOGGER.debug("Stamped [{}] service(s) without a modification timestamp to report them as changed", backfilled);
+            }
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val query = String.format("SELECT r FROM %s r WHERE r.lastModified > :watermark", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val modifiedServices = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("watermark", Instant.ofEpochMilli(watermark))
+                .getResultList()
+                .stream()
+                .map(this::toRegisteredService)
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            val idQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val registeredServiceIds = new HashSet<>(entityManager.createQuery(idQuery, Long.class).getResultList());
+            val watermarkQuery = String.format("SELECT MAX(r.lastModified) FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val lastModified = entityManager.createQuery(watermarkQuery, Instant.class).getSingleResult();
+            val nextWatermark = lastModified == null ? watermark : Math.max(watermark, lastModified.toEpochMilli());
+            LOGGER.trace("Found [{}] modified service(s) since [{}] out of [{}]", modifiedServices.size(), watermark, registeredServiceIds.size());
+            return Optional.of(new RegisteredServiceChanges(modifiedServices, registeredServiceIds, nextWatermark));
+        });
+    }
+
     @Override
     public Long save(final Supplier<RegisteredService> supplier,
                      final Consumer<RegisteredService> andThenConsume,
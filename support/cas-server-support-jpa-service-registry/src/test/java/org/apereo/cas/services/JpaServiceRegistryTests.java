@@ -57,6 +57,18 @@ class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
         assertTrue(stopwatch.getTime(TimeUnit.SECONDS) <= 10);
     }
 
+    @Test
+    void verifyLoadChangesAfterWatermark() throws Throwable {
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString(), true);
+        registeredService.setId(RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE);
+        val saved = newServiceRegistry.save(registeredService);
+        var changes = newServiceRegistry.loadChanges(0).orElseThrow();
+        assertTrue(changes.modifiedServices().stream().anyMatch(service -> service.getId() == saved.getId()));
+        changes = newServiceRegistry.loadChanges(changes.watermark()).orElseThrow();
+        assertTrue(changes.modifiedServices().isEmpty());
+        assertTrue(changes.registeredServiceIds().contains(saved.getId()));
+    }
+
     @Test
     void verifySaveInStreams() throws Throwable {
         var servicesToImport = Stream.<RegisteredService>empty();
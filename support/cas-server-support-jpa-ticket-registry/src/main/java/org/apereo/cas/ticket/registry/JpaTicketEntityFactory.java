@@ -102,7 +102,7 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
     public Ticket toTicket(final BaseTicketEntity entity) {
         val ticket = getTicketSerializationManager().deserializeTicket(entity.getBody(), entity.getType());
         LOGGER.trace("Converted JPA entity [{}] to [{}]", this, ticket);
-        return ticket;
+        return TicketGrantingTicketState.apply(ticket, entity.getState());
     }
 
     /**
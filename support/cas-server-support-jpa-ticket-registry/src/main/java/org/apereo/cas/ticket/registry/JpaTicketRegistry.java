@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +49,7 @@ import java.util.stream.Stream;
 @Getter
 @Monitorable
 public class JpaTicketRegistry extends AbstractTicketRegistry {
+    private static final int MAX_QUERY_PARAMETERS = 500;
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -110,6 +112,29 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    @Override
+    protected List<? extends Ticket> getTicketsInternal(final List<String> ticketIds) {
+        return transactionTemplate.execute(callback -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("SELECT t FROM %s t WHERE t.id IN :ids", factory.getEntityName());
+            val digestedIds = ticketIds.stream().map(this::digestIdentifier).filter(StringUtils::isNotBlank).toList();
+            val pages = (digestedIds.size() + MAX_QUERY_PARAMETERS - 1) / MAX_QUERY_PARAMETERS;
+            return IntStream.range(0, pages)
+                .mapToObj(page -> digestedIds.subList(page * MAX_QUERY_PARAMETERS,
+                    Math.min(digestedIds.size(), (page + 1) * MAX_QUERY_PARAMETERS)))
+                .flatMap(ids -> {
+                    val query = entityManager.createQuery(sql, factory.getType());
+                    query.setParameter("ids", ids);
+                    query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
+                    return query.getResultList().stream();
+                })
+                .map(factory::toTicket)
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        });
+    }
+
     @Override
     public int deleteTicket(final String ticketId) {
         return transactionTemplate.execute(callback -> FunctionUtils.doUnchecked(() -> super.deleteTicket(ticketId)));
@@ -151,6 +176,20 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         }));
     }
 
+    @Override
+    protected boolean updateTicketState(final TicketGrantingTicket ticket, final TicketGrantingTicketState state) {
+        val result = transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("UPDATE %s t SET t.state = :state WHERE t.id = :id", factory.getEntityName());
+            val query = entityManager.createQuery(sql);
+            query.setParameter("state", state.toJson());
+            query.setParameter("id", digestIdentifier(ticket.getId()));
+            return query.executeUpdate();
+        });
+        LOGGER.debug("Updated state of ticket [{}] with result [{}]", ticket.getId(), result);
+        return Objects.requireNonNull(result) > 0;
+    }
+
     /**
      * This method purposefully doesn't lock any rows, because the stream traversing can take an indeterminate
      * amount of time, and logging in to an application with an existing TGT will update the TGT row in the database.
@@ -58,6 +58,9 @@ public abstract class BaseTicketEntity implements Serializable {
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
 
+    @Column(length = 32_000)
+    private String state;
+
     /**
      * Sets attributes.
      *
@@ -7,6 +7,7 @@ import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.ldap.LdapAuthenticationRequestContext;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -14,9 +15,11 @@ import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.ldaptive.Credential;
+import org.ldaptive.FilterTemplate;
 import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
 import org.ldaptive.ReturnAttributes;
+import org.ldaptive.SearchScope;
 import org.ldaptive.auth.AuthenticationRequest;
 import org.ldaptive.auth.AuthenticationResponse;
 import org.ldaptive.auth.AuthenticationResultCode;
@@ -85,6 +88,25 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
      */
     private String principalDnAttributeName = "principalLdapDn";
 
+    /**
+     * The ldap url of the directory used for authentication,
+     * recorded alongside authenticated entries so principal resolution
+     * may reuse them when attributes are fetched from the same directory.
+     */
+    private String ldapUrl;
+
+    /**
+     * The search filter used to locate the authenticated entry,
+     * recorded alongside authenticated entries so they are only reused
+     * by searches with an equivalent filter.
+     */
+    private String searchFilter;
+
+    /**
+     * The search scope used to locate the authenticated entry.
+     */
+    private SearchScope searchScope = SearchScope.SUBTREE;
+
     /**
      * Creates a new authentication handler that delegates to the given authenticator.
      *
@@ -144,6 +166,7 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         if (response.isSuccess()) {
             LOGGER.debug("LDAP response returned a result [{}], creating the final LDAP principal", response.getLdapEntry());
             val principal = createPrincipal(upc.getUsername(), response.getLdapEntry());
+            recordAuthenticatedEntry(upc, principal, response.getLdapEntry());
             return createHandlerResult(upc, principal, messageList);
         }
         if (AuthenticationResultCode.DN_RESOLUTION_FAILURE == response.getAuthenticationResultCode()) {
@@ -236,6 +259,28 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         return username;
     }
 
+    protected void recordAuthenticatedEntry(final UsernamePasswordCredential upc, final Principal principal,
+                                            final LdapEntry ldapEntry) {
+        val requestedAttributes = new ArrayList<String>();
+        if (authenticator.getReturnAttributes() != null) {
+            requestedAttributes.addAll(List.of(authenticator.getReturnAttributes()));
+        }
+        requestedAttributes.addAll(List.of(authenticatedEntryAttributes));
+        val entry = LdapAuthenticationRequestContext.AuthenticatedLdapEntry.of(upc.getUsername(),
+            principal.getId(), ldapUrl, formatSearchFilter(upc.getUsername()), searchScope, requestedAttributes, ldapEntry);
+        LdapAuthenticationRequestContext.recordAuthenticatedEntry(entry);
+    }
+
+    private String formatSearchFilter(final String username) {
+        if (StringUtils.isBlank(searchFilter)) {
+            return null;
+        }
+        val filter = new FilterTemplate(searchFilter);
+        filter.setParameter(0, username);
+        filter.setParameter("user", username);
+        return filter.format();
+    }
+
     private AuthenticationResponse getLdapAuthenticationResponse(final UsernamePasswordCredential upc) throws PreventedException {
         try {
             LOGGER.debug("Attempting LDAP authentication for [{}]. Authenticator pre-configured attributes are [{}], "
@@ -244,6 +289,7 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
             var ldaptiveCred = new Credential(upc.getPassword());
             val request = new AuthenticationRequest(upc.getUsername(), ldaptiveCred, authenticatedEntryAttributes);
             request.setControls(new PasswordPolicyControl());
+            LdapAuthenticationRequestContext.recordOperation(LdapAuthenticationRequestContext.LdapOperation.AUTHENTICATION);
             return authenticator.authenticate(request);
         } catch (final LdapException e) {
             LOGGER.trace(e.getMessage(), e);
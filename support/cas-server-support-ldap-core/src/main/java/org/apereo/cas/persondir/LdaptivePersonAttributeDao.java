@@ -3,6 +3,8 @@ package org.apereo.cas.persondir;
 import org.apereo.cas.authentication.attribute.AbstractQueryPersonAttributeDao;
 import org.apereo.cas.authentication.attribute.SimplePersonAttributes;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
+import org.apereo.cas.util.ldap.AdaptivePooledConnectionFactory;
+import org.apereo.cas.util.ldap.LdapAuthenticationRequestContext;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Person directory {@link org.apereo.cas.authentication.principal.attribute.PersonAttributeDao} implementation that queries an LDAP directory
@@ -52,13 +56,27 @@ public class LdaptivePersonAttributeDao extends AbstractQueryPersonAttributeDao<
 
     private SearchResultHandler[] searchResultHandlers;
 
+    private String ldapUrl;
+
+    private boolean reuseAuthenticatedEntry;
+
+    private final LongAdder searchCount = new LongAdder();
+
+    private final LongAdder skippedSearchCount = new LongAdder();
+
     @Override
     protected List<PersonAttributes> getPeopleForQuery(final FilterTemplate filter, final String userName) {
         try {
-            val search = new SearchOperation(this.connectionFactory);
-            search.setEntryHandlers(entryHandlers);
-            search.setSearchResultHandlers(searchResultHandlers);
-            val response = search.execute(createRequest(filter));
+            val request = createRequest(filter);
+            val authenticatedEntry = findAuthenticatedEntry(filter, request, userName);
+            if (authenticatedEntry.isPresent()) {
+                return authenticatedEntry.get();
+            }
+            searchCount.increment();
+            LdapAuthenticationRequestContext.recordOperation(LdapAuthenticationRequestContext.LdapOperation.SEARCH);
+            val response = connectionFactory instanceof final AdaptivePooledConnectionFactory adaptiveFactory
+                ? adaptiveFactory.executeSearch(this::createSearchOperation, request)
+                : createSearchOperation().execute(request);
 
             val peopleAttributes = new ArrayList<PersonAttributes>(response.entrySize());
             for (val entry : response.getEntries()) {
@@ -87,6 +105,38 @@ public class LdaptivePersonAttributeDao extends AbstractQueryPersonAttributeDao<
         }
     }
 
+    protected Optional<List<PersonAttributes>> findAuthenticatedEntry(final FilterTemplate filter, final SearchRequest request,
+                                                                      final String userName) {
+        if (!reuseAuthenticatedEntry || ArrayUtils.isNotEmpty(entryHandlers)
+            || ArrayUtils.isNotEmpty(searchResultHandlers) || ArrayUtils.isNotEmpty(binaryAttributes)) {
+            return Optional.empty();
+        }
+        return LdapAuthenticationRequestContext.findAuthenticatedEntry(userName)
+            .filter(entry -> entry.covers(ldapUrl, baseDN, filter.format(), request.getSearchScope(), request.getReturnAttributes()))
+            .map(entry -> {
+                LOGGER.debug("Reusing authenticated LDAP entry [{}] for [{}] instead of searching the directory", entry.entry().getDn(), userName);
+                skippedSearchCount.increment();
+                LdapAuthenticationRequestContext.recordOperation(LdapAuthenticationRequestContext.LdapOperation.SKIPPED_SEARCH);
+                val attributes = convertLdapEntryToMap(entry.entry());
+                val returnAttributes = List.of(request.getReturnAttributes());
+                if (!returnAttributes.contains(ReturnAttributes.ALL_USER.value()[0])) {
+                    attributes.keySet().removeIf(name -> returnAttributes.stream().noneMatch(name::equalsIgnoreCase));
+                }
+                val userNameAttribute = getConfiguredUserNameAttribute();
+                val person = attributes.containsKey(userNameAttribute)
+                    ? SimplePersonAttributes.fromAttribute(userNameAttribute, attributes)
+                    : new SimplePersonAttributes(userName, attributes);
+                return List.of(person);
+            });
+    }
+
+    protected SearchOperation createSearchOperation() {
+        val search = new SearchOperation(this.connectionFactory);
+        search.setEntryHandlers(entryHandlers);
+        search.setSearchResultHandlers(searchResultHandlers);
+        return search;
+    }
+
     @Override
     protected FilterTemplate appendAttributeToQuery(final FilterTemplate filter, final String attribute, final List<Object> values) {
         val query = Objects.requireNonNullElseGet(filter, () -> new FilterTemplate(this.searchFilter));
@@ -2,6 +2,7 @@ package org.apereo.cas.util;
 
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.ldap.AdaptivePooledConnectionFactory;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -160,9 +161,10 @@ public class LdapConnectionFactory implements Closeable {
         final String[] returnAttributes) throws LdapException {
         val request = LdapUtils.newLdaptiveSearchRequest(baseDn, filter, binaryAttributes, returnAttributes);
         if (pageSize <= 0) {
-            val searchOperation = new SearchOperation(connectionFactory);
-            searchOperation.setSearchResultHandlers(new FollowSearchReferralHandler());
-            return searchOperation.execute(request);
+            if (connectionFactory instanceof final AdaptivePooledConnectionFactory adaptiveFactory) {
+                return adaptiveFactory.executeSearch(this::newReferralFollowingSearchOperation, request);
+            }
+            return newReferralFollowingSearchOperation().execute(request);
         }
         val client = new PagedResultsClient(connectionFactory, pageSize);
         return client.executeToCompletion(request);
@@ -248,4 +250,10 @@ public class LdapConnectionFactory implements Closeable {
     public void close() {
         connectionFactory.close();
     }
+
+    private SearchOperation newReferralFollowingSearchOperation() {
+        val searchOperation = new SearchOperation(connectionFactory);
+        searchOperation.setSearchResultHandlers(new FollowSearchReferralHandler());
+        return searchOperation;
+    }
 }
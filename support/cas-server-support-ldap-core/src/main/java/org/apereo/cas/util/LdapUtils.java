@@ -22,6 +22,9 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.persondir.ActiveDirectoryLdapEntryHandler;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.ldap.AdaptivePooledConnectionFactory;
+import org.apereo.cas.util.ldap.HealthScoringConnectionStrategy;
+import org.apereo.cas.util.ldap.LdapServerHealth;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.apereo.cas.util.scripting.ExecutableCompiledScript;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
@@ -117,6 +120,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -479,7 +483,8 @@ public class LdapUtils {
         val connectionConfig = newLdaptiveConnectionConfig(props);
 
         LOGGER.debug("Creating LDAP connection pool configuration for [{}]", props.getLdapUrl());
-        val pooledCf = new PooledConnectionFactory(connectionConfig);
+        val adaptive = props.getPoolMode() == AbstractLdapProperties.LdapConnectionPoolMode.ADAPTIVE;
+        val pooledCf = adaptive ? newAdaptivePooledConnectionFactory(props, connectionConfig) : new PooledConnectionFactory(connectionConfig);
         pooledCf.setMinPoolSize(props.getMinPoolSize());
         pooledCf.setMaxPoolSize(props.getMaxPoolSize());
         pooledCf.setValidateOnCheckOut(props.isValidateOnCheckout());
@@ -488,7 +493,7 @@ public class LdapUtils {
 
         val strategy = new IdlePruneStrategy();
         strategy.setIdleTime(Beans.newDuration(props.getIdleTime()));
-        strategy.setPrunePeriod(Beans.newDuration(props.getPrunePeriod()));
+        strategy.setPrunePeriod(adaptive ? Beans.newDuration(props.getIdleTime()) : Beans.newDuration(props.getPrunePeriod()));
 
         pooledCf.setPruneStrategy(strategy);
 
@@ -545,6 +550,19 @@ public class LdapUtils {
         return pooledCf;
     }
 
+    private static PooledConnectionFactory newAdaptivePooledConnectionFactory(final AbstractLdapProperties props,
+                                                                              final ConnectionConfig connectionConfig) {
+        val serverHealth = new ConcurrentHashMap<String, LdapServerHealth>();
+        if (StringUtils.isBlank(props.getConnectionStrategy())) {
+            LOGGER.debug("Creating adaptive LDAP connection pool for [{}] routing connections based on server health", props.getLdapUrl());
+            connectionConfig.setConnectionStrategy(new HealthScoringConnectionStrategy(serverHealth));
+        } else {
+            LOGGER.info("Adaptive LDAP connection pool for [{}] keeps the configured connection strategy [{}] to open new connections; "
+                + "server health only steers the checkout of pooled connections", props.getLdapUrl(), props.getConnectionStrategy());
+        }
+        return new AdaptivePooledConnectionFactory(connectionConfig, serverHealth, props.getHedgedSearchPercentile());
+    }
+
     /**
      * New connection config connection config.
      *
@@ -1066,6 +1084,9 @@ public class LdapUtils {
             servicesManager, principalFactory,
             props.getOrder(), authenticator, strategy);
         handler.setCollectDnAttribute(props.isCollectDnAttribute());
+        handler.setLdapUrl(props.getLdapUrl());
+        handler.setSearchFilter(props.getSearchFilter());
+        handler.setSearchScope(props.isSubtreeSearch() ? SearchScope.SUBTREE : SearchScope.ONELEVEL);
 
         if (!props.getAdditionalAttributes().isEmpty()) {
             val additional = CoreAuthenticationUtils.transformPrincipalAttributesListIntoMultiMap(props.getAdditionalAttributes());
@@ -0,0 +1,320 @@
+package org.apereo.cas.util.ldap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.LdapException;
+import org.ldaptive.LdapURL;
+import org.ldaptive.PooledConnectionFactory;
+import org.ldaptive.ResultCode;
+import org.ldaptive.SearchOperation;
+import org.ldaptive.SearchRequest;
+import org.ldaptive.SearchResponse;
+import org.ldaptive.pool.PoolException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link AdaptivePooledConnectionFactory}, a pooled connection factory
+ * that records the latency and errors of operations executed against each LDAP server
+ * and prefers pooled connections to the healthiest servers on checkout. The same health
+ * records are shared with {@link HealthScoringConnectionStrategy} when that strategy is used
+ * to open new connections. The factory also keeps track of pool wait times and utilization,
+ * and is able to hedge slow search operations by issuing a second search once the original
+ * exceeds a latency percentile of recent searches; the slower search is cancelled
+ * as soon as the other one completes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class AdaptivePooledConnectionFactory extends PooledConnectionFactory {
+    private static final int LATENCY_WINDOW_SIZE = 256;
+
+    private static final int MINIMUM_LATENCY_SAMPLES = 20;
+
+    private static final int LATENCY_THRESHOLD_REFRESH_INTERVAL = 32;
+
+    private static final int MINIMUM_SERVER_SAMPLES = 10;
+
+    private static final double DEGRADED_SERVER_SCORE_FACTOR = 3.0D;
+
+    private static final int MAXIMUM_DEGRADED_CONNECTION_SKIPS = 4;
+
+    private static final Set<ResultCode> UNHEALTHY_RESULT_CODES = EnumSet.of(ResultCode.BUSY, ResultCode.UNAVAILABLE);
+
+    private final Map<String, LdapServerHealth> serverHealth;
+
+    private final double hedgedSearchPercentile;
+
+    private final LongAdder connectionRequests = new LongAdder();
+
+    private final LongAdder connectionWaitTime = new LongAdder();
+
+    private final AtomicLong maximumConnectionWaitTime = new AtomicLong();
+
+    private final LongAdder searchCount = new LongAdder();
+
+    private final LongAdder hedgedSearchCount = new LongAdder();
+
+    private final long[] searchLatencies = new long[LATENCY_WINDOW_SIZE];
+
+    private final AtomicLong searchLatencySamples = new AtomicLong();
+
+    private final ExecutorService hedgingExecutor;
+
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<AtomicReference<OperationTarget>> operationTarget = new ThreadLocal<>();
+
+    private volatile long hedgingThreshold;
+
+    public AdaptivePooledConnectionFactory(final ConnectionConfig config,
+                                           final Map<String, LdapServerHealth> serverHealth,
+                                           final double hedgedSearchPercentile) {
+        super(config);
+        this.serverHealth = serverHealth;
+        this.hedgedSearchPercentile = hedgedSearchPercentile;
+        this.hedgingExecutor = hedgedSearchPercentile > 0 && hedgedSearchPercentile < 1
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : null;
+    }
+
+    @Override
+    public Connection getConnection() throws PoolException {
+        val startedAt = System.nanoTime();
+        try {
+            val connection = checkOutHealthiestConnection();
+            val target = operationTarget.get();
+            if (target != null) {
+                target.set(new OperationTarget(connection.getLdapURL(), System.nanoTime()));
+            }
+            return connection;
+        } finally {
+            val waitTime = System.nanoTime() - startedAt;
+            connectionRequests.increment();
+            connectionWaitTime.add(waitTime);
+            maximumConnectionWaitTime.accumulateAndGet(waitTime, Math::max);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (hedgingExecutor != null) {
+            hedgingExecutor.shutdownNow();
+        }
+        super.close();
+    }
+
+    /**
+     * Execute a search operation, hedging it with a second request if it is slow to respond.
+     *
+     * @param operationSupplier supplies a new search operation for each attempt
+     * @param request           the request
+     * @return the search response
+     * @throws LdapException the ldap exception
+     */
+    public SearchResponse executeSearch(final Supplier<SearchOperation> operationSupplier,
+                                        final SearchRequest request) throws LdapException {
+        val threshold = hedgingThreshold;
+        if (hedgingExecutor == null || threshold <= 0) {
+            return executeTimedSearch(operationSupplier.get(), request);
+        }
+        val result = new CompletableFuture<SearchResponse>();
+        val pendingSearches = new AtomicInteger(1);
+        submitSearch(operationSupplier, request, result, pendingSearches);
+        try {
+            try {
+                return result.get(threshold, TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                if (pendingSearches.getAndUpdate(pending -> pending > 0 ? pending + 1 : pending) > 0) {
+                    LOGGER.debug("Search [{}] exceeded hedging threshold of [{}]ns; sending hedged search", request, threshold);
+                    hedgedSearchCount.increment();
+                    submitSearch(operationSupplier, request, result, pendingSearches);
+                }
+                return result.get();
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final LdapException ldapException) {
+                throw ldapException;
+            }
+            throw new LdapException(e.getMessage(), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LdapException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Collect pool statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        val requests = connectionRequests.sum();
+        val servers = serverHealth.values()
+            .stream()
+            .map(health -> Map.of(
+                "server", health.getServer(),
+                "score", health.getScore(),
+                "averageLatency", health.getAverageLatency(),
+                "errorRate", health.getErrorRate(),
+                "successCount", health.getSuccessCount().sum(),
+                "failureCount", health.getFailureCount().sum()))
+            .toList();
+        return Map.of(
+            "connectionRequests", requests,
+            "averageConnectionWaitTime", requests == 0 ? 0 : connectionWaitTime.sum() / requests,
+            "maximumConnectionWaitTime", maximumConnectionWaitTime.get(),
+            "utilization", getMaxPoolSize() == 0 ? 0.0D : (double) activeCount() / getMaxPoolSize(),
+            "searchCount", searchCount.sum(),
+            "hedgedSearchCount", hedgedSearchCount.sum(),
+            "hedgingThreshold", hedgingThreshold,
+            "servers", servers);
+    }
+
+    private void submitSearch(final Supplier<SearchOperation> operationSupplier, final SearchRequest request,
+                              final CompletableFuture<SearchResponse> result, final AtomicInteger pendingSearches) {
+        val search = hedgingExecutor.submit(() -> {
+            try {
+                result.complete(executeTimedSearch(operationSupplier.get(), request, result));
+            } catch (final Exception e) {
+                if (pendingSearches.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        result.whenComplete((response, error) -> search.cancel(true));
+    }
+
+    private SearchResponse executeTimedSearch(final SearchOperation operation, final SearchRequest request) throws LdapException {
+        return executeTimedSearch(operation, request, null);
+    }
+
+    /**
+     * The server that handles the search is captured by {@link #getConnection()} only while the search
+     * is executing on this thread; connections checked out for any other operation are not tracked,
+     * so nothing is left behind on the thread once the operation is done.
+     */
+    private SearchResponse executeTimedSearch(final SearchOperation operation, final SearchRequest request,
+                                              final CompletableFuture<SearchResponse> hedgedResult) throws LdapException {
+        val target = new AtomicReference<OperationTarget>();
+        operationTarget.set(target);
+        try {
+            val startedAt = System.nanoTime();
+            val response = operation.execute(request);
+            recordSearchLatency(System.nanoTime() - startedAt);
+            recordServerOperation(target.get(), UNHEALTHY_RESULT_CODES.contains(response.getResultCode()));
+            return response;
+        } catch (final LdapException e) {
+            recordServerOperation(target.get(), hedgedResult == null || !hedgedResult.isDone());
+            throw e;
+        } finally {
+            operationTarget.remove();
+        }
+    }
+
+    private void recordServerOperation(final OperationTarget target, final boolean failed) {
+        if (target != null && target.url() != null) {
+            val health = serverHealthFor(target.url());
+            if (failed) {
+                health.recordFailure();
+            } else {
+                health.recordSuccess(System.nanoTime() - target.checkedOutAt());
+            }
+        }
+    }
+
+    private Connection checkOutHealthiestConnection() throws PoolException {
+        val skipped = new ArrayList<Connection>();
+        Connection connection = null;
+        try {
+            connection = super.getConnection();
+            while (isDegraded(connection) && skipped.size() < MAXIMUM_DEGRADED_CONNECTION_SKIPS && availableCount() > 0) {
+                LOGGER.trace("Skipping pooled connection to degraded LDAP server [{}]", connection.getLdapURL());
+                skipped.add(connection);
+                connection = null;
+                connection = super.getConnection();
+            }
+        } catch (final PoolException | RuntimeException e) {
+            if (connection != null) {
+                skipped.add(connection);
+            }
+            releaseConnections(skipped);
+            throw e;
+        }
+        releaseConnections(skipped);
+        return connection;
+    }
+
+    private static void releaseConnections(final List<Connection> connections) {
+        for (val connection : connections) {
+            try {
+                connection.close();
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to release pooled connection to [{}]: [{}]", connection.getLdapURL(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean isDegraded(final Connection connection) {
+        val url = connection.getLdapURL();
+        if (url == null) {
+            return false;
+        }
+        val health = serverHealthFor(url);
+        if (health.getSampleCount() < MINIMUM_SERVER_SAMPLES) {
+            return false;
+        }
+        return serverHealth.values()
+            .stream()
+            .filter(candidate -> candidate != health && candidate.getSampleCount() >= MINIMUM_SERVER_SAMPLES)
+            .anyMatch(candidate -> health.getScore() > candidate.getScore() * DEGRADED_SERVER_SCORE_FACTOR);
+    }
+
+    private LdapServerHealth serverHealthFor(final LdapURL url) {
+        return serverHealth.computeIfAbsent(url.getHostnameWithPort(), LdapServerHealth::new);
+    }
+
+    private void recordSearchLatency(final long latency) {
+        searchCount.increment();
+        val sample = searchLatencySamples.getAndIncrement();
+        synchronized (searchLatencies) {
+            searchLatencies[(int) (sample % LATENCY_WINDOW_SIZE)] = latency;
+        }
+        if (hedgingExecutor != null && sample >= MINIMUM_LATENCY_SAMPLES && sample % LATENCY_THRESHOLD_REFRESH_INTERVAL == 0) {
+            hedgingThreshold = calculateLatencyPercentile(Math.min(sample + 1, LATENCY_WINDOW_SIZE));
+        }
+    }
+
+    private long calculateLatencyPercentile(final long samples) {
+        final long[] latencies;
+        synchronized (searchLatencies) {
+            latencies = Arrays.copyOf(searchLatencies, (int) samples);
+        }
+        Arrays.sort(latencies);
+        val index = (int) Math.ceil(hedgedSearchPercentile * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+    }
+
+    private record OperationTarget(LdapURL url, long checkedOutAt) {
+    }
+}
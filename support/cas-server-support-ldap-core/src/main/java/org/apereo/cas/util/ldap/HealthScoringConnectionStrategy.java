@@ -0,0 +1,69 @@
+package org.apereo.cas.util.ldap;
+
+import lombok.Getter;
+import lombok.val;
+import org.ldaptive.AbstractConnectionStrategy;
+import org.ldaptive.LdapURL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link HealthScoringConnectionStrategy} that orders LDAP urls
+ * by the health score of each server, so that new connections are opened against
+ * the server with the lowest observed operation latency and error rate. Inactive servers
+ * are always attempted last. Health records are populated by {@link AdaptivePooledConnectionFactory}
+ * from the operations executed on pooled connections; failed connection attempts
+ * are recorded here as errors against the server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+public class HealthScoringConnectionStrategy extends AbstractConnectionStrategy {
+    private final Map<String, LdapServerHealth> serverHealth;
+
+    public HealthScoringConnectionStrategy() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    public HealthScoringConnectionStrategy(final Map<String, LdapServerHealth> serverHealth) {
+        this.serverHealth = serverHealth;
+    }
+
+    @Override
+    public Iterator<LdapURL> iterator() {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Strategy is not initialized");
+        }
+        val urls = new ArrayList<LdapURL>(ldapURLSet.getActiveUrls());
+        urls.sort(Comparator.comparingDouble(url -> getServerHealth(url).getScore()));
+        urls.addAll(ldapURLSet.getInactiveUrls());
+        return urls.iterator();
+    }
+
+    @Override
+    public void failure(final LdapURL url) {
+        super.failure(url);
+        getServerHealth(url).recordFailure();
+    }
+
+    @Override
+    public HealthScoringConnectionStrategy newInstance() {
+        val strategy = new HealthScoringConnectionStrategy(serverHealth);
+        strategy.setRetryCondition(getRetryCondition());
+        return strategy;
+    }
+
+    /**
+     * Gets server health for the given url.
+     *
+     * @param url the url
+     * @return the server health
+     */
+    public LdapServerHealth getServerHealth(final LdapURL url) {
+        return serverHealth.computeIfAbsent(url.getHostnameWithPort(), LdapServerHealth::new);
+    }
+}
@@ -0,0 +1,188 @@
+package org.apereo.cas.util.ldap;
+
+import org.apereo.cas.util.http.HttpRequestUtils;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.ReturnAttributes;
+import org.ldaptive.SearchScope;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link LdapAuthenticationRequestContext}.
+ * Keeps track of LDAP entries that are fetched during authentication for the duration of
+ * the current http request, so that principal resolution may reuse the authenticated entry
+ * instead of searching the directory again. It also counts the LDAP operations that are
+ * carried out as part of the same login request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@UtilityClass
+public class LdapAuthenticationRequestContext {
+    private static final String REQUEST_ATTRIBUTE_NAME = LdapAuthenticationRequestContext.class.getName();
+
+    /**
+     * Record an entry that was fetched by a successful authentication attempt.
+     *
+     * @param entry the entry
+     */
+    public static void recordAuthenticatedEntry(final AuthenticatedLdapEntry entry) {
+        getRequestState().ifPresent(state -> {
+            LOGGER.trace("Recording authenticated LDAP entry [{}] for [{}]", entry.entry().getDn(), entry.username());
+            state.entries().add(entry);
+        });
+    }
+
+    /**
+     * Find the authenticated entry that is recorded for the given user
+     * in the current request, matching either the username or the principal id.
+     *
+     * @param username the username
+     * @return the authenticated entry
+     */
+    public static Optional<AuthenticatedLdapEntry> findAuthenticatedEntry(final String username) {
+        return getRequestState()
+            .flatMap(state -> state.entries()
+                .stream()
+                .filter(entry -> StringUtils.equalsIgnoreCase(entry.username(), username)
+                    || StringUtils.equalsIgnoreCase(entry.principalId(), username))
+                .findFirst());
+    }
+
+    /**
+     * Record an LDAP operation carried out for the current request.
+     *
+     * @param operation the operation
+     */
+    public static void recordOperation(final LdapOperation operation) {
+        getRequestState().ifPresent(state -> {
+            state.operations().computeIfAbsent(operation, __ -> new LongAdder()).increment();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("LDAP operations carried out for this request are [{}]", getOperations());
+            }
+        });
+    }
+
+    /**
+     * Gets the number of LDAP operations carried out for the current request.
+     *
+     * @return the operations
+     */
+    public static Map<LdapOperation, Long> getOperations() {
+        val results = new EnumMap<LdapOperation, Long>(LdapOperation.class);
+        getRequestState().ifPresent(state -> state.operations().forEach((operation, count) -> results.put(operation, count.sum())));
+        return results;
+    }
+
+    private static Optional<RequestState> getRequestState() {
+        val request = HttpRequestUtils.getHttpServletRequestFromRequestAttributes();
+        if (request == null) {
+            return Optional.empty();
+        }
+        var state = (RequestState) request.getAttribute(REQUEST_ATTRIBUTE_NAME);
+        if (state == null) {
+            state = new RequestState(new CopyOnWriteArrayList<>(), new ConcurrentHashMap<>());
+            request.setAttribute(REQUEST_ATTRIBUTE_NAME, state);
+        }
+        return Optional.of(state);
+    }
+
+    /**
+     * LDAP operations that are tracked per request.
+     */
+    public enum LdapOperation {
+        /**
+         * Authentication attempt, including dn resolution and bind.
+         */
+        AUTHENTICATION,
+        /**
+         * Search executed to fetch attributes.
+         */
+        SEARCH,
+        /**
+         * Search skipped in favor of the authenticated entry.
+         */
+        SKIPPED_SEARCH
+    }
+
+    /**
+     * An LDAP entry fetched during authentication.
+     *
+     * @param username            the username provided for authentication
+     * @param principalId         the principal id built from the entry
+     * @param ldapUrl             the ldap url of the directory that produced the entry
+     * @param searchFilter        the search filter used to locate the entry, with all parameters applied
+     * @param searchScope         the search scope used to locate the entry
+     * @param requestedAttributes the attributes requested from the directory
+     * @param entry               the entry
+     */
+    public record AuthenticatedLdapEntry(String username, String principalId, String ldapUrl,
+                                         String searchFilter, SearchScope searchScope,
+                                         Set<String> requestedAttributes, LdapEntry entry) {
+        /**
+         * Build an authenticated entry.
+         *
+         * @param username            the username
+         * @param principalId         the principal id
+         * @param ldapUrl             the ldap url
+         * @param searchFilter        the search filter
+         * @param searchScope         the search scope
+         * @param requestedAttributes the requested attributes
+         * @param entry               the entry
+         * @return the authenticated entry
+         */
+        public static AuthenticatedLdapEntry of(final String username, final String principalId, final String ldapUrl,
+                                                final String searchFilter, final SearchScope searchScope,
+                                                final List<String> requestedAttributes, final LdapEntry entry) {
+            val attributes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            attributes.addAll(requestedAttributes);
+            return new AuthenticatedLdapEntry(username, principalId, ldapUrl, searchFilter, searchScope, attributes, entry);
+        }
+
+        /**
+         * Whether this entry was fetched from the same directory, under the given base dn,
+         * with an equivalent search filter and the same search scope, and carries all the requested attributes.
+         *
+         * @param url        the ldap url
+         * @param baseDn     the base dn
+         * @param filter     the search filter, with all parameters applied
+         * @param scope      the search scope
+         * @param attributes the attributes
+         * @return true/false
+         */
+        public boolean covers(final String url, final String baseDn, final String filter,
+                              final SearchScope scope, final String... attributes) {
+            if (!StringUtils.equalsIgnoreCase(StringUtils.trim(ldapUrl), StringUtils.trim(url))) {
+                return false;
+            }
+            if (StringUtils.isBlank(searchFilter) || !StringUtils.equalsIgnoreCase(searchFilter.trim(), StringUtils.trim(filter))
+                || searchScope != scope) {
+                return false;
+            }
+            if (StringUtils.isNotBlank(baseDn) && !StringUtils.endsWithIgnoreCase(entry.getDn(), baseDn.trim())) {
+                return false;
+            }
+            if (requestedAttributes.contains(ReturnAttributes.ALL_USER.value()[0])) {
+                return true;
+            }
+            return attributes != null && attributes.length > 0 && Arrays.stream(attributes)
+                .allMatch(requestedAttributes::contains);
+        }
+    }
+
+    private record RequestState(List<AuthenticatedLdapEntry> entries, Map<LdapOperation, LongAdder> operations) {
+    }
+}
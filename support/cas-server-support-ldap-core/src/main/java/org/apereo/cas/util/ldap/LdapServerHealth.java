@@ -0,0 +1,74 @@
+package org.apereo.cas.util.ldap;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link LdapServerHealth} that tracks latency and error rates
+ * observed for a single LDAP server, using exponentially-weighted moving averages
+ * so that recent observations outweigh older ones. The resulting score is used to rank
+ * servers, where lower scores indicate healthier servers.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class LdapServerHealth {
+    private static final double SMOOTHING_FACTOR = 0.2D;
+
+    private static final double ERROR_PENALTY_FACTOR = 10.0D;
+
+    private final String server;
+
+    private final LongAdder successCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private volatile double averageLatency;
+
+    private volatile double errorRate;
+
+    /**
+     * Record a successful operation.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public synchronized void recordSuccess(final long latencyNanos) {
+        successCount.increment();
+        averageLatency = successCount.sum() == 1
+            ? latencyNanos
+            : SMOOTHING_FACTOR * latencyNanos + (1 - SMOOTHING_FACTOR) * averageLatency;
+        errorRate = (1 - SMOOTHING_FACTOR) * errorRate;
+    }
+
+    /**
+     * Record a failed operation.
+     */
+    public synchronized void recordFailure() {
+        failureCount.increment();
+        errorRate = SMOOTHING_FACTOR + (1 - SMOOTHING_FACTOR) * errorRate;
+    }
+
+    /**
+     * Gets the number of operations observed for this server.
+     *
+     * @return the sample count
+     */
+    public long getSampleCount() {
+        return successCount.sum() + failureCount.sum();
+    }
+
+    /**
+     * Calculate the health score of this server.
+     * Lower scores indicate healthier servers.
+     *
+     * @return the score
+     */
+    public double getScore() {
+        return (averageLatency + 1) * (1 + errorRate * ERROR_PENALTY_FACTOR);
+    }
+}
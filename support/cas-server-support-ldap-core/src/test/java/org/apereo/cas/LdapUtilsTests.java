@@ -11,6 +11,8 @@ import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.LdapConnectionFactory;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import org.apereo.cas.util.ldap.AdaptivePooledConnectionFactory;
+import org.apereo.cas.util.ldap.HealthScoringConnectionStrategy;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import com.google.common.collect.ArrayListMultimap;
 import lombok.val;
@@ -22,6 +24,7 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.DerefAliases;
 import org.ldaptive.LdapAttribute;
 import org.ldaptive.LdapEntry;
+import org.ldaptive.RoundRobinConnectionStrategy;
 import org.ldaptive.auth.ext.ActiveDirectoryAuthenticationResponseHandler;
 import org.ldaptive.handler.CaseChangeEntryHandler;
 import org.ldaptive.sasl.Mechanism;
@@ -295,6 +298,50 @@ class LdapUtilsTests {
         factory.close();
     }
 
+    @Test
+    void verifyAdaptivePooling() throws Throwable {
+        val ldap = new Ldap();
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setSearchFilter("cn=invalid-user");
+        ldap.setPoolMode(AbstractLdapProperties.LdapConnectionPoolMode.ADAPTIVE);
+        ldap.setHedgedSearchPercentile(0.95);
+
+        val connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertInstanceOf(AdaptivePooledConnectionFactory.class, connectionFactory);
+        val factory = new LdapConnectionFactory(connectionFactory);
+        val response = factory.executeSearchOperation(ldap.getBaseDn(),
+            LdapUtils.newLdaptiveSearchFilter(ldap.getSearchFilter()), 0, "cn");
+        assertNotNull(response);
+        assertFalse(LdapUtils.containsResultEntry(response));
+
+        val statistics = ((AdaptivePooledConnectionFactory) connectionFactory).getStatistics();
+        assertTrue((Long) statistics.get("connectionRequests") > 0);
+        assertFalse(((List) statistics.get("servers")).isEmpty());
+        factory.close();
+    }
+
+    @Test
+    void verifyAdaptivePoolingKeepsConnectionStrategy() throws Throwable {
+        val ldap = new Ldap();
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setPoolMode(AbstractLdapProperties.LdapConnectionPoolMode.ADAPTIVE);
+        ldap.setConnectionStrategy(AbstractLdapProperties.LdapConnectionStrategy.ROUND_ROBIN.name());
+        val connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertInstanceOf(RoundRobinConnectionStrategy.class, connectionFactory.getConnectionConfig().getConnectionStrategy());
+        connectionFactory.close();
+
+        ldap.setConnectionStrategy(null);
+        val healthScoringFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertInstanceOf(HealthScoringConnectionStrategy.class, healthScoringFactory.getConnectionConfig().getConnectionStrategy());
+        healthScoringFactory.close();
+    }
+
     @Test
     void verifyConnectionConfig() throws Throwable {
         val ldap = new Ldap();
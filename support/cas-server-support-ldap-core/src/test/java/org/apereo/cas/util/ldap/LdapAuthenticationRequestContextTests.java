@@ -0,0 +1,146 @@
+package org.apereo.cas.util.ldap;
+
+import org.apereo.cas.persondir.LdaptivePersonAttributeDao;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.SearchOperationHandle;
+import org.ldaptive.SearchRequest;
+import org.ldaptive.SearchResponse;
+import org.ldaptive.SearchScope;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import javax.naming.directory.SearchControls;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link LdapAuthenticationRequestContextTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Ldap")
+class LdapAuthenticationRequestContextTests {
+    private static final String LDAP_URL = "ldap://localhost:10389";
+
+    private static final String PEOPLE_BASE_DN = "ou=people,dc=example,dc=org";
+
+    private static final String SEARCH_FILTER = "uid=casuser";
+
+    @BeforeEach
+    public void beforeEach() {
+        val request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void verifyAuthenticatedEntryCoverage() {
+        val entry = buildAuthenticatedEntry(List.of("cn", "mail"));
+        LdapAuthenticationRequestContext.recordAuthenticatedEntry(entry);
+        val result = LdapAuthenticationRequestContext.findAuthenticatedEntry("CASUSER");
+        assertTrue(result.isPresent());
+        assertTrue(result.get().covers(LDAP_URL, PEOPLE_BASE_DN, SEARCH_FILTER, SearchScope.ONELEVEL, "CN", "mail"));
+        assertFalse(result.get().covers(LDAP_URL, PEOPLE_BASE_DN, SEARCH_FILTER, SearchScope.ONELEVEL, "cn", "givenName"));
+        assertFalse(result.get().covers("ldap://localhost:1389", PEOPLE_BASE_DN, SEARCH_FILTER, SearchScope.ONELEVEL, "cn"));
+        assertFalse(result.get().covers(LDAP_URL, "ou=groups,dc=example,dc=org", SEARCH_FILTER, SearchScope.ONELEVEL, "cn"));
+        assertFalse(result.get().covers(LDAP_URL, PEOPLE_BASE_DN, "(&(uid=casuser)(objectClass=person))", SearchScope.ONELEVEL, "cn"));
+        assertFalse(result.get().covers(LDAP_URL, PEOPLE_BASE_DN, SEARCH_FILTER, SearchScope.SUBTREE, "cn"));
+        assertTrue(LdapAuthenticationRequestContext.findAuthenticatedEntry("unknown").isEmpty());
+    }
+
+    @Test
+    void verifySearchSkippedForAuthenticatedEntry() {
+        LdapAuthenticationRequestContext.recordOperation(LdapAuthenticationRequestContext.LdapOperation.AUTHENTICATION);
+        LdapAuthenticationRequestContext.recordAuthenticatedEntry(buildAuthenticatedEntry(List.of("cn", "mail")));
+
+        val connectionFactory = mock(ConnectionFactory.class);
+        val dao = new LdaptivePersonAttributeDao();
+        dao.setConnectionFactory(connectionFactory);
+        dao.setLdapUrl(LDAP_URL);
+        dao.setBaseDN(PEOPLE_BASE_DN);
+        dao.setSearchFilter("uid={user}");
+        dao.setSearchControls(new SearchControls());
+        dao.setResultAttributeMapping(Map.of("cn", "commonName"));
+        dao.setReuseAuthenticatedEntry(true);
+
+        val person = dao.getPerson("casuser");
+        assertNotNull(person);
+        assertEquals(List.of("CAS"), person.getAttributes().get("commonName"));
+        assertFalse(person.getAttributes().containsKey("mail"));
+        assertEquals(1, dao.getSkippedSearchCount().sum());
+        assertEquals(0, dao.getSearchCount().sum());
+        verifyNoInteractions(connectionFactory);
+
+        val operations = LdapAuthenticationRequestContext.getOperations();
+        assertEquals(1L, operations.get(LdapAuthenticationRequestContext.LdapOperation.AUTHENTICATION));
+        assertEquals(1L, operations.get(LdapAuthenticationRequestContext.LdapOperation.SKIPPED_SEARCH));
+        assertFalse(operations.containsKey(LdapAuthenticationRequestContext.LdapOperation.SEARCH));
+    }
+
+    @Test
+    void verifySearchNotSkippedForDifferentFilter() throws Throwable {
+        val authenticatedEntry = buildAuthenticatedEntry(List.of("cn", "mail"));
+        LdapAuthenticationRequestContext.recordAuthenticatedEntry(authenticatedEntry);
+
+        val response = new SearchResponse();
+        response.addEntries(authenticatedEntry.entry());
+        val handle = mock(SearchOperationHandle.class, RETURNS_SELF);
+        when(handle.execute()).thenReturn(response);
+        val connection = mock(Connection.class);
+        when(connection.operation(any(SearchRequest.class))).thenReturn(handle);
+        val connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        val dao = new LdaptivePersonAttributeDao();
+        dao.setConnectionFactory(connectionFactory);
+        dao.setLdapUrl(LDAP_URL);
+        dao.setBaseDN(PEOPLE_BASE_DN);
+        dao.setSearchFilter("(&(uid={user})(memberOf=cn=staff,ou=groups,dc=example,dc=org))");
+        dao.setSearchControls(new SearchControls());
+        dao.setResultAttributeMapping(Map.of("cn", "commonName"));
+        dao.setReuseAuthenticatedEntry(true);
+
+        for (var i = 0; i < 2; i++) {
+            val person = dao.getPerson("casuser");
+            assertNotNull(person);
+            assertEquals(List.of("CAS"), person.getAttributes().get("commonName"));
+        }
+        assertEquals(0, dao.getSkippedSearchCount().sum());
+        assertEquals(2, dao.getSearchCount().sum());
+        verify(connection, times(2)).operation(any(SearchRequest.class));
+        verify(handle, times(2)).execute();
+    }
+
+    @Test
+    void verifyNothingRecordedWithoutRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        LdapAuthenticationRequestContext.recordAuthenticatedEntry(buildAuthenticatedEntry(List.of("cn")));
+        LdapAuthenticationRequestContext.recordOperation(LdapAuthenticationRequestContext.LdapOperation.SEARCH);
+        assertTrue(LdapAuthenticationRequestContext.findAuthenticatedEntry("casuser").isEmpty());
+        assertTrue(LdapAuthenticationRequestContext.getOperations().isEmpty());
+    }
+
+    private static LdapAuthenticationRequestContext.AuthenticatedLdapEntry buildAuthenticatedEntry(final List<String> attributes) {
+        val entry = new LdapEntry();
+        entry.setDn("uid=casuser,ou=people,dc=example,dc=org");
+        entry.addAttributes(new LdapAttribute("cn", "CAS"), new LdapAttribute("mail", "casuser@example.org"));
+        return LdapAuthenticationRequestContext.AuthenticatedLdapEntry.of("casuser", "casuser", LDAP_URL,
+            SEARCH_FILTER, SearchScope.ONELEVEL, attributes, entry);
+    }
+}
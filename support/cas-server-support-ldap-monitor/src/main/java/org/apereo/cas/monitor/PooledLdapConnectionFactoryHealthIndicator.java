@@ -1,5 +1,7 @@
 package org.apereo.cas.monitor;
 
+import org.apereo.cas.util.ldap.AdaptivePooledConnectionFactory;
+
 import lombok.val;
 import org.ldaptive.ConnectionValidator;
 import org.ldaptive.PooledConnectionFactory;
@@ -43,6 +45,9 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
 
     @Override
     protected Health.Builder checkPool(final Health.Builder builder) throws Exception {
+        if (this.connectionFactory instanceof final AdaptivePooledConnectionFactory adaptiveFactory) {
+            builder.withDetails(adaptiveFactory.getStatistics());
+        }
         if (this.connectionFactory != null && this.validator != null) {
             try (val conn = this.connectionFactory.getConnection()) {
                 return this.validator.apply(conn) ? builder.up() : builder.down();
@@ -75,6 +75,8 @@ class CasPersonDirectoryLdapConfiguration {
                             LOGGER.debug("Configured LDAP attribute source for [{}] and baseDn [{}]", ldap.getLdapUrl(), ldap.getBaseDn());
                             dao.setConnectionFactory(LdapUtils.newLdaptiveConnectionFactory(ldap));
                             dao.setBaseDN(ldap.getBaseDn());
+                            dao.setLdapUrl(ldap.getLdapUrl());
+                            dao.setReuseAuthenticatedEntry(ldap.isReuseAuthenticatedEntry());
                             dao.setEnabled(ldap.getState() != AttributeRepositoryStates.DISABLED);
                             dao.putTag(PersonDirectoryAttributeRepositoryPlanConfigurer.class.getSimpleName(),
                                 ldap.getState() == AttributeRepositoryStates.ACTIVE);
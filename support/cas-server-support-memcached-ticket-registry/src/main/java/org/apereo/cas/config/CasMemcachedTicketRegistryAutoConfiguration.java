@@ -2,15 +2,20 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.memcached.MemcachedPooledClientConnectionFactory;
 import org.apereo.cas.memcached.MemcachedUtils;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.MemcachedTicketRegistry;
+import org.apereo.cas.ticket.registry.MemcachedTicketRegistryIndex;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.serialization.ComponentSerializationPlan;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
@@ -77,13 +82,29 @@ public class CasMemcachedTicketRegistryAutoConfiguration {
             .getMemcached();
         val factory = new MemcachedPooledClientConnectionFactory(memcached, memcachedTicketRegistryTranscoder);
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
-        return new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, factory.getObjectPool());
+        val index = memcached.getIndex();
+        val ticketIndex = index.isEnabled()
+            ? new MemcachedTicketRegistryIndex(index.getShards(),
+                Math.max(1, Beans.newDuration(index.getBucketSize()).toSeconds()), index.getMaximumAttempts())
+            : null;
+        return new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog,
+            factory.getObjectPool(), ticketIndex);
     }
 
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Lazy(false)
-    public TicketRegistryCleaner ticketRegistryCleaner() {
-        return NoOpTicketRegistryCleaner.getInstance();
+    public TicketRegistryCleaner ticketRegistryCleaner(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(LockRepository.BEAN_NAME)
+        final LockRepository lockRepository,
+        @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+        final LogoutManager logoutManager,
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        final TicketRegistry ticketRegistry) {
+        val index = casProperties.getTicket().getRegistry().getMemcached().getIndex();
+        return index.isEnabled()
+            ? new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry)
+            : NoOpTicketRegistryCleaner.getInstance();
     }
 }
@@ -1,7 +1,10 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -13,15 +16,24 @@ import net.spy.memcached.MemcachedClientIF;
 import org.apache.commons.pool2.ObjectPool;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Key-value ticket registry implementation that stores tickets in memcached keyed on the ticket ID.
  * <p>
  * If the number sent by a client is larger than {@link #THIRTY_DAYS_IN_SECONDS}, the expiration
  * time of the ticket will be set to {@link #THIRTY_DAYS_IN_SECONDS} itself.
+ * <p>
+ * Memcached is unable to enumerate its entries. When a {@link MemcachedTicketRegistryIndex} is provided,
+ * the registry looks up single sign-on sessions and tickets issued to services via the index,
+ * and enumerates tickets by reading the index rather than the cache.
  *
  * @author Scott Battaglia
  * @author Marvin S. Addison
@@ -39,10 +51,22 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
      */
     private final ObjectPool<MemcachedClientIF> connectionPool;
 
+    /**
+     * Secondary index, if any.
+     */
+    private final MemcachedTicketRegistryIndex ticketIndex;
+
     public MemcachedTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog, final ObjectPool<MemcachedClientIF> connectionPool) {
+        this(cipherExecutor, ticketSerializationManager, ticketCatalog, connectionPool, null);
+    }
+
+    public MemcachedTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
+                                   final TicketCatalog ticketCatalog, final ObjectPool<MemcachedClientIF> connectionPool,
+                                   final MemcachedTicketRegistryIndex ticketIndex) {
         super(cipherExecutor, ticketSerializationManager, ticketCatalog);
         this.connectionPool = connectionPool;
+        this.ticketIndex = ticketIndex;
     }
 
     @Override
@@ -51,7 +75,9 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
         LOGGER.debug("Updating ticket [{}]", ticket);
         val clientFromPool = getClientFromPool();
         try {
-            clientFromPool.replace(ticket.getId(), getTimeout(ticketToUpdate), ticket);
+            val timeout = getTimeout(ticketToUpdate);
+            clientFromPool.replace(ticket.getId(), timeout, ticket);
+            indexTicket(clientFromPool, ticketToUpdate, ticket.getId(), timeout);
         } catch (final Exception e) {
             LOGGER.error("Failed updating [{}]", ticket);
             LoggingUtils.error(LOGGER, e);
@@ -67,7 +93,9 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
         try {
             val ticket = encodeTicket(ticketToAdd);
             LOGGER.trace("Adding ticket [{}]", ticket);
-            clientFromPool.set(ticket.getId(), getTimeout(ticketToAdd), ticket);
+            val timeout = getTimeout(ticketToAdd);
+            clientFromPool.set(ticket.getId(), timeout, ticket);
+            indexTicket(clientFromPool, ticketToAdd, ticket.getId(), timeout);
         } catch (final Exception e) {
             LOGGER.error("Failed adding [{}]", ticketToAdd);
             LoggingUtils.error(LOGGER, e);
@@ -89,6 +117,9 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
         val ticketId = digestIdentifier(ticketToDelete.getId());
         try {
             clientFromPool.delete(ticketId);
+            if (ticketIndex != null) {
+                ticketIndex.remove(clientFromPool, ticketId, getIndexedPrincipalId(ticketToDelete), getIndexedServiceId(ticketToDelete));
+            }
         } catch (final Exception e) {
             LOGGER.error("Ticket not found or is already removed. Failed deleting [{}]", ticketId);
             LoggingUtils.error(LOGGER, e);
@@ -122,8 +153,48 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        LOGGER.debug("getTickets() isn't supported. Returning empty list");
-        return new ArrayList<>(0);
+        if (ticketIndex == null) {
+            LOGGER.debug("getTickets() isn't supported without a ticket index. Returning empty list");
+            return new ArrayList<>(0);
+        }
+        return getIndexedTickets(client -> ticketIndex.getTicketIds(client));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (ticketIndex == null) {
+            return super.getSessionsFor(principalId);
+        }
+        return getIndexedTickets(client -> ticketIndex.getPrincipalTicketIds(client, principalId))
+            .stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired())
+            .filter(ticket -> getPrincipalIdFrom(ticket).equals(principalId));
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (ticketIndex == null) {
+            return super.countSessionsFor(principalId);
+        }
+        return getIndexedTickets(client -> ticketIndex.getPrincipalTicketIds(client, principalId))
+            .stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired())
+            .filter(ticket -> getPrincipalIdFrom(ticket).equalsIgnoreCase(principalId))
+            .count();
+    }
+
+    @Override
+    public long countTicketsFor(final Service service) {
+        if (ticketIndex == null) {
+            return super.countTicketsFor(service);
+        }
+        return getIndexedTickets(client -> ticketIndex.getServiceTicketIds(client, service.getId()))
+            .stream()
+            .filter(ticket -> !ticket.isExpired())
+            .filter(ticket -> service.getId().equals(getIndexedServiceId(ticket)))
+            .count();
     }
 
     @Override
@@ -150,6 +221,46 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
         return ttl.intValue();
     }
 
+    private static String getIndexedPrincipalId(final Ticket ticket) {
+        return ticket instanceof TicketGrantingTicket ? getPrincipalIdFrom(ticket) : null;
+    }
+
+    private static String getIndexedServiceId(final Ticket ticket) {
+        return ticket instanceof final ServiceAwareTicket serviceAwareTicket && serviceAwareTicket.getService() != null
+            ? serviceAwareTicket.getService().getId()
+            : null;
+    }
+
+    private void indexTicket(final MemcachedClientIF client, final Ticket ticket, final String ticketId, final int timeout) {
+        if (ticketIndex != null) {
+            val expiresAt = Instant.now().getEpochSecond() + timeout;
+            ticketIndex.add(client, ticketId, getIndexedPrincipalId(ticket), getIndexedServiceId(ticket), expiresAt);
+        }
+    }
+
+    private List<? extends Ticket> getIndexedTickets(final Function<MemcachedClientIF, Collection<String>> ticketIds) {
+        val clientFromPool = getClientFromPool();
+        try {
+            val ids = ticketIds.apply(clientFromPool);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            return clientFromPool.getBulk(ids).values()
+                .stream()
+                .filter(Objects::nonNull)
+                .map(Ticket.class::cast)
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .toList();
+        } catch (final Exception e) {
+            LOGGER.error("Failed fetching indexed tickets");
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            returnClientToPool(clientFromPool);
+        }
+        return List.of();
+    }
+
     private MemcachedClientIF getClientFromPool() {
         return FunctionUtils.doUnchecked(this.connectionPool::borrowObject);
     }
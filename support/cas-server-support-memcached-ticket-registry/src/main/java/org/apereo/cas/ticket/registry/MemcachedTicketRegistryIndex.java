@@ -0,0 +1,243 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.MemcachedClientIF;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link MemcachedTicketRegistryIndex} that maintains secondary indexes for the memcached ticket registry.
+ * Each index entry is a compact list of ticket ids, along with the time each ticket expires, that is kept
+ * under its own memcached key: one entry per principal for ticket-granting tickets, and entries per service
+ * and per expiration bucket for all tickets. Service and bucket entries are spread across a number of shards.
+ * Entries are updated using compare-and-set operations so that concurrent updates from multiple
+ * CAS server nodes are not lost, and expired tickets are pruned from an entry whenever it is updated.
+ * Memcached evicts each entry once the last of its tickets expires. Expiration buckets that hold tickets are
+ * recorded in a directory entry for each shard, so that tickets are enumerated by reading the populated buckets only.
+ * Ticket ids recorded in the index are the keys under which tickets are stored, which may be digested.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class MemcachedTicketRegistryIndex {
+    private static final String KEY_PREFIX = "cas:index:";
+
+    private static final String PRINCIPAL_KEY_PREFIX = KEY_PREFIX + "principal:";
+
+    private static final String SERVICE_KEY_PREFIX = KEY_PREFIX + "service:";
+
+    private static final String EXPIRATION_KEY_PREFIX = KEY_PREFIX + "expiration:";
+
+    private static final String BUCKETS_KEY_PREFIX = KEY_PREFIX + "buckets:";
+
+    private static final String ENTRY_SEPARATOR = ",";
+
+    private static final char EXPIRATION_SEPARATOR = '|';
+
+    private final int shards;
+
+    private final long bucketSeconds;
+
+    private final int maximumAttempts;
+
+    private final Map<String, Long> recordedBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * Record the ticket in the index.
+     *
+     * @param client      the client
+     * @param ticketId    the id under which the ticket is stored
+     * @param principalId the principal id of the ticket-granting ticket, if any
+     * @param serviceId   the service id of the ticket, if any
+     * @param expiresAt   the epoch second at which the ticket expires
+     */
+    public void add(final MemcachedClientIF client, final String ticketId, final String principalId,
+                    final String serviceId, final long expiresAt) {
+        if (StringUtils.isNotBlank(principalId)) {
+            update(client, getPrincipalKey(principalId), entries -> entries.put(ticketId, expiresAt));
+        }
+        if (StringUtils.isNotBlank(serviceId)) {
+            update(client, getServiceKey(serviceId, getShard(ticketId)), entries -> entries.put(ticketId, expiresAt));
+        }
+        val bucket = expiresAt / bucketSeconds;
+        val shard = getShard(ticketId);
+        update(client, getExpirationKey(bucket, shard), entries -> entries.put(ticketId, expiresAt));
+        recordBucket(client, bucket, shard);
+    }
+
+    /**
+     * Remove the ticket from the principal and service indexes.
+     * Tickets are left in their expiration bucket until the bucket itself expires,
+     * and are skipped when they can no longer be found.
+     *
+     * @param client      the client
+     * @param ticketId    the id under which the ticket is stored
+     * @param principalId the principal id of the ticket-granting ticket, if any
+     * @param serviceId   the service id of the ticket, if any
+     */
+    public void remove(final MemcachedClientIF client, final String ticketId,
+                       final String principalId, final String serviceId) {
+        if (StringUtils.isNotBlank(principalId)) {
+            update(client, getPrincipalKey(principalId), entries -> entries.remove(ticketId));
+        }
+        if (StringUtils.isNotBlank(serviceId)) {
+            update(client, getServiceKey(serviceId, getShard(ticketId)), entries -> entries.remove(ticketId));
+        }
+    }
+
+    /**
+     * Gets the ids of the unexpired tickets recorded for the principal.
+     *
+     * @param client      the client
+     * @param principalId the principal id
+     * @return the ticket ids
+     */
+    public Set<String> getPrincipalTicketIds(final MemcachedClientIF client, final String principalId) {
+        return readTicketIds(client, List.of(getPrincipalKey(principalId)));
+    }
+
+    /**
+     * Gets the ids of the unexpired tickets recorded for the service.
+     *
+     * @param client    the client
+     * @param serviceId the service id
+     * @return the ticket ids
+     */
+    public Set<String> getServiceTicketIds(final MemcachedClientIF client, final String serviceId) {
+        val keys = new ArrayList<String>(shards);
+        for (var shard = 0; shard < shards; shard++) {
+            keys.add(getServiceKey(serviceId, shard));
+        }
+        return readTicketIds(client, keys);
+    }
+
+    /**
+     * Gets the ids of all unexpired tickets, by reading the expiration buckets
+     * recorded in the bucket directory of each shard.
+     *
+     * @param client the client
+     * @return the ticket ids
+     */
+    public Set<String> getTicketIds(final MemcachedClientIF client) {
+        val directoryKeys = new ArrayList<String>(shards);
+        for (var shard = 0; shard < shards; shard++) {
+            directoryKeys.add(getBucketDirectoryKey(shard));
+        }
+        val keys = new ArrayList<String>();
+        client.getBulk(directoryKeys).forEach((directoryKey, value) -> {
+            if (value != null) {
+                val shard = Integer.parseInt(StringUtils.substringAfterLast(directoryKey, ":"));
+                readEntries(value).keySet().forEach(bucket -> keys.add(getExpirationKey(Long.parseLong(bucket), shard)));
+            }
+        });
+        LOGGER.trace("Reading [{}] ticket expiration bucket(s)", keys.size());
+        return readTicketIds(client, keys);
+    }
+
+    private void update(final MemcachedClientIF client, final String key, final Consumer<Map<String, Long>> change) {
+        for (var attempt = 1; attempt <= maximumAttempts; attempt++) {
+            val current = client.gets(key);
+            val entries = current == null ? new LinkedHashMap<String, Long>() : readEntries(current.getValue());
+            change.accept(entries);
+            val value = writeEntries(entries);
+            val expiration = (int) entries.values().stream().mapToLong(Long::longValue).max().orElse(1);
+            if (current == null) {
+                if (entries.isEmpty() || FunctionUtils.doUnchecked(() -> client.add(key, expiration, value).get())) {
+                    return;
+                }
+            } else if (client.cas(key, current.getCas(), expiration, value) == CASResponse.OK) {
+                return;
+            }
+            LOGGER.trace("Index entry [{}] was concurrently modified; retrying update attempt [{}]", key, attempt);
+        }
+        LOGGER.warn("Unable to update ticket registry index entry [{}] after [{}] attempt(s)", key, maximumAttempts);
+    }
+
+    /**
+     * Record the bucket in the directory of its shard, once per bucket and shard on this node.
+     * Buckets are dropped from the directory once they are over.
+     */
+    private void recordBucket(final MemcachedClientIF client, final long bucket, final int shard) {
+        val bucketEnd = (bucket + 1) * bucketSeconds;
+        if (recordedBuckets.putIfAbsent(getExpirationKey(bucket, shard), bucketEnd) == null) {
+            val now = Instant.now().getEpochSecond();
+            recordedBuckets.values().removeIf(end -> end <= now);
+            update(client, getBucketDirectoryKey(shard), entries -> entries.put(String.valueOf(bucket), bucketEnd));
+        }
+    }
+
+    private Set<String> readTicketIds(final MemcachedClientIF client, final Collection<String> keys) {
+        val ticketIds = new LinkedHashSet<String>();
+        client.getBulk(keys).values()
+            .stream()
+            .filter(Objects::nonNull)
+            .forEach(value -> ticketIds.addAll(readEntries(value).keySet()));
+        return ticketIds;
+    }
+
+    private String getPrincipalKey(final String principalId) {
+        return PRINCIPAL_KEY_PREFIX + DigestUtils.sha256(principalId.toLowerCase(Locale.ENGLISH));
+    }
+
+    private String getServiceKey(final String serviceId, final int shard) {
+        return SERVICE_KEY_PREFIX + DigestUtils.sha256(serviceId) + ':' + shard;
+    }
+
+    private String getExpirationKey(final long bucket, final int shard) {
+        return EXPIRATION_KEY_PREFIX + bucket + ':' + shard;
+    }
+
+    private String getBucketDirectoryKey(final int shard) {
+        return BUCKETS_KEY_PREFIX + shard;
+    }
+
+    private int getShard(final String ticketId) {
+        return Math.floorMod(ticketId.hashCode(), shards);
+    }
+
+    private static Map<String, Long> readEntries(final Object value) {
+        val now = Instant.now().getEpochSecond();
+        val entries = new LinkedHashMap<String, Long>();
+        for (val entry : StringUtils.split(value.toString(), ENTRY_SEPARATOR)) {
+            val index = entry.lastIndexOf(EXPIRATION_SEPARATOR);
+            val expiresAt = Long.parseLong(entry.substring(index + 1));
+            if (expiresAt > now) {
+                entries.put(entry.substring(0, index), expiresAt);
+            }
+        }
+        return entries;
+    }
+
+    private static String writeEntries(final Map<String, Long> entries) {
+        val builder = new StringBuilder();
+        entries.forEach((ticketId, expiresAt) -> {
+            if (!builder.isEmpty()) {
+                builder.append(ENTRY_SEPARATOR);
+            }
+            builder.append(ticketId).append(EXPIRATION_SEPARATOR).append(expiresAt);
+        });
+        return builder.toString();
+    }
+}
@@ -0,0 +1,205 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.val;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.MemcachedClientIF;
+import org.apache.commons.pool2.ObjectPool;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link MemcachedTicketRegistryIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Memcached")
+class MemcachedTicketRegistryIndexTests {
+    private static long getExpiration(final long seconds) {
+        return Instant.now().getEpochSecond() + seconds;
+    }
+
+    @Test
+    void verifyPrincipalAndServiceIndex() {
+        val client = new InMemoryClient().getClient();
+        val index = new MemcachedTicketRegistryIndex(4, 60, 10);
+        index.add(client, "TGT-1", "casuser", null, getExpiration(600));
+        index.add(client, "TGT-2", "casuser", null, getExpiration(600));
+        index.add(client, "ST-1", null, "https://app.example.org", getExpiration(10));
+        index.add(client, "ST-2", null, "https://app.example.org", getExpiration(10));
+
+        assertEquals(Set.of("TGT-1", "TGT-2"), index.getPrincipalTicketIds(client, "CasUser"));
+        assertEquals(Set.of("ST-1", "ST-2"), index.getServiceTicketIds(client, "https://app.example.org"));
+        assertTrue(index.getServiceTicketIds(client, "https://other.example.org").isEmpty());
+
+        index.remove(client, "TGT-1", "casuser", null);
+        index.remove(client, "ST-2", null, "https://app.example.org");
+        assertEquals(Set.of("TGT-2"), index.getPrincipalTicketIds(client, "casuser"));
+        assertEquals(Set.of("ST-1"), index.getServiceTicketIds(client, "https://app.example.org"));
+    }
+
+    @Test
+    void verifyExpiredTicketsPruned() {
+        val client = new InMemoryClient().getClient();
+        val index = new MemcachedTicketRegistryIndex(1, 60, 10);
+        index.add(client, "TGT-1", "casuser", null, getExpiration(-10));
+        index.add(client, "TGT-2", "casuser", null, getExpiration(600));
+        assertEquals(Set.of("TGT-2"), index.getPrincipalTicketIds(client, "casuser"));
+        index.remove(client, "TGT-2", "casuser", null);
+        assertTrue(index.getPrincipalTicketIds(client, "casuser").isEmpty());
+    }
+
+    @Test
+    void verifyTicketsEnumeratedFromBuckets() {
+        val client = new InMemoryClient().getClient();
+        val index = new MemcachedTicketRegistryIndex(2, 60, 10);
+        index.add(client, "ST-1", null, "https://app.example.org", getExpiration(10));
+        index.add(client, "TGT-1", "casuser", null, getExpiration(3600));
+        index.add(client, "TGT-2", "casuser", null, getExpiration(7200));
+        index.add(client, "PGT-1", null, null, getExpiration(300));
+        assertEquals(Set.of("ST-1", "TGT-1", "TGT-2", "PGT-1"), index.getTicketIds(client));
+    }
+
+    @Test
+    void verifyOnlyPopulatedBucketsRead() {
+        val client = new InMemoryClient().getClient();
+        val index = new MemcachedTicketRegistryIndex(2, 60, 10);
+        index.add(client, "TGT-1", "casuser", null, getExpiration(30 * 24 * 3600));
+        index.add(client, "ST-1", null, "https://app.example.org", getExpiration(10));
+        assertEquals(Set.of("TGT-1", "ST-1"), index.getTicketIds(client));
+        verify(client, never()).getBulk(argThat((Collection<String> keys) -> keys.size() > 2));
+    }
+
+    @Test
+    void verifyConcurrentUpdates() throws Throwable {
+        val client = new InMemoryClient().getClient();
+        val index = new MemcachedTicketRegistryIndex(1, 60, 100);
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            for (var i = 0; i < 50; i++) {
+                val ticketId = "TGT-" + i;
+                executor.submit(() -> index.add(client, ticketId, "casuser", null, getExpiration(600)));
+            }
+        }
+        assertEquals(50, index.getPrincipalTicketIds(client, "casuser").size());
+        assertEquals(50, index.getTicketIds(client).size());
+    }
+
+    @Test
+    void verifyRegistryUsesIndex() throws Throwable {
+        val client = new InMemoryClient().getClient();
+        val pool = mock(ObjectPool.class);
+        when(pool.borrowObject()).thenReturn(client);
+        val registry = new MemcachedTicketRegistry(CipherExecutor.noOp(), mock(TicketSerializationManager.class),
+            new DefaultTicketCatalog(), pool, new MemcachedTicketRegistryIndex(4, 300, 10));
+
+        val tgt = new MockTicketGrantingTicket("casuser");
+        registry.addTicket(tgt);
+        registry.addTicket(new MockTicketGrantingTicket("casuser"));
+        registry.addTicket(new MockTicketGrantingTicket("someone"));
+        val service = RegisteredServiceTestUtils.getService();
+        val st = new MockServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service, tgt);
+        registry.addTicket(st);
+
+        assertEquals(2, registry.getSessionsFor("casuser").count());
+        assertEquals(2, registry.countSessionsFor("CASUSER"));
+        assertEquals(1, registry.countTicketsFor(service));
+        assertEquals(4, registry.getTickets().size());
+        assertEquals(3, registry.sessionCount());
+
+        registry.deleteTicket(tgt.getId());
+        registry.deleteTicket(st.getId());
+        assertEquals(1, registry.countSessionsFor("casuser"));
+        assertEquals(0, registry.countTicketsFor(service));
+        assertEquals(2, registry.getTickets().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class InMemoryClient {
+        private final Map<String, CASValue<Object>> entries = new HashMap<>();
+
+        private long version;
+
+        MemcachedClientIF getClient() {
+            val client = mock(MemcachedClientIF.class);
+            when(client.get(anyString())).thenAnswer(invocation -> read(invocation.getArgument(0)));
+            when(client.gets(anyString())).thenAnswer(invocation -> {
+                synchronized (entries) {
+                    return entries.get(invocation.<String>getArgument(0));
+                }
+            });
+            when(client.getBulk(anyCollection())).thenAnswer(invocation -> {
+                val results = new HashMap<String, Object>();
+                invocation.<Collection<String>>getArgument(0).forEach(key -> {
+                    val value = read(key);
+                    if (value != null) {
+                        results.put(key, value);
+                    }
+                });
+                return results;
+            });
+            when(client.add(anyString(), anyInt(), any())).thenAnswer(invocation -> {
+                synchronized (entries) {
+                    val key = invocation.<String>getArgument(0);
+                    val added = !entries.containsKey(key);
+                    if (added) {
+                        entries.put(key, new CASValue<>(++version, invocation.getArgument(2)));
+                    }
+                    return CompletableFuture.completedFuture(added);
+                }
+            });
+            when(client.set(anyString(), anyInt(), any())).thenAnswer(invocation -> write(invocation.getArgument(0), invocation.getArgument(2)));
+            when(client.replace(anyString(), anyInt(), any())).thenAnswer(invocation -> write(invocation.getArgument(0), invocation.getArgument(2)));
+            when(client.delete(anyString())).thenAnswer(invocation -> {
+                synchronized (entries) {
+                    return CompletableFuture.completedFuture(entries.remove(invocation.<String>getArgument(0)) != null);
+                }
+            });
+            when(client.cas(anyString(), anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+                synchronized (entries) {
+                    val key = invocation.<String>getArgument(0);
+                    val current = entries.get(key);
+                    if (current == null) {
+                        return CASResponse.NOT_FOUND;
+                    }
+                    if (current.getCas() != invocation.<Long>getArgument(1)) {
+                        return CASResponse.EXISTS;
+                    }
+                    entries.put(key, new CASValue<>(++version, invocation.getArgument(3)));
+                    return CASResponse.OK;
+                }
+            });
+            return client;
+        }
+
+        private Object read(final String key) {
+            synchronized (entries) {
+                val value = entries.get(key);
+                return value == null ? null : value.getValue();
+            }
+        }
+
+        private CompletableFuture<Boolean> write(final String key, final Object value) {
+            synchronized (entries) {
+                entries.put(key, new CASValue<>(++version, value));
+                return CompletableFuture.completedFuture(Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -1,11 +1,27 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.adaptive.geo.CachingGeoLocationService;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.ticket.registry.pubsub.queue.BaseQueueableTicketRegistryMessageReceiver;
+import org.apereo.cas.ticket.registry.pubsub.queue.BatchingQueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessageReceiver;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.MultiplexingHttpClient;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.val;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,6 +36,107 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
 @Configuration(value = "CasMetricsConfiguration", proxyBeanMethods = false)
 class CasMetricsConfiguration {
+    private static double getStatistic(final MultiplexingHttpClient client, final String name) {
+        return ((Number) client.getStatistics().get(name)).doubleValue();
+    }
+
+    private static void bindHttpClient(final MeterRegistry registry, final String name,
+                                       final MultiplexingHttpClient client) {
+        for (val counter : new String[]{"requests", "failures", "rejected"}) {
+            FunctionCounter.builder("cas.http.client." + counter, client, c -> getStatistic(c, counter))
+                .tag("client", name)
+                .register(registry);
+        }
+        Gauge.builder("cas.http.client.active", client, c -> getStatistic(c, "active"))
+            .tag("client", name)
+            .register(registry);
+        Gauge.builder("cas.http.client.circuits.open", client, c -> getStatistic(c, "openCircuits"))
+            .tag("client", name)
+            .register(registry);
+        Gauge.builder("cas.http.client.latency.average", client, c -> getStatistic(c, "averageLatency"))
+            .tag("client", name)
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder("cas.http.client.latency.max", client, c -> getStatistic(c, "maximumLatency"))
+            .tag("client", name)
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+    private static double getReplicationStatistic(final Map<String, Object> statistics, final String name) {
+        return ((Number) statistics.get(name)).doubleValue();
+    }
+
+    private static void bindTicketRegistryReceiver(final MeterRegistry registry,
+                                                   final BaseQueueableTicketRegistryMessageReceiver receiver) {
+        FunctionCounter.builder("cas.ticket.registry.replication.received", receiver,
+                r -> getReplicationStatistic(r.getStatistics(), "received"))
+            .register(registry);
+        FunctionCounter.builder("cas.ticket.registry.replication.snapshots.sent", receiver,
+                r -> getReplicationStatistic(r.getStatistics(), "snapshotsSent"))
+            .register(registry);
+        Gauge.builder("cas.ticket.registry.replication.held.back", receiver,
+                r -> getReplicationStatistic(r.getStatistics(), "heldBack"))
+            .register(registry);
+        Gauge.builder("cas.ticket.registry.replication.lag", receiver,
+                r -> getReplicationStatistic(r.getStatistics(), "lastLag"))
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder("cas.ticket.registry.replication.lag.max", receiver,
+                r -> getReplicationStatistic(r.getStatistics(), "maximumLag"))
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+    private static void bindTicketRegistryPublisher(final MeterRegistry registry,
+                                                    final BatchingQueueableTicketRegistryMessagePublisher publisher) {
+        for (val counter : new String[]{"received", "published", "batches"}) {
+            FunctionCounter.builder("cas.ticket.registry.replication.publisher." + counter, publisher,
+                    p -> getReplicationStatistic(p.getStatistics(), counter))
+                .register(registry);
+        }
+        Gauge.builder("cas.ticket.registry.replication.publisher.pending", publisher,
+                p -> getReplicationStatistic(p.getStatistics(), "pending"))
+            .register(registry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casHttpClientMeterBinder")
+    public MeterBinder casHttpClientMeterBinder(final ConfigurableApplicationContext applicationContext) {
+        return registry -> applicationContext.getBeansOfType(HttpClient.class).forEach((name, client) -> {
+            if (client instanceof final MultiplexingHttpClient multiplexingClient) {
+                bindHttpClient(registry, name, multiplexingClient);
+            }
+        });
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casTicketRegistryReplicationMeterBinder")
+    public MeterBinder casTicketRegistryReplicationMeterBinder(final ConfigurableApplicationContext applicationContext) {
+        return registry -> {
+            applicationContext.getBeansOfType(QueueableTicketRegistryMessageReceiver.class).values().forEach(receiver -> {
+                if (receiver instanceof final BaseQueueableTicketRegistryMessageReceiver queueReceiver) {
+                    bindTicketRegistryReceiver(registry, queueReceiver);
+                }
+            });
+            applicationContext.getBeansOfType(QueueableTicketRegistryMessagePublisher.class).values().forEach(publisher -> {
+                if (publisher instanceof final BatchingQueueableTicketRegistryMessagePublisher batchingPublisher) {
+                    bindTicketRegistryPublisher(registry, batchingPublisher);
+                }
+            });
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casGeoLocationMeterBinder")
+    public MeterBinder casGeoLocationMeterBinder(final ConfigurableApplicationContext applicationContext) {
+        return registry -> applicationContext.getBeansOfType(GeoLocationService.class).forEach((name, service) -> {
+            if (service instanceof final CachingGeoLocationService cachingService) {
+                CaffeineCacheMetrics.monitor(registry, cachingService.getCache(), "cas.geolocation", "service", name);
+            }
+        });
+    }
+
     @Bean
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
@@ -47,7 +47,8 @@ class MongoDbTicketRegistryConfiguration {
         new MongoDbTicketRegistryFacilitator(ticketCatalog, mongoDbTicketRegistryTemplate, mongo).createTicketCollections();
 
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo");
-        return new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
+        return new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+            mongoDbTicketRegistryTemplate, mongo.getPerformance());
     }
 
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
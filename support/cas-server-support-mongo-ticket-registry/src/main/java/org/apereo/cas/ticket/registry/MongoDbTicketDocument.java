@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +12,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -62,6 +64,16 @@ public class MongoDbTicketDocument implements Serializable {
      */
     public static final String FIELD_NAME_ATTRIBUTES = "attributes";
 
+    /**
+     * Field name to hold the principal/authentication attributes as a list of name/values subdocuments.
+     */
+    public static final String FIELD_NAME_ATTRIBUTE_ENTRIES = "attributeEntries";
+
+    /**
+     * Field name to hold the state of the ticket-granting ticket, when updated in place.
+     */
+    public static final String FIELD_NAME_STATE = "state";
+
     @Serial
     private static final long serialVersionUID = -4843440028617071224L;
 
@@ -83,5 +95,42 @@ public class MongoDbTicketDocument implements Serializable {
     @JsonProperty
     private Map<String, ?> attributes;
 
+    @JsonProperty
+    private List<Attribute> attributeEntries;
+
+    @JsonProperty
+    private String state;
+
     private Date expireAt;
+
+    /**
+     * An attribute stored with the ticket, whose values are kept as strings.
+     * Storing attributes as a list of subdocuments rather than a map allows attribute names
+     * that contain dots and allows a single index to serve queries on any attribute.
+     */
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Attribute implements Serializable {
+        /**
+         * Field name to hold the attribute name.
+         */
+        public static final String FIELD_NAME_NAME = "name";
+
+        /**
+         * Field name to hold the attribute values.
+         */
+        public static final String FIELD_NAME_VALUES = "values";
+
+        @Serial
+        private static final long serialVersionUID = -2271806468519813702L;
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private List<String> values;
+    }
 }
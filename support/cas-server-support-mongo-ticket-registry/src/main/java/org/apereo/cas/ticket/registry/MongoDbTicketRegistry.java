@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoDbTicketRegistryPerformanceProperties;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.ServiceTicket;
@@ -28,7 +29,9 @@ import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -52,10 +55,19 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     private final MongoOperations mongoTemplate;
 
+    private final MongoDbTicketRegistryPerformanceProperties performance;
+
     public MongoDbTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
                                  final TicketCatalog ticketCatalog, final MongoOperations mongoTemplate) {
+        this(cipherExecutor, ticketSerializationManager, ticketCatalog, mongoTemplate, new MongoDbTicketRegistryPerformanceProperties());
+    }
+
+    public MongoDbTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
+                                 final TicketCatalog ticketCatalog, final MongoOperations mongoTemplate,
+                                 final MongoDbTicketRegistryPerformanceProperties performance) {
         super(cipherExecutor, ticketSerializationManager, ticketCatalog);
         this.mongoTemplate = mongoTemplate;
+        this.performance = performance;
     }
 
     /**
@@ -73,6 +85,13 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return DateTimeUtils.dateOf(Instant.ofEpochMilli(exp));
     }
 
+    private static Criteria unexpired() {
+        val now = DateTimeUtils.dateOf(Instant.now(Clock.systemUTC()));
+        return new Criteria().orOperator(
+            Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).gt(now),
+            Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).is(null));
+    }
+
     @Override
     public Ticket addSingleTicket(final Ticket ticket) {
         try {
@@ -113,8 +132,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(encTicketId));
             val found = mongoTemplate.findOne(query, MongoDbTicketDocument.class, collectionName);
             if (found != null) {
-                val decoded = deserializeTicket(found.getJson(), found.getType());
-                val result = decodeTicket(decoded);
+                val result = toTicket(found);
 
                 if (predicate.test(result)) {
                     return result;
@@ -128,6 +146,25 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    protected List<? extends Ticket> getTicketsInternal(final List<String> ticketIds) {
+        val idsByCollection = ticketIds
+            .stream()
+            .filter(ticketId -> Objects.nonNull(ticketCatalog.find(ticketId)))
+            .collect(Collectors.groupingBy(ticketId -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticketId)),
+                Collectors.mapping(this::digestIdentifier, Collectors.toList())));
+        return idsByCollection
+            .entrySet()
+            .stream()
+            .flatMap(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                return mongoTemplate.find(query, MongoDbTicketDocument.class, entry.getKey()).stream();
+            })
+            .map(this::toTicket)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long deleteAll() {
         val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).exists(true));
@@ -150,7 +187,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .map(this::getTicketCollectionInstanceByMetadata)
             .map(map -> mongoTemplate.findAll(MongoDbTicketDocument.class, map))
             .flatMap(List::stream)
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
+            .map(this::toTicket)
             .filter(ticket -> !ticket.isExpired())
             .collect(Collectors.toSet());
     }
@@ -168,7 +205,9 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson())
+                .set(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, holder.getExpireAt())
+                .unset(MongoDbTicketDocument.FIELD_NAME_STATE);
             val result = mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -179,14 +218,29 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    protected boolean updateTicketState(final TicketGrantingTicket ticket, final TicketGrantingTicketState state) {
+        val metadata = ticketCatalog.find(ticket);
+        if (metadata == null) {
+            return false;
+        }
+        val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(digestIdentifier(ticket.getId())));
+        val update = Update.update(MongoDbTicketDocument.FIELD_NAME_STATE, state.toJson())
+            .set(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, getExpireAt(ticket));
+        val result = mongoTemplate.updateFirst(query, update, collectionName);
+        LOGGER.debug("Updated state of ticket [{}] with result [{}]", ticket.getId(), result);
+        return result.getMatchedCount() > 0;
+    }
+
     @Override
     public Stream<Ticket> stream() {
         return ticketCatalog
             .findAll()
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .flatMap(map -> mongoTemplate.stream(new Query(), MongoDbTicketDocument.class, map))
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())));
+            .flatMap(map -> mongoTemplate.stream(withTicketFields(new Query()), MongoDbTicketDocument.class, map))
+            .map(this::toTicket);
     }
 
     @Override
@@ -196,16 +250,26 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
+        if (isProjectionEnabled()) {
+            val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
+                .addCriteria(unexpired());
+            return ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+                .stream()
+                .map(this::getTicketCollectionInstanceByMetadata)
+                .mapToLong(map -> mongoTemplate.count(query, map))
+                .sum();
+        }
         return getSessionsFor(principalId).count();
     }
 
     @Override
     public long countTickets() {
+        val query = isProjectionEnabled() ? new Query(unexpired()) : new Query();
         return ticketCatalog
             .findAll()
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .mapToLong(map -> mongoTemplate.count(new Query(), map))
+            .mapToLong(map -> mongoTemplate.count(query, map))
             .sum();
     }
 
@@ -216,12 +280,17 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .flatMap(map -> {
+                if (performance.isEnabled()) {
+                    val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
+                        .addCriteria(unexpired());
+                    return mongoTemplate.stream(withTicketFields(query), MongoDbTicketDocument.class, map);
+                }
                 val query = isCipherExecutorEnabled()
                     ? new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
                     : TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(principalId)).sortByScore().with(PageRequest.of(0, PAGE_SIZE));
                 return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
             })
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
+            .map(this::toTicket)
             .filter(ticket -> !ticket.isExpired());
     }
 
@@ -232,6 +301,11 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .flatMap(map -> {
+                if (performance.isEnabled()) {
+                    val query = new Query(getAttributeEntriesCriteria(queryAttributes));
+                    LOGGER.debug("Authenticated sessions query is [{}]", query);
+                    return mongoTemplate.stream(withTicketFields(query), MongoDbTicketDocument.class, map);
+                }
                 val criteria = queryAttributes.entrySet()
                     .stream()
                     .map(entry -> {
@@ -250,7 +324,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 val query = new Query(finalCriteria);
                 return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
             })
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
+            .map(this::toTicket)
             .filter(ticket -> !ticket.isExpired());
     }
 
@@ -284,13 +358,16 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 val query = StringUtils.isNotBlank(criteria.getId())
                     ? new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(digestIdentifier(criteria.getId())))
                     : new Query();
+                if (isProjectionEnabled() && !criteria.isDecode()) {
+                    query.fields().include(MongoDbTicketDocument.FIELD_NAME_ID, MongoDbTicketDocument.FIELD_NAME_PRINCIPAL);
+                }
                 return mongoTemplate.stream(query.limit(limit), MongoDbTicketDocument.class, map);
             })
             .filter(document -> StringUtils.isBlank(criteria.getPrincipal())
                 || StringUtils.equalsIgnoreCase(criteria.getPrincipal(), document.getPrincipal()))
             .map(document -> {
                 if (criteria.isDecode()) {
-                    val ticket = decodeTicket(deserializeTicket(document.getJson(), document.getType()));
+                    val ticket = toTicket(document);
                     return ticket != null ? !ticket.isExpired() : null;
                 }
                 return "%s:%s".formatted(document.getTicketId(), StringUtils.defaultIfBlank(document.getPrincipal(), "N/A"));
@@ -301,6 +378,16 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long countTicketsFor(final Service service) {
+        if (isProjectionEnabled()) {
+            val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_SERVICE).is(service.getId()))
+                .addCriteria(unexpired());
+            return ticketCatalog
+                .findAll()
+                .stream()
+                .map(this::getTicketCollectionInstanceByMetadata)
+                .mapToLong(map -> mongoTemplate.count(query, map))
+                .sum();
+        }
         return ticketCatalog
             .findAll()
             .stream()
@@ -310,7 +397,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
             })
             .map(document -> {
-                val ticket = decodeTicket(deserializeTicket(document.getJson(), document.getType()));
+                val ticket = toTicket(document);
                 return ticket != null ? !ticket.isExpired() : null;
             })
             .filter(Objects::nonNull)
@@ -319,10 +406,11 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     protected long countTicketsByTicketType(final Class<? extends Ticket> ticketType) {
         val ticketDefinitions = ticketCatalog.findTicketImplementations(ticketType);
+        val query = isProjectionEnabled() ? new Query(unexpired()) : new Query();
         return ticketDefinitions
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .mapToLong(map -> mongoTemplate.count(new Query(), map))
+            .mapToLong(map -> mongoTemplate.count(query, map))
             .sum();
     }
 
@@ -338,6 +426,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
 
         val principal = getPrincipalIdFrom(ticket);
+        val attributes = (Map<String, List<Object>>) collectAndDigestTicketAttributes(ticket);
         return MongoDbTicketDocument
             .builder()
             .expireAt(expireAt)
@@ -346,10 +435,47 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .json(json)
             .principal(digestIdentifier(principal))
             .service(ticket instanceof final ServiceAwareTicket sat && Objects.nonNull(sat.getService()) ? sat.getService().getId() : null)
-            .attributes(collectAndDigestTicketAttributes(ticket))
+            .attributes(performance.isEnabled() ? null : attributes)
+            .attributeEntries(performance.isEnabled() ? toAttributeEntries(attributes) : null)
             .build();
     }
 
+    protected Criteria getAttributeEntriesCriteria(final Map<String, List<Object>> queryAttributes) {
+        val criteria = queryAttributes.entrySet()
+            .stream()
+            .map(entry -> Criteria.where(MongoDbTicketDocument.FIELD_NAME_ATTRIBUTE_ENTRIES).elemMatch(
+                Criteria.where(MongoDbTicketDocument.Attribute.FIELD_NAME_NAME).is(digestIdentifier(entry.getKey()))
+                    .and(MongoDbTicketDocument.Attribute.FIELD_NAME_VALUES).in(digestIdentifier(entry.getValue()))))
+            .collect(Collectors.toCollection(ArrayList::new));
+        criteria.add(unexpired());
+        return new Criteria().andOperator(criteria);
+    }
+
+    protected Ticket toTicket(final MongoDbTicketDocument document) {
+        val ticket = decodeTicket(deserializeTicket(document.getJson(), document.getType()));
+        return TicketGrantingTicketState.apply(ticket, document.getState());
+    }
+
+    private static List<MongoDbTicketDocument.Attribute> toAttributeEntries(final Map<String, List<Object>> attributes) {
+        return attributes
+            .entrySet()
+            .stream()
+            .map(entry -> new MongoDbTicketDocument.Attribute(entry.getKey(),
+                entry.getValue().stream().filter(Objects::nonNull).map(Object::toString).toList()))
+            .toList();
+    }
+
+    private boolean isProjectionEnabled() {
+        return performance.isEnabled() && performance.isProjections();
+    }
+
+    private Query withTicketFields(final Query query) {
+        if (performance.isEnabled()) {
+            query.fields().exclude(MongoDbTicketDocument.FIELD_NAME_ATTRIBUTES, MongoDbTicketDocument.FIELD_NAME_ATTRIBUTE_ENTRIES);
+        }
+        return query;
+    }
+
     protected String getTicketCollectionInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating collection name [{}] for ticket definition [{}]", mapName, metadata);
@@ -18,6 +18,7 @@ import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This is {@link MongoDbTicketRegistryFacilitator}.
@@ -40,6 +41,9 @@ public class MongoDbTicketRegistryFacilitator {
     private static final String INDEX_NAME_JSON_TYPE_ID = "IDX_JSON_TYPE_ID";
     private static final String INDEX_NAME_PRINCIPAL = "IDX_PRINCIPAL";
     private static final String INDEX_NAME_EXPIRATION = "IDX_EXPIRATION";
+    private static final String INDEX_NAME_PRINCIPAL_EXPIRATION = "IDX_PRINCIPAL_EXPIRATION";
+    private static final String INDEX_NAME_SERVICE_EXPIRATION = "IDX_SERVICE_EXPIRATION";
+    private static final String INDEX_NAME_ATTRIBUTES = "IDX_ATTRIBUTES";
 
     private final TicketCatalog ticketCatalog;
 
@@ -86,6 +90,9 @@ public class MongoDbTicketRegistryFacilitator {
                         .named(INDEX_NAME_PRINCIPAL);
                     expectedIndexes.add(principalIdIndex);
                 }
+                if (properties.getPerformance().isEnabled()) {
+                    expectedIndexes.addAll(createTicketGrantingTicketIndexes());
+                }
                 if (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_JSON_TYPE_ID)){
                     val columnsIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
                         .onField(MongoDbTicketDocument.FIELD_NAME_JSON)
@@ -97,14 +104,23 @@ public class MongoDbTicketRegistryFacilitator {
                 }
             }
 
-
+            if (properties.getPerformance().isEnabled()
+                && (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_SERVICE_EXPIRATION))) {
+                val serviceIndex = new Index()
+                    .named(INDEX_NAME_SERVICE_EXPIRATION)
+                    .on(MongoDbTicketDocument.FIELD_NAME_SERVICE, Sort.Direction.ASC)
+                    .on(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC);
+                expectedIndexes.add(serviceIndex);
+            }
 
             if (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_EXPIRATION)) {
                 val expireIndex = new Index()
                     .named(INDEX_NAME_EXPIRATION)
                     .on(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC);
                 val timeout = ticket.getProperties().getStorageTimeout();
-                if (timeout > 0 && timeout != Long.MAX_VALUE) {
+                if (properties.getPerformance().isEnabled() && properties.getPerformance().isTimeToLiveIndexes()) {
+                    expireIndex.expire(Duration.ZERO);
+                } else if (timeout > 0 && timeout != Long.MAX_VALUE) {
                     expireIndex.expire(Duration.ofSeconds(timeout));
                 }
                 expectedIndexes.add(expireIndex);
@@ -117,4 +133,22 @@ public class MongoDbTicketRegistryFacilitator {
         }
         return collection;
     }
+
+    private List<IndexDefinition> createTicketGrantingTicketIndexes() {
+        val indexes = new ArrayList<IndexDefinition>();
+        if (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_PRINCIPAL_EXPIRATION)) {
+            indexes.add(new Index()
+                .named(INDEX_NAME_PRINCIPAL_EXPIRATION)
+                .on(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL, Sort.Direction.ASC)
+                .on(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC));
+        }
+        if (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_ATTRIBUTES)) {
+            val prefix = MongoDbTicketDocument.FIELD_NAME_ATTRIBUTE_ENTRIES + '.';
+            indexes.add(new Index()
+                .named(INDEX_NAME_ATTRIBUTES)
+                .on(prefix + MongoDbTicketDocument.Attribute.FIELD_NAME_NAME, Sort.Direction.ASC)
+                .on(prefix + MongoDbTicketDocument.Attribute.FIELD_NAME_VALUES, Sort.Direction.ASC));
+        }
+        return indexes;
+    }
 }
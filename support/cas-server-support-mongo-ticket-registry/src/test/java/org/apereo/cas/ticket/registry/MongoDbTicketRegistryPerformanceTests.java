@@ -0,0 +1,62 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbTicketRegistryPerformanceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("MongoDb")
+@TestPropertySource(properties = "cas.ticket.registry.mongo.performance.enabled=true")
+@EnabledIfListeningOnPort(port = 27017)
+class MongoDbTicketRegistryPerformanceTests extends MongoDbTicketRegistryTests {
+
+    @RepeatedTest(2)
+    void verifyAttributesAndCountsQueriedByServer() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        val attributes = Map.<String, List<Object>>of("urn:oid:2.5.4.3", List.of("cn1", "cn2"), "enabled", List.of(Boolean.TRUE));
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal, attributes), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(tgt);
+        getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(principal), new HardTimeoutExpirationPolicy(1)));
+
+        val queryAttributes = Map.<String, List<Object>>of("urn:oid:2.5.4.3", List.of("cn2"), "enabled", List.of("true"));
+        assertEquals(List.of(tgt), getNewTicketRegistry().getSessionsWithAttributes(queryAttributes).toList());
+        assertTrue(getNewTicketRegistry().getSessionsWithAttributes(Map.of("urn:oid:2.5.4.3", List.of("cn3"))).toList().isEmpty());
+
+        val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+        val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service,
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        getNewTicketRegistry().addTicket(st);
+        assertEquals(1, getNewTicketRegistry().countTicketsFor(service));
+        assertEquals(1, getNewTicketRegistry().serviceTicketCount());
+
+        Thread.sleep(1500);
+        assertEquals(1, getNewTicketRegistry().countSessionsFor(principal));
+        assertEquals(List.of(tgt), getNewTicketRegistry().getSessionsFor(principal).toList());
+        assertEquals(1, getNewTicketRegistry().sessionCount());
+
+        val criteria = new TicketRegistryQueryCriteria().setDecode(Boolean.FALSE).setType(ServiceTicket.PREFIX);
+        assertEquals(1, getNewTicketRegistry().query(criteria).size());
+        val ticketGrantingTickets = new TicketRegistryQueryCriteria().setDecode(Boolean.FALSE).setType(TicketGrantingTicket.PREFIX);
+        assertFalse(getNewTicketRegistry().query(ticketGrantingTickets).isEmpty());
+    }
+}
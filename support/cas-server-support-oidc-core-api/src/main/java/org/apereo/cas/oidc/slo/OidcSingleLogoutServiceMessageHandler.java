@@ -7,6 +7,7 @@ import org.apereo.cas.logout.slo.BaseSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutMessage;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutUrl;
@@ -93,15 +94,23 @@ public class OidcSingleLogoutServiceMessageHandler extends BaseSingleLogoutServi
     }
 
     @Override
-    protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg, final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
+    protected SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest buildDispatchRequest(final LogoutHttpMessage msg,
+                                                                                           final SingleLogoutRequestContext request,
+                                                                                           final SingleLogoutMessage logoutMessage) {
+        return super.buildDispatchRequest(msg, request, logoutMessage)
+            .toBuilder()
+            .payload(getLogoutTokenEntity(logoutMessage))
+            .build();
+    }
 
-        val payload = logoutMessage.getPayload();
+    @Override
+    protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg, final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
         HttpResponse response = null;
         try {
             val exec = HttpExecutionRequest.builder()
                 .method(HttpMethod.POST)
                 .url(msg.getUrl().toExternalForm())
-                .entity("logout_token=" + payload)
+                .entity(getLogoutTokenEntity(logoutMessage))
                 .headers(CollectionUtils.wrap("Content-Type", msg.getContentType()))
                 .build();
             response = HttpUtils.execute(exec);
@@ -115,4 +124,8 @@ public class OidcSingleLogoutServiceMessageHandler extends BaseSingleLogoutServi
         LOGGER.warn("No (successful) logout response received from the url [{}]", msg.getUrl().toExternalForm());
         return false;
     }
+
+    private static String getLogoutTokenEntity(final SingleLogoutMessage logoutMessage) {
+        return "logout_token=" + logoutMessage.getPayload();
+    }
 }
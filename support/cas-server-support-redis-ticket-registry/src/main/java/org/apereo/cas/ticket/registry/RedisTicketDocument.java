@@ -64,6 +64,11 @@ public class RedisTicketDocument implements Serializable {
      */
     public static final String FIELD_NAME_ATTRIBUTES = "attributes";
 
+    /**
+     * Field name to hold the state of the ticket-granting ticket, when updated in place.
+     */
+    public static final String FIELD_NAME_STATE = "state";
+
     @Serial
     private static final long serialVersionUID = -5043447728617071226L;
     
@@ -89,6 +94,9 @@ public class RedisTicketDocument implements Serializable {
     @JsonProperty
     private String attributes;
 
+    @JsonProperty
+    private String state;
+
     /**
      * From document map to redis document.
      *
@@ -104,6 +112,7 @@ public class RedisTicketDocument implements Serializable {
             .principal(document.get(FIELD_NAME_PRINCIPAL))
             .attributes(document.get(FIELD_NAME_ATTRIBUTES))
             .service(document.get(FIELD_NAME_SERVICE))
+            .state(document.get(FIELD_NAME_STATE))
             .build();
     }
 }
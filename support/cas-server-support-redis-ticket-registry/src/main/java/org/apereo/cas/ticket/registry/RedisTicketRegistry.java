@@ -41,8 +41,10 @@ import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import jakarta.annotation.Nonnull;
 import java.io.Serializable;
 import java.net.URI;
@@ -176,6 +178,32 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return ticket;
     }
 
+    @Override
+    protected boolean updateTicketState(final TicketGrantingTicket ticket, final TicketGrantingTicketState state) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val redisKeyPattern = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+        val redisKey = redisKeyPattern.getBytes(StandardCharsets.UTF_8);
+        val updated = casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<Boolean>) connection -> {
+            if (!BooleanUtils.toBoolean(connection.keyCommands().exists(redisKey))) {
+                return Boolean.FALSE;
+            }
+            connection.hashCommands().hSet(redisKey,
+                RedisTicketDocument.FIELD_NAME_STATE.getBytes(StandardCharsets.UTF_8),
+                state.toJson().getBytes(StandardCharsets.UTF_8));
+            return Boolean.TRUE;
+        });
+        if (BooleanUtils.isTrue(updated)) {
+            LOGGER.debug("Updated state of ticket [{}]", ticket.getId());
+            configureTicketExpirationInstant(ticket, redisKeyPattern);
+            ticketCache.ifAvailable(c -> c.put(redisKeyGenerator.rawKey(redisKeyPattern), ticket));
+            redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
+                .ifPresent(generator -> trackAuthenticationPrincipal(ticket));
+            messagePublisher.ifAvailable(p -> p.update(ticket));
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return FunctionUtils.doAndHandle(() -> {
@@ -186,6 +214,51 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         });
     }
 
+    @Override
+    protected List<? extends Ticket> getTicketsInternal(final List<String> ticketIds) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val results = new ArrayList<Ticket>(ticketIds.size());
+        val missingKeys = new ArrayList<String>(ticketIds.size());
+        ticketIds
+            .stream()
+            .filter(ticketId -> ticketId.contains(UniqueTicketIdGenerator.SEPARATOR))
+            .forEach(ticketId -> {
+                val ticketPrefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+                val redisKey = redisKeyGenerator.forEntry(ticketPrefix, digestIdentifier(ticketId));
+                val cachedTicket = ticketCache.stream()
+                    .map(cache -> cache.getIfPresent(redisKeyGenerator.rawKey(redisKey)))
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .map(this::decodeTicket);
+                cachedTicket.ifPresentOrElse(results::add, () -> missingKeys.add(redisKey));
+            });
+        if (!missingKeys.isEmpty()) {
+            val documents = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+                missingKeys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            }, RedisSerializer.byteArray());
+            val converter = buildRedisKeyValueAdapter(missingKeys.getFirst()).getConverter();
+            documents
+                .stream()
+                .filter(Map.class::isInstance)
+                .map(Map.class::cast)
+                .filter(hash -> !hash.isEmpty())
+                .map(hash -> converter.read(RedisTicketDocument.class, new RedisData((Map<byte[], byte[]>) hash)))
+                .filter(Objects::nonNull)
+                .map(this::toTicket)
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .forEach(ticket -> {
+                    if (!ticket.isExpired()) {
+                        val redisKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+                        ticketCache.ifAvailable(cache -> cache.put(redisKeyGenerator.rawKey(redisKey), ticket));
+                    }
+                    results.add(ticket);
+                });
+        }
+        return results;
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         try (val ticketsStream = stream()) {
@@ -208,7 +281,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             })
             .filter(Objects::nonNull)
             .map(RedisTicketDocument.class::cast)
-            .map(document -> deserializeTicket(document.getJson(), document.getType()))
+            .map(this::toTicket)
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
             .peek(ticket -> {
@@ -290,10 +363,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .filter(document -> !document.isEmpty())
                     .map(RedisTicketDocument::from)
                     .filter(document -> StringUtils.isNotBlank(document.getJson()))
-                    .map(redisDoc -> {
-                        val ticket = deserializeTicket(redisDoc.getJson(), redisDoc.getType());
-                        return decodeTicket(ticket);
-                    })
+                    .map(redisDoc -> decodeTicket(toTicket(redisDoc)))
                     .filter(ticket -> !ticket.isExpired());
             })
             .orElseGet(() -> (Stream<Ticket>) super.getSessionsWithAttributes(queryAttributes));
@@ -313,10 +383,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .filter(document -> !document.isEmpty())
                     .map(RedisTicketDocument::from)
                     .filter(document -> StringUtils.isNotBlank(document.getJson()))
-                    .map(redisDoc -> {
-                        val ticket = deserializeTicket(redisDoc.getJson(), redisDoc.getType());
-                        return decodeTicket(ticket);
-                    })
+                    .map(redisDoc -> decodeTicket(toTicket(redisDoc)))
                     .filter(ticket -> !ticket.isExpired())
                     .count();
             })
@@ -345,7 +412,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                             val adapter = buildRedisKeyValueAdapter(key);
                             return Stream.ofNullable(adapter.get(key, key, RedisTicketDocument.class))
                                 .filter(Objects::nonNull)
-                                .map(document -> deserializeTicket(document.getJson(), document.getType()))
+                                .map(this::toTicket)
                                 .filter(Objects::nonNull)
                                 .findFirst()
                                 .orElse(null);
@@ -421,6 +488,11 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         });
     }
 
+    protected Ticket toTicket(final RedisTicketDocument document) {
+        val ticket = deserializeTicket(document.getJson(), document.getType());
+        return TicketGrantingTicketState.apply(ticket, document.getState());
+    }
+
     private Ticket getTicketFromRedisByKey(final Predicate<Ticket> predicate, final String redisKeyPattern) {
         val query = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow().rawKey(redisKeyPattern);
         val cachedTicket = ticketCache.stream().map(c -> c.getIfPresent(query)).filter(Objects::nonNull);
@@ -437,7 +509,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     return adapter.get(key, key, RedisTicketDocument.class);
                 })
                 .filter(Objects::nonNull)
-                .map(document -> deserializeTicket(document.getJson(), document.getType()))
+                .map(this::toTicket)
                 .map(this::decodeTicket)
                 .filter(predicate)
                 .findFirst()
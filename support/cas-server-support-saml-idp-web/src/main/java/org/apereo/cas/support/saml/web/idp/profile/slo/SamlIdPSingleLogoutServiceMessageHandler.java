@@ -7,6 +7,7 @@ import org.apereo.cas.logout.slo.BaseSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutMessage;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.services.RegisteredService;
@@ -92,10 +93,37 @@ public class SamlIdPSingleLogoutServiceMessageHandler extends BaseSingleLogoutSe
         return registeredService instanceof SamlRegisteredService;
     }
 
+    @Override
+    protected SingleLogoutMessageDispatcher.SingleLogoutDispatchRequest buildDispatchRequest(final LogoutHttpMessage msg,
+                                                                                           final SingleLogoutRequestContext request,
+                                                                                           final SingleLogoutMessage logoutMessage) {
+        val dispatchRequest = super.buildDispatchRequest(msg, request, logoutMessage).toBuilder();
+        if (isLogoutRequestInitiator(request)) {
+            return dispatchRequest.durable(false).sender(() -> true).build();
+        }
+        return dispatchRequest
+            .durable(isSoapBinding(request))
+            .sender(() -> sendLogoutRequest(msg, request, logoutMessage))
+            .build();
+    }
+
     @Override
     protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
+        if (isLogoutRequestInitiator(request)) {
+            return true;
+        }
+        return sendLogoutRequest(msg, request, logoutMessage);
+    }
+
+    /**
+     * Whether the service is the initiator of the logout request being processed.
+     *
+     * @param request the request
+     * @return true/false
+     */
+    protected boolean isLogoutRequestInitiator(final SingleLogoutRequestContext request) {
         if (request.getExecutionRequest().getHttpServletRequest().isPresent()) {
             val logoutRequest = WebUtils.getSingleLogoutRequest(request.getExecutionRequest().getHttpServletRequest().get());
             val decodedRequest = EncodingUtils.decodeBase64(logoutRequest);
@@ -106,9 +134,22 @@ public class SamlIdPSingleLogoutServiceMessageHandler extends BaseSingleLogoutSe
                 return true;
             }
         }
+        return false;
+    }
 
+    /**
+     * Send the logout request using the binding that is defined for the logout url.
+     *
+     * @param msg           the msg
+     * @param request       the request
+     * @param logoutMessage the logout message
+     * @return true/false
+     */
+    protected boolean sendLogoutRequest(final LogoutHttpMessage msg,
+                                        final SingleLogoutRequestContext request,
+                                        final SingleLogoutMessage logoutMessage) {
         val binding = request.getProperties().get(SamlIdPSingleLogoutServiceLogoutUrlBuilder.PROPERTY_NAME_SINGLE_LOGOUT_BINDING);
-        if (SAMLConstants.SAML2_SOAP11_BINDING_URI.equalsIgnoreCase(binding)) {
+        if (isSoapBinding(request)) {
             return super.sendMessageToEndpoint(msg, request, logoutMessage);
         }
 
@@ -158,4 +199,9 @@ public class SamlIdPSingleLogoutServiceMessageHandler extends BaseSingleLogoutSe
         LOGGER.warn("No (successful) logout response received from the url [{}]", msg.getUrl().toExternalForm());
         return false;
     }
+
+    private static boolean isSoapBinding(final SingleLogoutRequestContext request) {
+        val binding = request.getProperties().get(SamlIdPSingleLogoutServiceLogoutUrlBuilder.PROPERTY_NAME_SINGLE_LOGOUT_BINDING);
+        return SAMLConstants.SAML2_SOAP11_BINDING_URI.equalsIgnoreCase(binding);
+    }
 }
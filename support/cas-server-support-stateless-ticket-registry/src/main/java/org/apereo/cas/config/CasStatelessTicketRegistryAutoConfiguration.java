@@ -6,17 +6,24 @@ import org.apereo.cas.authentication.principal.ServiceMatchingStrategy;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.registry.CompactTicketCodec;
+import org.apereo.cas.ticket.registry.DefaultCompactTicketCodec;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.ShortenedServiceMatchingStrategy;
 import org.apereo.cas.ticket.registry.StatelessTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketCompactor;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.revocation.DefaultStatelessTicketRevocationFilter;
+import org.apereo.cas.ticket.registry.revocation.FileStatelessTicketRevocationChannel;
+import org.apereo.cas.ticket.registry.revocation.StatelessTicketRevocationChannel;
+import org.apereo.cas.ticket.registry.revocation.StatelessTicketRevocationFilter;
 import org.apereo.cas.ticket.registry.compact.ProxyGrantingTicketCompactor;
 import org.apereo.cas.ticket.registry.compact.ProxyTicketCompactor;
 import org.apereo.cas.ticket.registry.compact.ServiceTicketCompactor;
@@ -24,13 +31,23 @@ import org.apereo.cas.ticket.registry.compact.TicketGrantingTicketCompactor;
 import org.apereo.cas.ticket.registry.compact.TransientSessionTicketCompactor;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.flow.CasWebflowConfigurer;
 import org.apereo.cas.web.flow.CasWebflowConstants;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.StatelessTicketRegistryWebflowConfigurer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -40,8 +57,11 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -52,7 +72,9 @@ import java.util.List;
  */
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistry, module = "stateless")
 @AutoConfiguration
+@Slf4j
 public class CasStatelessTicketRegistryAutoConfiguration {
+    private static final int COMPACT_TICKET_KEY_SIZE = 32;
 
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -69,12 +91,61 @@ public class CasStatelessTicketRegistryAutoConfiguration {
         return CoreTicketUtils.newTicketRegistryCipherExecutor(stateless.getCrypto(), "stateless");
     }
 
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "statelessTicketRegistryCodec")
+    public CompactTicketCodec statelessTicketRegistryCodec(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties) {
+        return BeanSupplier.of(CompactTicketCodec.class)
+            .when(BeanCondition.on("cas.ticket.registry.stateless.codec.enabled").isTrue()
+                .given(applicationContext.getEnvironment()))
+            .supply(() -> FunctionUtils.doUnchecked(() -> buildCompactTicketCodec(casProperties)))
+            .otherwiseProxy()
+            .get();
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "statelessTicketRevocationFilter")
+    public StatelessTicketRevocationFilter statelessTicketRevocationFilter(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties) {
+        return BeanSupplier.of(StatelessTicketRevocationFilter.class)
+            .when(BeanCondition.on("cas.ticket.registry.stateless.revocation.enabled").isTrue()
+                .given(applicationContext.getEnvironment()))
+            .supply(() -> buildStatelessTicketRevocationFilter(casProperties))
+            .otherwiseProxy()
+            .get();
+    }
+
+    @ConditionalOnMissingBean(name = "statelessTicketRevocationScheduler")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Lazy(false)
+    public Runnable statelessTicketRevocationScheduler(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier("statelessTicketRevocationFilter")
+        final ObjectProvider<StatelessTicketRevocationFilter> statelessTicketRevocationFilter) {
+        return BeanSupplier.of(Runnable.class)
+            .when(BeanCondition.on("cas.ticket.registry.stateless.revocation.enabled").isTrue()
+                .and("cas.ticket.registry.stateless.revocation.schedule.enabled").isTrue().evenIfMissing()
+                .given(applicationContext.getEnvironment()))
+            .supply(() -> new StatelessTicketRevocationScheduler(statelessTicketRevocationFilter.getObject()))
+            .otherwiseProxy()
+            .get();
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "statelessTicketRegistry")
     public TicketRegistry ticketRegistry(
         @Qualifier("statelessTicketRegistryCipherExecutor")
         final CipherExecutor statelessTicketRegistryCipherExecutor,
+        @Qualifier("statelessTicketRegistryCodec")
+        final ObjectProvider<CompactTicketCodec> statelessTicketRegistryCodec,
+        @Qualifier("statelessTicketRevocationFilter")
+        final ObjectProvider<StatelessTicketRevocationFilter> statelessTicketRevocationFilter,
         final List<TicketCompactor<? extends Ticket>> ticketCompactors,
         @Qualifier(TicketCatalog.BEAN_NAME)
         final TicketCatalog ticketCatalog,
@@ -83,7 +154,9 @@ public class CasStatelessTicketRegistryAutoConfiguration {
         @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
         final ObjectProvider<LogoutManager> logoutManager,
         final CasConfigurationProperties casProperties) {
-        return new StatelessTicketRegistry(statelessTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog, ticketCompactors);
+        return new StatelessTicketRegistry(statelessTicketRegistryCipherExecutor, ticketSerializationManager,
+            ticketCatalog, ticketCompactors, getActiveBean(statelessTicketRegistryCodec),
+            getActiveBean(statelessTicketRevocationFilter));
     }
 
     @Bean
@@ -174,4 +247,56 @@ public class CasStatelessTicketRegistryAutoConfiguration {
         @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager) {
         return new ShortenedServiceMatchingStrategy(servicesManager);
     }
+
+    private static CompactTicketCodec buildCompactTicketCodec(final CasConfigurationProperties casProperties) throws Exception {
+        val codec = casProperties.getTicket().getRegistry().getStateless().getCodec();
+        val keys = new LinkedHashMap<Integer, byte[]>();
+        codec.getKeys().forEach((keyId, key) -> keys.put(Integer.parseInt(keyId.trim()), EncodingUtils.decodeBase64(key)));
+        if (keys.isEmpty()) {
+            LOGGER.warn("No keys are defined for the compact stateless ticket codec. CAS will generate a key for this node, "
+                        + "and tickets will not be readable by other nodes or after a restart.");
+            val key = new byte[COMPACT_TICKET_KEY_SIZE];
+            RandomUtils.getNativeInstance().nextBytes(key);
+            keys.put(codec.getActiveKeyId(), key);
+        }
+        val dictionary = StringUtils.isNotBlank(codec.getDictionary())
+            ? ResourceUtils.getRawResourceFrom(codec.getDictionary()).getContentAsByteArray()
+            : null;
+        return new DefaultCompactTicketCodec(keys, codec.getActiveKeyId(), dictionary);
+    }
+
+    private static StatelessTicketRevocationFilter buildStatelessTicketRevocationFilter(final CasConfigurationProperties casProperties) {
+        val revocation = casProperties.getTicket().getRegistry().getStateless().getRevocation();
+        val channel = StringUtils.isNotBlank(revocation.getLocation())
+            ? new FileStatelessTicketRevocationChannel(Path.of(SpringExpressionLanguageValueResolver.getInstance().resolve(revocation.getLocation())))
+            : StatelessTicketRevocationChannel.noOp();
+        val filter = new DefaultStatelessTicketRevocationFilter(channel, Beans.newDuration(revocation.getBucketSize()).toSeconds(),
+            revocation.getExpectedInsertions(), revocation.getFalsePositiveProbability());
+        filter.synchronize();
+        return filter;
+    }
+
+    private static <T> T getActiveBean(final ObjectProvider<T> provider) {
+        val bean = provider.getIfAvailable();
+        return BeanSupplier.isNotProxy(bean) ? bean : null;
+    }
+
+    @RequiredArgsConstructor
+    @Slf4j
+    static class StatelessTicketRevocationScheduler implements Runnable {
+        private final StatelessTicketRevocationFilter revocationFilter;
+
+        @Scheduled(
+            cron = "${cas.ticket.registry.stateless.revocation.schedule.cron-expression:}",
+            zone = "${cas.ticket.registry.stateless.revocation.schedule.cron-time-zone:}",
+            initialDelayString = "${cas.ticket.registry.stateless.revocation.schedule.start-delay:PT5S}",
+            fixedDelayString = "${cas.ticket.registry.stateless.revocation.schedule.repeat-interval:PT5S}")
+        @Override
+        public void run() {
+            FunctionUtils.doUnchecked(__ -> {
+                LOGGER.trace("Synchronizing revoked stateless tickets...");
+                revocationFilter.synchronize();
+            });
+        }
+    }
 }
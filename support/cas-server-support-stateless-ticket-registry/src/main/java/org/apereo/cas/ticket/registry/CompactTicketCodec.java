@@ -0,0 +1,47 @@
+package org.apereo.cas.ticket.registry;
+
+import java.security.GeneralSecurityException;
+import java.util.zip.DataFormatException;
+
+/**
+ * This is {@link CompactTicketCodec} that encodes compacted tickets in a compact, versioned binary format
+ * for the stateless ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface CompactTicketCodec {
+    /**
+     * Version of the compact ticket format.
+     */
+    byte VERSION = 1;
+
+    /**
+     * Whether the given value is encoded by this codec.
+     *
+     * @param encoded the encoded value
+     * @return true/false
+     */
+    boolean supports(byte[] encoded);
+
+    /**
+     * Encode the compacted ticket.
+     *
+     * @param prefix  the ticket prefix
+     * @param content the compacted ticket
+     * @return the encoded ticket
+     * @throws GeneralSecurityException the general security exception
+     */
+    byte[] encode(String prefix, String content) throws GeneralSecurityException;
+
+    /**
+     * Decode the ticket into its compacted form.
+     *
+     * @param prefix  the ticket prefix
+     * @param encoded the encoded ticket
+     * @return the compacted ticket
+     * @throws GeneralSecurityException the general security exception
+     * @throws DataFormatException      the data format exception
+     */
+    String decode(String prefix, byte[] encoded) throws GeneralSecurityException, DataFormatException;
+}
@@ -0,0 +1,303 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.RandomUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The {@link DefaultCompactTicketCodec} encodes compacted tickets in a compact, versioned binary format
+ * for the stateless ticket registry. The layout of an encoded ticket is:
+ * <pre>
+ * version (1) | key id (1) | nonce (12) | AES-GCM(flags (1) | [creation time | lifetime] | content) | tag (16)
+ * </pre>
+ * When a compacted ticket starts with its creation and expiration times, both are stored as
+ * variable-length integers, the expiration time relative to the creation time. The rest of the
+ * ticket is compressed with raw deflate and a preset dictionary, unless compression would not make it shorter.
+ * The version, key id and ticket prefix are authenticated as additional data, so that a ticket
+ * cannot be presented as a ticket of another type; the key id selects the key used to open the ticket,
+ * which allows keys to be rotated.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class DefaultCompactTicketCodec implements CompactTicketCodec {
+    /**
+     * Built-in compression dictionary, made up of fragments that frequently appear in compacted tickets.
+     * Deflate favors matches that are closer to the data, so the most frequent fragments come last.
+     */
+    public static final String DEFAULT_DICTIONARY = String.join(StringUtils.EMPTY,
+        "java.util.HashSet", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.ArrayList", "java.util.List",
+        "org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.RememberMeDelegatingExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy",
+        "\"maxTimeToLiveInSeconds\":", "\"timeToKillInSeconds\":", "\"policies\":",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.ticket.TicketGrantingTicketImpl",
+        "\"credentialClass\":", "\"credentialMetadata\":", "\"handlerName\":", "\"warnings\":",
+        "\"successes\":", "\"failures\":", "\"credentials\":", "\"authenticationDate\":",
+        "\"principal\":", "\"attributes\":", "\"authentication\":", "\"expirationPolicy\":",
+        "\"services\":", "\"proxyGrantingTickets\":", "\"descendantTickets\":",
+        "\"lastTimeUsed\":", "\"previousTimeUsed\":", "\"creationTime\":", "\"countOfUses\":",
+        "\"expired\":false,", "\"stateless\":", "\"@class\":\"", "\"id\":\"",
+        "clientIpAddress", "serverIpAddress", "userAgent", "geoLocation",
+        "longTermAuthenticationRequestTokenUsed", "isFromNewLogin",
+        "successfulAuthenticationHandlers", "authenticationMethod", "credentialType", "rememberMe",
+        "RememberMeUsernamePasswordCredential", "OneTimeTokenCredential", "ClientCredential",
+        "HttpBasedServiceCredential", "UsernamePasswordCredential",
+        "DelegatedClientAuthenticationHandler", "CasSimpleMultifactorAuthenticationHandler",
+        "JaasAuthenticationHandler", "RestAuthenticationHandler", "QueryDatabaseAuthenticationHandler",
+        "LdapAuthenticationHandler", "AcceptUsersAuthenticationHandler",
+        "TicketGrantingTicket", "ServiceTicket", "ProxyGrantingTicket",
+        "/oauth2.0/callbackAuthorize", "/oidc/callbackAuthorize", "/login", "/cas",
+        "https://", "http://", "www.", ".com", ".org", ".edu", ".net",
+        "TGT-", "ST-", "PGT-", "PT-", "TST-");
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final int NONCE_LENGTH = 12;
+
+    private static final int TAG_LENGTH = 16;
+
+    private static final int MAX_KEY_ID = 255;
+
+    private static final int MAX_CONTENT_LENGTH = 1_048_576;
+
+    private static final int BUFFER_SIZE = 512;
+
+    private static final int VARINT_PAYLOAD_BITS = 7;
+
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private static final int MAX_VARINT_SHIFT = 63;
+
+    private static final int MAX_TIMESTAMP_DIGITS = 18;
+
+    private static final byte FLAG_TIMESTAMPS = 0x01;
+
+    private static final byte FLAG_COMPRESSED = 0x02;
+
+    private final Map<Integer, SecretKey> encryptionKeys = new HashMap<>();
+
+    private final int activeKeyId;
+
+    private final byte[] dictionary;
+
+    public DefaultCompactTicketCodec(final Map<Integer, byte[]> keys, final int activeKeyId, final byte[] dictionary) {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("No ticket key is defined for the active key id " + activeKeyId);
+        }
+        keys.forEach((keyId, key) -> {
+            if (keyId < 0 || keyId > MAX_KEY_ID) {
+                throw new IllegalArgumentException("Ticket key id must be between 0 and 255: " + keyId);
+            }
+            encryptionKeys.put(keyId, new SecretKeySpec(key, "AES"));
+        });
+        this.activeKeyId = activeKeyId;
+        this.dictionary = dictionary == null || dictionary.length == 0
+            ? DEFAULT_DICTIONARY.getBytes(StandardCharsets.UTF_8)
+            : dictionary.clone();
+    }
+
+    @Override
+    public boolean supports(final byte[] encoded) {
+        return encoded != null && encoded.length > HEADER_LENGTH + NONCE_LENGTH + TAG_LENGTH && encoded[0] == VERSION;
+    }
+
+    @Override
+    public byte[] encode(final String prefix, final String content) throws GeneralSecurityException {
+        val payload = buildPayload(content);
+        val header = new byte[]{VERSION, (byte) activeKeyId};
+        val nonce = new byte[NONCE_LENGTH];
+        RandomUtils.getNativeInstance().nextBytes(nonce);
+
+        val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKeys.get(activeKeyId), new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce));
+        cipher.updateAAD(header);
+        cipher.updateAAD(prefix.getBytes(StandardCharsets.UTF_8));
+        val sealed = cipher.doFinal(payload);
+        return ByteBuffer.allocate(HEADER_LENGTH + NONCE_LENGTH + sealed.length)
+            .put(header)
+            .put(nonce)
+            .put(sealed)
+            .array();
+    }
+
+    @Override
+    public String decode(final String prefix, final byte[] encoded) throws GeneralSecurityException, DataFormatException {
+        if (!supports(encoded)) {
+            throw new DataFormatException("Ticket is not encoded in the compact format of version " + VERSION);
+        }
+        val keyId = Byte.toUnsignedInt(encoded[1]);
+        val key = encryptionKeys.get(keyId);
+        if (key == null) {
+            throw new GeneralSecurityException("Ticket is protected with an unknown key " + keyId);
+        }
+        val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, encoded, HEADER_LENGTH, NONCE_LENGTH));
+        cipher.updateAAD(encoded, 0, HEADER_LENGTH);
+        cipher.updateAAD(prefix.getBytes(StandardCharsets.UTF_8));
+        val payload = ByteBuffer.wrap(cipher.doFinal(encoded, HEADER_LENGTH + NONCE_LENGTH, encoded.length - HEADER_LENGTH - NONCE_LENGTH));
+        return readPayload(payload);
+    }
+
+    private byte[] buildPayload(final String content) {
+        val output = new ByteArrayOutputStream(content.length());
+        var flags = (byte) 0;
+        var body = content;
+
+        val timestamps = parseTimestamps(content);
+        if (timestamps != null) {
+            flags |= FLAG_TIMESTAMPS;
+            body = content.substring(timestamps.length());
+        }
+        val bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        val compressed = deflate(bodyBytes);
+        if (compressed.length < bodyBytes.length) {
+            flags |= FLAG_COMPRESSED;
+        }
+        output.write(flags);
+        if (timestamps != null) {
+            writeVarint(output, timestamps.creationTime());
+            writeVarint(output, toZigZag(timestamps.expirationTime() - timestamps.creationTime()));
+        }
+        output.writeBytes((flags & FLAG_COMPRESSED) != 0 ? compressed : bodyBytes);
+        return output.toByteArray();
+    }
+
+    private String readPayload(final ByteBuffer payload) throws DataFormatException {
+        val flags = payload.get();
+        val builder = new StringBuilder();
+        if ((flags & FLAG_TIMESTAMPS) != 0) {
+            val creationTime = readVarint(payload);
+            val expirationTime = creationTime + fromZigZag(readVarint(payload));
+            builder.append(creationTime).append(TicketCompactor.DELIMITER).append(expirationTime);
+        }
+        val body = Arrays.copyOfRange(payload.array(), payload.position(), payload.limit());
+        val bodyBytes = (flags & FLAG_COMPRESSED) != 0 ? inflate(body) : body;
+        return builder.append(new String(bodyBytes, StandardCharsets.UTF_8)).toString();
+    }
+
+    private byte[] deflate(final byte[] input) {
+        val deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+            val output = new ByteArrayOutputStream(input.length);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(final byte[] input) throws DataFormatException {
+        val inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(input);
+            val output = new ByteArrayOutputStream(input.length * 2);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed ticket content is truncated");
+                }
+                output.write(buffer, 0, count);
+                if (output.size() > MAX_CONTENT_LENGTH) {
+                    throw new DataFormatException("Compressed ticket content exceeds " + MAX_CONTENT_LENGTH + " bytes");
+                }
+            }
+            return output.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Timestamps parseTimestamps(final String content) {
+        val first = content.indexOf(TicketCompactor.DELIMITER);
+        if (first <= 0) {
+            return null;
+        }
+        val second = content.indexOf(TicketCompactor.DELIMITER, first + 1);
+        val end = second < 0 ? content.length() : second;
+        val creationTime = parseTimestamp(content.substring(0, first));
+        val expirationTime = parseTimestamp(content.substring(first + 1, end));
+        if (creationTime < 0 || expirationTime < 0) {
+            return null;
+        }
+        return new Timestamps(creationTime, expirationTime, end);
+    }
+
+    private static long parseTimestamp(final String value) {
+        if (value.isEmpty() || value.length() > MAX_TIMESTAMP_DIGITS || !StringUtils.isNumeric(value)
+            || (value.length() > 1 && value.charAt(0) == '0')) {
+            return -1;
+        }
+        return Long.parseLong(value);
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream output, final long value) {
+        var remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            output.write((int) ((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION));
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        output.write((int) remaining);
+    }
+
+    private static long readVarint(final ByteBuffer input) throws DataFormatException {
+        var value = 0L;
+        for (var shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            if (!input.hasRemaining()) {
+                throw new DataFormatException("Ticket timestamp is truncated");
+            }
+            val current = input.get();
+            value |= (long) (current & VARINT_PAYLOAD_MASK) << shift;
+            if ((current & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new DataFormatException("Ticket timestamp is malformed");
+    }
+
+    private static long toZigZag(final long value) {
+        return (value << 1) ^ (value >> MAX_VARINT_SHIFT);
+    }
+
+    private static long fromZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private record Timestamps(long creationTime, long expirationTime, int length) {
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.expiration.FixedInstantExpirationPolicy;
+import org.apereo.cas.ticket.registry.revocation.StatelessTicketRevocationFilter;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CompressionUtils;
 import org.apereo.cas.util.EncodingUtils;
@@ -25,6 +26,15 @@ import java.util.function.Predicate;
 
 /**
  * This is {@link StatelessTicketRegistry}.
+ * Tickets are compacted and embedded in their ticket id. When a {@link CompactTicketCodec} is provided,
+ * new tickets are encoded with the codec; tickets that were compressed and encoded with the
+ * cipher executor continue to be accepted.
+ * When a {@link StatelessTicketRevocationFilter} is provided, tickets that are deleted, such as
+ * ticket-granting tickets on logout, are revoked until they expire and are no longer returned by this registry.
+ * Revocation is recorded against the id of the deleted ticket, which is checked before the ticket is decoded
+ * and once more against the id of the decoded ticket.
+ * Tickets issued from a revoked ticket-granting ticket are not revoked with it, since their ids are not known
+ * to the registry, and remain usable until they expire.
  *
  * @author Misagh Moayyed
  * @since 7.0.0
@@ -35,25 +45,57 @@ import java.util.function.Predicate;
 public class StatelessTicketRegistry extends AbstractTicketRegistry {
     private final List<TicketCompactor<? extends Ticket>> ticketCompactors;
 
+    private final CompactTicketCodec ticketCodec;
+
+    private final StatelessTicketRevocationFilter revocationFilter;
+
     public StatelessTicketRegistry(final CipherExecutor<byte[], byte[]> cipherExecutor,
                                    final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog,
                                    final List<TicketCompactor<? extends Ticket>> compactors) {
+        this(cipherExecutor, ticketSerializationManager, ticketCatalog, compactors, null);
+    }
+
+    public StatelessTicketRegistry(final CipherExecutor<byte[], byte[]> cipherExecutor,
+                                   final TicketSerializationManager ticketSerializationManager,
+                                   final TicketCatalog ticketCatalog,
+                                   final List<TicketCompactor<? extends Ticket>> compactors,
+                                   final CompactTicketCodec ticketCodec) {
+        this(cipherExecutor, ticketSerializationManager, ticketCatalog, compactors, ticketCodec, null);
+    }
+
+    public StatelessTicketRegistry(final CipherExecutor<byte[], byte[]> cipherExecutor,
+                                   final TicketSerializationManager ticketSerializationManager,
+                                   final TicketCatalog ticketCatalog,
+                                   final List<TicketCompactor<? extends Ticket>> compactors,
+                                   final CompactTicketCodec ticketCodec,
+                                   final StatelessTicketRevocationFilter revocationFilter) {
         super(cipherExecutor, ticketSerializationManager, ticketCatalog);
         this.ticketCompactors = List.copyOf(compactors);
+        this.ticketCodec = ticketCodec;
+        this.revocationFilter = revocationFilter;
     }
 
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        if (revocationFilter != null && revocationFilter.isRevoked(ticketId)) {
+            LOGGER.debug("Ticket [{}] is revoked", ticketId);
+            return null;
+        }
         return FunctionUtils.doAndHandle(() -> {
             val metadata = ticketCatalog.find(ticketId);
             val withoutPrefix = StringUtils.removeStart(ticketId, metadata.getPrefix() + UniqueTicketIdGenerator.SEPARATOR);
             val decoded64 = EncodingUtils.decodeUrlSafeBase64(withoutPrefix);
-            val decoded = (byte[]) cipherExecutor.decode(decoded64);
-            val ticketContent = CompressionUtils.inflateToString(decoded);
+            val ticketContent = ticketCodec != null && ticketCodec.supports(decoded64)
+                ? ticketCodec.decode(metadata.getPrefix(), decoded64)
+                : CompressionUtils.inflateToString((byte[]) cipherExecutor.decode(decoded64));
             val ticketCompactor = findTicketCompactor(metadata);
             LOGGER.trace("Raw compacted ticket to expand is [{}]", ticketContent);
             val ticketObject = ticketCompactor.expand(ticketContent);
+            if (ticketObject != null && revocationFilter != null && revocationFilter.isRevoked(ticketObject.getId())) {
+                LOGGER.debug("Ticket [{}] is revoked", ticketObject.getId());
+                return null;
+            }
             if (ticketObject != null && predicate.test(ticketObject)) {
                 return ticketObject.markTicketStateless();
             }
@@ -61,6 +103,19 @@ public class StatelessTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    @Override
+    protected long deleteSingleTicket(final Ticket ticket) {
+        if (revocationFilter != null) {
+            val expirationTime = ticket.getExpirationPolicy().toMaximumExpirationTime(ticket);
+            if (expirationTime != null) {
+                revocationFilter.revoke(ticket.getId(), expirationTime.toInstant());
+                return 1;
+            }
+            LOGGER.warn("Ticket [{}] cannot be revoked since its expiration time is unknown", ticket.getId());
+        }
+        return super.deleteSingleTicket(ticket);
+    }
+
     @Override
     protected Ticket addSingleTicket(final Ticket ticket) throws Exception {
         return compactTicket(ticket);
@@ -76,8 +131,9 @@ public class StatelessTicketRegistry extends AbstractTicketRegistry {
         val ticketCompactor = findTicketCompactor(metadata);
         val compactedTicket = ticketCompactor.compact(ticket);
         LOGGER.trace("Raw compacted ticket to add is [{}]", compactedTicket);
-        val compressed = CompressionUtils.deflateToByteArray(compactedTicket);
-        val encoded = (byte[]) cipherExecutor.encode(compressed);
+        val encoded = ticketCodec != null
+            ? ticketCodec.encode(ticket.getPrefix(), compactedTicket)
+            : (byte[]) cipherExecutor.encode(CompressionUtils.deflateToByteArray(compactedTicket));
         val encoded64 = EncodingUtils.encodeUrlSafeBase64(encoded);
         val finalTicketId = ticket.getPrefix() + UniqueTicketIdGenerator.SEPARATOR + encoded64;
         LOGGER.debug("Compacted ticket in encoded form is [{}]", finalTicketId);
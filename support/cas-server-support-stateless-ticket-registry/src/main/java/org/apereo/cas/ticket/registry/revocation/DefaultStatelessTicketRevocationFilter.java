@@ -0,0 +1,122 @@
+package org.apereo.cas.ticket.registry.revocation;
+
+import org.apereo.cas.util.DigestUtils;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link DefaultStatelessTicketRevocationFilter} that records stateless tickets that are revoked before they expire.
+ * Revoked tickets are recorded by the digest of their id in a bloom filter, with one filter for each time bucket
+ * based on the time at which tickets expire. Checking whether a ticket is revoked only costs a digest and a lookup in
+ * the filter of each live bucket, and once a bucket is over, its filter is discarded as a whole, which keeps memory bounded
+ * by the number of tickets revoked over the lifetime of the longest-lived ticket. Bloom filters may report false positives,
+ * at the configured probability, in which case a ticket that was not revoked is rejected as if it had expired.
+ * Revoked tickets are published to a {@link StatelessTicketRevocationChannel} and tickets revoked by other
+ * nodes are received from the channel when the filter is synchronized.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class DefaultStatelessTicketRevocationFilter implements StatelessTicketRevocationFilter {
+    private final ConcurrentNavigableMap<Long, BloomFilter<CharSequence>> buckets = new ConcurrentSkipListMap<>();
+
+    private final Set<Long> saturatedBuckets = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder revokedTickets = new LongAdder();
+
+    private final LongAdder rejectedTickets = new LongAdder();
+
+    private final StatelessTicketRevocationChannel channel;
+
+    private final long bucketSeconds;
+
+    private final int expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    @Override
+    public void revoke(final String ticketId, final Instant expiresAt) {
+        val revokedTicket = new StatelessTicketRevocationChannel.RevokedTicket(DigestUtils.sha256(ticketId), expiresAt.getEpochSecond());
+        if (record(revokedTicket)) {
+            LOGGER.debug("Revoked stateless ticket [{}] until [{}]", ticketId, expiresAt);
+            channel.publish(revokedTicket);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(final String ticketId) {
+        val liveBuckets = buckets.tailMap(getCurrentBucket(), true);
+        if (liveBuckets.isEmpty()) {
+            return false;
+        }
+        val digest = DigestUtils.sha256(ticketId);
+        for (val filter : liveBuckets.values()) {
+            if (filter.mightContain(digest)) {
+                rejectedTickets.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void synchronize() {
+        val received = channel.receive();
+        received.forEach(this::record);
+        val currentBucket = getCurrentBucket();
+        val expired = buckets.headMap(currentBucket, false);
+        if (!expired.isEmpty()) {
+            LOGGER.debug("Discarding [{}] expired revocation bucket(s)", expired.size());
+            expired.clear();
+        }
+        saturatedBuckets.removeIf(bucket -> bucket < currentBucket);
+        LOGGER.trace("Received [{}] revoked ticket(s); [{}] revocation bucket(s) are live", received.size(), buckets.size());
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val statistics = new LinkedHashMap<String, Object>();
+        statistics.put("buckets", buckets.size());
+        statistics.put("approximateTickets", buckets.values().stream().mapToLong(BloomFilter::approximateElementCount).sum());
+        statistics.put("revokedTickets", revokedTickets.sum());
+        statistics.put("rejectedTickets", rejectedTickets.sum());
+        return statistics;
+    }
+
+    private boolean record(final StatelessTicketRevocationChannel.RevokedTicket revokedTicket) {
+        if (revokedTicket.expiresAt() <= Instant.now().getEpochSecond()) {
+            return false;
+        }
+        val bucket = revokedTicket.expiresAt() / bucketSeconds;
+        val filter = buckets.computeIfAbsent(bucket,
+            __ -> BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveProbability));
+        if (filter.put(revokedTicket.digest())) {
+            revokedTickets.increment();
+            if (filter.approximateElementCount() > expectedInsertions && saturatedBuckets.add(bucket)) {
+                LOGGER.warn("Revocation bucket holds more than [{}] revoked tickets and will report more false positives than expected. "
+                            + "Consider increasing the number of expected insertions or reducing the bucket size.", expectedInsertions);
+            }
+        }
+        return true;
+    }
+
+    private long getCurrentBucket() {
+        return Instant.now().getEpochSecond() / bucketSeconds;
+    }
+}
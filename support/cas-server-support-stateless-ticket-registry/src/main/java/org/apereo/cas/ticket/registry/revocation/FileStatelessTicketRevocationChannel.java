@@ -0,0 +1,172 @@
+package org.apereo.cas.ticket.registry.revocation;
+
+import org.apereo.cas.util.LoggingUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link FileStatelessTicketRevocationChannel} that replicates revoked tickets
+ * through a file that is shared by CAS server nodes. Each revoked ticket is appended to the file
+ * as a single line, under an exclusive file lock, and nodes read the lines that were appended
+ * since the last time they read the file, in chunks of bounded size. Expired tickets are skipped
+ * when the file is read. The file starts with a header line that carries a generation marker;
+ * once all the tickets recorded in the file have expired, the file is truncated and stamped with a new generation,
+ * which tells other nodes to read the file from the start even if it has grown past their position since.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FileStatelessTicketRevocationChannel implements StatelessTicketRevocationChannel {
+    private static final char FIELD_SEPARATOR = ' ';
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private static final char GENERATION_PREFIX = '#';
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Lock lock = new ReentrantLock();
+
+    @Getter
+    private final Path location;
+
+    private String generation;
+
+    private long position;
+
+    private long latestExpiration;
+
+    @Override
+    public void publish(final RevokedTicket revokedTicket) {
+        val line = revokedTicket.digest() + FIELD_SEPARATOR + revokedTicket.expiresAt() + LINE_SEPARATOR;
+        lock.lock();
+        try (val channel = FileChannel.open(location, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             val ignored = channel.lock()) {
+            if (channel.size() == 0) {
+                writeHeader(channel);
+            }
+            channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)), channel.size());
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<RevokedTicket> receive() {
+        lock.lock();
+        try {
+            if (!Files.exists(location)) {
+                return List.of();
+            }
+            try (val channel = FileChannel.open(location, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 val ignored = channel.lock()) {
+                val currentGeneration = readGeneration(channel);
+                val size = channel.size();
+                if (!Objects.equals(currentGeneration, generation) || size < position) {
+                    LOGGER.debug("Revoked tickets file [{}] was replaced or truncated; reading it from the start", location);
+                    generation = currentGeneration;
+                    position = getHeaderLength(currentGeneration);
+                    latestExpiration = 0;
+                }
+                val revokedTickets = readRevokedTickets(channel, size);
+                if (position == size && position > getHeaderLength(generation)
+                    && latestExpiration <= Instant.now().getEpochSecond()) {
+                    LOGGER.debug("All tickets recorded in [{}] have expired; truncating the file", location);
+                    channel.truncate(0);
+                    writeHeader(channel);
+                }
+                return revokedTickets;
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return List.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeHeader(final FileChannel channel) throws IOException {
+        generation = UUID.randomUUID().toString();
+        val header = String.valueOf(GENERATION_PREFIX) + generation + LINE_SEPARATOR;
+        channel.write(ByteBuffer.wrap(header.getBytes(StandardCharsets.UTF_8)), 0);
+        position = header.length();
+        latestExpiration = 0;
+    }
+
+    private static String readGeneration(final FileChannel channel) throws IOException {
+        val buffer = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(buffer, 0);
+        val header = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        val end = header.indexOf(LINE_SEPARATOR);
+        return !header.isEmpty() && header.charAt(0) == GENERATION_PREFIX && end > 0 ? header.substring(1, end) : null;
+    }
+
+    private static long getHeaderLength(final String generation) {
+        return generation == null ? 0 : generation.length() + 2;
+    }
+
+    /**
+     * Read lines appended since the last position in chunks. Lines only carry digests and timestamps,
+     * so characters and bytes line up; a trailing line that is not complete yet is left for the next read.
+     */
+    private List<RevokedTicket> readRevokedTickets(final FileChannel channel, final long size) throws IOException {
+        val now = Instant.now().getEpochSecond();
+        val revokedTickets = new ArrayList<RevokedTicket>();
+        val buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        val pending = new StringBuilder();
+        var offset = position;
+        while (offset < size) {
+            buffer.clear();
+            val read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            offset += read;
+            pending.append(new String(buffer.array(), 0, read, StandardCharsets.UTF_8));
+            val end = pending.lastIndexOf(String.valueOf(LINE_SEPARATOR));
+            if (end >= 0) {
+                for (val line : StringUtils.split(pending.substring(0, end), LINE_SEPARATOR)) {
+                    readRevokedTicket(line, now, revokedTickets);
+                }
+                position += end + 1;
+                pending.delete(0, end + 1);
+            }
+        }
+        LOGGER.trace("Read revoked tickets from [{}] up to [{}]", location, position);
+        return revokedTickets;
+    }
+
+    private void readRevokedTicket(final String line, final long now, final List<RevokedTicket> revokedTickets) {
+        val index = line.indexOf(FIELD_SEPARATOR);
+        if (index > 0) {
+            val expiresAt = Long.parseLong(line.substring(index + 1).trim());
+            latestExpiration = Math.max(latestExpiration, expiresAt);
+            if (expiresAt > now) {
+                revokedTickets.add(new RevokedTicket(line.substring(0, index), expiresAt));
+            }
+        }
+    }
+}
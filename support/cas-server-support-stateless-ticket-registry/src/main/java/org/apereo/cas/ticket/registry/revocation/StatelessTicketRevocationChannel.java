@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.registry.revocation;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * This is {@link StatelessTicketRevocationChannel} that replicates revoked stateless tickets
+ * between CAS server nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface StatelessTicketRevocationChannel {
+
+    /**
+     * Channel that does not replicate revoked tickets.
+     *
+     * @return the channel
+     */
+    static StatelessTicketRevocationChannel noOp() {
+        return new StatelessTicketRevocationChannel() {
+            @Override
+            public void publish(final RevokedTicket revokedTicket) {
+            }
+
+            @Override
+            public List<RevokedTicket> receive() {
+                return List.of();
+            }
+        };
+    }
+
+    /**
+     * Publish a ticket that is revoked by this node.
+     *
+     * @param revokedTicket the revoked ticket
+     */
+    void publish(RevokedTicket revokedTicket);
+
+    /**
+     * Receive the tickets revoked since the last time revoked tickets were received.
+     * Tickets published by this node may be received as well.
+     *
+     * @return the revoked tickets
+     */
+    List<RevokedTicket> receive();
+
+    /**
+     * A revoked ticket, identified by the digest of its id.
+     *
+     * @param digest    the digest of the ticket id
+     * @param expiresAt the epoch second at which the ticket expires
+     */
+    record RevokedTicket(String digest, long expiresAt) implements Serializable {
+    }
+}
@@ -0,0 +1,41 @@
+package org.apereo.cas.ticket.registry.revocation;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * This is {@link StatelessTicketRevocationFilter} that records stateless tickets that are revoked before they expire,
+ * so that they are no longer accepted by the stateless ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface StatelessTicketRevocationFilter {
+    /**
+     * Revoke the ticket and publish it to other nodes.
+     *
+     * @param ticketId  the ticket id
+     * @param expiresAt the instant at which the ticket expires
+     */
+    void revoke(String ticketId, Instant expiresAt);
+
+    /**
+     * Whether the ticket is revoked.
+     *
+     * @param ticketId the ticket id
+     * @return true if the ticket was revoked, or, rarely, if it is a false positive
+     */
+    boolean isRevoked(String ticketId);
+
+    /**
+     * Record tickets revoked by other nodes, and discard revocations that are over.
+     */
+    void synchronize();
+
+    /**
+     * Gets statistics that describe the state of this filter.
+     *
+     * @return the statistics
+     */
+    Map<String, Object> getStatistics();
+}
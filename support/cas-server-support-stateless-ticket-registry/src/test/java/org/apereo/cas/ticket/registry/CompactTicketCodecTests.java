@@ -0,0 +1,131 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.model.core.ticket.registry.StatelessTicketRegistryProperties;
+import org.apereo.cas.util.CompressionUtils;
+import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompactTicketCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+@Slf4j
+class CompactTicketCodecTests {
+    private static final int ITERATIONS = 2000;
+
+    private static final String SERVICE_TICKET = "%s,%s,https://app.example.org/cas/login,1,casuser:AcceptUsersAuthenticationHandler:UsernamePasswordCredential,0";
+
+    private static byte[] newKey() {
+        val key = new byte[32];
+        RandomUtils.getNativeInstance().nextBytes(key);
+        return key;
+    }
+
+    private static String getServiceTicket() {
+        val now = Instant.now().getEpochSecond();
+        return SERVICE_TICKET.formatted(now, now + 10);
+    }
+
+    @Test
+    void verifyRoundTrip() throws Throwable {
+        val codec = new DefaultCompactTicketCodec(Map.of(0, newKey()), 0, null);
+        val serviceTicket = getServiceTicket();
+        assertEquals(serviceTicket, codec.decode("ST", codec.encode("ST", serviceTicket)));
+
+        val transientTicket = "1700000000,1700000000,*";
+        assertEquals(transientTicket, codec.decode("TST", codec.encode("TST", transientTicket)));
+
+        val expiredTicket = "1700000300,1700000000,https://app.example.org";
+        assertEquals(expiredTicket, codec.decode("ST", codec.encode("ST", expiredTicket)));
+
+        val serializedTicket = "{\"@class\":\"org.apereo.cas.ticket.TicketGrantingTicketImpl\",\"id\":\"TGT-1\"}";
+        assertEquals(serializedTicket, codec.decode("TGT", codec.encode("TGT", serializedTicket)));
+
+        for (val content : new String[]{"", "0", "007,1", "1,2", "-1,5,x", "123,abc,def"}) {
+            assertEquals(content, codec.decode("ST", codec.encode("ST", content)));
+        }
+    }
+
+    @Test
+    void verifyTicketsAreProtected() throws Throwable {
+        val codec = new DefaultCompactTicketCodec(Map.of(0, newKey()), 0, null);
+        val encoded = codec.encode("ST", getServiceTicket());
+        assertThrows(GeneralSecurityException.class, () -> codec.decode("TGT", encoded));
+
+        val tampered = encoded.clone();
+        tampered[tampered.length - 1] ^= 1;
+        assertThrows(GeneralSecurityException.class, () -> codec.decode("ST", tampered));
+
+        val otherCodec = new DefaultCompactTicketCodec(Map.of(0, newKey()), 0, null);
+        assertThrows(GeneralSecurityException.class, () -> otherCodec.decode("ST", encoded));
+        assertThrows(DataFormatException.class, () -> codec.decode("ST", "eyJhbGciOiJ".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void verifyKeyRotation() throws Throwable {
+        val oldKey = newKey();
+        val oldCodec = new DefaultCompactTicketCodec(Map.of(1, oldKey), 1, null);
+        val encoded = oldCodec.encode("ST", getServiceTicket());
+
+        val rotatedCodec = new DefaultCompactTicketCodec(Map.of(1, oldKey, 2, newKey()), 2, null);
+        assertNotNull(rotatedCodec.decode("ST", encoded));
+        assertEquals(2, rotatedCodec.encode("ST", getServiceTicket())[1]);
+
+        val retiredCodec = new DefaultCompactTicketCodec(Map.of(2, newKey()), 2, null);
+        assertThrows(GeneralSecurityException.class, () -> retiredCodec.decode("ST", encoded));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCompactTicketCodec(Map.of(1, oldKey), 2, null));
+    }
+
+    @Test
+    void verifyCustomDictionary() throws Throwable {
+        val dictionary = "https://app.example.org/cas/login".getBytes(StandardCharsets.UTF_8);
+        val codec = new DefaultCompactTicketCodec(Map.of(0, newKey()), 0, dictionary);
+        val serviceTicket = getServiceTicket();
+        assertEquals(serviceTicket, codec.decode("ST", codec.encode("ST", serviceTicket)));
+    }
+
+    @Test
+    void verifyComparedToCipherExecutor() throws Throwable {
+        val properties = new StatelessTicketRegistryProperties();
+        val cipherExecutor = (CipherExecutor<byte[], byte[]>) CoreTicketUtils.newTicketRegistryCipherExecutor(properties.getCrypto(), "stateless");
+        val codec = new DefaultCompactTicketCodec(Map.of(0, newKey()), 0, null);
+        val serviceTicket = getServiceTicket();
+
+        val defaultTicketId = "ST-" + EncodingUtils.encodeUrlSafeBase64(cipherExecutor.encode(CompressionUtils.deflateToByteArray(serviceTicket)));
+        val compactTicketId = "ST-" + EncodingUtils.encodeUrlSafeBase64(codec.encode("ST", serviceTicket));
+        LOGGER.info("Ticket id length using the cipher executor is [{}]; using the compact codec, it is [{}]",
+            defaultTicketId.length(), compactTicketId.length());
+        assertTrue(compactTicketId.length() * 2 < defaultTicketId.length());
+
+        var started = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            val encoded = cipherExecutor.encode(CompressionUtils.deflateToByteArray(serviceTicket));
+            assertEquals(serviceTicket, CompressionUtils.inflateToString(cipherExecutor.decode(encoded)));
+        }
+        val defaultElapsed = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            assertEquals(serviceTicket, codec.decode("ST", codec.encode("ST", serviceTicket)));
+        }
+        val compactElapsed = System.nanoTime() - started;
+        LOGGER.info("Encoding and decoding [{}] tickets using the cipher executor took [{}]ms; using the compact codec, it took [{}]ms",
+            ITERATIONS, TimeUnit.NANOSECONDS.toMillis(defaultElapsed), TimeUnit.NANOSECONDS.toMillis(compactElapsed));
+    }
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
+import org.apereo.cas.util.EncodingUtils;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StatelessTicketRegistryCompactCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+@Tag("TicketRegistryTestWithoutEncryption")
+@TestPropertySource(properties = {
+    "cas.ticket.registry.stateless.codec.enabled=true",
+    "cas.ticket.registry.stateless.codec.keys.1=3q1Ht5OyuZ8QGqRaR0XAbqrEVdT7LLQLmOHkNYtm7MY=",
+    "cas.ticket.registry.stateless.codec.active-key-id=1"
+})
+class StatelessTicketRegistryCompactCodecTests extends StatelessTicketRegistryTests {
+    @RepeatedTest(1)
+    void verifyTicketsEncodedWithCodec() throws Throwable {
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new TicketGrantingTicketExpirationPolicy(5000, 2000));
+        val addedTicket = getNewTicketRegistry().addTicket(tgt);
+        val encoded = EncodingUtils.decodeUrlSafeBase64(StringUtils.substringAfter(addedTicket.getId(), "-"));
+        assertEquals(CompactTicketCodec.VERSION, encoded[0]);
+        assertEquals(1, encoded[1]);
+        assertEquals(tgt, getNewTicketRegistry().getTicket(addedTicket.getId()));
+    }
+}
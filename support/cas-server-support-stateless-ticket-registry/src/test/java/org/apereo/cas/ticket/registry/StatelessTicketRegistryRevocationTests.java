@@ -0,0 +1,48 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StatelessTicketRegistryRevocationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+@Tag("TicketRegistryTestWithoutEncryption")
+@TestPropertySource(properties = "cas.ticket.registry.stateless.revocation.enabled=true")
+class StatelessTicketRegistryRevocationTests extends StatelessTicketRegistryTests {
+    @RepeatedTest(1)
+    void verifyDeletedTicketsRevoked() throws Throwable {
+        val registry = getNewTicketRegistry();
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new TicketGrantingTicketExpirationPolicy(5000, 2000));
+        val addedTicket = registry.addTicket(tgt);
+        val otherTicket = registry.addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new TicketGrantingTicketExpirationPolicy(5000, 2000)));
+        assertNotNull(registry.getTicket(addedTicket.getId()));
+
+        assertEquals(1, registry.deleteTicket(addedTicket.getId()));
+        assertNull(registry.getTicket(addedTicket.getId()));
+        assertNotNull(registry.getTicket(otherTicket.getId()));
+        assertEquals(0, registry.deleteTicket(addedTicket.getId()));
+    }
+
+    @RepeatedTest(1)
+    void verifyDeletedTicketObjectsRevoked() throws Throwable {
+        val registry = getNewTicketRegistry();
+        val addedTicket = registry.addTicket(new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new TicketGrantingTicketExpirationPolicy(5000, 2000)));
+        val ticket = registry.getTicket(addedTicket.getId());
+        assertNotNull(ticket);
+        assertEquals(1, registry.deleteTicket(ticket));
+        assertNull(registry.getTicket(addedTicket.getId()));
+    }
+}
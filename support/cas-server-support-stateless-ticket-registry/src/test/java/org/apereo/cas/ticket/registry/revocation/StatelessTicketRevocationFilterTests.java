@@ -0,0 +1,109 @@
+package org.apereo.cas.ticket.registry.revocation;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StatelessTicketRevocationFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class StatelessTicketRevocationFilterTests {
+    private static DefaultStatelessTicketRevocationFilter newFilter(final StatelessTicketRevocationChannel channel) {
+        return new DefaultStatelessTicketRevocationFilter(channel, 60, 1000, 0.0001);
+    }
+
+    private static String newTicketId() {
+        return "ST-" + UUID.randomUUID();
+    }
+
+    @Test
+    void verifyRevokedTickets() {
+        val filter = newFilter(StatelessTicketRevocationChannel.noOp());
+        val ticketId = newTicketId();
+        assertFalse(filter.isRevoked(ticketId));
+        filter.revoke(ticketId, Instant.now().plusSeconds(30));
+        filter.revoke(newTicketId(), Instant.now().plusSeconds(600));
+        assertTrue(filter.isRevoked(ticketId));
+        assertFalse(filter.isRevoked(newTicketId()));
+        assertEquals(2L, filter.getStatistics().get("revokedTickets"));
+        assertEquals(1L, filter.getStatistics().get("rejectedTickets"));
+    }
+
+    @Test
+    void verifyExpiredTicketsForgotten() {
+        val filter = newFilter(StatelessTicketRevocationChannel.noOp());
+        val ticketId = newTicketId();
+        filter.revoke(ticketId, Instant.now().minusSeconds(1));
+        assertFalse(filter.isRevoked(ticketId));
+        assertTrue(filter.getBuckets().isEmpty());
+
+        val expiredBucket = Instant.now().getEpochSecond() / 60 - 2;
+        filter.getBuckets().put(expiredBucket, BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), 10));
+        filter.synchronize();
+        assertTrue(filter.getBuckets().isEmpty());
+    }
+
+    @Test
+    void verifyRevokedTicketsReplicated(@TempDir final Path directory) throws Throwable {
+        val location = directory.resolve("revoked-tickets.log");
+        val first = newFilter(new FileStatelessTicketRevocationChannel(location));
+        val second = newFilter(new FileStatelessTicketRevocationChannel(location));
+
+        val ticketId = newTicketId();
+        first.revoke(ticketId, Instant.now().plusSeconds(600));
+        first.revoke(newTicketId(), Instant.now().minusSeconds(1));
+        assertFalse(second.isRevoked(ticketId));
+        second.synchronize();
+        assertTrue(second.isRevoked(ticketId));
+
+        val otherTicketId = newTicketId();
+        second.revoke(otherTicketId, Instant.now().plusSeconds(600));
+        first.synchronize();
+        assertTrue(first.isRevoked(otherTicketId));
+        assertFalse(Files.readString(location).contains(ticketId));
+
+        Files.writeString(location, "");
+        second.synchronize();
+        val channel = new FileStatelessTicketRevocationChannel(location);
+        assertTrue(channel.receive().isEmpty());
+    }
+
+    @Test
+    void verifyRevokedTicketsFileCompacted(@TempDir final Path directory) throws Throwable {
+        val location = directory.resolve("revoked-tickets.log");
+        val publisher = new FileStatelessTicketRevocationChannel(location);
+        val receiver = new FileStatelessTicketRevocationChannel(location);
+        val expiresAt = Instant.now().plusSeconds(600).getEpochSecond();
+        IntStream.range(0, 1000).forEach(i -> publisher.publish(
+            new StatelessTicketRevocationChannel.RevokedTicket(UUID.randomUUID().toString(), expiresAt)));
+        assertEquals(1000, receiver.receive().size());
+        assertTrue(receiver.receive().isEmpty());
+
+        Files.writeString(location, "#replaced\n" + "digest-1 " + expiresAt + '\n'
+            + "digest-2 " + expiresAt + '\n' + "x".repeat(64 * 1024) + " " + expiresAt + '\n');
+        val received = receiver.receive();
+        assertEquals(3, received.size());
+        assertEquals("digest-1", received.getFirst().digest());
+
+        Files.writeString(location, "");
+        publisher.publish(new StatelessTicketRevocationChannel.RevokedTicket("expired", Instant.now().minusSeconds(1).getEpochSecond()));
+        assertTrue(receiver.receive().isEmpty());
+        val lines = Files.readAllLines(location);
+        assertEquals(1, lines.size());
+        assertTrue(lines.getFirst().startsWith("#"));
+    }
+}